@@ -0,0 +1,64 @@
+-- =============================================================================
+-- exam_submission (exam_id, student_id) 중복 정리 및 유니크 제약 추가 (MySQL)
+-- =============================================================================
+-- 시험당 1회 제출 유니크 제약(uk_exam_submission_exam_student)은 ddl-auto: update로 생성되지만,
+-- 기존 데이터에 중복 제출이 있으면 Hibernate가 제약 생성에 실패하고 경고만 남깁니다.
+-- 이 경우 애플리케이션은 ExamSubmissionUniqueConstraintCheck에서 시작을 중단하므로,
+-- 애플리케이션을 멈춘 상태에서 이 스크립트를 한 번 실행한 뒤 다시 시작합니다.
+--
+-- 중복 (exam_id, student_id)마다 가장 먼저 생성된 제출(UUIDv7 최소 ID)만 남기고
+-- 나머지 제출과 그 답안지/채점 결과/재시도 작업을 삭제합니다.
+-- 집계 테이블은 비우며, 다음 시작 시 LatestResultPointerBackfill이 최신 결과 포인터 기준으로 다시 생성합니다.
+-- 실행 전 백업을 권장합니다.
+
+USE iroom_backend_db;
+
+START TRANSACTION;
+
+CREATE TEMPORARY TABLE dup_submission (id BINARY(16) PRIMARY KEY);
+
+INSERT INTO dup_submission (id)
+SELECT es.id
+FROM exam_submission es
+JOIN (
+    SELECT exam_id, student_id, MIN(id) AS keep_id
+    FROM exam_submission
+    GROUP BY exam_id, student_id
+    HAVING COUNT(*) > 1
+) d ON d.exam_id = es.exam_id AND d.student_id = es.student_id AND es.id <> d.keep_id;
+
+-- 삭제 대상 제출의 채점 결과와 재시도 작업
+DELETE t FROM grading_retry_task t
+JOIN exam_result er ON er.id = t.exam_result_id
+JOIN dup_submission d ON d.id = er.submission_id;
+
+DELETE erq FROM exam_result_question erq
+JOIN exam_result er ON er.id = erq.exam_result_id
+JOIN dup_submission d ON d.id = er.submission_id;
+
+DELETE er FROM exam_result er
+JOIN dup_submission d ON d.id = er.submission_id;
+
+-- 삭제 대상 제출의 답안지
+DELETE sasq FROM student_answer_sheet_question sasq
+JOIN student_answer_sheet sas ON sas.id = sasq.student_answer_sheet_id
+JOIN dup_submission d ON d.id = sas.submission_id;
+
+DELETE sas FROM student_answer_sheet sas
+JOIN dup_submission d ON d.id = sas.submission_id;
+
+DELETE es FROM exam_submission es
+JOIN dup_submission d ON d.id = es.id;
+
+-- 다음 시작 시 재생성되도록 집계 비우기
+DELETE FROM exam_score_aggregate;
+DELETE FROM unit_answer_stats;
+DELETE FROM student_unit_stats;
+DELETE FROM student_performance_profile;
+
+COMMIT;
+
+DROP TEMPORARY TABLE dup_submission;
+
+ALTER TABLE exam_submission
+    ADD CONSTRAINT uk_exam_submission_exam_student UNIQUE (exam_id, student_id);
@@ -0,0 +1,62 @@
+package com.iroomclass.springbackend.common;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * 키셋 페이지네이션 응답
+ *
+ * <p>다음 페이지는 {@code nextCursor}를 {@code after} 파라미터로 넘겨 조회합니다.
+ * 페이지마다 COUNT 쿼리를 실행하지 않으므로 전체 개수는 요청한 경우에만 채워집니다.</p>
+ *
+ * @param <T> 항목 타입
+ */
+@Schema(description = "커서 기반 페이지")
+public record CursorPage<T>(
+    @Schema(description = "페이지 항목 (최신순)")
+    List<T> content,
+
+    @Schema(description = "이 페이지의 항목 수", example = "20")
+    int size,
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    boolean hasNext,
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)", example = "AQGQ3Vp7THAAgAAAAAAAAAA")
+    String nextCursor,
+
+    @Schema(description = "전체 항목 수 (includeTotal=true로 요청한 경우만, 아니면 null)", example = "135")
+    Long totalElements
+) {
+
+    /**
+     * 페이지 크기보다 1개 더 조회한 행으로 페이지 생성
+     *
+     * @param rows          최대 size + 1개의 조회 결과 (ID 내림차순)
+     * @param size          요청한 페이지 크기
+     * @param idOf          항목의 ID
+     * @param totalElements 전체 항목 수 (세지 않았으면 null)
+     */
+    public static <T> CursorPage<T> fromRows(List<T> rows, int size, Function<T, UUID> idOf, Long totalElements) {
+        boolean hasNext = rows.size() > size;
+        return of(hasNext ? rows.subList(0, size) : rows, hasNext, idOf, totalElements);
+    }
+
+    /**
+     * 페이지 생성
+     *
+     * @param content       페이지 항목 (ID 내림차순)
+     * @param hasNext       다음 페이지 존재 여부
+     * @param idOf          항목의 ID
+     * @param totalElements 전체 항목 수 (세지 않았으면 null)
+     */
+    public static <T> CursorPage<T> of(List<T> content, boolean hasNext, Function<T, UUID> idOf, Long totalElements) {
+        String nextCursor = hasNext && !content.isEmpty()
+            ? KeysetCursor.encode(idOf.apply(content.get(content.size() - 1)))
+            : null;
+        return new CursorPage<>(List.copyOf(content), content.size(), nextCursor != null, nextCursor, totalElements);
+    }
+}
@@ -0,0 +1,86 @@
+package com.iroomclass.springbackend.common;
+
+import com.iroomclass.springbackend.common.exception.InvalidRequestException;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 키셋(seek) 페이지네이션 커서
+ *
+ * <p>UUIDv7 기본키는 생성 시각 순서이므로, 목록을 ID 내림차순(최신순)으로 정렬하고
+ * 직전 페이지의 마지막 ID보다 작은 행만 조회하면 OFFSET 없이 기본키 인덱스를 따라 다음 페이지를 읽을 수 있습니다.
+ * 클라이언트에는 ID를 그대로 노출하지 않고 버전 1바이트 + ID 16바이트를 URL-safe Base64로 인코딩한 불투명 토큰을 줍니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+public final class KeysetCursor {
+
+    /**
+     * 첫 페이지 기준 ID (모든 비트가 1인 UUID - 어떤 ID보다도 큼)
+     */
+    public static final UUID FIRST_PAGE = new UUID(-1L, -1L);
+
+    /**
+     * 한 페이지 최대 크기
+     */
+    public static final int MAX_SIZE = 100;
+
+    private static final byte VERSION = 1;
+    private static final int TOKEN_BYTES = 17;
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 다음 페이지 커서 토큰 생성
+     *
+     * @param lastId 현재 페이지의 마지막 ID
+     * @return 불투명 커서 토큰
+     */
+    public static String encode(UUID lastId) {
+        ByteBuffer buffer = ByteBuffer.allocate(TOKEN_BYTES);
+        buffer.put(VERSION);
+        buffer.putLong(lastId.getMostSignificantBits());
+        buffer.putLong(lastId.getLeastSignificantBits());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * 커서 토큰을 기준 ID로 변환
+     *
+     * @param token 커서 토큰 (비어 있으면 첫 페이지)
+     * @return 이 ID보다 작은 행부터 조회할 기준 ID
+     * @throws InvalidRequestException 토큰 형식이 올바르지 않은 경우
+     */
+    public static UUID decode(String token) {
+        if (token == null || token.isBlank()) {
+            return FIRST_PAGE;
+        }
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(token.trim());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("잘못된 커서입니다: " + token);
+        }
+        if (bytes.length != TOKEN_BYTES || bytes[0] != VERSION) {
+            throw new InvalidRequestException("잘못된 커서입니다: " + token);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, TOKEN_BYTES - 1);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * 페이지 크기 검증
+     *
+     * @param size 페이지 크기
+     * @throws InvalidRequestException 1 미만이거나 {@link #MAX_SIZE} 초과인 경우
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_SIZE) {
+            throw new InvalidRequestException("페이지 크기는 1 이상 " + MAX_SIZE + " 이하여야 합니다");
+        }
+    }
+}
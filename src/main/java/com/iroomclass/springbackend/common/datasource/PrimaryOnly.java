@@ -0,0 +1,26 @@
+package com.iroomclass.springbackend.common.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * primary 전용 표시
+ *
+ * <p>클래스나 메서드에 붙이면 호출 동안 읽기 전용 트랜잭션도 읽기 복제본이 아닌 primary에서 읽습니다.
+ * 방금 쓴 데이터를 읽어 다시 쓰는 쓰기 경로 서비스(재채점, 일괄 채점, 재시도 등)에 사용하여,
+ * 클래스 수준 {@code @Transactional(readOnly = true)} 기본값이 라우팅을 정하지 않도록 합니다.</p>
+ *
+ * <p>프록시를 거친 호출에만 적용되므로, 다른 스레드에서 실행하는 작업은
+ * {@link ReplicaRoutingContext#pinPrimary()}로 직접 고정해야 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface PrimaryOnly {
+}
@@ -0,0 +1,23 @@
+package com.iroomclass.springbackend.common.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+/**
+ * {@link PrimaryOnly} 메서드 호출 동안 현재 스레드의 읽기를 primary로 고정하는 인터셉터
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+public class PrimaryOnlyInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        boolean previouslyPinned = ReplicaRoutingContext.pinPrimary();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRoutingContext.restore(previouslyPinned);
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.iroomclass.springbackend.common.datasource;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.iroomclass.springbackend.config.ReadReplicaConfig;
+import com.iroomclass.springbackend.config.ReadReplicaConfig.Selection;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본 라우팅 DataSource
+ *
+ * <p>읽기 전용 트랜잭션의 커넥션은 사용 가능한 읽기 복제본 중 하나에서, 그 외(쓰기 트랜잭션, 트랜잭션 밖 쿼리,
+ * {@link ReplicaRoutingContext}로 primary에 고정된 요청)는 primary에서 가져옵니다.
+ * 트랜잭션의 읽기 전용 여부는 트랜잭션 시작 후에 정해지므로 반드시
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy}로 감싸 첫 쿼리 시점에 커넥션을 가져와야 합니다.</p>
+ *
+ * <p>별도 스레드가 주기적으로 복제본마다 복제 지연을 조회하여, 지연이 허용치를 넘거나 복제가 멈췄거나 연결할 수 없는
+ * 복제본은 다음 점검까지 선택에서 제외합니다. 사용할 수 있는 복제본이 없거나 선택한 복제본의 커넥션 획득이 실패하면
+ * primary로 대체합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Slf4j
+public class ReadReplicaRoutingDataSource extends AbstractDataSource implements InitializingBean, DisposableBean {
+
+    private final DataSource primary;
+    private final List<ReplicaNode> replicas;
+    private final Selection selection;
+    private final long maxLagSeconds;
+    private final long lagCheckIntervalMs;
+    private final String lagQuery;
+    private final String lagColumn;
+    private final AtomicInteger roundRobinCounter = new AtomicInteger();
+
+    private ScheduledExecutorService lagMonitor;
+
+    /**
+     * @param primary      primary DataSource (쓰기 및 대체 경로)
+     * @param replicaPools 읽기 복제본 연결 풀 (이 DataSource가 종료될 때 함께 닫힘)
+     * @param config       읽기 복제본 라우팅 설정
+     */
+    public ReadReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                                        ReadReplicaConfig config) {
+        this.primary = primary;
+        this.replicas = new ArrayList<>(replicaPools.size());
+        for (HikariDataSource pool : replicaPools) {
+            this.replicas.add(new ReplicaNode(pool));
+        }
+        this.selection = config.getSelection();
+        this.maxLagSeconds = config.getMaxLagSeconds();
+        this.lagCheckIntervalMs = config.getLagCheckIntervalMs();
+        this.lagQuery = config.getLagQuery();
+        this.lagColumn = config.getLagColumn();
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (lagCheckIntervalMs <= 0) {
+            throw new IllegalStateException("datasource.read-replica.lag-check-interval-ms는 1 이상이어야 합니다");
+        }
+        lagMonitor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-lag-monitor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // 첫 점검 전까지 복제본은 사용 불가 상태이므로 즉시 한 번 점검
+        lagMonitor.scheduleWithFixedDelay(this::checkReplicationLag, 0, lagCheckIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("읽기 복제본 라우팅 시작: replicas={}, selection={}, maxLagSeconds={}",
+            replicas.size(), selection, maxLagSeconds);
+    }
+
+    @Override
+    public void destroy() {
+        if (lagMonitor != null) {
+            lagMonitor.shutdownNow();
+        }
+        for (ReplicaNode replica : replicas) {
+            replica.pool.close();
+        }
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        ReplicaNode replica = selectReplica();
+        if (replica != null) {
+            try {
+                return replica.pool.getConnection();
+            } catch (SQLException e) {
+                replica.markUnavailable("커넥션 획득 실패: " + e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("읽기 복제본 라우팅 DataSource는 사용자별 커넥션을 지원하지 않습니다");
+    }
+
+    /**
+     * 현재 트랜잭션에 사용할 복제본 선택
+     *
+     * @return 선택된 복제본 (primary를 써야 하면 null)
+     */
+    private ReplicaNode selectReplica() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || ReplicaRoutingContext.isPrimaryPinned()) {
+            return null;
+        }
+        return selection == Selection.LEAST_CONNECTIONS ? selectLeastConnections() : selectRoundRobin();
+    }
+
+    private ReplicaNode selectRoundRobin() {
+        int size = replicas.size();
+        int start = Math.floorMod(roundRobinCounter.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaNode replica = replicas.get((start + i) % size);
+            if (replica.available) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private ReplicaNode selectLeastConnections() {
+        ReplicaNode selected = null;
+        int fewest = Integer.MAX_VALUE;
+        for (ReplicaNode replica : replicas) {
+            if (!replica.available) {
+                continue;
+            }
+            int active = replica.activeConnections();
+            if (active < fewest) {
+                fewest = active;
+                selected = replica;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 모든 복제본의 복제 지연 점검 (점검 스레드에서 실행)
+     */
+    private void checkReplicationLag() {
+        for (ReplicaNode replica : replicas) {
+            try (Connection connection = replica.pool.getConnection()) {
+                if (!StringUtils.hasText(lagQuery)) {
+                    replica.markAvailable(null);
+                    continue;
+                }
+                Long lagSeconds = readLagSeconds(connection);
+                if (lagSeconds == null) {
+                    replica.markUnavailable("복제 지연을 알 수 없음 (복제 중단 또는 복제본이 아님)");
+                } else if (lagSeconds > maxLagSeconds) {
+                    replica.markUnavailable("복제 지연 " + lagSeconds + "초 (허용 " + maxLagSeconds + "초)");
+                } else {
+                    replica.markAvailable(lagSeconds);
+                }
+            } catch (SQLException | RuntimeException e) {
+                replica.markUnavailable("점검 실패: " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 복제 지연(초) 조회
+     *
+     * @return 복제 지연 (복제 상태가 없거나 복제가 멈춰 값이 NULL이면 null)
+     */
+    private Long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery(lagQuery)) {
+            if (!rs.next()) {
+                return null;
+            }
+            long lagSeconds = rs.getLong(lagColumn);
+            return rs.wasNull() ? null : lagSeconds;
+        }
+    }
+
+    /**
+     * 읽기 복제본 1개의 연결 풀과 사용 가능 상태
+     */
+    private static final class ReplicaNode {
+
+        private final HikariDataSource pool;
+        private volatile boolean available;
+
+        ReplicaNode(HikariDataSource pool) {
+            this.pool = pool;
+        }
+
+        int activeConnections() {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            return mxBean != null ? mxBean.getActiveConnections() : 0;
+        }
+
+        void markAvailable(Long lagSeconds) {
+            if (!available) {
+                log.info("읽기 복제본 사용 재개: pool={}, lagSeconds={}", pool.getPoolName(), lagSeconds);
+            }
+            available = true;
+        }
+
+        void markUnavailable(String reason) {
+            if (available) {
+                log.warn("읽기 복제본 제외 (primary로 대체): pool={}, reason={}", pool.getPoolName(), reason);
+            }
+            available = false;
+        }
+    }
+}
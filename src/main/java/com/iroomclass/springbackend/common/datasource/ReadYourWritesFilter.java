@@ -0,0 +1,109 @@
+package com.iroomclass.springbackend.common.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseCookie;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 제출 직후 읽기 일관성(read-your-writes) 필터
+ *
+ * <p>답안 제출 같은 쓰기 요청에 primary 고정 만료 시각을 담은 쿠키를 내려주고, 만료 전까지 같은 클라이언트의 요청은
+ * {@link ReplicaRoutingContext}로 primary에 고정하여 복제 지연 때문에 방금 제출한 내용이 보이지 않는 일을 막습니다.
+ * 쿠키 값이 고정 시간보다 먼 미래이면 무시하여 클라이언트가 primary 고정을 늘릴 수 없게 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final long windowMs;
+    private final String cookieName;
+    private final List<String> writePaths;
+
+    /**
+     * @param windowMs   쓰기 요청 이후 primary 고정 시간 (밀리초)
+     * @param cookieName primary 고정 만료 시각을 담는 쿠키 이름
+     * @param writePaths primary 고정을 시작하는 POST 경로 패턴 (context-path 제외)
+     */
+    public ReadYourWritesFilter(long windowMs, String cookieName, List<String> writePaths) {
+        this.windowMs = windowMs;
+        this.cookieName = cookieName;
+        this.writePaths = List.copyOf(writePaths);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        boolean writeRequest = isWriteRequest(request);
+        if (writeRequest) {
+            // 응답 본문이 쓰이기 전에 쿠키를 붙여야 하므로 요청 처리 전에 발급
+            addPinCookie(request, response, now + windowMs);
+        } else if (!isPinned(request, now)) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        ReplicaRoutingContext.pinPrimary();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingContext.clear();
+        }
+    }
+
+    private boolean isWriteRequest(HttpServletRequest request) {
+        if (!HttpMethod.POST.matches(request.getMethod())) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : writePaths) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isPinned(HttpServletRequest request, long now) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return false;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                try {
+                    long pinnedUntil = Long.parseLong(cookie.getValue());
+                    return pinnedUntil > now && pinnedUntil <= now + windowMs;
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void addPinCookie(HttpServletRequest request, HttpServletResponse response, long pinnedUntil) {
+        String contextPath = request.getContextPath();
+        ResponseCookie cookie = ResponseCookie.from(cookieName, Long.toString(pinnedUntil))
+            .path(contextPath.isEmpty() ? "/" : contextPath)
+            .maxAge(Duration.ofSeconds((windowMs + 999) / 1000))
+            .httpOnly(true)
+            .sameSite("Lax")
+            .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+}
@@ -0,0 +1,55 @@
+package com.iroomclass.springbackend.common.datasource;
+
+/**
+ * 현재 스레드의 읽기 복제본 라우팅 상태
+ *
+ * <p>방금 쓴 데이터를 바로 다시 읽어야 하는 요청(제출 직후의 결과 조회 등)은 복제 지연 때문에
+ * 이전 상태를 볼 수 있으므로, 이 스레드의 읽기 전용 트랜잭션도 primary로 보내도록 고정합니다.
+ * 고정한 쪽에서 반드시 {@link #clear()}로 해제해야 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+public final class ReplicaRoutingContext {
+
+    private static final ThreadLocal<Boolean> PRIMARY_PINNED = new ThreadLocal<>();
+
+    private ReplicaRoutingContext() {
+    }
+
+    /**
+     * 현재 스레드의 읽기를 primary로 고정
+     *
+     * @return 호출 전에 이미 고정되어 있었는지 여부 ({@link #restore(boolean)}에 전달)
+     */
+    public static boolean pinPrimary() {
+        boolean previouslyPinned = isPrimaryPinned();
+        PRIMARY_PINNED.set(Boolean.TRUE);
+        return previouslyPinned;
+    }
+
+    /**
+     * primary 고정 해제
+     */
+    public static void clear() {
+        PRIMARY_PINNED.remove();
+    }
+
+    /**
+     * {@link #pinPrimary()} 이전 상태로 복원 (중첩 고정 시 바깥쪽 고정을 유지)
+     *
+     * @param previouslyPinned {@link #pinPrimary()}의 반환값
+     */
+    public static void restore(boolean previouslyPinned) {
+        if (!previouslyPinned) {
+            clear();
+        }
+    }
+
+    /**
+     * 현재 스레드의 읽기가 primary로 고정되어 있는지 여부
+     */
+    public static boolean isPrimaryPinned() {
+        return PRIMARY_PINNED.get() != null;
+    }
+}
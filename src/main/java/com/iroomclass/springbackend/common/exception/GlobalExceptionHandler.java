@@ -9,6 +9,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -193,6 +194,19 @@ public class GlobalExceptionHandler {
         );
     }
 
+    /**
+     * 요청 과다 예외 처리 (429 + Retry-After)
+     */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ApiResponse<Void>> handleTooManyRequests(
+            TooManyRequestsException ex, HttpServletRequest request) {
+        
+        log.warn("요청 과다로 거절: {} (retryAfter={}s)", ex.getMessage(), ex.getRetryAfterSeconds());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     /**
      * 비즈니스 로직 예외 처리 (커스텀 예외들)
      */
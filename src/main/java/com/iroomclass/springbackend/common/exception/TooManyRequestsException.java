@@ -0,0 +1,34 @@
+package com.iroomclass.springbackend.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * 요청 과다 예외
+ * 
+ * <p>서버가 수용할 수 있는 처리량을 넘는 요청을 즉시 거절할 때 발생하는 예외입니다.
+ * HTTP 429 Too Many Requests 상태와 Retry-After 헤더로 처리됩니다.</p>
+ */
+public class TooManyRequestsException extends BusinessException {
+
+    private final long retryAfterSeconds;
+
+    /**
+     * 재시도 대기 시간을 지정하는 생성자
+     * 
+     * @param message 예외 메시지
+     * @param retryAfterSeconds 클라이언트가 재시도하기까지 기다릴 시간 (초)
+     */
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * 재시도 대기 시간 반환
+     * 
+     * @return 재시도 대기 시간 (초)
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
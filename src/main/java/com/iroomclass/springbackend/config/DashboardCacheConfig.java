@@ -0,0 +1,36 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 교사 대시보드 응답 캐시 설정
+ *
+ * <p>대시보드 조회 결과를 프로세스 메모리에 캐시하는 크기와 유효 시간을 설정합니다.
+ * 캐시는 제출/채점 이벤트로 해당 학년/시험 항목만 무효화되며, 유효 시간은 이벤트를 받지 못한 변경(다른 인스턴스 등)의 상한입니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.cache")
+@Data
+public class DashboardCacheConfig {
+
+    /**
+     * 캐시 사용 여부 (false면 매 요청마다 다시 계산)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 최대 캐시 항목 수
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * 항목 유효 시간 (초, 저장 시점 기준)
+     */
+    private long ttlSeconds = 60;
+}
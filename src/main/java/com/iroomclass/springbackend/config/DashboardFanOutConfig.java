@@ -0,0 +1,40 @@
+package com.iroomclass.springbackend.config;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 교사 대시보드 병렬 조회 설정
+ *
+ * <p>여러 학년을 한 번에 조회하는 대시보드 API가 학년별 조회를 가상 스레드에서 동시에 실행하도록
+ * 실행기와 전체 응답 기한을 제공합니다. 기한 안에 끝나지 않은 학년은 응답에서 제외됩니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.fan-out")
+@Data
+public class DashboardFanOutConfig {
+
+    /**
+     * 전체 응답 기한 (밀리초)
+     */
+    private long timeoutMs = 3000;
+
+    /**
+     * 대시보드 병렬 조회용 가상 스레드 실행기 빈 생성 (작업마다 가상 스레드 1개)
+     *
+     * @return 가상 스레드 실행기
+     */
+    @Bean(name = "dashboardFanOutExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService dashboardFanOutExecutor() {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("dashboard-", 0).factory());
+    }
+}
@@ -0,0 +1,53 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 교사 대시보드 실시간 제출 수 피드 설정
+ *
+ * <p>제출 이벤트를 모으는 구간 길이, SSE 연결 유지 시간, 유휴 연결 확인 주기, 최대 구독자 수와 전송 레인 수를 설정합니다.</p>
+ *
+ * <p>제출 카운터는 노드별 메모리에 있으므로 단일 노드 운영 전용입니다.
+ * 여러 노드로 운영하면 구독자는 연결된 노드가 받은 제출만 받습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.submission-feed")
+@Data
+public class DashboardSubmissionFeedConfig {
+
+    /**
+     * 제출 이벤트를 모아 한 번에 전송하는 구간 길이 (밀리초)
+     */
+    private long windowMs = 1000;
+
+    /**
+     * SSE 연결 유지 시간 (밀리초, 만료 시 클라이언트가 재연결)
+     */
+    private long emitterTimeoutMs = 30 * 60 * 1000L;
+
+    /**
+     * 변경이 없을 때 연결 확인용 하트비트 전송 주기 (밀리초)
+     */
+    private long heartbeatIntervalMs = 15000;
+
+    /**
+     * 최대 동시 구독자 수
+     */
+    private int maxSubscribers = 500;
+
+    /**
+     * SSE 전송 레인 수 (레인마다 전용 스레드 1개, 구독자는 ID로 레인에 고정)
+     */
+    private int senderThreads = 4;
+
+    /**
+     * 레인별 대기 전송 작업 수 (초과 시 해당 레인 구독자 연결 종료 후 재연결 유도)
+     */
+    private int senderQueueCapacity = 16;
+}
@@ -0,0 +1,30 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 시험 결과 내보내기 설정
+ *
+ * <p>학생별 문항 결과를 CSV/XLSX로 내보낼 때의 JDBC 커서 크기와 XLSX 메모리 행 수를 설정합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.export")
+@Data
+public class ExamResultExportConfig {
+
+    /**
+     * 커서에서 한 번에 가져올 행 수 (MySQL은 행 단위 스트리밍을 사용하므로 무시됩니다)
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * XLSX 작성 시 메모리에 유지할 행 수 (초과한 행은 임시 파일로 내려감)
+     */
+    private int xlsxWindowSize = 100;
+}
@@ -0,0 +1,31 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 시험 전체 재채점 설정
+ *
+ * <p>재채점 작업이 한 번에 읽고 저장하는 제출 수와 AI 서버 요청 속도 상한을 설정합니다.
+ * 채점 기준 수정 후 재채점이 AI 서버와 DB를 독점하지 않도록 청크와 요청 속도를 제한합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "grading.regrade")
+@Data
+public class GradingRegradeConfig {
+
+    /**
+     * 청크 하나에서 읽고 저장할 제출 수 (키셋 페이지 크기)
+     */
+    private int chunkSize = 100;
+
+    /**
+     * 초당 최대 AI 서버 요청 수
+     */
+    private double aiRequestsPerSecond = 2.0;
+}
@@ -0,0 +1,49 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 채점 재시도 큐 설정
+ *
+ * <p>AI 채점 실패 건을 재시도하는 스케줄러의 배치 크기, 백오프, 점유 시간을 설정합니다.
+ * AI 서버 장애 복구 직후 실패 건이 한꺼번에 몰리지 않도록 지수 백오프에 지터를 더해 분산합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "grading.retry")
+@Data
+public class GradingRetryConfig {
+
+    /**
+     * 스케줄러 1회 실행 시 처리할 최대 작업 수
+     */
+    private int batchSize = 20;
+
+    /**
+     * 첫 재시도 기본 지연 (초)
+     */
+    private long baseDelaySeconds = 30;
+
+    /**
+     * 재시도 최대 지연 (초)
+     */
+    private long maxDelaySeconds = 1800;
+
+    /**
+     * 최대 시도 횟수 (초과 시 DEAD)
+     */
+    private int maxAttempts = 8;
+
+    /**
+     * 작업 점유 유지 시간 (초)
+     * 처리 중 노드가 종료되면 이 시간이 지난 뒤 다른 노드가 다시 가져감
+     * 점유한 작업이 워커 풀 대기열에서 차례를 기다릴 수 있으므로
+     * batchSize × AI 채점 타임아웃(ai.server.grading.timeout) + 여유 시간 이상이어야 함
+     */
+    private long leaseSeconds = 660;
+}
@@ -0,0 +1,76 @@
+package com.iroomclass.springbackend.config;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 비동기 채점 워커 풀 설정
+ *
+ * <p>AI 채점 요청을 서블릿 스레드와 DB 커넥션에서 분리하기 위한
+ * 고정 크기 워커 풀을 제공합니다. 대기열이 가득 차면 작업을 거부하여
+ * 시험 종료 시점의 제출 폭주가 AI 서버와 커넥션 풀로 번지지 않도록 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "grading.worker")
+@Data
+@Slf4j
+public class GradingWorkerConfig {
+
+    /**
+     * 기본 워커 스레드 수
+     */
+    private int corePoolSize = 4;
+
+    /**
+     * 최대 워커 스레드 수
+     */
+    private int maxPoolSize = 8;
+
+    /**
+     * 대기열 최대 크기 (초과 시 작업 거부)
+     */
+    private int queueCapacity = 200;
+
+    /**
+     * 유휴 스레드 유지 시간 (초)
+     */
+    private int keepAliveSeconds = 60;
+
+    /**
+     * 시험 종료 일괄 채점 시 AI 서버 요청 1건에 담을 답안 수
+     */
+    private int batchChunkSize = 100;
+
+    /**
+     * 채점 워커용 ThreadPoolTaskExecutor 빈 생성
+     *
+     * @return 설정된 채점 워커 풀
+     */
+    @Bean("gradingTaskExecutor")
+    public ThreadPoolTaskExecutor gradingTaskExecutor() {
+        log.info("채점 워커 풀 설정: core={}, max={}, queueCapacity={}",
+                corePoolSize, maxPoolSize, queueCapacity);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setKeepAliveSeconds(keepAliveSeconds);
+        executor.setThreadNamePrefix("grading-");
+        // 대기열 초과 시 호출 스레드에서 실행하지 않고 즉시 거부 (backpressure)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -0,0 +1,41 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 문항 분석 설정
+ *
+ * <p>시험의 최신 채점 결과를 학생 × 문항 점수 행렬로 읽어 올 때의 JDBC 커서 크기,
+ * 포크-조인 작업 분할 단위, 결과 버전별 분석 결과 캐시 크기를 설정합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.item-analysis")
+@Data
+public class ItemAnalysisConfig {
+
+    /**
+     * 커서에서 한 번에 가져올 행 수 (MySQL은 행 단위 스트리밍을 사용하므로 무시됩니다)
+     */
+    private int fetchSize = 1000;
+
+    /**
+     * 포크-조인 작업 하나가 직접 계산할 최대 문항 수 (초과하면 둘로 나눔)
+     */
+    private int itemsPerTask = 4;
+
+    /**
+     * 분석 결과 캐시 최대 항목 수 (시험 × 결과 버전)
+     */
+    private long cacheMaximumSize = 200;
+
+    /**
+     * 분석 결과 캐시 항목의 마지막 조회 후 유지 시간 (분)
+     */
+    private long cacheExpireAfterAccessMinutes = 60;
+}
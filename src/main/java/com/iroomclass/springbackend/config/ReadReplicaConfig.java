@@ -0,0 +1,117 @@
+package com.iroomclass.springbackend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 읽기 복제본 라우팅 설정
+ *
+ * <p>읽기 전용 트랜잭션을 MySQL 읽기 복제본으로 보내 primary의 읽기 부하를 줄입니다.
+ * 복제 지연이 허용치를 넘거나 연결할 수 없는 복제본은 제외하며, 사용할 수 있는 복제본이 없으면 primary로 읽습니다.
+ * 실제 데이터소스 구성은 {@link ReadReplicaDataSourceConfig}가 담당하고, 기본값은 비활성화입니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.read-replica")
+@Data
+public class ReadReplicaConfig {
+
+    /**
+     * 읽기 복제본 라우팅 사용 여부 (비활성화 시 모든 쿼리가 primary로 전달)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 읽기 복제본 목록
+     */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 복제본 선택 방식
+     */
+    private Selection selection = Selection.ROUND_ROBIN;
+
+    /**
+     * 허용 복제 지연 (초, 초과한 복제본은 다음 점검까지 제외)
+     */
+    private long maxLagSeconds = 5;
+
+    /**
+     * 복제 지연 점검 주기 (밀리초)
+     */
+    private long lagCheckIntervalMs = 2000;
+
+    /**
+     * 복제 지연 조회 쿼리 (비우면 지연은 확인하지 않고 연결 가능 여부만 점검)
+     */
+    private String lagQuery = "SHOW REPLICA STATUS";
+
+    /**
+     * 복제 지연 조회 결과에서 지연(초)을 담은 컬럼 (MySQL 8.0.22 미만은 Seconds_Behind_Master)
+     */
+    private String lagColumn = "Seconds_Behind_Source";
+
+    /**
+     * 제출 직후 같은 클라이언트의 읽기를 primary로 고정하는 시간 (밀리초, 0이면 사용 안 함)
+     */
+    private long readYourWritesWindowMs = 5000;
+
+    /**
+     * primary 고정 만료 시각을 담는 쿠키 이름
+     */
+    private String readYourWritesCookie = "iroom_rw_until";
+
+    /**
+     * primary 고정을 시작하는 쓰기 요청 경로 (POST, context-path 제외, Ant 패턴)
+     */
+    private List<String> readYourWritesPaths = new ArrayList<>(List.of("/exams/submit-and-grade"));
+
+    /**
+     * 읽기 복제본 연결 정보
+     */
+    @Data
+    public static class Replica {
+
+        /**
+         * JDBC URL
+         */
+        private String url;
+
+        /**
+         * 사용자명 (비우면 primary와 동일)
+         */
+        private String username;
+
+        /**
+         * 비밀번호 (비우면 primary와 동일)
+         */
+        private String password;
+
+        /**
+         * 연결 풀 최대 크기 (0이면 primary 설정과 동일)
+         */
+        private int maximumPoolSize = 0;
+    }
+
+    /**
+     * 복제본 선택 방식
+     */
+    public enum Selection {
+        /**
+         * 사용 가능한 복제본을 차례로 선택
+         */
+        ROUND_ROBIN,
+
+        /**
+         * 사용 중인 연결이 가장 적은 복제본을 선택
+         */
+        LEAST_CONNECTIONS
+    }
+}
@@ -0,0 +1,160 @@
+package com.iroomclass.springbackend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.util.StringUtils;
+
+import com.iroomclass.springbackend.common.datasource.PrimaryOnly;
+import com.iroomclass.springbackend.common.datasource.PrimaryOnlyInterceptor;
+import com.iroomclass.springbackend.common.datasource.ReadReplicaRoutingDataSource;
+import com.iroomclass.springbackend.common.datasource.ReadYourWritesFilter;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 읽기 복제본 라우팅 데이터소스 구성
+ *
+ * <p>{@code datasource.read-replica.enabled=true}일 때만 적용되며, 이 경우 Spring Boot 기본 DataSource 대신
+ * primary 풀({@code spring.datasource.*})과 복제본별 풀을 만들고,
+ * 읽기 전용 트랜잭션을 복제본으로 보내는 라우팅 DataSource를 지연 커넥션 프록시로 감싸 기본 DataSource로 등록합니다.
+ * 복제본 풀은 primary의 HikariCP 설정을 복사한 뒤 URL/계정/풀 크기만 바꾸고 읽기 전용으로 엽니다.
+ * {@link PrimaryOnly}가 붙은 쓰기 경로 서비스는 읽기 전용 트랜잭션이어도 primary에서 읽습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.read-replica", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadReplicaDataSourceConfig {
+
+    private final ReadReplicaConfig readReplicaConfig;
+
+    /**
+     * primary 연결 풀 빈 생성 ({@code spring.datasource.hikari.*} 적용)
+     *
+     * @param properties {@code spring.datasource.*} 설정
+     * @return primary HikariCP 풀
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * 읽기 복제본 라우팅 DataSource 빈 생성
+     *
+     * @param primaryDataSource primary 연결 풀
+     * @return 읽기 전용 트랜잭션을 복제본으로 보내는 DataSource
+     */
+    @Bean
+    public ReadReplicaRoutingDataSource readReplicaRoutingDataSource(HikariDataSource primaryDataSource) {
+        List<ReadReplicaConfig.Replica> replicas = readReplicaConfig.getReplicas();
+        if (replicas.isEmpty()) {
+            throw new IllegalStateException("datasource.read-replica.replicas에 복제본을 1개 이상 설정해야 합니다");
+        }
+
+        List<HikariDataSource> replicaPools = new ArrayList<>(replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            ReadReplicaConfig.Replica replica = replicas.get(i);
+            if (!StringUtils.hasText(replica.getUrl())) {
+                throw new IllegalStateException("datasource.read-replica.replicas[" + i + "].url이 비어 있습니다");
+            }
+
+            HikariConfig config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(replica.getUrl());
+            if (StringUtils.hasText(replica.getUsername())) {
+                config.setUsername(replica.getUsername());
+            }
+            if (StringUtils.hasText(replica.getPassword())) {
+                config.setPassword(replica.getPassword());
+            }
+            if (replica.getMaximumPoolSize() > 0) {
+                config.setMaximumPoolSize(replica.getMaximumPoolSize());
+                config.setMinimumIdle(Math.min(config.getMinimumIdle(), replica.getMaximumPoolSize()));
+            }
+            config.setPoolName(primaryDataSource.getPoolName() + "-replica-" + i);
+            config.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 시작하고, 지연 점검이 복제본을 제외하도록 함
+            config.setInitializationFailTimeout(-1);
+            replicaPools.add(new HikariDataSource(config));
+        }
+
+        log.info("읽기 복제본 풀 구성: replicas={}, selection={}", replicaPools.size(), readReplicaConfig.getSelection());
+        return new ReadReplicaRoutingDataSource(primaryDataSource, replicaPools, readReplicaConfig);
+    }
+
+    /**
+     * 기본 DataSource 빈 생성 (JPA, JdbcTemplate이 사용)
+     *
+     * <p>트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 실제 커넥션을 가져와야
+     * 라우팅 DataSource가 트랜잭션의 읽기 전용 여부를 볼 수 있습니다.</p>
+     *
+     * @param readReplicaRoutingDataSource 라우팅 DataSource
+     * @return 지연 커넥션 프록시
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReadReplicaRoutingDataSource readReplicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readReplicaRoutingDataSource);
+    }
+
+    /**
+     * {@link PrimaryOnly} 적용 어드바이저 빈 생성
+     *
+     * <p>트랜잭션 어드바이저보다 바깥에서 실행되어 트랜잭션의 첫 쿼리 전에 primary 고정이 적용됩니다.
+     * AspectJ 없이도 기본 자동 프록시 생성기가 적용하도록 인프라 역할로 등록합니다.</p>
+     *
+     * @return 클래스 또는 메서드에 {@link PrimaryOnly}가 붙은 빈의 메서드 호출을 primary로 고정하는 어드바이저
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor primaryOnlyAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(PrimaryOnly.class, true))
+            .union(new AnnotationMatchingPointcut(null, PrimaryOnly.class, true));
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new PrimaryOnlyInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * 제출 직후 읽기 일관성 필터 등록
+     *
+     * @return 필터 등록 빈 (고정 시간이 0 이하이면 비활성화)
+     */
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        FilterRegistrationBean<ReadYourWritesFilter> registration = new FilterRegistrationBean<>(
+            new ReadYourWritesFilter(
+                readReplicaConfig.getReadYourWritesWindowMs(),
+                readReplicaConfig.getReadYourWritesCookie(),
+                readReplicaConfig.getReadYourWritesPaths()));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        registration.setEnabled(readReplicaConfig.getReadYourWritesWindowMs() > 0);
+        return registration;
+    }
+}
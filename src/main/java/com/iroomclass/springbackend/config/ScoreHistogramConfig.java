@@ -0,0 +1,46 @@
+package com.iroomclass.springbackend.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 성적 분포 히스토그램 설정
+ *
+ * <p>대시보드 성적 분포도의 점수 구간 경계와 메모리 히스토그램 재적재 주기를 설정합니다.
+ * 구간 경계는 각 구간의 하한이며, 마지막 구간은 만점까지 포함합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "dashboard.score-histogram")
+@Data
+public class ScoreHistogramConfig {
+
+    /**
+     * 구간 하한 목록 (오름차순, 기본값: 0-39, 40-59, 60-69, 70-79, 80-89, 90-100)
+     */
+    private List<Integer> bucketEdges = new ArrayList<>(List.of(0, 40, 60, 70, 80, 90));
+
+    /**
+     * 마지막 구간의 상한 (만점)
+     */
+    private int maxScore = 100;
+
+    /**
+     * 전체 재적재 주기 (밀리초)
+     *
+     * <p>다른 서버 인스턴스에서 채점된 결과처럼 이 인스턴스가 이벤트를 받지 못한 변경을 따라잡기 위해 사용합니다.</p>
+     */
+    private long reseedIntervalMs = 10 * 60 * 1000L;
+
+    /**
+     * 적재 스캔 시 한 번에 가져올 행 수 (MySQL은 행 단위 스트리밍을 사용하므로 무시됩니다)
+     */
+    private int scanFetchSize = 1000;
+}
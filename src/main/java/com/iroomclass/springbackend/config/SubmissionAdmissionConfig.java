@@ -0,0 +1,59 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 답안 제출 수용 제어 설정
+ *
+ * <p>시험 종료 직후 제출이 한꺼번에 몰릴 때 DB 커넥션 풀이 고갈되지 않도록
+ * 초당 처리량(토큰 버킷), 대기열 크기, 시험별 동시 처리 수를 제한합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "submission.admission")
+@Data
+public class SubmissionAdmissionConfig {
+
+    /**
+     * 수용 제어 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 초당 처리할 제출 수 (토큰 보충 속도)
+     */
+    private double permitsPerSecond = 30.0;
+
+    /**
+     * 토큰 버킷 용량 (대기 없이 바로 처리되는 순간 최대 제출 수)
+     */
+    private int burstCapacity = 30;
+
+    /**
+     * 대기열 최대 크기 (초과 시 즉시 429)
+     *
+     * <p>대기는 서블릿 스레드를 점유하므로 Tomcat 최대 스레드 수보다 충분히 작아야 합니다.
+     * {@link #maxQueueThreadShare}로 계산한 상한을 넘으면 시작 시 상한으로 줄여 적용합니다.</p>
+     */
+    private int maxQueueSize = 50;
+
+    /**
+     * 대기열이 점유할 수 있는 서블릿 스레드 비율 (server.tomcat.threads.max 기준)
+     */
+    private double maxQueueThreadShare = 0.25;
+
+    /**
+     * 대기열 최대 대기 시간 (밀리초, 초과 시 429)
+     */
+    private long maxWaitMillis = 10000;
+
+    /**
+     * 시험별 동시 처리 제출 수
+     */
+    private int perExamConcurrency = 10;
+}
@@ -0,0 +1,45 @@
+package com.iroomclass.springbackend.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+/**
+ * 시험별 분 단위 제출 시계열 설정
+ *
+ * <p>시험마다 메모리에 유지하는 분 단위 제출 수 링 버퍼의 길이와,
+ * 오래 제출이 없는 시험을 메모리에서 제거하는 기준을 설정합니다.
+ * 보관 기간이 지난 시험의 시계열은 DB의 제출 시간으로 계산합니다.</p>
+ *
+ * <p>제출 이벤트는 제출을 받은 노드에만 반영되므로, 여러 노드 운영 시 다른 노드의 제출은
+ * 주기적 재적재(reseedIntervalMs)로 반영됩니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Configuration
+@ConfigurationProperties(prefix = "submission.timeline")
+@Data
+public class SubmissionTimelineConfig {
+
+    /**
+     * 시험별 보관할 분 수 (링 버퍼 길이, 기본값: 24시간)
+     */
+    private int retentionMinutes = 24 * 60;
+
+    /**
+     * 제거 주기 (밀리초)
+     */
+    private long evictIntervalMs = 10 * 60 * 1000L;
+
+    /**
+     * 재적재 주기 (밀리초, 여러 노드 운영 시 다른 노드 제출이 반영되기까지의 최대 지연)
+     */
+    private long reseedIntervalMs = 5 * 60 * 1000L;
+
+    /**
+     * 재적재 스캔에서 한 번에 가져올 행 수 (MySQL은 행 단위 스트리밍을 사용하므로 무시됩니다)
+     */
+    private int scanFetchSize = 1000;
+}
@@ -1,12 +1,14 @@
 package com.iroomclass.springbackend.domain.auth.repository;
 
 import com.iroomclass.springbackend.domain.auth.entity.Student;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -53,42 +55,45 @@ public interface StudentRepository extends JpaRepository<Student, Long> {
     // - upsertStudent() -> handled by StudentAuthService.upsertStudent()
     
     /**
-     * 특정 학년의 시험에 제출한 적이 있는 모든 학생 조회
+     * 특정 시험의 제출/미제출 학생 명단 조회 (페이징)
      * 
      * <p>
-     * 해당 학년의 시험을 한 번이라도 제출한 적이 있는 모든 학생을 조회합니다.
-     * 시험 제출자 현황 분석에서 해당 학년의 "전체 학생 수"를 파악하기 위해 사용됩니다.
+     * 해당 학년에서 시험을 제출한 적이 있는 학생을 대상 시험 제출 행과 LEFT JOIN 하여
+     * 제출 행이 없는 학생(anti-join)을 미제출로 구분합니다. 제출한 학생이 제출 시간 오름차순으로 먼저,
+     * 미제출 학생이 이름순으로 뒤에 오므로 제출 행의 순번은 페이지 offset 기준 제출 순서와 같습니다.
+     * 학생 엔티티 대신 필요한 컬럼만 투영합니다.
      * </p>
      * 
      * @param grade 학년 (1, 2, 3)
-     * @return 해당 학년에서 시험을 제출한 적이 있는 학생 목록
+     * @param examId 대상 시험 ID
+     * @param pageable 페이징 정보 (정렬은 쿼리에 고정)
+     * @return 학생 명단 행 (submittedAt이 null이면 미제출)
      */
-    @Query("SELECT DISTINCT s FROM Student s " +
-           "JOIN ExamSubmission es ON s.id = es.student.id " + 
-           "JOIN es.exam e " +
-           "WHERE e.grade = :grade " +
-           "ORDER BY s.name")
-    List<Student> findStudentsByGrade(@Param("grade") Integer grade);
+    @Query("SELECT s.id as studentId, s.name as studentName, s.phone as studentPhone, " +
+           "es.submittedAt as submittedAt " +
+           "FROM Student s " +
+           "LEFT JOIN ExamSubmission es ON es.student.id = s.id AND es.exam.id = :examId " +
+           "WHERE s.id IN (" +
+           "  SELECT es0.student.id FROM ExamSubmission es0 " +
+           "  WHERE es0.exam.grade = :grade" +
+           ") " +
+           "ORDER BY CASE WHEN es.id IS NULL THEN 1 ELSE 0 END, es.submittedAt, s.name, s.id")
+    List<SubmissionRosterRow> findSubmissionRoster(@Param("grade") Integer grade,
+            @Param("examId") java.util.UUID examId, Pageable pageable);
     
     /**
-     * 특정 시험에 제출하지 않은 학생들 조회 (해당 학년 기준)
-     * 
-     * <p>
-     * 해당 학년에서 시험을 제출한 적이 있지만, 특정 시험에는 제출하지 않은 학생들을 조회합니다.
-     * </p>
-     * 
-     * @param grade 학년 (1, 2, 3)
-     * @param examId 특정 시험 ID
-     * @return 해당 시험에 미제출한 학생 목록
+     * 시험 제출 명단 투영 인터페이스
      */
-    @Query("SELECT DISTINCT s FROM Student s " +
-           "JOIN ExamSubmission es ON s.id = es.student.id " +
-           "JOIN es.exam e " +
-           "WHERE e.grade = :grade " +
-           "AND s.id NOT IN (" +
-           "  SELECT es2.student.id FROM ExamSubmission es2 " +
-           "  WHERE es2.exam.id = :examId" +
-           ") " +
-           "ORDER BY s.name")
-    List<Student> findStudentsNotSubmittedToExam(@Param("grade") Integer grade, @Param("examId") java.util.UUID examId);
-}
\ No newline at end of file
+    interface SubmissionRosterRow {
+        Long getStudentId();
+        
+        String getStudentName();
+        
+        String getStudentPhone();
+        
+        /**
+         * 제출 시간 (미제출이면 null)
+         */
+        LocalDateTime getSubmittedAt();
+    }
+}
@@ -0,0 +1,130 @@
+package com.iroomclass.springbackend.domain.exam.client;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import com.iroomclass.springbackend.domain.exam.dto.AiGradingResponse;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.dto.QuestionBatchGradingRequest;
+import com.iroomclass.springbackend.domain.exam.dto.QuestionBatchGradingResponse;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * AI 채점 서버 클라이언트
+ *
+ * <p>AI 서버의 채점 API(/grading/submit-and-grade)와의 통신을 담당합니다.
+ * 동기 제출 경로와 비동기 채점 워커가 동일한 클라이언트를 사용합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AiGradingClient {
+
+    private final WebClient aiServerWebClient;
+
+    @Value("${ai.server.grading.timeout:30}")
+    private int gradingTimeout;
+
+    @Value("${ai.server.grading.batch-timeout:120}")
+    private int batchGradingTimeout;
+
+    /**
+     * AI 서버로 채점 요청
+     *
+     * <p>호출 스레드에서 응답을 기다리므로 서블릿 스레드가 아닌
+     * 채점 워커 스레드에서 호출하는 것을 권장합니다.</p>
+     *
+     * @param request 제출 및 채점 요청
+     * @return 채점 결과 (AI 서버가 결과를 주지 않으면 null)
+     */
+    public GradingResultDto requestGrading(SubmitAndGradeRequest request) {
+        log.info("AI 서버로 채점 요청: examId={}, studentId={}", request.examId(), request.studentId());
+
+        // AI 서버 요청 데이터 구성
+        Map<String, Object> aiRequest = buildAiServerRequest(request);
+
+        // AI 서버 호출
+        // 응답 본문을 Map을 거치지 않고 타입 지정 레코드로 바로 역직렬화
+        Mono<GradingResultDto> responseMono = aiServerWebClient
+            .post()
+            .uri("/grading/submit-and-grade")
+            .bodyValue(aiRequest)
+            .retrieve()
+            .bodyToMono(AiGradingResponse.class)
+            .mapNotNull(AiGradingResponse::gradingResult)
+            .timeout(Duration.ofSeconds(gradingTimeout))
+            .doOnSuccess(result -> log.info("AI 채점 성공: totalScore={}", result != null ? result.totalScore() : null))
+            .doOnError(error -> log.error("AI 채점 실패: {}", error.getMessage()));
+
+        // 동기 방식으로 결과 대기
+        return responseMono.block();
+    }
+
+    /**
+     * AI 서버로 문항 단위 일괄 채점 요청
+     *
+     * <p>한 문제에 대한 여러 학생의 답안을 한 번의 요청으로 채점합니다.
+     * 시험 종료 일괄 채점 모드에서 채점 워커 스레드가 호출합니다.</p>
+     *
+     * @param request 문항 일괄 채점 요청
+     * @return 학생별 채점 결과
+     */
+    public QuestionBatchGradingResponse requestQuestionBatchGrading(QuestionBatchGradingRequest request) {
+        log.info("AI 서버로 문항 일괄 채점 요청: examId={}, questionId={}, answerCount={}",
+            request.examId(), request.questionId(), request.answers().size());
+
+        return aiServerWebClient
+            .post()
+            .uri("/grading/question-batch")
+            .bodyValue(request)
+            .retrieve()
+            .bodyToMono(QuestionBatchGradingResponse.class)
+            .timeout(Duration.ofSeconds(batchGradingTimeout))
+            .doOnError(error -> log.error("AI 문항 일괄 채점 실패: questionId={}, error={}",
+                request.questionId(), error.getMessage()))
+            .block();
+    }
+
+    /**
+     * AI 서버 요청 데이터 구성
+     */
+    private Map<String, Object> buildAiServerRequest(SubmitAndGradeRequest request) {
+        Map<String, Object> aiRequest = new HashMap<>();
+        aiRequest.put("exam_id", request.examId().toString());
+        aiRequest.put("student_id", request.studentId());
+        aiRequest.put("force_grading", request.forceGrading());
+
+        // 답안 변환
+        List<Map<String, Object>> answers = request.answers().stream()
+            .map(answer -> {
+                Map<String, Object> answerMap = new HashMap<>();
+                answerMap.put("question_id", answer.questionId().toString());
+                if (answer.selectedChoice() != null) {
+                    answerMap.put("selected_choice", answer.selectedChoice());
+                }
+                if (answer.answerText() != null) {
+                    answerMap.put("answer_text", answer.answerText());
+                }
+                return answerMap;
+            })
+            .collect(Collectors.toList());
+
+        aiRequest.put("answers", answers);
+
+        if (request.gradingOptions() != null && !request.gradingOptions().isEmpty()) {
+            aiRequest.put("grading_options", request.gradingOptions());
+        }
+
+        return aiRequest;
+    }
+}
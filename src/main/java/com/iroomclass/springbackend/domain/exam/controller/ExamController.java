@@ -1,6 +1,8 @@
 package com.iroomclass.springbackend.domain.exam.controller;
 
 import com.iroomclass.springbackend.common.ApiResponse;
+import com.iroomclass.springbackend.common.CursorPage;
+import com.iroomclass.springbackend.domain.exam.dto.CloseGradingResponse;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamRequest;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamResponse;
 import com.iroomclass.springbackend.domain.exam.dto.ExamAnswerSheetDto;
@@ -9,15 +11,23 @@ import com.iroomclass.springbackend.domain.exam.dto.ExamDto;
 import com.iroomclass.springbackend.domain.exam.dto.ExamFilterRequest;
 import com.iroomclass.springbackend.domain.exam.dto.ExamSubmissionStatusDto;
 import com.iroomclass.springbackend.domain.exam.dto.ExamWithUnitsDto;
+import com.iroomclass.springbackend.domain.exam.dto.GradingJobStatusDto;
+import com.iroomclass.springbackend.domain.exam.dto.RegradeJobStatusDto;
 import com.iroomclass.springbackend.domain.exam.dto.UnitSummaryDto;
 import com.iroomclass.springbackend.domain.exam.dto.UnitNameDto;
 import com.iroomclass.springbackend.domain.exam.dto.ExamQuestionsResponseDto;
 import com.iroomclass.springbackend.domain.exam.dto.StudentAnswerSheetRequest;
+import com.iroomclass.springbackend.domain.exam.dto.SubmissionAdmissionMetricsDto;
 import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
 import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeResponse;
 import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
 import com.iroomclass.springbackend.domain.exam.service.ExamService;
+import com.iroomclass.springbackend.domain.exam.service.ExamCloseGradingService;
 import com.iroomclass.springbackend.domain.exam.service.ExamGradingService;
+import com.iroomclass.springbackend.domain.exam.service.ExamRegradeService;
+import com.iroomclass.springbackend.domain.exam.service.GradingJobService;
+import com.iroomclass.springbackend.domain.exam.service.SubmissionAdmissionGate;
+import com.iroomclass.springbackend.domain.exam.service.SubmissionTimelineService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.Parameters;
@@ -33,8 +43,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -69,6 +81,10 @@ public class ExamController {
 
     private final ExamService examService;
     private final ExamGradingService examGradingService;
+    private final GradingJobService gradingJobService;
+    private final ExamCloseGradingService examCloseGradingService;
+    private final ExamRegradeService examRegradeService;
+    private final SubmissionAdmissionGate submissionAdmissionGate;
     private final ExamRepository examRepository;
 
     /**
@@ -186,17 +202,25 @@ public class ExamController {
             - 시험 기본 정보
             - 제출 통계 (전체 학생 수, 제출 수, 제출률, 미제출 수)
             - 시간별 제출 현황 (시간대별 제출 분포)
+            - 선택한 해상도의 제출 시계열 (resolutionMinutes: 1, 5, 10, 15, 30, 60분, 기본값 1분)
             """, responses = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = ExamSubmissionStatusDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "지원하지 않는 해상도", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "시험을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
     })
     @GetMapping("/{examId}/submission-status")
     public ResponseEntity<ApiResponse<ExamSubmissionStatusDto>> getExamSubmissionStatus(
-            @Parameter(description = "시험 고유 식별자", required = true) @PathVariable UUID examId) {
-        log.info("시험 제출 현황 조회 요청: examId={}", examId);
+            @Parameter(description = "시험 고유 식별자", required = true) @PathVariable UUID examId,
+            @Parameter(description = "제출 시계열 구간 길이 (분: 1, 5, 10, 15, 30, 60)", example = "1") @RequestParam(defaultValue = "1") int resolutionMinutes) {
+        log.info("시험 제출 현황 조회 요청: examId={}, resolutionMinutes={}", examId, resolutionMinutes);
+
+        if (!SubmissionTimelineService.SUPPORTED_RESOLUTIONS.contains(resolutionMinutes)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.errorWithType("지원하지 않는 해상도입니다: " + resolutionMinutes));
+        }
 
         try {
-            ExamSubmissionStatusDto submissionStatus = examService.getExamSubmissionStatus(examId);
+            ExamSubmissionStatusDto submissionStatus = examService.getExamSubmissionStatus(examId, resolutionMinutes);
             return ResponseEntity.ok(ApiResponse.success("시험 제출 현황 조회 성공", submissionStatus));
         } catch (RuntimeException e) {
             log.warn("시험 제출 현황 조회 실패: examId={}, error={}", examId, e.getMessage());
@@ -310,6 +334,55 @@ public class ExamController {
         }
     }
 
+    /**
+     * 시험 목록 커서 조회 (키셋 페이지네이션)
+     */
+    @Operation(summary = "시험 목록 커서 조회", description = """
+            시험 목록을 최신순으로 커서 기반 페이지네이션하여 조회합니다.
+
+            **페이지 이동:** 응답의 `nextCursor`를 다음 요청의 `after`로 전달합니다. 첫 페이지는 `after` 없이 요청합니다.
+            `hasNext=false`이면 마지막 페이지입니다. 커서는 불투명한 토큰이므로 값을 해석하거나 만들지 마세요.
+
+            **성능:** OFFSET과 페이지마다의 COUNT 쿼리 없이 기본키(UUIDv7, 생성 시각 순) 인덱스를 따라 읽으므로
+            깊은 페이지도 첫 페이지와 같은 비용입니다. 전체 개수가 필요하면 첫 페이지에서만 `includeTotal=true`로 요청하세요.
+
+            **사용 예시:**
+            - 첫 페이지: `/api/exams/cursor?size=20&grade=2`
+            - 다음 페이지: `/api/exams/cursor?size=20&grade=2&after={nextCursor}`
+            """, responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서 또는 요청 파라미터", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ExamDto>>> getExamsByCursor(
+            @Parameter(description = "직전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+
+            @Parameter(description = "페이지 크기 (1~100)", example = "20") @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "학년 필터 (1, 2, 3)", example = "1") @RequestParam(required = false) Integer grade,
+
+            @Parameter(description = "시험명 검색어 (부분 일치)", example = "중간고사") @RequestParam(required = false) String search,
+
+            @Parameter(description = "전체 개수 포함 여부 (COUNT 쿼리 추가 실행)", example = "false") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.info("시험 목록 커서 조회 요청: grade={}, search={}, size={}, hasCursor={}, includeTotal={}",
+                grade, search, size, after != null, includeTotal);
+
+        if (grade != null && (grade < 1 || grade > 3)) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.errorWithType("학년은 1, 2, 3 중 하나여야 합니다"));
+        }
+
+        if (search != null && search.length() > 100) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.errorWithType("검색어는 100자 이하여야 합니다"));
+        }
+
+        CursorPage<ExamDto> examPage = examService.findExamsAfter(grade, search, after, size, includeTotal);
+
+        return ResponseEntity.ok(ApiResponse.success("시험 목록 조회 성공", examPage));
+    }
+
     /**
      * 시험 통계 조회 (통합)
      * 
@@ -1086,16 +1159,34 @@ public class ExamController {
                 
                 **처리 과정:**
                 1. 시험 및 학생 정보 검증
-                2. 중복 제출 여부 확인  
-                3. 답안 데이터 저장 (exam_submission, student_answer_sheet, student_answer_sheet_question)
-                4. AI 서버로 채점 요청 (force_grading=true인 경우)
-                5. 채점 결과 반환 (exam_result, exam_result_question)
+                2. 답안 데이터 저장 (exam_submission, student_answer_sheet, student_answer_sheet_question)
+                   - 중복 여부를 먼저 조회하지 않고 INSERT, (exam_id, student_id) 유니크 제약으로 중복 판단
+                3. 채점 (force_grading=true인 경우)
+                   - 정답이 등록된 객관식: 서버 내에서 즉시 자동 채점 (AUTO)
+                   - 주관식 등 나머지 답안만 AI 서버로 채점 요청
+                4. 채점 결과 반환 (exam_result, exam_result_question)
+                
+                **중복 제출 / 재시도 (Idempotency-Key 헤더):**
+                - 이미 제출된 시험이면 새로 저장하지 않고 기존 제출 정보를 status=ALREADY_SUBMITTED로 반환 (200)
+                - 네트워크 재시도 시 같은 Idempotency-Key를 보내면 안전하게 같은 제출을 돌려받음
+                - 기존 제출과 다른 Idempotency-Key로 다시 제출하면 400
+                
+                **수용 제어 (시험 종료 직후 제출 폭주 대응):**
+                - 초당 처리량(토큰 버킷)과 시험별 동시 처리 수를 넘는 제출은 서버 대기열에서 순서대로 대기
+                - 대기열이 가득 차거나 최대 대기 시간을 넘으면 즉시 429와 Retry-After 헤더(초) 반환
+                - 클라이언트는 Retry-After 이후 같은 Idempotency-Key로 재시도
                 
                 **주요 특징:**
                 - 제출과 채점이 하나의 API로 통합 처리
-                - AI 채점 실패 시에도 제출은 성공으로 처리
+                - AI 채점 실패 시에도 제출은 성공으로 처리 (객관식 결과만 있으면 grading_result.status=PARTIAL)
                 - UUIDv7 형식으로 시간 기반 정렬 가능
                 - 객관식(selected_choice)과 주관식(answer_text) 답안 모두 지원
+                
+                **비동기 모드 (async=true):**
+                - 제출과 객관식 자동 채점 결과만 저장하고 즉시 202 Accepted 반환
+                - 응답의 grading_job_id로 `/exams/grading-jobs/{jobId}` 폴링 또는
+                  `/exams/grading-jobs/{jobId}/events` SSE 구독으로 채점 결과 확인
+                - AI 채점은 고정 크기 채점 워커 풀에서 수행되어 서블릿 스레드와 DB 커넥션을 점유하지 않음
                 """,
         responses = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -1103,6 +1194,11 @@ public class ExamController {
                 description = "제출 및 채점 성공", 
                 content = @Content(schema = @Schema(implementation = SubmitAndGradeResponse.class))
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "202", 
+                description = "제출 성공, 비동기 채점 접수 (async=true)", 
+                content = @Content(schema = @Schema(implementation = SubmitAndGradeResponse.class))
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                 responseCode = "400", 
                 description = "잘못된 요청 (중복 제출, 유효하지 않은 답안 등)"
@@ -1111,6 +1207,10 @@ public class ExamController {
                 responseCode = "404", 
                 description = "시험 또는 학생을 찾을 수 없음"
             ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "429", 
+                description = "제출 요청 과다 (Retry-After 헤더의 초만큼 기다린 후 재시도)"
+            ),
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
                 responseCode = "500", 
                 description = "서버 내부 오류"
@@ -1148,32 +1248,222 @@ public class ExamController {
                     )
                 )
             ) 
-            SubmitAndGradeRequest request) {
+            SubmitAndGradeRequest request,
+            @Parameter(description = "비동기 채점 여부 (true면 202 Accepted와 채점 작업 ID 반환)", example = "false")
+            @RequestParam(defaultValue = "false") boolean async,
+            @Parameter(description = "멱등성 키 (클라이언트가 제출 시도마다 생성, 재시도 시 동일 값 사용)", example = "5f1c2d3e-submit-1")
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         
-        log.info("시험 답안 제출 및 채점 요청: examId={}, studentId={}, answersCount={}, forceGrading={}", 
-                request.examId(), request.studentId(), request.answers().size(), request.forceGrading());
+        log.info("시험 답안 제출 및 채점 요청: examId={}, studentId={}, answersCount={}, forceGrading={}, async={}", 
+                request.examId(), request.studentId(), request.answers().size(), request.forceGrading(), async);
         
-        try {
-            SubmitAndGradeResponse response = examGradingService.submitAndGrade(request);
+        // 수용 제어: 처리 권한을 얻은 뒤에만 트랜잭션(DB 커넥션)을 시작, 초과 시 429 + Retry-After
+        try (SubmissionAdmissionGate.Permit permit = submissionAdmissionGate.acquire(request.examId())) {
+            try {
+                if (async && Boolean.TRUE.equals(request.forceGrading())) {
+                    SubmitAndGradeResponse response = examGradingService.submitForAsyncGrading(request, idempotencyKey);
+                
+                    if (SubmitAndGradeResponse.STATUS_ALREADY_SUBMITTED.equals(response.status())) {
+                        return ResponseEntity.ok(ApiResponse.success("이미 제출된 시험입니다", response));
+                    }
+                
+                    log.info("시험 답안 제출 및 비동기 채점 접수 성공: examId={}, studentId={}, submissionId={}, jobId={}", 
+                            request.examId(), request.studentId(), response.submissionId(), response.gradingJobId());
+                
+                    return ResponseEntity.status(HttpStatus.ACCEPTED)
+                            .body(ApiResponse.success("시험 답안 제출이 완료되었습니다. 채점은 백그라운드에서 진행됩니다", response));
+                }
             
-            log.info("시험 답안 제출 및 채점 성공: examId={}, studentId={}, submissionId={}, status={}", 
-                    request.examId(), request.studentId(), response.submissionId(), response.status());
+                SubmitAndGradeResponse response = examGradingService.submitAndGrade(request, idempotencyKey);
             
-            return ResponseEntity.ok(
-                ApiResponse.success("시험 답안 제출 및 채점이 완료되었습니다", response)
-            );
+                log.info("시험 답안 제출 및 채점 성공: examId={}, studentId={}, submissionId={}, status={}", 
+                        request.examId(), request.studentId(), response.submissionId(), response.status());
             
-        } catch (RuntimeException e) {
-            log.error("시험 답안 제출 및 채점 실패: examId={}, studentId={}, error={}", 
-                    request.examId(), request.studentId(), e.getMessage());
-            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
-                    .body(ApiResponse.errorWithType(e.getMessage()));
+                return ResponseEntity.ok(
+                    ApiResponse.success("시험 답안 제출 및 채점이 완료되었습니다", response)
+                );
+            
+            } catch (RuntimeException e) {
+                log.error("시험 답안 제출 및 채점 실패: examId={}, studentId={}, error={}", 
+                        request.examId(), request.studentId(), e.getMessage());
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                        .body(ApiResponse.errorWithType(e.getMessage()));
                     
-        } catch (Exception e) {
-            log.error("시험 답안 제출 및 채점 중 예상치 못한 오류: examId={}, studentId={}", 
-                    request.examId(), request.studentId(), e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-                    .body(ApiResponse.errorWithType("시험 답안 제출 및 채점 중 오류가 발생했습니다"));
+            } catch (Exception e) {
+                log.error("시험 답안 제출 및 채점 중 예상치 못한 오류: examId={}, studentId={}", 
+                        request.examId(), request.studentId(), e);
+                return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .body(ApiResponse.errorWithType("시험 답안 제출 및 채점 중 오류가 발생했습니다"));
+            }
+        }
+    }
+    
+    /**
+     * 답안 제출 수용 제어 지표 조회
+     */
+    @Operation(
+        summary = "답안 제출 수용 제어 지표",
+        description = """
+                답안 제출 수용 제어의 현재 대기열 깊이, 처리 중 제출 수, 누적 수용/거절 수,
+                평균/최대 대기 시간을 조회합니다. 시험 종료 직후 제출 폭주 모니터링에 사용합니다.
+                """
+    )
+    @GetMapping("/submit-and-grade/admission-metrics")
+    public ResponseEntity<ApiResponse<SubmissionAdmissionMetricsDto>> getSubmissionAdmissionMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("제출 수용 제어 지표 조회 성공", submissionAdmissionGate.getMetrics()));
+    }
+    
+    /**
+     * 시험 종료 일괄 채점
+     */
+    @Operation(
+        summary = "시험 종료 일괄 채점",
+        description = """
+                시험을 마감하고 미채점 제출 전체를 문항 단위로 일괄 채점합니다.
+                
+                **처리 방식:**
+                - 시험을 종료 처리하여 이후 답안 제출은 409로 거부
+                - 시험 생성 시 종료일시(endDate)를 지정했다면 그 시각이 지나면 자동으로 실행
+                - 채점 완료 결과가 없는 제출만 대상
+                - 학생 단위가 아닌 문항 단위로 답안을 묶어 채점
+                - 객관식은 서버 내 자동 채점, 주관식은 문항별로 AI 서버에 청크 단위 일괄 요청
+                - 결과는 제출 청크 단위로 일괄 저장 (비동기 제출로 생성된 PENDING 결과는 재사용)
+                
+                **응답:**
+                - 202 Accepted: 채점 워커에서 백그라운드로 진행
+                - 채점 대상이 없으면 status=NOTHING_TO_GRADE
+                - 같은 시험의 일괄 채점이 이미 진행 중이면 409
+                """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "일괄 채점 접수", content = @Content(schema = @Schema(implementation = CloseGradingResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "시험을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 일괄 채점 진행 중", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
         }
+    )
+    @PostMapping("/{examId}/close-grading")
+    public ResponseEntity<ApiResponse<CloseGradingResponse>> closeAndGrade(
+            @Parameter(description = "시험 고유 식별자", required = true) @PathVariable UUID examId) {
+        log.info("시험 종료 일괄 채점 요청: examId={}", examId);
+        
+        CloseGradingResponse response = examCloseGradingService.closeAndGrade(examId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("시험 종료 일괄 채점이 접수되었습니다", response));
+    }
+    
+    /**
+     * 시험 전체 재채점
+     */
+    @Operation(
+        summary = "시험 전체 재채점",
+        description = """
+                시험의 모든 제출을 백그라운드 작업으로 다시 채점합니다. 채점 기준 수정 후 사용합니다.
+                
+                **처리 방식:**
+                - 제출을 키셋 페이지네이션으로 청크 단위로 읽어 문항 단위로 채점
+                - AI 서버 요청은 설정된 초당 요청 수(grading.regrade.ai-requests-per-second)로 제한
+                - 청크마다 REGRADED 상태의 새 결과 버전을 일괄 저장 (기존 버전은 유지)
+                - 일부 문항이 채점되지 않은 제출은 새 버전을 만들지 않고 기존 결과 유지
+                
+                **진행률 확인:**
+                - GET /api/exams/regrade-jobs/{jobId} (폴링)
+                - GET /api/exams/regrade-jobs/{jobId}/events (SSE, `regrade` 이벤트)
+                """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "202", description = "재채점 접수", content = @Content(schema = @Schema(implementation = RegradeJobStatusDto.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "시험을 찾을 수 없음", content = @Content(schema = @Schema(implementation = ApiResponse.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "409", description = "이미 재채점 진행 중", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+        }
+    )
+    @PostMapping("/{examId}/regrade")
+    public ResponseEntity<ApiResponse<RegradeJobStatusDto>> regradeExam(
+            @Parameter(description = "시험 고유 식별자", required = true) @PathVariable UUID examId) {
+        log.info("시험 전체 재채점 요청: examId={}", examId);
+        
+        RegradeJobStatusDto response = examRegradeService.startRegrade(examId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success("시험 전체 재채점이 접수되었습니다", response));
+    }
+    
+    /**
+     * 재채점 작업 상태 조회 (폴링)
+     */
+    @Operation(
+        summary = "재채점 작업 상태 조회",
+        description = "시험 전체 재채점 작업의 진행률(처리/재채점 제출 수, AI 요청 수)을 조회합니다."
+    )
+    @GetMapping("/regrade-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<RegradeJobStatusDto>> getRegradeJobStatus(
+            @Parameter(description = "재채점 작업 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            @PathVariable UUID jobId) {
+        
+        RegradeJobStatusDto status = examRegradeService.getJobStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.success("재채점 작업 상태 조회 성공", status));
+    }
+    
+    /**
+     * 재채점 진행률 스트리밍 (SSE)
+     */
+    @Operation(
+        summary = "재채점 진행률 스트리밍",
+        description = """
+                재채점 진행률을 SSE(Server-Sent Events)로 전달합니다.
+                
+                - 구독 즉시 현재 상태를 `regrade` 이벤트로 전송
+                - 청크 처리마다 진행률 이벤트 전송
+                - COMPLETED 또는 FAILED 이벤트 전송 후 연결 종료
+                """
+    )
+    @GetMapping(value = "/regrade-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamRegradeJob(
+            @Parameter(description = "재채점 작업 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            @PathVariable UUID jobId) {
+        
+        log.info("재채점 SSE 구독 요청: jobId={}", jobId);
+        return examRegradeService.subscribe(jobId);
+    }
+    
+    /**
+     * 비동기 채점 작업 상태 조회 (폴링)
+     */
+    @Operation(
+        summary = "비동기 채점 작업 상태 조회",
+        description = """
+                비동기 제출(async=true)로 접수된 채점 작업의 상태를 조회합니다.
+                
+                **상태 값:**
+                - QUEUED: 채점 워커 대기열에 등록됨
+                - IN_PROGRESS: AI 채점 진행 중
+                - COMPLETED: 채점 완료 (total_score 포함)
+                - FAILED: 채점 실패 (제출은 유지되며 채점 결과는 PENDING 상태)
+                """
+    )
+    @GetMapping("/grading-jobs/{jobId}")
+    public ResponseEntity<ApiResponse<GradingJobStatusDto>> getGradingJobStatus(
+            @Parameter(description = "채점 작업 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            @PathVariable UUID jobId) {
+        
+        GradingJobStatusDto status = gradingJobService.getJobStatus(jobId);
+        return ResponseEntity.ok(ApiResponse.success("채점 작업 상태 조회 성공", status));
+    }
+    
+    /**
+     * 비동기 채점 작업 상태 스트리밍 (SSE)
+     */
+    @Operation(
+        summary = "비동기 채점 작업 상태 스트리밍",
+        description = """
+                채점 작업 상태 변경을 SSE(Server-Sent Events)로 전달합니다.
+                
+                - 구독 즉시 현재 상태를 `grading` 이벤트로 전송
+                - COMPLETED 또는 FAILED 이벤트 전송 후 연결 종료
+                """
+    )
+    @GetMapping(value = "/grading-jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamGradingJob(
+            @Parameter(description = "채점 작업 ID", required = true, example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+            @PathVariable UUID jobId) {
+        
+        log.info("채점 작업 SSE 구독 요청: jobId={}", jobId);
+        return gradingJobService.subscribe(jobId);
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package com.iroomclass.springbackend.domain.exam.controller;
 
 import com.iroomclass.springbackend.common.ApiResponse;
+import com.iroomclass.springbackend.common.CursorPage;
 import com.iroomclass.springbackend.domain.exam.dto.ExamSheetDto;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamSheetRequest;
 import com.iroomclass.springbackend.domain.exam.service.ExamSheetService;
@@ -172,6 +173,52 @@ public class ExamSheetController {
         }
     }
 
+    /**
+     * 문제지 목록 커서 조회 (키셋 페이지네이션)
+     */
+    @Operation(summary = "문제지 목록 커서 조회", description = """
+            문제지 목록을 최신순으로 커서 기반 페이지네이션하여 조회합니다.
+
+            페이지 이동:
+            - 응답의 nextCursor를 다음 요청의 after로 전달 (첫 페이지는 after 생략)
+            - hasNext가 false이면 마지막 페이지
+            - 커서는 불투명한 토큰이므로 값을 해석하거나 만들지 않음
+
+            성능:
+            - OFFSET과 페이지마다의 COUNT 쿼리 없이 기본키(UUIDv7, 생성 시각 순) 인덱스를 따라 조회
+            - 깊은 페이지도 첫 페이지와 같은 비용
+            - 전체 개수가 필요하면 첫 페이지에서만 includeTotal=true로 요청
+            """, responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = CursorPage.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기", content = @Content(schema = @Schema(implementation = ApiResponse.class)))
+    })
+    @GetMapping("/cursor")
+    public ResponseEntity<ApiResponse<CursorPage<ExamSheetDto>>> getExamSheetsByCursor(
+            @Parameter(description = "직전 페이지의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String after,
+
+            @Parameter(description = "페이지 크기 (1~100)", example = "20") @RequestParam(defaultValue = "20") int size,
+
+            @Parameter(description = "학년 필터 (1, 2, 3)", example = "1") @RequestParam(required = false) Integer grade,
+
+            @Parameter(description = "검색 키워드 (문제지 이름)", example = "수학") @RequestParam(required = false) String search,
+
+            @Parameter(description = "전체 개수 포함 여부 (COUNT 쿼리 추가 실행)", example = "false") @RequestParam(defaultValue = "false") boolean includeTotal) {
+        log.info("문제지 목록 커서 조회 요청: size={}, grade={}, search={}, hasCursor={}, includeTotal={}",
+                size, grade, search, after != null, includeTotal);
+
+        try {
+            CursorPage<ExamSheetDto> examSheets = examSheetService.findAllAfter(grade, search, after, size, includeTotal);
+
+            log.info("문제지 목록 커서 조회 완료: size={}, hasNext={}", examSheets.size(), examSheets.hasNext());
+
+            return ResponseEntity.ok(
+                    ApiResponse.success("문제지 목록 조회 성공", examSheets));
+        } catch (Exception e) {
+            log.error("문제지 목록 커서 조회 실패: error={}", e.getMessage(), e);
+            throw e;
+        }
+    }
+
     /**
      * 학년별 문제지 통계
      */
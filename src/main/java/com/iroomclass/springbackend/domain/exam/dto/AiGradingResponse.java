@@ -0,0 +1,17 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * AI 서버 채점 응답 DTO
+ *
+ * <p>AI 서버의 /grading/submit-and-grade 응답 본문입니다.
+ * WebClient 응답 스트림에서 Jackson이 {@link GradingResultDto}로 바로 역직렬화하므로
+ * 중간 Map 변환과 필드별 수동 캐스팅이 필요 없습니다.</p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record AiGradingResponse(
+    @JsonProperty("grading_result")
+    GradingResultDto gradingResult
+) {}
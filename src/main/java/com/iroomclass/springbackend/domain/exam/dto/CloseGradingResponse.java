@@ -0,0 +1,47 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시험 종료 일괄 채점 접수 응답 DTO
+ */
+@Schema(description = "시험 종료 일괄 채점 접수 응답")
+public record CloseGradingResponse(
+    @Schema(description = "시험 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("exam_id")
+    UUID examId,
+
+    @Schema(description = "채점 대상 제출 수", example = "120")
+    @JsonProperty("submission_count")
+    int submissionCount,
+
+    @Schema(description = "시험지 문제 수", example = "25")
+    @JsonProperty("question_count")
+    int questionCount,
+
+    @Schema(description = "처리 상태", example = "ACCEPTED", allowableValues = {"ACCEPTED", "NOTHING_TO_GRADE"})
+    String status,
+
+    @Schema(description = "접수 시간")
+    @JsonProperty("accepted_at")
+    LocalDateTime acceptedAt
+) {
+
+    /**
+     * 일괄 채점 접수 응답 생성
+     */
+    public static CloseGradingResponse accepted(UUID examId, int submissionCount, int questionCount) {
+        return new CloseGradingResponse(examId, submissionCount, questionCount, "ACCEPTED", LocalDateTime.now());
+    }
+
+    /**
+     * 채점 대상이 없는 경우의 응답 생성
+     */
+    public static CloseGradingResponse nothingToGrade(UUID examId, int questionCount) {
+        return new CloseGradingResponse(examId, 0, questionCount, "NOTHING_TO_GRADE", LocalDateTime.now());
+    }
+}
@@ -1,10 +1,12 @@
 package com.iroomclass.springbackend.domain.exam.dto;
 
+import com.iroomclass.springbackend.domain.exam.service.SubmissionTimelineService;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.UUID;
 
@@ -19,7 +21,37 @@ public record ExamSubmissionStatusDto(
 
         @Schema(description = "최근 제출자 목록 (최대 5명)") List<RecentSubmission> recentSubmissions,
 
-        @Schema(description = "시간별 제출 통계") List<HourlyStats> hourlyStats) {
+        @Schema(description = "시간별 제출 통계") List<HourlyStats> hourlyStats,
+
+        @Schema(description = "선택한 해상도의 제출 시계열") SubmissionTimeline submissionTimeline) {
+
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00:00");
+
+    /**
+     * 제출 시계열 (선택한 해상도)
+     */
+    @Schema(description = "제출 시계열")
+    public record SubmissionTimeline(
+            @Schema(description = "구간 길이 (분)", example = "1") Integer resolutionMinutes,
+
+            @Schema(description = "구간별 제출 수 (제출이 있는 구간만, 시간 오름차순)") List<TimelinePoint> points) {
+    }
+
+    /**
+     * 제출 시계열 구간
+     */
+    @Schema(description = "제출 시계열 구간")
+    public record TimelinePoint(
+            @Schema(description = "구간 시작 시각") LocalDateTime start,
+
+            @Schema(description = "구간 제출 수", example = "4") Long submissionCount) {
+        /**
+         * 시계열 구간으로부터 DTO 생성
+         */
+        public static TimelinePoint from(SubmissionTimelineService.TimelineBucket bucket) {
+            return new TimelinePoint(bucket.start(), bucket.count());
+        }
+    }
 
     /**
      * 시간별 제출 통계
@@ -30,11 +62,10 @@ public record ExamSubmissionStatusDto(
 
             @Schema(description = "해당 시간 제출 수", example = "15") Long submissionCount) {
         /**
-         * Repository 결과로부터 DTO 생성
+         * 1시간 단위 시계열 구간으로부터 DTO 생성
          */
-        public static HourlyStats from(
-                com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository.HourlySubmissionStats stats) {
-            return new HourlyStats(stats.getHourGroup(), stats.getCount());
+        public static HourlyStats from(SubmissionTimelineService.TimelineBucket bucket) {
+            return new HourlyStats(bucket.start().format(HOUR_FORMAT), bucket.count());
         }
     }
 
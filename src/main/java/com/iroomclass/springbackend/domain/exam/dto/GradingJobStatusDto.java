@@ -0,0 +1,102 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 비동기 채점 작업 상태 DTO
+ *
+ * <p>비동기 제출 후 폴링 또는 SSE로 전달되는 채점 작업 상태입니다.</p>
+ */
+@Schema(description = "비동기 채점 작업 상태")
+public record GradingJobStatusDto(
+    @Schema(description = "채점 작업 ID (시험 결과 ID)", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("job_id")
+    UUID jobId,
+
+    @Schema(description = "제출 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("submission_id")
+    UUID submissionId,
+
+    @Schema(description = "작업 상태", example = "QUEUED", allowableValues = {"QUEUED", "IN_PROGRESS", "COMPLETED", "FAILED"})
+    Status status,
+
+    @Schema(description = "총점 (완료 시만)", example = "85")
+    @JsonProperty("total_score")
+    Integer totalScore,
+
+    @Schema(description = "상태 메시지", example = "채점 대기 중입니다")
+    String message,
+
+    @Schema(description = "상태 변경 시간")
+    @JsonProperty("updated_at")
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * 대기 상태 생성
+     */
+    public static GradingJobStatusDto queued(UUID jobId, UUID submissionId) {
+        return new GradingJobStatusDto(jobId, submissionId, Status.QUEUED, null,
+            "채점 대기 중입니다", LocalDateTime.now());
+    }
+
+    /**
+     * 진행 중 상태로 전환
+     */
+    public GradingJobStatusDto inProgress() {
+        return new GradingJobStatusDto(jobId, submissionId, Status.IN_PROGRESS, null,
+            "채점 진행 중입니다", LocalDateTime.now());
+    }
+
+    /**
+     * 완료 상태로 전환
+     */
+    public GradingJobStatusDto completed(Integer totalScore) {
+        return new GradingJobStatusDto(jobId, submissionId, Status.COMPLETED, totalScore,
+            "채점이 완료되었습니다", LocalDateTime.now());
+    }
+
+    /**
+     * 실패 상태로 전환
+     */
+    public GradingJobStatusDto failed(String errorMessage) {
+        return new GradingJobStatusDto(jobId, submissionId, Status.FAILED, null,
+            errorMessage, LocalDateTime.now());
+    }
+
+    /**
+     * 종료 상태(완료/실패) 여부 확인
+     */
+    public boolean isTerminal() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * 채점 작업 상태 열거형
+     */
+    public enum Status {
+        /**
+         * 워커 대기열에 등록됨
+         */
+        QUEUED,
+
+        /**
+         * AI 채점 진행 중
+         */
+        IN_PROGRESS,
+
+        /**
+         * 채점 완료 (ExamResult COMPLETED)
+         */
+        COMPLETED,
+
+        /**
+         * 채점 실패 (ExamResult는 PENDING 유지)
+         */
+        FAILED
+    }
+}
@@ -1,6 +1,7 @@
 package com.iroomclass.springbackend.domain.exam.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import java.time.LocalDateTime;
@@ -10,9 +11,11 @@ import java.util.UUID;
 /**
  * AI 채점 결과 DTO
  * 
- * <p>AI 서버로부터 받은 채점 결과를 담는 DTO입니다.</p>
+ * <p>AI 서버로부터 받은 채점 결과를 담는 DTO입니다.
+ * AI 서버 응답 스키마에 필드가 추가되어도 역직렬화가 깨지지 않도록 알 수 없는 필드는 무시합니다.</p>
  */
 @Schema(description = "AI 채점 결과")
+@JsonIgnoreProperties(ignoreUnknown = true)
 public record GradingResultDto(
     @Schema(description = "채점 결과 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
     @JsonProperty("result_id")
@@ -26,7 +29,7 @@ public record GradingResultDto(
     @JsonProperty("exam_sheet_id")
     UUID examSheetId,
     
-    @Schema(description = "채점 상태", example = "COMPLETED", allowableValues = {"PENDING", "IN_PROGRESS", "COMPLETED", "FAILED"})
+    @Schema(description = "채점 상태", example = "COMPLETED", allowableValues = {"PENDING", "IN_PROGRESS", "COMPLETED", "PARTIAL", "FAILED"})
     String status,
     
     @Schema(description = "총점", example = "85")
@@ -59,6 +62,7 @@ public record GradingResultDto(
      * 문제별 채점 결과 DTO
      */
     @Schema(description = "문제별 채점 결과")
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record QuestionResultDto(
         @Schema(description = "문제 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
         @JsonProperty("question_id")
@@ -100,6 +104,7 @@ public record GradingResultDto(
      * 채점 메타데이터 DTO
      */
     @Schema(description = "채점 메타데이터")
+    @JsonIgnoreProperties(ignoreUnknown = true)
     public record GradingMetadataDto(
         @Schema(description = "총 문제 수", example = "20")
         @JsonProperty("total_questions")
@@ -0,0 +1,48 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 문항 단위 일괄 채점 요청 DTO (AI 서버 전송용)
+ *
+ * <p>한 문제에 대한 여러 학생의 답안을 묶어 AI 서버의 문항 일괄 채점 API로 전송합니다.
+ * 문제 본문과 채점 기준은 요청당 한 번만 포함됩니다.</p>
+ */
+public record QuestionBatchGradingRequest(
+    @JsonProperty("exam_id")
+    UUID examId,
+
+    @JsonProperty("question_id")
+    UUID questionId,
+
+    @JsonProperty("question_text")
+    String questionText,
+
+    @JsonProperty("model_answer")
+    String modelAnswer,
+
+    @JsonProperty("scoring_rubric")
+    String scoringRubric,
+
+    @JsonProperty("max_score")
+    Integer maxScore,
+
+    List<AnswerItem> answers
+) {
+    /**
+     * 학생별 답안 항목
+     */
+    public record AnswerItem(
+        @JsonProperty("submission_id")
+        UUID submissionId,
+
+        @JsonProperty("answer_text")
+        String answerText,
+
+        @JsonProperty("selected_choice")
+        Integer selectedChoice
+    ) {}
+}
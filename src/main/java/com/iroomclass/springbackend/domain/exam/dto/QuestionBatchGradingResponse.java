@@ -0,0 +1,40 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 문항 단위 일괄 채점 응답 DTO (AI 서버 응답)
+ *
+ * <p>요청한 문제에 대한 학생별 채점 결과입니다. 결과가 누락된 제출은 미채점으로 남습니다.</p>
+ */
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record QuestionBatchGradingResponse(
+    @JsonProperty("question_id")
+    UUID questionId,
+
+    List<ResultItem> results
+) {
+    /**
+     * 학생별 채점 결과 항목
+     */
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public record ResultItem(
+        @JsonProperty("submission_id")
+        UUID submissionId,
+
+        @JsonProperty("is_correct")
+        Boolean isCorrect,
+
+        Integer score,
+
+        @JsonProperty("confidence_score")
+        String confidenceScore,
+
+        @JsonProperty("scoring_comment")
+        String scoringComment
+    ) {}
+}
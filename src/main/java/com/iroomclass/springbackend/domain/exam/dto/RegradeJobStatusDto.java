@@ -0,0 +1,92 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시험 전체 재채점 작업 상태 DTO
+ *
+ * <p>재채점 접수 응답과 폴링/SSE 진행률 이벤트에 사용됩니다.</p>
+ */
+@Schema(description = "시험 전체 재채점 작업 상태")
+public record RegradeJobStatusDto(
+    @Schema(description = "재채점 작업 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("job_id")
+    UUID jobId,
+
+    @Schema(description = "시험 ID", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("exam_id")
+    UUID examId,
+
+    @Schema(description = "작업 상태", example = "IN_PROGRESS", allowableValues = {"QUEUED", "IN_PROGRESS", "COMPLETED", "FAILED"})
+    GradingJobStatusDto.Status status,
+
+    @Schema(description = "재채점 대상 제출 수 (접수 시점)", example = "500")
+    @JsonProperty("total_submissions")
+    long totalSubmissions,
+
+    @Schema(description = "처리한 제출 수", example = "200")
+    @JsonProperty("processed_submissions")
+    long processedSubmissions,
+
+    @Schema(description = "새 버전이 저장된 제출 수", example = "198")
+    @JsonProperty("regraded_submissions")
+    long regradedSubmissions,
+
+    @Schema(description = "AI 서버 요청 수", example = "24")
+    @JsonProperty("ai_request_count")
+    int aiRequestCount,
+
+    @Schema(description = "상태 메시지", example = "재채점 진행 중입니다")
+    String message,
+
+    @Schema(description = "상태 변경 시간")
+    @JsonProperty("updated_at")
+    LocalDateTime updatedAt
+) {
+
+    /**
+     * 대기 상태 생성
+     */
+    public static RegradeJobStatusDto queued(UUID jobId, UUID examId, long totalSubmissions) {
+        return new RegradeJobStatusDto(jobId, examId, GradingJobStatusDto.Status.QUEUED, totalSubmissions,
+            0, 0, 0, "재채점 대기 중입니다", LocalDateTime.now());
+    }
+
+    /**
+     * 청크 처리 결과를 누적한 진행 상태로 전환
+     */
+    public RegradeJobStatusDto progressed(int processed, int regraded, int aiRequests) {
+        return new RegradeJobStatusDto(jobId, examId, GradingJobStatusDto.Status.IN_PROGRESS, totalSubmissions,
+            processedSubmissions + processed, regradedSubmissions + regraded, aiRequestCount + aiRequests,
+            "재채점 진행 중입니다", LocalDateTime.now());
+    }
+
+    /**
+     * 완료 상태로 전환
+     */
+    public RegradeJobStatusDto completed() {
+        return new RegradeJobStatusDto(jobId, examId, GradingJobStatusDto.Status.COMPLETED, totalSubmissions,
+            processedSubmissions, regradedSubmissions, aiRequestCount,
+            "재채점이 완료되었습니다", LocalDateTime.now());
+    }
+
+    /**
+     * 실패 상태로 전환 (이미 저장된 청크는 유지됨)
+     */
+    public RegradeJobStatusDto failed(String errorMessage) {
+        return new RegradeJobStatusDto(jobId, examId, GradingJobStatusDto.Status.FAILED, totalSubmissions,
+            processedSubmissions, regradedSubmissions, aiRequestCount,
+            errorMessage, LocalDateTime.now());
+    }
+
+    /**
+     * 종료 상태(완료/실패) 여부 확인
+     */
+    public boolean isTerminal() {
+        return status == GradingJobStatusDto.Status.COMPLETED || status == GradingJobStatusDto.Status.FAILED;
+    }
+}
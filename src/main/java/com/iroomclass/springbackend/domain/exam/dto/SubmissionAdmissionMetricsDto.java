@@ -0,0 +1,41 @@
+package com.iroomclass.springbackend.domain.exam.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 답안 제출 수용 제어 지표 DTO
+ *
+ * <p>대기열 깊이, 처리 중 제출 수, 누적 수용/거절 수, 대기 시간을 제공합니다.
+ * 대기 시간 통계는 애플리케이션 시작 이후 누적값입니다.</p>
+ */
+@Schema(description = "답안 제출 수용 제어 지표")
+public record SubmissionAdmissionMetricsDto(
+    @Schema(description = "현재 대기열에서 기다리는 제출 수", example = "12")
+    @JsonProperty("queue_depth")
+    int queueDepth,
+
+    @Schema(description = "대기열 최대 크기", example = "300")
+    @JsonProperty("max_queue_size")
+    int maxQueueSize,
+
+    @Schema(description = "현재 처리 중인 제출 수", example = "8")
+    @JsonProperty("in_flight")
+    int inFlight,
+
+    @Schema(description = "누적 수용 제출 수", example = "1520")
+    @JsonProperty("admitted_total")
+    long admittedTotal,
+
+    @Schema(description = "누적 거절(429) 제출 수", example = "3")
+    @JsonProperty("rejected_total")
+    long rejectedTotal,
+
+    @Schema(description = "수용된 제출의 평균 대기 시간 (밀리초)", example = "140.5")
+    @JsonProperty("average_wait_millis")
+    double averageWaitMillis,
+
+    @Schema(description = "수용된 제출의 최대 대기 시간 (밀리초)", example = "2300")
+    @JsonProperty("max_wait_millis")
+    long maxWaitMillis
+) {}
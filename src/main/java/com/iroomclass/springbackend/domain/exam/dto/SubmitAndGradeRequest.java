@@ -56,6 +56,18 @@ public record SubmitAndGradeRequest(
         }
     }
     
+    /**
+     * 답안 목록만 교체한 요청 생성
+     * 
+     * <p>객관식을 로컬 채점하고 나머지 답안만 AI 서버로 보낼 때 사용합니다.</p>
+     * 
+     * @param answers 교체할 답안 목록
+     * @return 답안 목록이 교체된 요청
+     */
+    public SubmitAndGradeRequest withAnswers(List<AnswerDto> answers) {
+        return new SubmitAndGradeRequest(examId, studentId, answers, forceGrading, gradingOptions);
+    }
+    
     /**
      * 답안 DTO
      * 
@@ -29,7 +29,7 @@ public record SubmitAndGradeResponse(
     @JsonProperty("grading_result")
     GradingResultDto gradingResult,
     
-    @Schema(description = "처리 상태", example = "SUCCESS")
+    @Schema(description = "처리 상태", example = "SUCCESS", allowableValues = {"SUCCESS", "SUBMITTED", "ACCEPTED", "ALREADY_SUBMITTED"})
     String status,
     
     @Schema(description = "처리 메시지", example = "제출 및 채점이 완료되었습니다")
@@ -37,8 +37,18 @@ public record SubmitAndGradeResponse(
     
     @Schema(description = "제출 시간")
     @JsonProperty("submitted_at")
-    LocalDateTime submittedAt
+    LocalDateTime submittedAt,
+    
+    @Schema(description = "비동기 채점 작업 ID (비동기 제출 시만)", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+    @JsonProperty("grading_job_id")
+    UUID gradingJobId
 ) {
+    
+    /**
+     * 중복 제출 응답 상태
+     */
+    public static final String STATUS_ALREADY_SUBMITTED = "ALREADY_SUBMITTED";
+    
     /**
      * 성공 응답 생성 팩토리 메서드
      */
@@ -55,7 +65,8 @@ public record SubmitAndGradeResponse(
             gradingResult,
             "SUCCESS",
             "제출 및 채점이 완료되었습니다",
-            submittedAt
+            submittedAt,
+            null
         );
     }
     
@@ -74,7 +85,50 @@ public record SubmitAndGradeResponse(
             null,
             "SUBMITTED",
             "제출이 완료되었습니다. 채점은 대기 중입니다",
-            submittedAt
+            submittedAt,
+            null
+        );
+    }
+    
+    /**
+     * 비동기 채점 접수 응답 (202 Accepted)
+     */
+    public static SubmitAndGradeResponse accepted(
+            UUID submissionId,
+            UUID examSheetId,
+            UUID studentAnswerSheetId,
+            UUID gradingJobId,
+            LocalDateTime submittedAt) {
+        return new SubmitAndGradeResponse(
+            submissionId,
+            examSheetId,
+            studentAnswerSheetId,
+            null,
+            "ACCEPTED",
+            "제출이 완료되었습니다. 채점은 백그라운드에서 진행됩니다",
+            submittedAt,
+            gradingJobId
+        );
+    }
+    
+    /**
+     * 이미 제출된 시험에 대한 재요청 응답 (기존 제출 정보 반환)
+     */
+    public static SubmitAndGradeResponse alreadySubmitted(
+            UUID submissionId,
+            UUID examSheetId,
+            UUID studentAnswerSheetId,
+            UUID gradingJobId,
+            LocalDateTime submittedAt) {
+        return new SubmitAndGradeResponse(
+            submissionId,
+            examSheetId,
+            studentAnswerSheetId,
+            null,
+            STATUS_ALREADY_SUBMITTED,
+            "이미 제출된 시험입니다. 기존 제출 정보를 반환합니다",
+            submittedAt,
+            gradingJobId
         );
     }
-}
\ No newline at end of file
+}
@@ -18,7 +18,9 @@ import java.util.UUID;
  * @since 2025
  */
 @Entity
-@Table(name = "exam")
+@Table(name = "exam", indexes = {
+    @Index(name = "idx_exam_grade_id", columnList = "grade, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -81,6 +83,19 @@ public class Exam {
     @Column(columnDefinition = "LONGTEXT")
     private String qrCodeUrl;
 
+    /**
+     * 시험 종료 예정 일시
+     * 지나면 시험 종료 일괄 채점이 자동으로 실행됩니다.
+     * 없으면 선생님이 직접 종료할 때만 종료됩니다.
+     */
+    private LocalDateTime endDate;
+
+    /**
+     * 시험 종료 처리 일시
+     * 종료된 시험은 새 답안 제출을 받지 않습니다.
+     */
+    private LocalDateTime closedAt;
+
     /**
      * 등록일시
      * 시험이 등록된 날짜와 시간
@@ -113,4 +128,23 @@ public class Exam {
         this.content = content;
         this.maxStudent = maxStudent;
     }
+
+    /**
+     * 시험 종료 처리
+     * 이미 종료된 시험이면 최초 종료 일시를 유지합니다.
+     */
+    public void close() {
+        if (closedAt == null) {
+            closedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 시험 종료 여부 확인
+     * 
+     * @return 종료 처리된 시험이면 true
+     */
+    public boolean isClosed() {
+        return closedAt != null;
+    }
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -38,7 +39,9 @@ import lombok.NoArgsConstructor;
  * @since 2025
  */
 @Entity
-@Table(name = "exam_result")
+@Table(name = "exam_result", indexes = {
+    @Index(name = "idx_exam_result_status_graded_at", columnList = "status, graded_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -181,6 +184,18 @@ public class ExamResult {
         this.scoringComment = comment;
     }
 
+    /**
+     * 채점 완료 처리
+     * 문제별 점수로 총점을 계산하고 상태를 COMPLETED로 전환합니다.
+     *
+     * @param comment 전체 채점 코멘트
+     */
+    public void completeGrading(String comment) {
+        calculateAndUpdateTotalScore();
+        this.scoringComment = comment;
+        updateStatus(ResultStatus.COMPLETED);
+    }
+
     /**
      * 재채점을 위한 새 버전 생성
      * 
@@ -0,0 +1,132 @@
+package com.iroomclass.springbackend.domain.exam.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 시험별 점수 집계 Entity
+ *
+ * 시험마다 최신 채점 결과(exam_submission.latest_result_id)의 점수 개수, 합계, 제곱합, 최솟값, 최댓값을 유지합니다.
+ * 결과 완료/재채점과 같은 트랜잭션에서 증분 갱신되므로 평균, 표준편차, 최고/최저 점수를
+ * exam_result 행을 읽지 않고 O(1)로 계산할 수 있습니다.
+ * 갱신은 ExamScoreAggregateUpdateRepository가 JDBC로 수행하며 JPA에서는 조회 전용입니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Entity
+@Table(name = "exam_score_aggregate", indexes = {
+    @Index(name = "idx_exam_score_aggregate_grade", columnList = "grade")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ExamScoreAggregate {
+
+    /**
+     * 시험 ID
+     * 시험당 집계 행 1개
+     */
+    @Id
+    @Column(name = "exam_id", columnDefinition = "BINARY(16)")
+    private UUID examId;
+
+    /**
+     * 시험 학년
+     * 학년별 대시보드 조회용
+     */
+    @Column(nullable = false)
+    private Integer grade;
+
+    /**
+     * 집계된 결과 수 (채점 완료된 제출 수)
+     */
+    @Column(name = "result_count", nullable = false)
+    private long resultCount;
+
+    /**
+     * 점수 합계
+     */
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    /**
+     * 점수 제곱합 (분산 계산용)
+     */
+    @Column(name = "score_square_sum", nullable = false)
+    private long scoreSquareSum;
+
+    /**
+     * 최저 점수
+     */
+    @Column(name = "min_score")
+    private Integer minScore;
+
+    /**
+     * 최고 점수
+     */
+    @Column(name = "max_score")
+    private Integer maxScore;
+
+    /**
+     * 마지막 갱신 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 평균 점수 계산
+     *
+     * @return 평균 점수 (결과가 없으면 null)
+     */
+    public Double getAverageScore() {
+        return average(resultCount, scoreSum);
+    }
+
+    /**
+     * 모표준편차 계산
+     *
+     * @return 표준편차 (결과가 1개 이하이면 0)
+     */
+    public double getStandardDeviation() {
+        return standardDeviation(resultCount, scoreSum, scoreSquareSum);
+    }
+
+    /**
+     * 개수와 합계로 평균 계산
+     *
+     * @param count 개수
+     * @param sum   합계
+     * @return 평균 (개수가 0이면 null)
+     */
+    public static Double average(long count, long sum) {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    /**
+     * 개수, 합계, 제곱합으로 모표준편차 계산
+     * 분산 = 제곱합/개수 - 평균²
+     *
+     * @param count     개수
+     * @param sum       합계
+     * @param squareSum 제곱합
+     * @return 표준편차 (개수가 1 이하이면 0)
+     */
+    public static double standardDeviation(long count, long sum, long squareSum) {
+        if (count <= 1) {
+            return 0.0;
+        }
+        double mean = (double) sum / count;
+        double variance = (double) squareSum / count - mean * mean;
+        return Math.sqrt(Math.max(variance, 0.0));
+    }
+}
@@ -21,7 +21,9 @@ import java.util.UUID;
  * @since 2025
  */
 @Entity
-@Table(name = "exam_sheet")
+@Table(name = "exam_sheet", indexes = {
+    @Index(name = "idx_exam_sheet_grade_id", columnList = "grade, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -10,10 +10,12 @@ import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -25,14 +27,22 @@ import lombok.NoArgsConstructor;
  * 시험 제출 Entity
  * 
  * 학생별 시험 제출 기록을 관리합니다. (순수 제출 정보만)
- * 시험당 1회 제출 제한이며, User 엔티티와의 관계로 학생을 식별합니다.
+ * 시험당 1회 제출 제한이며 (exam_id, student_id) 유니크 제약으로 보장합니다.
+ * 제약이 실제로 존재하는지는 시작 시 ExamSubmissionUniqueConstraintCheck가 확인합니다.
+ * User 엔티티와의 관계로 학생을 식별합니다.
  * 채점 결과는 별도의 ExamGrading 엔티티에서 관리합니다.
  * 
  * @author 이룸클래스
  * @since 2025
  */
 @Entity
-@Table(name = "exam_submission")
+@Table(name = "exam_submission", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_exam_submission_exam_student", columnNames = {"exam_id", "student_id"}),
+    @UniqueConstraint(name = "uk_exam_submission_idempotency_key", columnNames = {"idempotency_key"})
+}, indexes = {
+    @Index(name = "idx_exam_submission_latest_result", columnList = "latest_result_id"),
+    @Index(name = "idx_exam_submission_submitted_at", columnList = "submitted_at")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -72,6 +82,21 @@ public class ExamSubmission {
     @Column(nullable = false)
     private LocalDateTime submittedAt;
 
+    /**
+     * 멱등성 키
+     * 클라이언트가 Idempotency-Key 헤더로 보낸 값으로, 네트워크 재시도 시 같은 제출을 식별
+     */
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    /**
+     * 최신 채점 결과 ID
+     * 최신 완료(COMPLETED/REGRADED) ExamResult를 가리키는 포인터로, 통계 쿼리에서 PK 조인에 사용
+     * ExamSubmissionLatestResultRepository가 결과 완료 시 JDBC로 갱신하므로 JPA에서는 읽기 전용
+     */
+    @Column(name = "latest_result_id", columnDefinition = "BINARY(16)", insertable = false, updatable = false)
+    private UUID latestResultId;
+
 
     /**
      * Entity 저장 전 실행되는 메서드
@@ -0,0 +1,243 @@
+package com.iroomclass.springbackend.domain.exam.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 채점 재시도 작업 Entity
+ *
+ * AI 채점이 실패한 시험 결과를 영속적으로 보관하고,
+ * 스케줄러가 지수 백오프로 재시도할 수 있도록 시도 횟수와 다음 시도 시각을 관리합니다.
+ *
+ * <p>
+ * 상태 전이:
+ * </p>
+ * <ul>
+ * <li>PENDING → PROCESSING: 스케줄러가 작업을 점유 (locked_until까지 다른 노드는 가져가지 않음)</li>
+ * <li>PROCESSING → SUCCEEDED: 채점 결과 반영 완료</li>
+ * <li>PROCESSING → PENDING: 실패, 다음 시도 시각 재계산</li>
+ * <li>PROCESSING → DEAD: 최대 시도 횟수 초과</li>
+ * </ul>
+ *
+ * <p>진행 중(PENDING/PROCESSING)인 동안에만 active_exam_result_id를 채우고 종료 상태에서 비우므로,
+ * 이 컬럼의 유니크 제약으로 시험 결과당 진행 중인 작업이 하나만 존재합니다 (NULL은 중복 허용).</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Entity
+@Table(name = "grading_retry_task", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_grading_retry_active_exam_result", columnNames = {"active_exam_result_id"})
+}, indexes = {
+    @Index(name = "idx_grading_retry_status_next", columnList = "status, next_attempt_at"),
+    @Index(name = "idx_grading_retry_exam_result", columnList = "exam_result_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+@Builder
+public class GradingRetryTask {
+
+    /**
+     * 재시도 작업 고유 ID
+     * UUIDv7 기본키
+     */
+    @Id
+    @Column(columnDefinition = "BINARY(16)")
+    private UUID id;
+
+    /**
+     * 채점 결과를 반영할 시험 결과 ID (PENDING 상태)
+     */
+    @Column(name = "exam_result_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID examResultId;
+
+    /**
+     * 진행 중인 작업의 시험 결과 ID
+     * PENDING/PROCESSING 동안 exam_result_id와 같은 값, SUCCEEDED/DEAD가 되면 null
+     */
+    @Column(name = "active_exam_result_id", columnDefinition = "BINARY(16)")
+    private UUID activeExamResultId;
+
+    /**
+     * 학생 답안지 ID
+     */
+    @Column(name = "answer_sheet_id", columnDefinition = "BINARY(16)", nullable = false)
+    private UUID answerSheetId;
+
+    /**
+     * 작업 상태
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private RetryStatus status = RetryStatus.PENDING;
+
+    /**
+     * 시도 횟수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    @Builder.Default
+    private Integer attemptCount = 0;
+
+    /**
+     * 다음 시도 시각
+     */
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 작업을 점유한 노드 식별자
+     */
+    @Column(name = "locked_by", length = 100)
+    private String lockedBy;
+
+    /**
+     * 점유 만료 시각
+     * 처리 중 노드가 종료되어도 이 시각이 지나면 다른 노드가 다시 가져갈 수 있음
+     */
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    /**
+     * 마지막 오류 메시지
+     */
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    /**
+     * 생성일시
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 수정일시
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Entity 저장 전 실행되는 메서드
+     */
+    @PrePersist
+    protected void onCreate() {
+        if (id == null) {
+            id = UUIDv7Generator.generate();
+        }
+        if (status == RetryStatus.PENDING || status == RetryStatus.PROCESSING) {
+            activeExamResultId = examResultId;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (nextAttemptAt == null) {
+            nextAttemptAt = now;
+        }
+        createdAt = now;
+        updatedAt = now;
+    }
+
+    /**
+     * Entity 업데이트 전 실행되는 메서드
+     */
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 작업 점유
+     *
+     * @param nodeId      점유 노드 식별자
+     * @param lockedUntil 점유 만료 시각
+     */
+    public void claim(String nodeId, LocalDateTime lockedUntil) {
+        this.status = RetryStatus.PROCESSING;
+        this.lockedBy = nodeId;
+        this.lockedUntil = lockedUntil;
+        this.attemptCount++;
+    }
+
+    /**
+     * 점유 해제 (실행하지 못한 시도는 횟수에서 제외)
+     */
+    public void release() {
+        this.status = RetryStatus.PENDING;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.attemptCount--;
+    }
+
+    /**
+     * 성공 처리
+     */
+    public void markSucceeded() {
+        this.status = RetryStatus.SUCCEEDED;
+        this.activeExamResultId = null;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    /**
+     * 실패 처리
+     *
+     * @param error         오류 메시지
+     * @param nextAttemptAt 다음 시도 시각 (null이면 더 이상 재시도하지 않음)
+     */
+    public void markFailed(String error, LocalDateTime nextAttemptAt) {
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        this.lockedBy = null;
+        this.lockedUntil = null;
+        if (nextAttemptAt == null) {
+            this.status = RetryStatus.DEAD;
+            this.activeExamResultId = null;
+        } else {
+            this.status = RetryStatus.PENDING;
+            this.nextAttemptAt = nextAttemptAt;
+        }
+    }
+
+    /**
+     * 재시도 작업 상태 열거형
+     */
+    public enum RetryStatus {
+        /**
+         * 재시도 대기
+         */
+        PENDING,
+
+        /**
+         * 처리 중 (노드가 점유)
+         */
+        PROCESSING,
+
+        /**
+         * 재시도 성공
+         */
+        SUCCEEDED,
+
+        /**
+         * 최대 시도 횟수 초과로 중단
+         */
+        DEAD
+    }
+}
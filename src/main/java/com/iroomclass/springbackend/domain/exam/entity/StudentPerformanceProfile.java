@@ -0,0 +1,78 @@
+package com.iroomclass.springbackend.domain.exam.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학생별 성적 프로필 Entity
+ *
+ * 학생마다 최신 채점 결과(exam_submission.latest_result_id)가 있는 시험 수, 점수 합계,
+ * 가장 최근 제출한 채점 완료 시험의 학년을 유지합니다.
+ * 결과 완료/재채점과 같은 트랜잭션에서 증분 갱신되므로 학생 홈 화면의 평균 점수, 응시 시험 수, 학년을
+ * 결과 테이블을 읽지 않고 기본키 조회 1회로 구할 수 있습니다.
+ * 갱신은 StudentPerformanceUpdateRepository가 JDBC로 수행하며 JPA에서는 조회 전용입니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Entity
+@Table(name = "student_performance_profile")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudentPerformanceProfile {
+
+    /**
+     * 학생 ID
+     * 학생당 프로필 행 1개
+     */
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    /**
+     * 응시 시험 수 (최신 결과가 있는 제출 수)
+     */
+    @Column(name = "exam_count", nullable = false)
+    private long examCount;
+
+    /**
+     * 최신 결과 점수 합계
+     */
+    @Column(name = "score_sum", nullable = false)
+    private long scoreSum;
+
+    /**
+     * 최근 학년 (가장 최근 제출한 채점 완료 시험의 학년)
+     */
+    @Column(name = "latest_grade")
+    private Integer latestGrade;
+
+    /**
+     * 최근 학년을 정한 제출의 제출일시
+     */
+    @Column(name = "latest_submitted_at")
+    private LocalDateTime latestSubmittedAt;
+
+    /**
+     * 마지막 갱신 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 평균 점수 계산
+     *
+     * @return 평균 점수 (응시한 시험이 없으면 null)
+     */
+    public Double getAverageScore() {
+        return ExamScoreAggregate.average(examCount, scoreSum);
+    }
+}
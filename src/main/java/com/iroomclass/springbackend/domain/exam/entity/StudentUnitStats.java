@@ -0,0 +1,79 @@
+package com.iroomclass.springbackend.domain.exam.entity;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 학생별 단원 정답 집계 Entity
+ *
+ * (학생, 단원)마다 최신 채점 결과에 포함된 문항 응답 수와 정답 수를 유지합니다.
+ * 기본키가 (student_id, unit_id)이므로 한 학생의 단원별 집계는 기본키 범위 조회로 읽습니다.
+ * 갱신은 StudentPerformanceUpdateRepository가 JDBC로 수행하며 JPA에서는 조회 전용입니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Entity
+@Table(name = "student_unit_stats")
+@IdClass(StudentUnitStats.Key.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StudentUnitStats {
+
+    /**
+     * 학생 ID
+     */
+    @Id
+    @Column(name = "student_id")
+    private Long studentId;
+
+    /**
+     * 단원 ID
+     */
+    @Id
+    @Column(name = "unit_id", columnDefinition = "BINARY(16)")
+    private UUID unitId;
+
+    /**
+     * 문항 응답 수
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private long attemptCount;
+
+    /**
+     * 정답 수 (is_correct = true)
+     */
+    @Column(name = "correct_count", nullable = false)
+    private long correctCount;
+
+    /**
+     * 마지막 갱신 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * 복합 기본키 (학생 ID, 단원 ID)
+     */
+    @Getter
+    @EqualsAndHashCode
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long studentId;
+        private UUID unitId;
+    }
+}
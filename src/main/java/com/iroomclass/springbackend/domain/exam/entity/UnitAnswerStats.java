@@ -0,0 +1,66 @@
+package com.iroomclass.springbackend.domain.exam.entity;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 단원별 문항 응답 집계 Entity
+ *
+ * (학년, 단원)마다 최신 채점 결과(exam_submission.latest_result_id)에 포함된 문항 응답 수와 오답 수를 유지합니다.
+ * 결과가 최신 결과가 되거나 재채점 버전으로 대체될 때 같은 트랜잭션에서 증분 갱신되므로
+ * 단원별 오답률을 exam_result_question 행을 읽지 않고 계산할 수 있습니다.
+ * 갱신은 UnitAnswerStatsUpdateRepository가 JDBC로 수행하며 JPA에서는 조회 전용입니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Entity
+@Table(name = "unit_answer_stats", indexes = {
+    @Index(name = "idx_unit_answer_stats_grade_unit", columnList = "grade, unit_id", unique = true)
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class UnitAnswerStats {
+
+    /**
+     * 단원 ID
+     * 단원당 집계 행 1개 (단원은 하나의 학년에만 속함)
+     */
+    @Id
+    @Column(name = "unit_id", columnDefinition = "BINARY(16)")
+    private UUID unitId;
+
+    /**
+     * 단원 학년
+     */
+    @Column(nullable = false)
+    private Integer grade;
+
+    /**
+     * 문항 응답 수 (최신 결과의 exam_result_question 행 수)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private long attemptCount;
+
+    /**
+     * 오답 수 (is_correct = false)
+     */
+    @Column(name = "wrong_count", nullable = false)
+    private long wrongCount;
+
+    /**
+     * 마지막 갱신 시간
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,17 @@
+package com.iroomclass.springbackend.domain.exam.event;
+
+import java.util.UUID;
+
+/**
+ * 시험 생성 이벤트
+ *
+ * <p>학년별 최근 시험 목록처럼 시험 목록에 의존하는 캐시를 커밋 이후 무효화하는 데 사용합니다.</p>
+ *
+ * @param examId 시험 ID
+ * @param grade  시험 학년
+ */
+public record ExamCreatedEvent(
+    UUID examId,
+    Integer grade
+) {
+}
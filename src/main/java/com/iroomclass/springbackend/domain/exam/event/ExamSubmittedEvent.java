@@ -0,0 +1,23 @@
+package com.iroomclass.springbackend.domain.exam.event;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시험 답안 제출 이벤트
+ *
+ * <p>새 제출이 저장되었을 때 발행됩니다 (중복 제출은 발행하지 않음).
+ * 대시보드 캐시 등 제출 현황을 보관하는 구성 요소가 커밋 이후 해당 시험/학년 데이터를 무효화하는 데 사용합니다.</p>
+ *
+ * @param examId       시험 ID
+ * @param grade        시험 학년
+ * @param submissionId 시험 제출 ID
+ * @param submittedAt  제출 시간 (exam_submission.submitted_at과 같은 값)
+ */
+public record ExamSubmittedEvent(
+    UUID examId,
+    Integer grade,
+    UUID submissionId,
+    LocalDateTime submittedAt
+) {
+}
@@ -0,0 +1,24 @@
+package com.iroomclass.springbackend.domain.exam.event;
+
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+
+import java.util.UUID;
+
+/**
+ * 비동기 채점 요청 이벤트
+ *
+ * <p>제출 트랜잭션이 커밋된 뒤 채점 워커 풀로 작업을 넘기기 위해 발행됩니다.
+ * resultId는 PENDING 상태로 미리 저장된 ExamResult의 ID이며, 채점 작업 ID로도 사용됩니다.</p>
+ *
+ * @param resultId      PENDING 상태의 시험 결과 ID (채점 작업 ID)
+ * @param submissionId  시험 제출 ID
+ * @param answerSheetId 학생 답안지 ID
+ * @param request       원본 제출 요청 (AI 서버 요청 구성용)
+ */
+public record GradingRequestedEvent(
+    UUID resultId,
+    UUID submissionId,
+    UUID answerSheetId,
+    SubmitAndGradeRequest request
+) {
+}
@@ -0,0 +1,18 @@
+package com.iroomclass.springbackend.domain.exam.event;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+
+import java.util.List;
+
+/**
+ * 최신 채점 결과 변경 이벤트
+ *
+ * <p>결과 완료/재채점으로 제출의 최신 결과 포인터가 이동했을 때 발행됩니다.
+ * 메모리 통계(성적 분포 히스토그램 등)는 트랜잭션 커밋 이후에 이 이벤트를 받아 증분 갱신합니다.</p>
+ *
+ * @param changes 포인터가 실제로 이동한 제출별 변경 내역
+ */
+public record LatestResultsChangedEvent(
+    List<LatestResultChange> changes
+) {
+}
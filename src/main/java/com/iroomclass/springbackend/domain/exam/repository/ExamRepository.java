@@ -8,10 +8,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -137,6 +139,80 @@ public interface ExamRepository extends JpaRepository<Exam, UUID> {
     Page<Exam> findByGradeAndExamNameContainingIgnoreCaseOrderByCreatedAtDesc(@Param("grade") Integer grade,
             @Param("examName") String examName, Pageable pageable);
 
+    // ========================================
+    // 키셋 페이지네이션 (UUIDv7 ID 내림차순 = 최신순)
+    // ========================================
+
+    /**
+     * 전체 시험 목록을 키셋 페이지네이션으로 조회
+     *
+     * <p>OFFSET 없이 직전 페이지의 마지막 ID보다 작은 ID만 기본키 인덱스를 역순으로 읽고, COUNT 쿼리도 실행하지 않습니다.
+     * 첫 페이지는 {@code afterId}에 {@link com.iroomclass.springbackend.common.KeysetCursor#FIRST_PAGE}를 전달합니다.</p>
+     *
+     * @param afterId  직전 페이지의 마지막 시험 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험 목록 (ID 내림차순)
+     */
+    @Query("SELECT e FROM Exam e WHERE e.id < :afterId ORDER BY e.id DESC")
+    List<Exam> findAllAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 학년별 시험 목록을 키셋 페이지네이션으로 조회 ((grade, id) 인덱스 사용)
+     *
+     * @param grade    학년
+     * @param afterId  직전 페이지의 마지막 시험 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험 목록 (ID 내림차순)
+     */
+    @Query("SELECT e FROM Exam e WHERE e.grade = :grade AND e.id < :afterId ORDER BY e.id DESC")
+    List<Exam> findByGradeAfter(@Param("grade") Integer grade, @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 대소문자 구분 없는 시험명 검색을 키셋 페이지네이션으로 조회
+     *
+     * @param examName 검색할 시험명
+     * @param afterId  직전 페이지의 마지막 시험 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험 목록 (ID 내림차순)
+     */
+    @Query("SELECT e FROM Exam e WHERE LOWER(e.examName) LIKE LOWER(CONCAT('%', :examName, '%')) " +
+           "AND e.id < :afterId ORDER BY e.id DESC")
+    List<Exam> findByExamNameAfter(@Param("examName") String examName, @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * 학년별 대소문자 구분 없는 시험명 검색을 키셋 페이지네이션으로 조회
+     *
+     * @param grade    학년
+     * @param examName 검색할 시험명
+     * @param afterId  직전 페이지의 마지막 시험 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험 목록 (ID 내림차순)
+     */
+    @Query("SELECT e FROM Exam e WHERE e.grade = :grade AND LOWER(e.examName) LIKE LOWER(CONCAT('%', :examName, '%')) " +
+           "AND e.id < :afterId ORDER BY e.id DESC")
+    List<Exam> findByGradeAndExamNameAfter(@Param("grade") Integer grade, @Param("examName") String examName,
+            @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 대소문자 구분 없는 시험명 검색 결과 개수
+     *
+     * @param examName 검색할 시험명
+     * @return 시험 개수
+     */
+    @Query("SELECT COUNT(e) FROM Exam e WHERE LOWER(e.examName) LIKE LOWER(CONCAT('%', :examName, '%'))")
+    long countByExamNameKeyword(@Param("examName") String examName);
+
+    /**
+     * 학년별 대소문자 구분 없는 시험명 검색 결과 개수
+     *
+     * @param grade    학년
+     * @param examName 검색할 시험명
+     * @return 시험 개수
+     */
+    @Query("SELECT COUNT(e) FROM Exam e WHERE e.grade = :grade AND LOWER(e.examName) LIKE LOWER(CONCAT('%', :examName, '%'))")
+    long countByGradeAndExamNameKeyword(@Param("grade") Integer grade, @Param("examName") String examName);
+
     // ========================================
     // 단원 정보 포함 최적화 쿼리 메서드
     // ========================================
@@ -349,4 +425,26 @@ public interface ExamRepository extends JpaRepository<Exam, UUID> {
         ORDER BY u.displayOrder
         """)
     List<UnitBasicProjection> findDistinctUnitsByGrade(@Param("grade") Integer grade);
-}
\ No newline at end of file
+
+    /**
+     * 종료 예정 일시가 지났지만 아직 종료 처리되지 않은 시험 ID 조회
+     * 
+     * @param now 기준 시각
+     * @return 종료 처리할 시험 ID 목록
+     */
+    @Query("SELECT e.id FROM Exam e WHERE e.closedAt IS NULL AND e.endDate <= :now ORDER BY e.endDate")
+    List<UUID> findEndedOpenExamIds(@Param("now") LocalDateTime now);
+
+    /**
+     * 아직 종료되지 않은 시험을 종료 처리
+     * 
+     * <p>조건부 UPDATE이므로 여러 노드가 동시에 호출해도 한 곳만 1을 반환합니다.</p>
+     * 
+     * @param examId 시험 ID
+     * @param now    종료 처리 일시
+     * @return 종료 처리된 행 수 (이미 종료된 시험이면 0)
+     */
+    @Modifying
+    @Query("UPDATE Exam e SET e.closedAt = :now WHERE e.id = :examId AND e.closedAt IS NULL")
+    int closeIfOpen(@Param("examId") UUID examId, @Param("now") LocalDateTime now);
+}
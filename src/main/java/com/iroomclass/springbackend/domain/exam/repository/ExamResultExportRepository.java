@@ -0,0 +1,110 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 시험 결과 내보내기 Repository
+ *
+ * <p>시험의 학생별 문항 결과(최신 채점 결과 기준)를 전방향 읽기 전용 커서로 한 행씩 전달합니다.
+ * 행을 목록으로 모으지 않으므로 내보내기 메모리 사용량은 시험 크기와 무관합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamResultExportRepository {
+
+    private static final String SCAN_EXAM_RESULT_ROWS_SQL =
+        "SELECT s.id AS student_id, s.name AS student_name, s.phone AS student_phone, " +
+        "es.submitted_at, er.total_score, esq.seq_no, u.unit_name, " +
+        "erq.is_correct, erq.score, esq.points " +
+        "FROM exam_submission es " +
+        "JOIN exam e ON e.id = es.exam_id " +
+        "JOIN student s ON s.id = es.student_id " +
+        "JOIN exam_result er ON er.id = es.latest_result_id " +
+        "JOIN exam_result_question erq ON erq.exam_result_id = er.id " +
+        "JOIN question q ON q.id = erq.question_id " +
+        "JOIN unit u ON u.id = q.unit_id " +
+        "LEFT JOIN exam_sheet_question esq ON esq.exam_sheet_id = e.exam_sheet_id " +
+        "AND esq.question_id = erq.question_id " +
+        "WHERE es.exam_id = ? " +
+        "ORDER BY s.name, s.id, esq.seq_no";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시험의 학생별 문항 결과를 한 번의 스트리밍 스캔으로 전달
+     *
+     * <p>MySQL에서는 행 단위 스트리밍(fetchSize = Integer.MIN_VALUE)을, 그 외 DB에서는 지정한 fetchSize를 사용합니다.
+     * 학생 이름, 학생 ID, 문항 번호 순으로 정렬됩니다.</p>
+     *
+     * @param examId    시험 ID
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer  행별 콜백
+     * @return 스캔한 행 수
+     */
+    public long scanExamResultRows(UUID examId, int fetchSize, Consumer<ExamResultExportRow> consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_EXAM_RESULT_ROWS_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            statement.setBytes(1, UUIDv7Generator.toBytes(examId));
+            return statement;
+        }, rs -> {
+            Timestamp submittedAt = rs.getTimestamp("submitted_at");
+            consumer.accept(new ExamResultExportRow(
+                rs.getLong("student_id"),
+                rs.getString("student_name"),
+                rs.getString("student_phone"),
+                submittedAt != null ? submittedAt.toLocalDateTime() : null,
+                rs.getObject("total_score", Integer.class),
+                rs.getObject("seq_no", Integer.class),
+                rs.getString("unit_name"),
+                rs.getObject("is_correct", Boolean.class),
+                rs.getObject("score", Integer.class),
+                rs.getObject("points", Integer.class)));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * 내보내기 행 (학생 1명의 문항 1개 결과)
+     *
+     * @param studentId    학생 ID
+     * @param studentName  학생 이름
+     * @param studentPhone 학생 전화번호
+     * @param submittedAt  제출 시간
+     * @param totalScore   시험 총점
+     * @param questionNo   시험지 문항 번호
+     * @param unitName     단원명
+     * @param correct      정답 여부 (미채점이면 null)
+     * @param score        문항 획득 점수
+     * @param maxScore     문항 배점
+     */
+    public record ExamResultExportRow(
+        Long studentId,
+        String studentName,
+        String studentPhone,
+        LocalDateTime submittedAt,
+        Integer totalScore,
+        Integer questionNo,
+        String unitName,
+        Boolean correct,
+        Integer score,
+        Integer maxScore
+    ) {}
+}
@@ -1,9 +1,10 @@
 package com.iroomclass.springbackend.domain.exam.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
-import java.time.LocalDateTime;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +21,9 @@ import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
  * 
  * AI 채점 결과 및 재채점 데이터 관리
  * 
+ * 완료된 결과만 집계하는 통계 쿼리는 exam_submission.latest_result_id 포인터로 최신 버전을 조인합니다.
+ * (COMPLETED/REGRADED 중 최신 결과, 결과 이력 길이와 무관)
+ * 
  * @author 이룸클래스
  * @since 2025
  */
@@ -86,6 +90,25 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             @Param("examId") UUID examId,
             @Param("studentId") Long studentId);
 
+    /**
+     * 여러 채점 결과를 문제별 결과, 문제, 단원 정보와 함께 한 번에 조회
+     * 
+     * 상세 답안 목록을 페이지 크기와 무관하게 쿼리 1회로 구성하기 위해 사용합니다.
+     * 
+     * @param resultIds 시험 결과 ID 목록
+     * @return 문제별 상세 정보가 로드된 채점 결과 목록
+     */
+    @Query("""
+            SELECT DISTINCT er FROM ExamResult er
+            LEFT JOIN FETCH er.questionResults qr
+            LEFT JOIN FETCH qr.question q
+            LEFT JOIN FETCH q.unit u
+            LEFT JOIN FETCH u.subcategory us
+            LEFT JOIN FETCH us.category
+            WHERE er.id IN :resultIds
+            """)
+    List<ExamResult> findWithQuestionDetailsByIdIn(@Param("resultIds") Collection<UUID> resultIds);
+
     /**
      * 특정 시험의 모든 학생 채점 결과 조회 (최신 버전)
      * 
@@ -108,7 +131,7 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
     Page<ExamResult> findLatestResultsByExamId(@Param("examId") UUID examId, Pageable pageable);
 
     /**
-     * 특정 시험의 채점 완료된 결과만 조회
+     * 특정 시험의 채점 완료된 결과만 조회 (최신 결과 포인터 기준, 재채점 버전 포함)
      * 
      * @param examId 시험 ID
      * @return 채점 완료 결과 목록
@@ -117,13 +140,7 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             SELECT er FROM ExamResult er
             JOIN er.examSubmission es
             WHERE es.exam.id = :examId
-            AND er.status = 'COMPLETED'
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                JOIN er2.examSubmission es2
-                WHERE es2.id = es.id
-            )
+            AND er.id = es.latestResultId
             ORDER BY er.totalScore DESC, es.student.name
             """)
     List<ExamResult> findCompletedResultsByExamId(@Param("examId") UUID examId);
@@ -139,13 +156,7 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             JOIN er.examSubmission es
             JOIN er.questionResults qr
             WHERE es.exam.id = :examId
-            AND er.status = 'COMPLETED'
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                JOIN er2.examSubmission es2
-                WHERE es2.id = es.id
-            )
+            AND er.id = es.latestResultId
             AND (
                 (qr.confidenceScore IS NOT NULL AND qr.confidenceScore < 0.8)
                 OR (qr.score > 0 AND qr.score < qr.question.points)
@@ -188,6 +199,90 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             """)
     List<ExamResult> findAllVersionsBySubmissionId(@Param("submissionId") UUID submissionId);
 
+    /**
+     * 최신 결과 포인터에 반영되지 않은 완료 결과 조회
+     * 
+     * <p>포인터가 비어 있거나, 포인터가 가리키는 결과보다 늦게 완료된 COMPLETED/REGRADED 결과를
+     * 채점 시간 순으로 조회합니다. 포인터 누락 보정 작업에서 사용합니다.
+     * 전체 결과를 훑는 조회이므로 노드 시작 후 첫 보정에서만 사용하고, 이후에는
+     * {@link #findCompletedResultsMissingLatestPointerSince(LocalDateTime, Pageable)}로 범위를 좁힙니다.</p>
+     * 
+     * @param pageable 조회 건수 제한
+     * @return 포인터에 반영되지 않은 완료 결과 목록
+     */
+    @Query("""
+            SELECT er FROM ExamResult er
+            JOIN er.examSubmission es
+            LEFT JOIN ExamResult cur ON cur.id = es.latestResultId
+            WHERE er.status IN ('COMPLETED', 'REGRADED')
+            AND (cur.id IS NULL OR er.gradedAt > cur.gradedAt)
+            ORDER BY er.gradedAt ASC
+            """)
+    List<ExamResult> findCompletedResultsMissingLatestPointer(Pageable pageable);
+
+    /**
+     * 기준 시각 이후 완료되었지만 최신 결과 포인터에 반영되지 않은 결과 조회
+     * 
+     * <p>(status, graded_at) 인덱스 범위 조건으로 기준 시각 이후 완료 결과만 읽으므로
+     * 전체 결과 수와 관계없이 최근 완료 결과 수만큼만 검사합니다.</p>
+     * 
+     * @param since    채점 완료 시각 하한 (포함)
+     * @param pageable 조회 건수 제한
+     * @return 포인터에 반영되지 않은 완료 결과 목록
+     */
+    @Query("""
+            SELECT er FROM ExamResult er
+            JOIN er.examSubmission es
+            LEFT JOIN ExamResult cur ON cur.id = es.latestResultId
+            WHERE er.status IN ('COMPLETED', 'REGRADED')
+            AND er.gradedAt >= :since
+            AND (cur.id IS NULL OR er.gradedAt > cur.gradedAt)
+            ORDER BY er.gradedAt ASC
+            """)
+    List<ExamResult> findCompletedResultsMissingLatestPointerSince(@Param("since") LocalDateTime since,
+                                                                   Pageable pageable);
+
+    /**
+     * 여러 제출의 미완료 채점 결과 일괄 조회 (문제별 결과 포함)
+     * 
+     * <p>시험 종료 일괄 채점 시 비동기 제출로 먼저 생성된 PENDING/IN_PROGRESS 결과를
+     * 재사용하기 위해 사용합니다.</p>
+     * 
+     * @param submissionIds 제출 ID 목록
+     * @return 미완료 채점 결과 목록
+     */
+    @Query("""
+            SELECT DISTINCT er FROM ExamResult er
+            LEFT JOIN FETCH er.questionResults
+            WHERE er.examSubmission.id IN :submissionIds
+            AND er.status IN ('PENDING', 'IN_PROGRESS')
+            """)
+    List<ExamResult> findIncompleteResultsBySubmissionIds(@Param("submissionIds") List<UUID> submissionIds);
+
+    /**
+     * 완료(COMPLETED/REGRADED) 결과가 있는 제출 ID 조회
+     * 
+     * <p>일괄 채점이 제출 행을 잠근 뒤, 그 사이 비동기 채점/재시도가 먼저 완료한 제출을 건너뛰기 위해 사용합니다.</p>
+     * 
+     * @param submissionIds 제출 ID 목록
+     * @return 완료 결과가 있는 제출 ID 목록
+     */
+    @Query("""
+            SELECT DISTINCT er.examSubmission.id FROM ExamResult er
+            WHERE er.examSubmission.id IN :submissionIds
+            AND er.status IN ('COMPLETED', 'REGRADED')
+            """)
+    List<UUID> findSubmissionIdsWithCompletedResult(@Param("submissionIds") Collection<UUID> submissionIds);
+
+    /**
+     * 시험 결과의 제출 ID 조회
+     * 
+     * @param resultId 시험 결과 ID
+     * @return 제출 ID
+     */
+    @Query("SELECT er.examSubmission.id FROM ExamResult er WHERE er.id = :resultId")
+    Optional<UUID> findSubmissionIdByResultId(@Param("resultId") UUID resultId);
+
     /**
      * 특정 시험의 채점 통계 조회
      * 
@@ -222,89 +317,6 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             """)
     ExamGradingStats findGradingStatsByExamId(@Param("examId") UUID examId);
 
-    /**
-     * 학년별 학생 평균 점수 조회 (성적 분포도용)
-     * 각 학생의 모든 시험 평균 점수를 계산 - ExamResultQuestion 테이블에서 점수 직접 합산
-     * 
-     * @param grade 학년
-     * @return 학생별 평균 점수 목록
-     */
-    @Query(nativeQuery = true, value = """
-            SELECT AVG(student_totals.total_score) as student_average
-            FROM (
-                SELECT
-                    es.student_id,
-                    SUM(erq.score) as total_score
-                FROM exam_submission es
-                JOIN exam_result er ON er.submission_id = es.id
-                JOIN exam e ON e.id = es.exam_id
-                JOIN exam_result_question erq ON erq.exam_result_id = er.id
-                WHERE e.grade = :grade
-                AND er.status = 'COMPLETED'
-                AND er.graded_at = (
-                SELECT MAX(er2.graded_at)
-                    FROM exam_result er2
-                    WHERE er2.submission_id = er.submission_id
-                )
-                GROUP BY es.student_id, er.id
-            ) student_totals
-            GROUP BY student_totals.student_id
-            """)
-    List<Double> findStudentAverageScoresByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 학년별 성적 분포 통계 조회 - ExamResultQuestion 테이블에서 점수 직접 합산
-     * 
-     * @param grade 학년
-     * @return 성적 분포 통계
-     */
-    @Query(nativeQuery = true, value = """
-            SELECT
-                CASE
-                    WHEN subquery.avg_score < 40 THEN '0-39'
-                    WHEN subquery.avg_score < 60 THEN '40-59'
-                    WHEN subquery.avg_score < 70 THEN '60-69'
-                    WHEN subquery.avg_score < 80 THEN '70-79'
-                    WHEN subquery.avg_score < 90 THEN '80-89'
-                    ELSE '90-100'
-                END as scoreRange,
-                COUNT(subquery.student_id) as studentCount
-            FROM (
-                SELECT
-                    student_avgs.student_id,
-                    AVG(student_avgs.total_score) as avg_score
-                FROM (
-                    SELECT
-                        es.student_id,
-                        er.id as exam_result_id,
-                        SUM(erq.score) as total_score
-                    FROM exam_submission es
-                    JOIN exam_result er ON er.submission_id = es.id
-                    JOIN exam e ON e.id = es.exam_id
-                    JOIN exam_result_question erq ON erq.exam_result_id = er.id
-                    WHERE e.grade = :grade
-                    AND er.status = 'COMPLETED'
-                    AND er.graded_at = (
-                SELECT MAX(er2.graded_at)
-                        FROM exam_result er2
-                        WHERE er2.submission_id = er.submission_id
-                    )
-                    GROUP BY es.student_id, er.id
-                ) student_avgs
-                GROUP BY student_avgs.student_id
-            ) subquery
-            GROUP BY
-                CASE
-                    WHEN subquery.avg_score < 40 THEN '0-39'
-                    WHEN subquery.avg_score < 60 THEN '40-59'
-                    WHEN subquery.avg_score < 70 THEN '60-69'
-                    WHEN subquery.avg_score < 80 THEN '70-79'
-                    WHEN subquery.avg_score < 90 THEN '80-89'
-                    ELSE '90-100'
-                END
-            """)
-    List<ScoreRangeDistribution> findScoreDistributionByGrade(@Param("grade") Integer grade);
-
     /**
      * 학년별 전체 성적 통계 조회
      * 
@@ -327,16 +339,10 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
                         er.id as exam_result_id,
                         SUM(erq.score) as total_score
                     FROM exam_submission es
-                    JOIN exam_result er ON er.submission_id = es.id
+                    JOIN exam_result er ON er.id = es.latest_result_id
                     JOIN exam e ON e.id = es.exam_id
                     JOIN exam_result_question erq ON erq.exam_result_id = er.id
                     WHERE e.grade = :grade
-                    AND er.status = 'COMPLETED'
-                    AND er.graded_at = (
-                SELECT MAX(er2.graded_at)
-                        FROM exam_result er2
-                        WHERE er2.submission_id = er.submission_id
-                    )
                     GROUP BY es.student_id, er.id
                 ) student_avgs
                 GROUP BY student_avgs.student_id
@@ -353,16 +359,10 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
     @Query(value = """
             SELECT COUNT(DISTINCT s.id)
             FROM exam_submission es
-            JOIN exam_result er ON er.submission_id = es.id
+            JOIN exam_result er ON er.id = es.latest_result_id
             JOIN exam e ON e.id = es.exam_id
             JOIN student s ON s.id = es.student_id
             WHERE e.grade = :grade
-            AND er.status = 'COMPLETED'
-            AND er.graded_at = (
-                SELECT MAX(er2.graded_at)
-                FROM exam_result er2
-                WHERE er2.submission_id = er.submission_id
-            )
             """, nativeQuery = true)
     Long countStudentsWithResultsByGrade(@Param("grade") Integer grade);
 
@@ -381,15 +381,6 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
         Integer getMinScore();
     }
 
-    /**
-     * 점수 구간별 분포 투영 인터페이스
-     */
-    interface ScoreRangeDistribution {
-        String getScoreRange();
-
-        Long getStudentCount();
-    }
-
     /**
      * 전체 성적 통계 투영 인터페이스
      */
@@ -403,60 +394,6 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
         Double getMinScore();
     }
 
-    /**
-     * 학년별 최근 시험들의 평균 점수 조회 (간단 버전)
-     * 
-     * @param grade 학년
-     * @return 시험별 평균 점수 통계
-     */
-    @Query(value = """
-            SELECT
-                e.id as examId,
-                e.exam_name as examName,
-                e.created_at as createdAt,
-                COUNT(DISTINCT es.student_id) as participantCount,
-                AVG(erScores.total_score) as averageScore,
-                MAX(erScores.total_score) as maxScore,
-                MIN(erScores.total_score) as minScore
-            FROM (
-                SELECT
-                    es.exam_id,
-                    es.student_id,
-                    SUM(erq.score) as total_score
-                FROM exam_submission es
-                JOIN exam_result er ON er.submission_id = es.id
-                JOIN exam_result_question erq ON erq.exam_result_id = er.id
-                JOIN exam e2 ON e2.id = es.exam_id
-                WHERE e2.grade = :grade
-                AND er.status = 'COMPLETED'
-                AND er.graded_at = (
-                SELECT MAX(er2.graded_at)
-                    FROM exam_result er2
-                    WHERE er2.submission_id = er.submission_id
-                )
-                GROUP BY es.exam_id, es.student_id
-            ) erScores
-            JOIN exam e ON e.id = erScores.exam_id
-            JOIN exam_submission es ON es.exam_id = e.id
-            GROUP BY e.id, e.exam_name, e.created_at
-            ORDER BY e.created_at DESC
-            """, nativeQuery = true)
-    List<ExamAverageStatistics> findExamAverageStatisticsByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 특정 시험의 문제 수 조회
-     * 
-     * @param examId 시험 ID
-     * @return 문제 수
-     */
-    @Query("""
-            SELECT COUNT(esq.id)
-            FROM Exam e
-            JOIN e.examSheet.questions esq
-            WHERE e.id = :examId
-            """)
-    Long countQuestionsByExamId(@Param("examId") UUID examId);
-
     /**
      * 학년별 시험 개수 조회
      * 
@@ -469,148 +406,4 @@ public interface ExamResultRepository extends JpaRepository<ExamResult, UUID> {
             WHERE e.grade = :grade
             """)
     Long countExamsByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 시험별 평균 통계 투영 인터페이스
-     */
-    interface ExamAverageStatistics {
-        UUID getExamId();
-
-        String getExamName();
-
-        LocalDateTime getCreatedAt();
-
-        Long getParticipantCount();
-
-        Double getAverageScore();
-
-        Double getMaxScore();
-
-        Double getMinScore();
-    }
-
-    // ========== 단원별 오답률 통계 관련 메서드 ==========
-
-    /**
-     * 학년별 단원별 오답률 통계 조회
-     * 
-     * @param grade 학년
-     * @return 단원별 오답률 통계 목록
-     */
-    @Query("""
-            SELECT
-                u.id as unitId,
-                u.unitName as unitName,
-                uc.categoryName as categoryName,
-                us.subcategoryName as subcategoryName,
-                COUNT(DISTINCT q.id) as questionCount,
-                COUNT(erq.id) as submissionCount,
-                SUM(CASE WHEN erq.isCorrect = false THEN 1 ELSE 0 END) as wrongAnswerCount
-            FROM Unit u
-            LEFT JOIN UnitCategory uc ON u.subcategory.category.id = uc.id
-            LEFT JOIN UnitSubcategory us ON u.subcategory.id = us.id
-            LEFT JOIN Question q ON q.unit.id = u.id
-            LEFT JOIN ExamResultQuestion erq ON erq.question.id = q.id
-            LEFT JOIN ExamResult er ON erq.examResult.id = er.id
-            LEFT JOIN ExamSubmission es ON er.examSubmission.id = es.id
-            LEFT JOIN Exam e ON es.exam.id = e.id
-            WHERE u.grade = :grade
-            AND (er.id IS NULL OR (
-                er.status = 'COMPLETED'
-                AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                    FROM ExamResult er2
-                    WHERE er2.examSubmission = er.examSubmission
-                )
-            ))
-            GROUP BY u.id, u.unitName, uc.categoryName, us.subcategoryName
-            ORDER BY
-                CASE
-                    WHEN COUNT(erq.id) = 0 THEN 0.0
-                    ELSE (SUM(CASE WHEN erq.isCorrect = false THEN 1 ELSE 0 END) * 100.0 / COUNT(erq.id))
-                END DESC
-            """)
-    List<UnitWrongAnswerStatistics> findUnitWrongAnswerStatisticsByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 학년별 전체 문제 수 조회
-     * 
-     * @param grade 학년
-     * @return 전체 문제 수
-     */
-    @Query("""
-            SELECT COUNT(DISTINCT q.id)
-            FROM Question q
-            JOIN q.unit u
-            WHERE u.grade = :grade
-            """)
-    Long countTotalQuestionsByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 학년별 전체 문제 제출 수 조회 (오답률 계산용)
-     * 
-     * @param grade 학년
-     * @return 전체 제출 수
-     */
-    @Query("""
-            SELECT COUNT(erq.id)
-            FROM ExamResultQuestion erq
-            JOIN erq.examResult er
-            JOIN er.examSubmission es
-            JOIN es.exam e
-            JOIN erq.question q
-            JOIN q.unit u
-            WHERE u.grade = :grade
-            AND er.status = 'COMPLETED'
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                WHERE er2.examSubmission = er.examSubmission
-            )
-            """)
-    Long countTotalSubmissionsByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 학년별 전체 오답 수 조회
-     * 
-     * @param grade 학년
-     * @return 전체 오답 수
-     */
-    @Query("""
-            SELECT COUNT(erq.id)
-            FROM ExamResultQuestion erq
-            JOIN erq.examResult er
-            JOIN er.examSubmission es
-            JOIN es.exam e
-            JOIN erq.question q
-            JOIN q.unit u
-            WHERE u.grade = :grade
-            AND er.status = 'COMPLETED'
-            AND erq.isCorrect = false
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                WHERE er2.examSubmission = er.examSubmission
-            )
-            """)
-    Long countTotalWrongAnswersByGrade(@Param("grade") Integer grade);
-
-    /**
-     * 단원별 오답률 통계 투영 인터페이스
-     */
-    interface UnitWrongAnswerStatistics {
-        UUID getUnitId();
-
-        String getUnitName();
-
-        String getCategoryName();
-
-        String getSubcategoryName();
-
-        Long getQuestionCount();
-
-        Long getSubmissionCount();
-
-        Long getWrongAnswerCount();
-    }
-}
\ No newline at end of file
+}
@@ -0,0 +1,85 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.iroomclass.springbackend.domain.exam.entity.ExamScoreAggregate;
+
+/**
+ * 시험별 점수 집계 조회 Repository
+ *
+ * 집계 갱신은 {@link ExamScoreAggregateUpdateRepository}가 담당합니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+public interface ExamScoreAggregateRepository extends JpaRepository<ExamScoreAggregate, UUID> {
+
+    /**
+     * 학년별 최근 시험의 점수 집계 조회 (결과가 있는 시험만, 시험 생성일 내림차순)
+     *
+     * 조회 개수 제한은 SQL LIMIT으로 적용되고, 시험지 문제 수는 같은 쿼리의 스칼라 서브쿼리로 함께 반환하므로
+     * 선택된 시험 수와 관계없이 쿼리 1회로 처리됩니다.
+     *
+     * @param grade    학년
+     * @param pageable 조회 개수 제한
+     * @return 시험 정보, 문제 수, 점수 집계
+     */
+    @Query("""
+            SELECT
+                e.id as examId,
+                e.examName as examName,
+                e.createdAt as createdAt,
+                (SELECT COUNT(esq.id) FROM ExamSheetQuestion esq WHERE esq.examSheet = e.examSheet) as questionCount,
+                a.resultCount as resultCount,
+                a.scoreSum as scoreSum,
+                a.scoreSquareSum as scoreSquareSum,
+                a.minScore as minScore,
+                a.maxScore as maxScore
+            FROM ExamScoreAggregate a
+            JOIN Exam e ON e.id = a.examId
+            WHERE a.grade = :grade
+            AND a.resultCount > 0
+            ORDER BY e.createdAt DESC
+            """)
+    List<ExamAggregateView> findRecentByGrade(@Param("grade") Integer grade, Pageable pageable);
+
+    /**
+     * 시험 정보와 점수 집계 투영 인터페이스
+     */
+    interface ExamAggregateView {
+        UUID getExamId();
+
+        String getExamName();
+
+        LocalDateTime getCreatedAt();
+
+        Long getQuestionCount();
+
+        Long getResultCount();
+
+        Long getScoreSum();
+
+        Long getScoreSquareSum();
+
+        Integer getMinScore();
+
+        Integer getMaxScore();
+
+        default Double getAverageScore() {
+            return ExamScoreAggregate.average(getResultCount(), getScoreSum());
+        }
+
+        default double getStandardDeviation() {
+            return ExamScoreAggregate.standardDeviation(getResultCount(), getScoreSum(), getScoreSquareSum());
+        }
+    }
+}
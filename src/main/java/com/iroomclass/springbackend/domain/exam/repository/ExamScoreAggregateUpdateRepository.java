@@ -0,0 +1,152 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시험별 점수 집계 갱신 Repository
+ *
+ * <p>집계 행은 UPDATE 한 문장으로 원자적으로 증감하므로 여러 채점 워커가 동시에 갱신해도 행 잠금으로 직렬화됩니다.
+ * 집계 행이 없으면 INSERT 하고, 동시에 다른 트랜잭션이 먼저 INSERT 했다면(유니크 위반) 다시 UPDATE 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamScoreAggregateUpdateRepository {
+
+    private static final String APPLY_DELTA_SQL =
+        "UPDATE exam_score_aggregate SET " +
+        "result_count = result_count + ?, " +
+        "score_sum = score_sum + ?, " +
+        "score_square_sum = score_square_sum + ?, " +
+        "updated_at = ? " +
+        "WHERE exam_id = ?";
+
+    private static final String APPLY_DELTA_WITH_RANGE_SQL =
+        "UPDATE exam_score_aggregate SET " +
+        "result_count = result_count + ?, " +
+        "score_sum = score_sum + ?, " +
+        "score_square_sum = score_square_sum + ?, " +
+        "min_score = CASE WHEN min_score IS NULL OR min_score > ? THEN ? ELSE min_score END, " +
+        "max_score = CASE WHEN max_score IS NULL OR max_score < ? THEN ? ELSE max_score END, " +
+        "updated_at = ? " +
+        "WHERE exam_id = ?";
+
+    private static final String EXAM_GRADE_SQL = "SELECT grade FROM exam WHERE id = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO exam_score_aggregate " +
+        "(exam_id, grade, result_count, score_sum, score_square_sum, min_score, max_score, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String REFRESH_MIN_MAX_SQL =
+        "UPDATE exam_score_aggregate SET " +
+        "min_score = (SELECT MIN(COALESCE(er.total_score, 0)) FROM exam_submission es " +
+        "    JOIN exam_result er ON er.id = es.latest_result_id WHERE es.exam_id = exam_score_aggregate.exam_id), " +
+        "max_score = (SELECT MAX(COALESCE(er.total_score, 0)) FROM exam_submission es " +
+        "    JOIN exam_result er ON er.id = es.latest_result_id WHERE es.exam_id = exam_score_aggregate.exam_id), " +
+        "updated_at = ? " +
+        "WHERE exam_id = ?";
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM exam_score_aggregate";
+
+    private static final String DELETE_EXAM_SQL = "DELETE FROM exam_score_aggregate WHERE exam_id = ?";
+
+    private static final String REBUILD_SELECT =
+        "SELECT es.exam_id, e.grade, COUNT(*), " +
+        "SUM(COALESCE(er.total_score, 0)), " +
+        "SUM(COALESCE(er.total_score, 0) * COALESCE(er.total_score, 0)), " +
+        "MIN(COALESCE(er.total_score, 0)), " +
+        "MAX(COALESCE(er.total_score, 0)), CURRENT_TIMESTAMP " +
+        "FROM exam_submission es " +
+        "JOIN exam_result er ON er.id = es.latest_result_id " +
+        "JOIN exam e ON e.id = es.exam_id ";
+
+    private static final String REBUILD_INSERT_PREFIX =
+        "INSERT INTO exam_score_aggregate " +
+        "(exam_id, grade, result_count, score_sum, score_square_sum, min_score, max_score, updated_at) ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시험 집계에 증감분 반영
+     *
+     * @param examId      시험 ID
+     * @param countDelta  결과 수 증감
+     * @param sumDelta    점수 합계 증감
+     * @param squareDelta 점수 제곱합 증감
+     * @param addedMin    새로 추가된 점수 중 최솟값 (추가된 점수가 없으면 null)
+     * @param addedMax    새로 추가된 점수 중 최댓값 (추가된 점수가 없으면 null)
+     */
+    public void applyDelta(UUID examId, long countDelta, long sumDelta, long squareDelta,
+                           Integer addedMin, Integer addedMax) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        byte[] id = UUIDv7Generator.toBytes(examId);
+
+        if (update(id, countDelta, sumDelta, squareDelta, addedMin, addedMax, now) > 0) {
+            return;
+        }
+        Integer grade = jdbcTemplate.queryForObject(EXAM_GRADE_SQL, Integer.class, (Object) id);
+        try {
+            jdbcTemplate.update(INSERT_SQL, id, grade, countDelta, sumDelta, squareDelta, addedMin, addedMax, now);
+        } catch (DuplicateKeyException e) {
+            update(id, countDelta, sumDelta, squareDelta, addedMin, addedMax, now);
+        }
+    }
+
+    /**
+     * 시험의 최솟값/최댓값을 최신 결과 포인터 기준으로 다시 계산
+     *
+     * <p>기존 최솟값/최댓값이던 점수가 재채점으로 빠진 경우처럼 증분으로 되돌릴 수 없을 때만 사용합니다.</p>
+     *
+     * @param examId 시험 ID
+     */
+    public void refreshMinMax(UUID examId) {
+        jdbcTemplate.update(REFRESH_MIN_MAX_SQL, Timestamp.valueOf(LocalDateTime.now()), UUIDv7Generator.toBytes(examId));
+    }
+
+    /**
+     * 모든 시험의 집계를 최신 결과 포인터 기준으로 다시 생성
+     *
+     * @return 생성된 집계 행 수
+     */
+    public int rebuildAll() {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        return jdbcTemplate.update(REBUILD_INSERT_PREFIX + REBUILD_SELECT + "GROUP BY es.exam_id, e.grade");
+    }
+
+    /**
+     * 특정 시험의 집계를 최신 결과 포인터 기준으로 다시 생성
+     *
+     * @param examId 시험 ID
+     * @return 생성된 집계 행 수 (결과가 없으면 0)
+     */
+    public int rebuildExam(UUID examId) {
+        byte[] id = UUIDv7Generator.toBytes(examId);
+        jdbcTemplate.update(DELETE_EXAM_SQL, (Object) id);
+        return jdbcTemplate.update(
+            REBUILD_INSERT_PREFIX + REBUILD_SELECT + "WHERE es.exam_id = ? GROUP BY es.exam_id, e.grade",
+            (Object) id);
+    }
+
+    private int update(byte[] id, long countDelta, long sumDelta, long squareDelta,
+                       Integer addedMin, Integer addedMax, Timestamp now) {
+        if (addedMin == null || addedMax == null) {
+            return jdbcTemplate.update(APPLY_DELTA_SQL, countDelta, sumDelta, squareDelta, now, id);
+        }
+        return jdbcTemplate.update(APPLY_DELTA_WITH_RANGE_SQL,
+            countDelta, sumDelta, squareDelta,
+            addedMin, addedMin,
+            addedMax, addedMax,
+            now, id);
+    }
+}
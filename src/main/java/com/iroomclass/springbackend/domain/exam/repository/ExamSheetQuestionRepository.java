@@ -82,6 +82,19 @@ public interface ExamSheetQuestionRepository extends JpaRepository<ExamSheetQues
            "ORDER BY esq.seqNo")
     List<ExamSheetQuestion> findByExamSheetIdWithQuestionsAndUnits(@Param("examSheetId") UUID examSheetId);
 
+    /**
+     * 시험지의 문제 목록을 문제 정보와 함께 조회
+     *
+     * <p>답안 제출 시 문제 ID 검증과 Question 참조를 한 번의 쿼리로 해결하기 위해 사용합니다.</p>
+     *
+     * @param examSheetId 시험지 ID
+     * @return 시험지의 문제 목록 (문제 정보 포함)
+     */
+    @Query("SELECT esq FROM ExamSheetQuestion esq " +
+           "JOIN FETCH esq.question q " +
+           "WHERE esq.examSheet.id = :examSheetId")
+    List<ExamSheetQuestion> findByExamSheetIdWithQuestions(@Param("examSheetId") UUID examSheetId);
+
     /**
      * 시험지에서 문제들 삭제
      * 
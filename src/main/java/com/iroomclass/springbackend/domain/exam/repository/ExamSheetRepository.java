@@ -114,7 +114,94 @@ public interface ExamSheetRepository extends JpaRepository<ExamSheet, UUID> {
            countQuery = "SELECT COUNT(DISTINCT es) FROM ExamSheet es WHERE es.grade = :grade AND es.examName LIKE %:examName%")
     Page<ExamSheet> findByGradeAndExamNameContainingIgnoreCaseWithQuestionsAndUnits(
             @Param("grade") Integer grade, @Param("examName") String examName, Pageable pageable);
-    
+
+    /**
+     * 키셋 페이지네이션으로 조회한 ID 목록의 시험지를 단원 정보와 함께 조회
+     *
+     * <p>컬렉션 FETCH JOIN에 LIMIT을 걸면 Hibernate가 전체 결과를 메모리에서 페이징하므로,
+     * 페이지 ID를 먼저 조회한 뒤 해당 ID만 FETCH JOIN합니다. 결과 순서는 보장하지 않습니다.</p>
+     *
+     * @param ids 시험지 ID 목록
+     * @return 시험지 목록 (단원 정보 포함)
+     */
+    @Query("SELECT DISTINCT es FROM ExamSheet es " +
+           "LEFT JOIN FETCH es.questions esq " +
+           "LEFT JOIN FETCH esq.question q " +
+           "LEFT JOIN FETCH q.unit u " +
+           "LEFT JOIN FETCH u.subcategory sc " +
+           "LEFT JOIN FETCH sc.category c " +
+           "WHERE es.id IN :ids")
+    List<ExamSheet> findAllWithQuestionsAndUnitsByIdIn(@Param("ids") List<UUID> ids);
+
+    /**
+     * 전체 시험지 ID를 키셋 페이지네이션으로 조회 (UUIDv7 ID 내림차순 = 최신순)
+     *
+     * <p>OFFSET 없이 직전 페이지의 마지막 ID보다 작은 ID만 기본키 인덱스를 역순으로 읽고, COUNT 쿼리도 실행하지 않습니다.
+     * 첫 페이지는 {@code afterId}에 {@link com.iroomclass.springbackend.common.KeysetCursor#FIRST_PAGE}를 전달합니다.</p>
+     *
+     * @param afterId 직전 페이지의 마지막 시험지 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험지 ID 목록 (ID 내림차순)
+     */
+    @Query("SELECT es.id FROM ExamSheet es WHERE es.id < :afterId ORDER BY es.id DESC")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 학년별 시험지 ID를 키셋 페이지네이션으로 조회 ((grade, id) 인덱스 사용)
+     *
+     * @param grade 학년
+     * @param afterId 직전 페이지의 마지막 시험지 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험지 ID 목록 (ID 내림차순)
+     */
+    @Query("SELECT es.id FROM ExamSheet es WHERE es.grade = :grade AND es.id < :afterId ORDER BY es.id DESC")
+    List<UUID> findIdsByGradeAfter(@Param("grade") Integer grade, @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 시험지명 검색 결과 ID를 키셋 페이지네이션으로 조회
+     *
+     * @param examName 검색할 시험지명
+     * @param afterId 직전 페이지의 마지막 시험지 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험지 ID 목록 (ID 내림차순)
+     */
+    @Query("SELECT es.id FROM ExamSheet es WHERE es.examName LIKE %:examName% AND es.id < :afterId ORDER BY es.id DESC")
+    List<UUID> findIdsByExamNameAfter(@Param("examName") String examName, @Param("afterId") UUID afterId,
+            Pageable pageable);
+
+    /**
+     * 학년 + 시험지명 검색 결과 ID를 키셋 페이지네이션으로 조회
+     *
+     * @param grade 학년
+     * @param examName 검색할 시험지명
+     * @param afterId 직전 페이지의 마지막 시험지 ID
+     * @param pageable 조회 개수 (정렬은 ID 고정)
+     * @return 시험지 ID 목록 (ID 내림차순)
+     */
+    @Query("SELECT es.id FROM ExamSheet es WHERE es.grade = :grade AND es.examName LIKE %:examName% " +
+           "AND es.id < :afterId ORDER BY es.id DESC")
+    List<UUID> findIdsByGradeAndExamNameAfter(@Param("grade") Integer grade, @Param("examName") String examName,
+            @Param("afterId") UUID afterId, Pageable pageable);
+
+    /**
+     * 시험지명 검색 결과 개수
+     *
+     * @param examName 검색할 시험지명
+     * @return 시험지 개수
+     */
+    @Query("SELECT COUNT(es) FROM ExamSheet es WHERE es.examName LIKE %:examName%")
+    long countByExamNameKeyword(@Param("examName") String examName);
+
+    /**
+     * 학년 + 시험지명 검색 결과 개수
+     *
+     * @param grade 학년
+     * @param examName 검색할 시험지명
+     * @return 시험지 개수
+     */
+    @Query("SELECT COUNT(es) FROM ExamSheet es WHERE es.grade = :grade AND es.examName LIKE %:examName%")
+    long countByGradeAndExamNameKeyword(@Param("grade") Integer grade, @Param("examName") String examName);
+
     /**
      * 학년별 시험지 목록 조회 (최신 순)
      * 
@@ -0,0 +1,60 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 시험 제출 INSERT 우선 저장 Repository
+ *
+ * <p>중복 제출 여부를 먼저 조회하지 않고 바로 INSERT 하며, (exam_id, student_id) 또는
+ * idempotency_key 유니크 제약 위반을 중복 제출로 판단합니다.
+ * 조회 1회가 줄고, 동시에 들어온 중복 요청도 DB 제약으로 한 건만 저장됩니다.</p>
+ *
+ * <p>Hibernate flush를 거치지 않는 단일 JDBC 문이므로 제약 위반 시 해당 문만 롤백되고
+ * 진행 중인 트랜잭션과 영속성 컨텍스트는 그대로 사용할 수 있습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamSubmissionInsertRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO exam_submission (id, exam_id, student_id, submitted_at, idempotency_key) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 제출 저장 (중복이면 저장하지 않음)
+     *
+     * @param id             새 제출 ID (UUIDv7)
+     * @param examId         시험 ID
+     * @param studentId      학생 ID
+     * @param submittedAt    제출 시간
+     * @param idempotencyKey 멱등성 키 (없으면 null)
+     * @return 저장되었으면 true, 유니크 제약 위반(중복 제출)이면 false
+     */
+    public boolean insertIfAbsent(UUID id, UUID examId, Long studentId,
+                                  LocalDateTime submittedAt, String idempotencyKey) {
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                UUIDv7Generator.toBytes(id),
+                UUIDv7Generator.toBytes(examId),
+                studentId,
+                Timestamp.valueOf(submittedAt),
+                idempotencyKey);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
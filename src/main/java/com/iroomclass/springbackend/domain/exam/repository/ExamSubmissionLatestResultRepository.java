@@ -0,0 +1,236 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 제출별 최신 채점 결과 포인터 Repository
+ *
+ * <p>exam_submission.latest_result_id는 제출의 최신 완료(COMPLETED/REGRADED) 결과를 가리키며,
+ * 통계 쿼리가 결과 이력마다 MAX(graded_at) 상관 서브쿼리를 실행하는 대신 PK 조인으로 최신 결과를 찾도록 합니다.</p>
+ *
+ * <p>결과가 완료되거나 재채점 버전이 저장될 때 같은 트랜잭션에서 JDBC로 갱신합니다.
+ * 제출 행을 잠근 뒤 현재 포인터보다 graded_at이 늦거나 같은 결과로만 바꾸므로, 늦게 끝난 이전 버전의 채점이
+ * 이미 저장된 재채점 버전을 덮어쓰지 않습니다. 포인터 이동 내역(이전/새 점수)은 증분 집계 갱신에 사용됩니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamSubmissionLatestResultRepository {
+
+    private static final String LOCK_SUBMISSIONS_SQL =
+        "SELECT id, exam_id, student_id, latest_result_id FROM exam_submission WHERE id IN (:ids) FOR UPDATE";
+
+    private static final String CURRENT_RESULTS_SQL =
+        "SELECT id, total_score, graded_at FROM exam_result WHERE id IN (:ids)";
+
+    private static final String UPDATE_SQL =
+        "UPDATE exam_submission SET latest_result_id = ? WHERE id = ?";
+
+    private static final String BACKFILL_SQL =
+        "UPDATE exam_submission SET latest_result_id = (" +
+        "    SELECT er.id FROM exam_result er " +
+        "    WHERE er.submission_id = exam_submission.id AND er.status IN ('COMPLETED', 'REGRADED') " +
+        "    ORDER BY er.graded_at DESC, er.id DESC LIMIT 1" +
+        ") " +
+        "WHERE latest_result_id IS NULL AND EXISTS (" +
+        "    SELECT 1 FROM exam_result er2 " +
+        "    WHERE er2.submission_id = exam_submission.id AND er2.status IN ('COMPLETED', 'REGRADED')" +
+        ")";
+
+    private static final String SCAN_LATEST_SCORES_SQL =
+        "SELECT es.id, es.exam_id, es.student_id, e.grade, COALESCE(er.total_score, 0) AS score " +
+        "FROM exam_submission es " +
+        "JOIN exam_result er ON er.id = es.latest_result_id " +
+        "JOIN exam e ON e.id = es.exam_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 완료된 결과를 제출의 최신 결과로 지정
+     *
+     * <p>결과 ID가 할당된 뒤(저장 이후)에 호출해야 합니다. 제출 행 잠금 1회, 현재 결과 조회 1회,
+     * 포인터 갱신 JDBC 배치 1회로 처리됩니다.</p>
+     *
+     * @param completedResults COMPLETED 또는 REGRADED 상태의 시험 결과 목록
+     * @return 실제로 포인터가 이동한 제출별 변경 내역
+     */
+    public List<LatestResultChange> markLatest(List<ExamResult> completedResults) {
+        if (completedResults.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Pointer> pointers = lockPointers(completedResults.stream()
+            .map(result -> result.getExamSubmission().getId())
+            .distinct()
+            .toList());
+
+        List<Object[]> updates = new ArrayList<>();
+        List<LatestResultChange> changes = new ArrayList<>();
+
+        for (ExamResult result : completedResults) {
+            UUID submissionId = result.getExamSubmission().getId();
+            Pointer pointer = pointers.get(submissionId);
+            if (pointer == null) {
+                continue;
+            }
+
+            CurrentResult current = pointer.current();
+            if (current != null && (current.resultId().equals(result.getId())
+                    || current.gradedAt().isAfter(result.getGradedAt()))) {
+                continue;
+            }
+
+            int newScore = scoreOf(result.getTotalScore());
+            updates.add(new Object[] {
+                UUIDv7Generator.toBytes(result.getId()),
+                UUIDv7Generator.toBytes(submissionId)
+            });
+            changes.add(new LatestResultChange(submissionId, pointer.examId(), pointer.studentId(),
+                current != null ? current.resultId() : null, current != null ? current.score() : null,
+                result.getId(), newScore));
+            pointers.put(submissionId, new Pointer(pointer.examId(), pointer.studentId(),
+                new CurrentResult(result.getId(), newScore, result.getGradedAt())));
+        }
+
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SQL, updates);
+        }
+        return changes;
+    }
+
+    /**
+     * 포인터가 비어 있는 제출의 최신 결과 채우기
+     *
+     * <p>포인터 컬럼 도입 이전에 저장된 결과를 위한 1회성 보정이며, 이미 채워진 행은 건드리지 않습니다.</p>
+     *
+     * @return 포인터가 채워진 제출 수
+     */
+    public int backfillMissingPointers() {
+        return jdbcTemplate.update(BACKFILL_SQL);
+    }
+
+    /**
+     * 모든 제출의 최신 결과 점수를 한 번의 스트리밍 스캔으로 전달
+     *
+     * <p>결과를 목록으로 모으지 않고 행마다 콜백을 호출합니다. MySQL에서는 행 단위 스트리밍
+     * (fetchSize = Integer.MIN_VALUE)을, 그 외 DB에서는 지정한 fetchSize를 사용합니다.</p>
+     *
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer  행별 콜백
+     * @return 스캔한 행 수
+     */
+    public long scanLatestScores(int fetchSize, Consumer<LatestScoreRow> consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_LATEST_SCORES_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            return statement;
+        }, rs -> {
+            consumer.accept(new LatestScoreRow(
+                UUIDv7Generator.fromBytes(rs.getBytes("id")),
+                UUIDv7Generator.fromBytes(rs.getBytes("exam_id")),
+                rs.getLong("student_id"),
+                rs.getInt("grade"),
+                rs.getInt("score")));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * 제출 행을 잠그고 현재 포인터와 가리키는 결과의 점수/채점 시간을 조회
+     */
+    private Map<UUID, Pointer> lockPointers(List<UUID> submissionIds) {
+        Map<UUID, UUID> examIds = new HashMap<>();
+        Map<UUID, Long> studentIds = new HashMap<>();
+        Map<UUID, UUID> latestResultIds = new HashMap<>();
+        namedParameterJdbcTemplate.query(LOCK_SUBMISSIONS_SQL,
+            new MapSqlParameterSource("ids", submissionIds.stream().map(UUIDv7Generator::toBytes).toList()),
+            rs -> {
+                UUID submissionId = UUIDv7Generator.fromBytes(rs.getBytes("id"));
+                examIds.put(submissionId, UUIDv7Generator.fromBytes(rs.getBytes("exam_id")));
+                studentIds.put(submissionId, rs.getLong("student_id"));
+                byte[] latest = rs.getBytes("latest_result_id");
+                if (latest != null) {
+                    latestResultIds.put(submissionId, UUIDv7Generator.fromBytes(latest));
+                }
+            });
+
+        Map<UUID, CurrentResult> currentResults = new HashMap<>();
+        if (!latestResultIds.isEmpty()) {
+            namedParameterJdbcTemplate.query(CURRENT_RESULTS_SQL,
+                new MapSqlParameterSource("ids", latestResultIds.values().stream().map(UUIDv7Generator::toBytes).toList()),
+                rs -> {
+                    UUID resultId = UUIDv7Generator.fromBytes(rs.getBytes("id"));
+                    int score = rs.getInt("total_score");
+                    Timestamp gradedAt = rs.getTimestamp("graded_at");
+                    currentResults.put(resultId, new CurrentResult(resultId, score, gradedAt.toLocalDateTime()));
+                });
+        }
+
+        Map<UUID, Pointer> pointers = new HashMap<>();
+        examIds.forEach((submissionId, examId) -> {
+            UUID latestResultId = latestResultIds.get(submissionId);
+            pointers.put(submissionId, new Pointer(examId, studentIds.get(submissionId),
+                latestResultId != null ? currentResults.get(latestResultId) : null));
+        });
+        return pointers;
+    }
+
+    private static int scoreOf(Integer totalScore) {
+        return Objects.requireNonNullElse(totalScore, 0);
+    }
+
+    /**
+     * 최신 결과 포인터 이동 내역
+     *
+     * @param submissionId     제출 ID
+     * @param examId           시험 ID
+     * @param studentId        학생 ID
+     * @param previousResultId 이전 최신 결과 ID (이전 결과가 없으면 null)
+     * @param previousScore    이전 최신 결과의 총점 (이전 결과가 없으면 null)
+     * @param resultId         새 최신 결과 ID
+     * @param newScore         새 최신 결과의 총점
+     */
+    public record LatestResultChange(UUID submissionId, UUID examId, Long studentId,
+                                     UUID previousResultId, Integer previousScore,
+                                     UUID resultId, int newScore) {}
+
+    /**
+     * 제출별 최신 결과 점수 스캔 행
+     *
+     * @param submissionId 제출 ID
+     * @param examId       시험 ID
+     * @param studentId    학생 ID
+     * @param grade        시험 학년
+     * @param score        최신 결과의 총점
+     */
+    public record LatestScoreRow(UUID submissionId, UUID examId, Long studentId, Integer grade, int score) {}
+
+    private record Pointer(UUID examId, Long studentId, CurrentResult current) {}
+
+    private record CurrentResult(UUID resultId, int score, LocalDateTime gradedAt) {}
+}
@@ -1,7 +1,9 @@
 package com.iroomclass.springbackend.domain.exam.repository;
 
 import com.iroomclass.springbackend.domain.exam.entity.ExamSubmission;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
@@ -9,6 +11,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,7 +32,18 @@ public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission,
      * @return 제출 수
      */
     long countByExamId(UUID examId);
-    
+
+    /**
+     * 특정 시험의 평균 제출 소요 시간 조회
+     *
+     * 시험 생성 시각부터 제출 시각까지의 경과 시간(분)의 평균을 DB에서 계산합니다.
+     *
+     * @param examId 시험 ID
+     * @return 평균 소요 시간 (분), 제출이 없으면 null
+     */
+    @Query("SELECT AVG((es.submittedAt - e.createdAt) by minute) FROM ExamSubmission es JOIN es.exam e WHERE e.id = :examId")
+    Double findAverageSubmissionMinutes(@Param("examId") UUID examId);
+
     /**
      * 특정 시험의 제출자 목록 조회
      * 
@@ -39,6 +53,20 @@ public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission,
     @Query("SELECT es FROM ExamSubmission es LEFT JOIN FETCH es.student WHERE es.exam.id = :examId ORDER BY es.submittedAt DESC")
     List<ExamSubmission> findByExamIdWithStudent(@Param("examId") UUID examId);
     
+    /**
+     * 특정 시험의 채점 완료 제출 페이지 조회 (학생 정보 포함, SQL 페이징)
+     * 
+     * <p>최신 채점 결과 포인터가 있는 제출만 대상이며, 개수 쿼리 없이 LIMIT/OFFSET으로 한 페이지만 읽습니다.</p>
+     * 
+     * @param examId   시험 ID
+     * @param pageable 페이징 정보
+     * @return 제출 목록 (제출 시간 내림차순)
+     */
+    @Query("SELECT es FROM ExamSubmission es JOIN FETCH es.student " +
+           "WHERE es.exam.id = :examId AND es.latestResultId IS NOT NULL " +
+           "ORDER BY es.submittedAt DESC, es.id DESC")
+    List<ExamSubmission> findGradedByExamIdWithStudent(@Param("examId") UUID examId, Pageable pageable);
+    
     /**
      * 특정 시험의 제출자 목록 조회 (기본 정보만)
      * 
@@ -56,6 +84,71 @@ public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission,
      * @return 제출 기록 존재 여부
      */
     boolean existsByExamIdAndStudentId(UUID examId, Long studentId);
+
+    /**
+     * 특정 시험과 학생의 제출 잠금 조회 (최신 커밋 기준)
+     * 
+     * <p>INSERT 우선 제출에서 유니크 제약 위반 후 기존 제출을 찾을 때 사용합니다.
+     * 공유 잠금 조회는 트랜잭션 스냅샷이 아닌 최신 커밋 데이터를 읽으므로
+     * 동시에 들어온 요청이 먼저 커밋한 제출도 조회됩니다.</p>
+     * 
+     * @param examId 시험 ID
+     * @param studentId 학생 ID
+     * @return 제출 기록
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT es FROM ExamSubmission es WHERE es.exam.id = :examId AND es.student.id = :studentId")
+    Optional<ExamSubmission> findCommittedByExamIdAndStudentId(@Param("examId") UUID examId,
+                                                               @Param("studentId") Long studentId);
+
+    /**
+     * 제출 행 배타 잠금 조회 (채점 결과 반영 직렬화)
+     * 
+     * <p>일괄 채점과 비동기 채점/재시도가 같은 제출의 결과에 동시에 문항 결과를 추가하지 않도록
+     * 결과 반영 전에 제출 행을 잠급니다. ID 순서로 잠가 여러 제출을 잠그는 트랜잭션끼리 교착되지 않습니다.</p>
+     * 
+     * @param submissionIds 제출 ID 목록
+     * @return 잠긴 제출 목록 (ID 순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT es FROM ExamSubmission es WHERE es.id IN :submissionIds ORDER BY es.id")
+    List<ExamSubmission> findAllByIdInForUpdate(@Param("submissionIds") Collection<UUID> submissionIds);
+
+    /**
+     * 시험의 미채점 제출 ID 목록 조회
+     * 
+     * <p>채점 완료(COMPLETED) 또는 재채점(REGRADED) 결과가 하나도 없는 제출만 반환합니다.
+     * 시험 종료 일괄 채점 대상 선정에 사용합니다.</p>
+     * 
+     * @param examId 시험 ID
+     * @return 미채점 제출 ID 목록 (제출 시간순)
+     */
+    @Query("SELECT es.id FROM ExamSubmission es " +
+           "WHERE es.exam.id = :examId " +
+           "AND NOT EXISTS (SELECT er.id FROM ExamResult er " +
+           "                WHERE er.examSubmission = es " +
+           "                AND er.status IN ('COMPLETED', 'REGRADED')) " +
+           "ORDER BY es.submittedAt")
+    List<UUID> findUngradedSubmissionIdsByExamId(@Param("examId") UUID examId);
+
+    /**
+     * 시험의 제출 ID를 키셋 페이지네이션으로 조회
+     * 
+     * <p>OFFSET 없이 마지막으로 읽은 ID 이후만 조회하므로 페이지가 뒤로 갈수록 느려지지 않고,
+     * 처리 도중 새 제출이 들어와도 건너뛰거나 중복되지 않습니다.
+     * 첫 페이지는 {@code afterId}에 {@code new UUID(0, 0)}을 전달합니다.</p>
+     * 
+     * @param examId   시험 ID
+     * @param afterId  직전 페이지의 마지막 제출 ID
+     * @param pageable 페이지 크기 (정렬은 ID 고정)
+     * @return 제출 ID 목록 (ID 오름차순)
+     */
+    @Query("SELECT es.id FROM ExamSubmission es " +
+           "WHERE es.exam.id = :examId AND es.id > :afterId " +
+           "ORDER BY es.id")
+    List<UUID> findSubmissionIdsByExamIdAfter(@Param("examId") UUID examId,
+                                              @Param("afterId") UUID afterId,
+                                              Pageable pageable);
     
     /**
      * 특정 학생의 시험 제출 기록 조회
@@ -112,17 +205,15 @@ public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission,
     List<ExamSubmission> findRecentSubmissionsByGrade(@Param("grade") Integer grade, @Param("limit") int limit);
     
     /**
-     * 특정 시험의 시간별 제출 분포 조회
+     * 특정 시험의 제출 시간 목록 조회
+     * 
+     * 제출 시계열 메모리 버퍼의 보관 기간보다 오래된 시험의 구간별 제출 수를 계산할 때 사용합니다.
      * 
      * @param examId 시험 ID
-     * @return 시간별 제출 분포
+     * @return 제출 시간 목록
      */
-    @Query("SELECT FUNCTION('DATE_FORMAT', es.submittedAt, '%Y-%m-%d %H:00:00') as hourGroup, COUNT(es) as count " +
-           "FROM ExamSubmission es " +
-           "WHERE es.exam.id = :examId " +
-           "GROUP BY FUNCTION('DATE_FORMAT', es.submittedAt, '%Y-%m-%d %H:00:00') " +
-           "ORDER BY hourGroup")
-    List<HourlySubmissionStats> findHourlySubmissionStats(@Param("examId") UUID examId);
+    @Query("SELECT es.submittedAt FROM ExamSubmission es WHERE es.exam.id = :examId")
+    List<LocalDateTime> findSubmittedAtByExamId(@Param("examId") UUID examId);
     
     /**
      * 특정 시험과 학생의 제출 기록 조회
@@ -151,14 +242,6 @@ public interface ExamSubmissionRepository extends JpaRepository<ExamSubmission,
         Long getSubmissionCount();
     }
     
-    /**
-     * 시간별 제출 통계를 위한 Projection 인터페이스 (ExamService 호환용)
-     */
-    interface HourlySubmissionStats {
-        String getHourGroup();
-        Long getCount();
-    }
-    
     /**
      * 시간별 제출 통계를 위한 Projection 인터페이스 (기존)
      */
@@ -0,0 +1,72 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 제출 시계열 재적재 Repository
+ *
+ * <p>기간 안의 제출 시간을 전방향 읽기 전용 커서로 한 행씩 전달합니다.
+ * submitted_at 인덱스 범위 조건만 사용하며 함수로 가공하지 않습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ExamSubmissionTimelineRepository {
+
+    private static final String SCAN_SUBMITTED_BETWEEN_SQL =
+        "SELECT id, exam_id, submitted_at FROM exam_submission " +
+        "WHERE submitted_at >= ? AND submitted_at < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 기간 안의 제출을 한 번의 스트리밍 스캔으로 전달
+     *
+     * <p>MySQL에서는 행 단위 스트리밍(fetchSize = Integer.MIN_VALUE)을, 그 외 DB에서는 지정한 fetchSize를 사용합니다.</p>
+     *
+     * @param from      시작 시각 (포함)
+     * @param to        종료 시각 (제외)
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer  (제출 ID, 시험 ID, 제출 시간) 콜백
+     * @return 스캔한 행 수
+     */
+    public long scanSubmittedBetween(LocalDateTime from, LocalDateTime to, int fetchSize,
+            SubmissionRowConsumer consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_SUBMITTED_BETWEEN_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            statement.setTimestamp(1, Timestamp.valueOf(from));
+            statement.setTimestamp(2, Timestamp.valueOf(to));
+            return statement;
+        }, rs -> {
+            consumer.accept(
+                UUIDv7Generator.fromBytes(rs.getBytes("id")),
+                UUIDv7Generator.fromBytes(rs.getBytes("exam_id")),
+                rs.getTimestamp("submitted_at").toLocalDateTime());
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * 스캔한 제출 한 행을 받는 콜백
+     */
+    @FunctionalInterface
+    public interface SubmissionRowConsumer {
+        void accept(UUID submissionId, UUID examId, LocalDateTime submittedAt);
+    }
+}
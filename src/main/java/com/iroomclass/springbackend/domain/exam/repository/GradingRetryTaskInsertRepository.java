@@ -0,0 +1,66 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.GradingRetryTask;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 채점 재시도 작업 INSERT 우선 저장 Repository
+ *
+ * <p>진행 중인 작업 여부를 먼저 조회하지 않고 바로 INSERT 하며, active_exam_result_id 유니크 제약 위반을
+ * 이미 등록된 작업으로 판단합니다. 같은 시험 결과에 대해 동시에 등록해도 DB 제약으로 한 건만 저장됩니다.</p>
+ *
+ * <p>Hibernate flush를 거치지 않는 단일 JDBC 문이므로 제약 위반 시 해당 문만 롤백되고
+ * 진행 중인 트랜잭션과 영속성 컨텍스트는 그대로 사용할 수 있습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class GradingRetryTaskInsertRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO grading_retry_task (id, exam_result_id, active_exam_result_id, answer_sheet_id, status, " +
+        "attempt_count, next_attempt_at, last_error, created_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, 0, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 대기 상태 재시도 작업 저장 (진행 중인 작업이 있으면 저장하지 않음)
+     *
+     * @param id            새 작업 ID (UUIDv7)
+     * @param examResultId  시험 결과 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param nextAttemptAt 첫 시도 시각
+     * @param lastError     최초 실패 사유 (1000자 이하)
+     * @return 저장되었으면 true, 유니크 제약 위반(이미 등록됨)이면 false
+     */
+    public boolean insertIfAbsent(UUID id, UUID examResultId, UUID answerSheetId,
+                                  LocalDateTime nextAttemptAt, String lastError) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.update(INSERT_SQL,
+                UUIDv7Generator.toBytes(id),
+                UUIDv7Generator.toBytes(examResultId),
+                UUIDv7Generator.toBytes(examResultId),
+                UUIDv7Generator.toBytes(answerSheetId),
+                GradingRetryTask.RetryStatus.PENDING.name(),
+                Timestamp.valueOf(nextAttemptAt),
+                lastError,
+                now,
+                now);
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.domain.exam.entity.GradingRetryTask;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 채점 재시도 작업 Repository
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+public interface GradingRetryTaskRepository extends JpaRepository<GradingRetryTask, UUID> {
+
+    /**
+     * 실행 시각이 된 재시도 작업을 행 잠금과 함께 조회
+     *
+     * <p>SELECT ... FOR UPDATE SKIP LOCKED로 조회하므로 여러 노드가 동시에 호출해도
+     * 같은 작업을 중복으로 가져가지 않습니다. 점유 만료(locked_until)가 지난
+     * PROCESSING 작업도 다시 대상이 됩니다.</p>
+     *
+     * @param now      기준 시각
+     * @param pageable 배치 크기
+     * @return 점유 가능한 재시도 작업 목록
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT t FROM GradingRetryTask t " +
+           "WHERE (t.status = 'PENDING' AND t.nextAttemptAt <= :now) " +
+           "OR (t.status = 'PROCESSING' AND t.lockedUntil < :now) " +
+           "ORDER BY t.nextAttemptAt")
+    List<GradingRetryTask> findDueTasksForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 상태별 재시도 작업 수 조회
+     *
+     * @param status 작업 상태
+     * @return 작업 수
+     */
+    long countByStatus(GradingRetryTask.RetryStatus status);
+}
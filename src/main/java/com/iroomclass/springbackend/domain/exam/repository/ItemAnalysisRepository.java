@@ -0,0 +1,114 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.Question.QuestionType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 문항 분석 Repository
+ *
+ * <p>시험지 문항 목록과, 시험의 학생별 문항 점수/선택 번호(최신 채점 결과 기준)를 제공합니다.
+ * 문항 응답은 전방향 읽기 전용 커서로 한 행씩 전달하므로 호출자가 바로 기본형 배열에 채울 수 있습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class ItemAnalysisRepository {
+
+    private static final String FIND_ITEMS_SQL =
+        "SELECT esq.question_id, esq.seq_no, esq.points, q.question_type, q.correct_choice " +
+        "FROM exam e " +
+        "JOIN exam_sheet_question esq ON esq.exam_sheet_id = e.exam_sheet_id " +
+        "JOIN question q ON q.id = esq.question_id " +
+        "WHERE e.id = ? " +
+        "ORDER BY esq.seq_no";
+
+    private static final String SCAN_ITEM_RESPONSES_SQL =
+        "SELECT es.id AS submission_id, erq.question_id, erq.score, sasq.selected_choice " +
+        "FROM exam_submission es " +
+        "JOIN exam_result_question erq ON erq.exam_result_id = es.latest_result_id " +
+        "LEFT JOIN student_answer_sheet_question sasq ON sasq.student_answer_sheet_id = erq.answer_id " +
+        "AND sasq.question_id = erq.question_id " +
+        "WHERE es.exam_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 시험지 문항 목록 조회
+     *
+     * @param examId 시험 ID
+     * @return 문항 목록 (문항 번호순)
+     */
+    public List<ItemRow> findItems(UUID examId) {
+        return jdbcTemplate.query(FIND_ITEMS_SQL,
+            (rs, rowNum) -> new ItemRow(
+                UUIDv7Generator.fromBytes(rs.getBytes("question_id")),
+                rs.getInt("seq_no"),
+                rs.getInt("points"),
+                QuestionType.valueOf(rs.getString("question_type")),
+                rs.getObject("correct_choice", Integer.class)),
+            (Object) UUIDv7Generator.toBytes(examId));
+    }
+
+    /**
+     * 시험의 학생별 문항 응답을 한 번의 스트리밍 스캔으로 전달
+     *
+     * <p>MySQL에서는 행 단위 스트리밍(fetchSize = Integer.MIN_VALUE)을, 그 외 DB에서는 지정한 fetchSize를 사용합니다.
+     * 정렬하지 않으므로 같은 제출의 행이 연속된다는 보장은 없습니다.</p>
+     *
+     * @param examId    시험 ID
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param consumer  행별 콜백
+     * @return 스캔한 행 수
+     */
+    public long scanItemResponses(UUID examId, int fetchSize, Consumer<ItemResponseRow> consumer) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SCAN_ITEM_RESPONSES_SQL,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            boolean mysql = "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName());
+            statement.setFetchSize(mysql ? Integer.MIN_VALUE : fetchSize);
+            statement.setBytes(1, UUIDv7Generator.toBytes(examId));
+            return statement;
+        }, rs -> {
+            consumer.accept(new ItemResponseRow(
+                UUIDv7Generator.fromBytes(rs.getBytes("submission_id")),
+                UUIDv7Generator.fromBytes(rs.getBytes("question_id")),
+                rs.getInt("score"),
+                rs.getInt("selected_choice")));
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    /**
+     * 시험지 문항
+     *
+     * @param questionId    문제 ID
+     * @param seqNo         문항 번호
+     * @param points        배점
+     * @param questionType  문제 유형
+     * @param correctChoice 객관식 정답 번호 (주관식이면 null)
+     */
+    public record ItemRow(UUID questionId, int seqNo, int points, QuestionType questionType, Integer correctChoice) {}
+
+    /**
+     * 학생 1명의 문항 1개 응답
+     *
+     * @param submissionId   제출 ID
+     * @param questionId     문제 ID
+     * @param score          획득 점수 (미채점이면 0)
+     * @param selectedChoice 선택 번호 (무응답/주관식이면 0)
+     */
+    public record ItemResponseRow(UUID submissionId, UUID questionId, int score, int selectedChoice) {}
+}
@@ -0,0 +1,71 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheetQuestion;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * 학생 답안 배치 저장 Repository
+ *
+ * <p>문제별 답안을 영속성 컨텍스트를 거치지 않고 JDBC 배치로 저장합니다.
+ * 하나의 PreparedStatement에 모든 행을 addBatch 하므로 문제 수와 관계없이
+ * 한 번의 배치 실행으로 처리됩니다. (MySQL은 rewriteBatchedStatements로 multi-row INSERT 변환)</p>
+ *
+ * <p>호출 전 부모 답안지(student_answer_sheet)가 flush 되어 있어야 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentAnswerSheetQuestionBatchRepository {
+
+    private static final String INSERT_SQL =
+        "INSERT INTO student_answer_sheet_question " +
+        "(id, student_answer_sheet_id, question_id, answer_text, selected_choice, answer_image_url) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 문제별 답안 배치 저장
+     *
+     * <p>ID가 없는 답안은 UUIDv7을 새로 발급합니다.</p>
+     *
+     * @param answers 저장할 문제별 답안 목록 (답안지, 문제 참조 필수)
+     * @return 저장된 행 수
+     */
+    public int batchInsert(List<StudentAnswerSheetQuestion> answers) {
+        if (answers.isEmpty()) {
+            return 0;
+        }
+
+        int[][] results = jdbcTemplate.batchUpdate(INSERT_SQL, answers, answers.size(), (ps, answer) -> {
+            ps.setBytes(1, UUIDv7Generator.toBytes(
+                answer.getId() != null ? answer.getId() : UUIDv7Generator.generate()));
+            ps.setBytes(2, UUIDv7Generator.toBytes(answer.getStudentAnswerSheet().getId()));
+            ps.setBytes(3, UUIDv7Generator.toBytes(answer.getQuestionId()));
+            ps.setString(4, answer.getAnswerText());
+            if (answer.getSelectedChoice() != null) {
+                ps.setInt(5, answer.getSelectedChoice());
+            } else {
+                ps.setNull(5, Types.INTEGER);
+            }
+            ps.setString(6, answer.getAnswerImageUrl());
+        });
+
+        int inserted = 0;
+        for (int[] batch : results) {
+            for (int count : batch) {
+                // rewriteBatchedStatements 사용 시 SUCCESS_NO_INFO(-2)가 반환될 수 있음
+                inserted += count >= 0 ? count : 1;
+            }
+        }
+        return inserted;
+    }
+}
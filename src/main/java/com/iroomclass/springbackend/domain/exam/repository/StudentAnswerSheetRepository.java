@@ -1,11 +1,14 @@
 package com.iroomclass.springbackend.domain.exam.repository;
 
 import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -34,6 +37,20 @@ public interface StudentAnswerSheetRepository extends JpaRepository<StudentAnswe
            "WHERE sas.examSubmission.id = :submissionId")
     Optional<StudentAnswerSheet> findBySubmissionIdWithQuestions(@Param("submissionId") UUID submissionId);
     
+    /**
+     * 여러 제출의 학생 답안지 일괄 조회 (문제별 답안 포함)
+     * 
+     * <p>문항 단위 일괄 채점에서 답안을 한 번에 적재하기 위해 사용합니다.
+     * 문제 정보는 ID만 사용하므로 함께 조회하지 않습니다.</p>
+     * 
+     * @param submissionIds 시험 제출 ID 목록
+     * @return 학생 답안지 목록 (문제별 답안 포함)
+     */
+    @Query("SELECT DISTINCT sas FROM StudentAnswerSheet sas " +
+           "LEFT JOIN FETCH sas.studentAnswerSheetQuestions " +
+           "WHERE sas.examSubmission.id IN :submissionIds")
+    List<StudentAnswerSheet> findBySubmissionIdsWithQuestions(@Param("submissionIds") List<UUID> submissionIds);
+    
     /**
      * 시험 제출 ID로 학생 답안지 조회 (기본 정보만)
      * 
@@ -44,6 +61,20 @@ public interface StudentAnswerSheetRepository extends JpaRepository<StudentAnswe
            "WHERE sas.examSubmission.id = :submissionId")
     Optional<StudentAnswerSheet> findBySubmissionId(@Param("submissionId") UUID submissionId);
     
+    /**
+     * 시험 제출 ID로 학생 답안지 잠금 조회 (최신 커밋 기준)
+     * 
+     * <p>공유 잠금 조회는 트랜잭션 스냅샷이 아닌 최신 커밋 데이터를 읽으므로,
+     * 동시에 들어온 중복 제출에서 먼저 커밋된 답안지를 확인할 때 사용합니다.</p>
+     * 
+     * @param submissionId 시험 제출 ID
+     * @return 학생 답안지 (기본 정보)
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT sas FROM StudentAnswerSheet sas " +
+           "WHERE sas.examSubmission.id = :submissionId")
+    Optional<StudentAnswerSheet> findCommittedBySubmissionId(@Param("submissionId") UUID submissionId);
+    
     /**
      * 시험 제출 ID로 답안지 존재 여부 확인
      * 
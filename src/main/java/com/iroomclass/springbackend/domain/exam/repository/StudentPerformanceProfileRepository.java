@@ -0,0 +1,18 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.iroomclass.springbackend.domain.exam.entity.StudentPerformanceProfile;
+
+/**
+ * 학생별 성적 프로필 조회 Repository
+ *
+ * 프로필 갱신은 {@link StudentPerformanceUpdateRepository}가 담당합니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+public interface StudentPerformanceProfileRepository extends JpaRepository<StudentPerformanceProfile, Long> {
+}
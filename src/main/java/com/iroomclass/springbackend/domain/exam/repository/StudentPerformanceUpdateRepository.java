@@ -0,0 +1,232 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 학생별 성적 프로필/단원 정답 집계 갱신 Repository
+ *
+ * <p>프로필 행과 단원 집계 행은 UPDATE 한 문장으로 원자적으로 증감하므로 여러 채점 워커가 동시에 갱신해도 행 잠금으로 직렬화됩니다.
+ * 행이 없으면 INSERT 하고, 동시에 다른 트랜잭션이 먼저 INSERT 했다면(기본키 위반) 다시 UPDATE 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class StudentPerformanceUpdateRepository {
+
+    private static final String FIND_SUBMISSION_GRADES_SQL =
+        "SELECT es.id, es.submitted_at, e.grade " +
+        "FROM exam_submission es " +
+        "JOIN exam e ON e.id = es.exam_id " +
+        "WHERE es.id IN (:submissionIds)";
+
+    private static final String COUNT_BY_STUDENT_UNIT_SQL =
+        "SELECT es.student_id, q.unit_id, COUNT(*) AS attempts, " +
+        "SUM(CASE WHEN erq.is_correct = TRUE THEN 1 ELSE 0 END) AS corrects " +
+        "FROM exam_result_question erq " +
+        "JOIN exam_result er ON er.id = erq.exam_result_id " +
+        "JOIN exam_submission es ON es.id = er.submission_id " +
+        "JOIN question q ON q.id = erq.question_id " +
+        "WHERE erq.exam_result_id IN (:resultIds) " +
+        "GROUP BY es.student_id, q.unit_id";
+
+    private static final String APPLY_PROFILE_DELTA_SQL =
+        "UPDATE student_performance_profile SET " +
+        "exam_count = exam_count + ?, " +
+        "score_sum = score_sum + ?, " +
+        "updated_at = ? " +
+        "WHERE student_id = ?";
+
+    // latest_grade를 latest_submitted_at보다 먼저 대입해야 MySQL에서도 갱신 전 제출일시와 비교됨
+    private static final String APPLY_PROFILE_DELTA_WITH_LATEST_SQL =
+        "UPDATE student_performance_profile SET " +
+        "exam_count = exam_count + ?, " +
+        "score_sum = score_sum + ?, " +
+        "latest_grade = CASE WHEN latest_submitted_at IS NULL OR latest_submitted_at <= ? " +
+        "    THEN ? ELSE latest_grade END, " +
+        "latest_submitted_at = CASE WHEN latest_submitted_at IS NULL OR latest_submitted_at <= ? " +
+        "    THEN ? ELSE latest_submitted_at END, " +
+        "updated_at = ? " +
+        "WHERE student_id = ?";
+
+    private static final String INSERT_PROFILE_SQL =
+        "INSERT INTO student_performance_profile " +
+        "(student_id, exam_count, score_sum, latest_grade, latest_submitted_at, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String APPLY_UNIT_DELTA_SQL =
+        "UPDATE student_unit_stats SET " +
+        "attempt_count = attempt_count + ?, " +
+        "correct_count = correct_count + ?, " +
+        "updated_at = ? " +
+        "WHERE student_id = ? AND unit_id = ?";
+
+    private static final String INSERT_UNIT_SQL =
+        "INSERT INTO student_unit_stats (student_id, unit_id, attempt_count, correct_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_ALL_PROFILES_SQL = "DELETE FROM student_performance_profile";
+
+    private static final String DELETE_ALL_UNITS_SQL = "DELETE FROM student_unit_stats";
+
+    private static final String REBUILD_PROFILES_SQL =
+        "INSERT INTO student_performance_profile " +
+        "(student_id, exam_count, score_sum, latest_grade, latest_submitted_at, updated_at) " +
+        "SELECT es.student_id, COUNT(*), SUM(COALESCE(er.total_score, 0)), " +
+        "(SELECT e2.grade FROM exam_submission es2 JOIN exam e2 ON e2.id = es2.exam_id " +
+        "    WHERE es2.student_id = es.student_id AND es2.latest_result_id IS NOT NULL " +
+        "    ORDER BY es2.submitted_at DESC LIMIT 1), " +
+        "MAX(es.submitted_at), CURRENT_TIMESTAMP " +
+        "FROM exam_submission es " +
+        "JOIN exam_result er ON er.id = es.latest_result_id " +
+        "GROUP BY es.student_id";
+
+    private static final String REBUILD_UNITS_SQL =
+        "INSERT INTO student_unit_stats (student_id, unit_id, attempt_count, correct_count, updated_at) " +
+        "SELECT es.student_id, q.unit_id, COUNT(*), " +
+        "SUM(CASE WHEN erq.is_correct = TRUE THEN 1 ELSE 0 END), CURRENT_TIMESTAMP " +
+        "FROM exam_submission es " +
+        "JOIN exam_result_question erq ON erq.exam_result_id = es.latest_result_id " +
+        "JOIN question q ON q.id = erq.question_id " +
+        "GROUP BY es.student_id, q.unit_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 제출들의 제출일시와 시험 학년 조회
+     *
+     * @param submissionIds 제출 ID 목록
+     * @return 제출별 제출일시와 시험 학년
+     */
+    public List<SubmissionGrade> findSubmissionGrades(Collection<UUID> submissionIds) {
+        if (submissionIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(FIND_SUBMISSION_GRADES_SQL,
+            new MapSqlParameterSource("submissionIds", submissionIds.stream().map(UUIDv7Generator::toBytes).toList()),
+            (rs, rowNum) -> new SubmissionGrade(
+                UUIDv7Generator.fromBytes(rs.getBytes("id")),
+                rs.getTimestamp("submitted_at").toLocalDateTime(),
+                rs.getInt("grade")));
+    }
+
+    /**
+     * 결과들의 문항 응답을 (학생, 단원)별로 집계
+     *
+     * @param resultIds 시험 결과 ID 목록
+     * @return 학생/단원별 응답 수와 정답 수
+     */
+    public List<StudentUnitCount> countByStudentAndUnit(Collection<UUID> resultIds) {
+        if (resultIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(COUNT_BY_STUDENT_UNIT_SQL,
+            new MapSqlParameterSource("resultIds", resultIds.stream().map(UUIDv7Generator::toBytes).toList()),
+            (rs, rowNum) -> new StudentUnitCount(
+                rs.getLong("student_id"),
+                UUIDv7Generator.fromBytes(rs.getBytes("unit_id")),
+                rs.getLong("attempts"),
+                rs.getLong("corrects")));
+    }
+
+    /**
+     * 학생 프로필에 증감분 반영
+     *
+     * @param studentId         학생 ID
+     * @param examCountDelta    응시 시험 수 증감
+     * @param scoreSumDelta     점수 합계 증감
+     * @param latestGrade       새로 집계된 제출 중 가장 최근 제출의 시험 학년 (새 제출이 없으면 null)
+     * @param latestSubmittedAt 해당 제출의 제출일시 (새 제출이 없으면 null)
+     */
+    public void applyProfileDelta(Long studentId, long examCountDelta, long scoreSumDelta,
+                                  Integer latestGrade, LocalDateTime latestSubmittedAt) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Timestamp submittedAt = latestSubmittedAt != null ? Timestamp.valueOf(latestSubmittedAt) : null;
+
+        if (updateProfile(studentId, examCountDelta, scoreSumDelta, latestGrade, submittedAt, now) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_PROFILE_SQL,
+                studentId, examCountDelta, scoreSumDelta, latestGrade, submittedAt, now);
+        } catch (DuplicateKeyException e) {
+            updateProfile(studentId, examCountDelta, scoreSumDelta, latestGrade, submittedAt, now);
+        }
+    }
+
+    /**
+     * 학생 단원 집계에 증감분 반영
+     *
+     * @param studentId    학생 ID
+     * @param unitId       단원 ID
+     * @param attemptDelta 응답 수 증감
+     * @param correctDelta 정답 수 증감
+     */
+    public void applyUnitDelta(Long studentId, UUID unitId, long attemptDelta, long correctDelta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        byte[] id = UUIDv7Generator.toBytes(unitId);
+
+        if (jdbcTemplate.update(APPLY_UNIT_DELTA_SQL, attemptDelta, correctDelta, now, studentId, id) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_UNIT_SQL, studentId, id, attemptDelta, correctDelta, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(APPLY_UNIT_DELTA_SQL, attemptDelta, correctDelta, now, studentId, id);
+        }
+    }
+
+    /**
+     * 모든 학생 프로필과 단원 집계를 최신 결과 포인터 기준으로 다시 생성
+     *
+     * @return 생성된 프로필 행 수
+     */
+    public int rebuildAll() {
+        jdbcTemplate.update(DELETE_ALL_UNITS_SQL);
+        jdbcTemplate.update(DELETE_ALL_PROFILES_SQL);
+        jdbcTemplate.update(REBUILD_UNITS_SQL);
+        return jdbcTemplate.update(REBUILD_PROFILES_SQL);
+    }
+
+    private int updateProfile(Long studentId, long examCountDelta, long scoreSumDelta,
+                              Integer latestGrade, Timestamp submittedAt, Timestamp now) {
+        if (submittedAt == null) {
+            return jdbcTemplate.update(APPLY_PROFILE_DELTA_SQL, examCountDelta, scoreSumDelta, now, studentId);
+        }
+        return jdbcTemplate.update(APPLY_PROFILE_DELTA_WITH_LATEST_SQL, examCountDelta, scoreSumDelta,
+            submittedAt, latestGrade, submittedAt, submittedAt, now, studentId);
+    }
+
+    /**
+     * 제출의 제출일시와 시험 학년
+     *
+     * @param submissionId 제출 ID
+     * @param submittedAt  제출일시
+     * @param grade        시험 학년
+     */
+    public record SubmissionGrade(UUID submissionId, LocalDateTime submittedAt, Integer grade) {}
+
+    /**
+     * 학생/단원별 문항 응답 수
+     *
+     * @param studentId 학생 ID
+     * @param unitId    단원 ID
+     * @param attempts  응답 수
+     * @param corrects  정답 수
+     */
+    public record StudentUnitCount(Long studentId, UUID unitId, long attempts, long corrects) {}
+}
@@ -0,0 +1,28 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.iroomclass.springbackend.domain.exam.entity.StudentUnitStats;
+
+/**
+ * 학생별 단원 정답 집계 조회 Repository
+ *
+ * 집계 갱신은 {@link StudentPerformanceUpdateRepository}가 담당합니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+public interface StudentUnitStatsRepository extends JpaRepository<StudentUnitStats, StudentUnitStats.Key> {
+
+    /**
+     * 학생의 단원별 정답 집계 조회 (기본키 앞부분 범위 조회)
+     *
+     * @param studentId 학생 ID
+     * @return 단원별 응답 수와 정답 수
+     */
+    List<StudentUnitStats> findByStudentIdOrderByUnitId(Long studentId);
+}
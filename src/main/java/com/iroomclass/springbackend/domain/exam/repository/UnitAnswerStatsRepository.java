@@ -0,0 +1,68 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.iroomclass.springbackend.domain.exam.entity.UnitAnswerStats;
+
+/**
+ * 단원별 문항 응답 집계 조회 Repository
+ *
+ * 집계 갱신은 {@link UnitAnswerStatsUpdateRepository}가 담당합니다.
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+public interface UnitAnswerStatsRepository extends JpaRepository<UnitAnswerStats, UUID> {
+
+    /**
+     * 학년별 단원 오답률 통계 조회
+     *
+     * 학년의 모든 단원을 집계 행과 함께 반환합니다 (응답이 없는 단원은 응답/오답 수 0).
+     * 결과 테이블을 읽지 않으므로 결과가 늘어나도 조회 비용은 단원 수에만 비례합니다.
+     *
+     * @param grade 학년
+     * @return 단원별 문제 수, 응답 수, 오답 수
+     */
+    @Query("""
+            SELECT
+                u.id as unitId,
+                u.unitName as unitName,
+                uc.categoryName as categoryName,
+                us.subcategoryName as subcategoryName,
+                (SELECT COUNT(q.id) FROM Question q WHERE q.unit.id = u.id) as questionCount,
+                COALESCE(s.attemptCount, 0L) as submissionCount,
+                COALESCE(s.wrongCount, 0L) as wrongAnswerCount
+            FROM Unit u
+            LEFT JOIN u.subcategory us
+            LEFT JOIN us.category uc
+            LEFT JOIN UnitAnswerStats s ON s.unitId = u.id
+            WHERE u.grade = :grade
+            """)
+    List<UnitWrongAnswerStatistics> findUnitStatisticsByGrade(@Param("grade") Integer grade);
+
+    /**
+     * 단원별 오답률 통계 투영 인터페이스
+     */
+    interface UnitWrongAnswerStatistics {
+        UUID getUnitId();
+
+        String getUnitName();
+
+        String getCategoryName();
+
+        String getSubcategoryName();
+
+        Long getQuestionCount();
+
+        Long getSubmissionCount();
+
+        Long getWrongAnswerCount();
+    }
+}
@@ -0,0 +1,125 @@
+package com.iroomclass.springbackend.domain.exam.repository;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 단원별 문항 응답 집계 갱신 Repository
+ *
+ * <p>집계 행은 UPDATE 한 문장으로 원자적으로 증감하므로 여러 채점 워커가 동시에 갱신해도 행 잠금으로 직렬화됩니다.
+ * 집계 행이 없으면 INSERT 하고, 동시에 다른 트랜잭션이 먼저 INSERT 했다면(유니크 위반) 다시 UPDATE 합니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Repository
+@RequiredArgsConstructor
+public class UnitAnswerStatsUpdateRepository {
+
+    private static final String COUNT_BY_UNIT_SQL =
+        "SELECT q.unit_id, u.grade, COUNT(*) AS attempts, " +
+        "SUM(CASE WHEN erq.is_correct = FALSE THEN 1 ELSE 0 END) AS wrongs " +
+        "FROM exam_result_question erq " +
+        "JOIN question q ON q.id = erq.question_id " +
+        "JOIN unit u ON u.id = q.unit_id " +
+        "WHERE erq.exam_result_id IN (:resultIds) " +
+        "GROUP BY q.unit_id, u.grade";
+
+    private static final String APPLY_DELTA_SQL =
+        "UPDATE unit_answer_stats SET " +
+        "attempt_count = attempt_count + ?, " +
+        "wrong_count = wrong_count + ?, " +
+        "updated_at = ? " +
+        "WHERE unit_id = ?";
+
+    private static final String INSERT_SQL =
+        "INSERT INTO unit_answer_stats (unit_id, grade, attempt_count, wrong_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String DELETE_ALL_SQL = "DELETE FROM unit_answer_stats";
+
+    private static final String REBUILD_SQL =
+        "INSERT INTO unit_answer_stats (unit_id, grade, attempt_count, wrong_count, updated_at) " +
+        "SELECT q.unit_id, u.grade, COUNT(*), " +
+        "SUM(CASE WHEN erq.is_correct = FALSE THEN 1 ELSE 0 END), CURRENT_TIMESTAMP " +
+        "FROM exam_submission es " +
+        "JOIN exam_result_question erq ON erq.exam_result_id = es.latest_result_id " +
+        "JOIN question q ON q.id = erq.question_id " +
+        "JOIN unit u ON u.id = q.unit_id " +
+        "GROUP BY q.unit_id, u.grade";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+
+    /**
+     * 결과들의 문항 응답을 단원별로 집계
+     *
+     * @param resultIds 시험 결과 ID 목록
+     * @return 단원별 응답 수와 오답 수
+     */
+    public List<UnitAnswerCount> countByUnit(Collection<UUID> resultIds) {
+        if (resultIds.isEmpty()) {
+            return List.of();
+        }
+        return namedParameterJdbcTemplate.query(COUNT_BY_UNIT_SQL,
+            new MapSqlParameterSource("resultIds", resultIds.stream().map(UUIDv7Generator::toBytes).toList()),
+            (rs, rowNum) -> new UnitAnswerCount(
+                UUIDv7Generator.fromBytes(rs.getBytes("unit_id")),
+                rs.getInt("grade"),
+                rs.getLong("attempts"),
+                rs.getLong("wrongs")));
+    }
+
+    /**
+     * 단원 집계에 증감분 반영
+     *
+     * @param unitId       단원 ID
+     * @param grade        단원 학년 (집계 행이 없을 때 INSERT용)
+     * @param attemptDelta 응답 수 증감
+     * @param wrongDelta   오답 수 증감
+     */
+    public void applyDelta(UUID unitId, Integer grade, long attemptDelta, long wrongDelta) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        byte[] id = UUIDv7Generator.toBytes(unitId);
+
+        if (jdbcTemplate.update(APPLY_DELTA_SQL, attemptDelta, wrongDelta, now, id) > 0) {
+            return;
+        }
+        try {
+            jdbcTemplate.update(INSERT_SQL, id, grade, attemptDelta, wrongDelta, now);
+        } catch (DuplicateKeyException e) {
+            jdbcTemplate.update(APPLY_DELTA_SQL, attemptDelta, wrongDelta, now, id);
+        }
+    }
+
+    /**
+     * 모든 단원 집계를 최신 결과 포인터 기준으로 다시 생성
+     *
+     * @return 생성된 집계 행 수
+     */
+    public int rebuildAll() {
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        return jdbcTemplate.update(REBUILD_SQL);
+    }
+
+    /**
+     * 단원별 문항 응답 수
+     *
+     * @param unitId   단원 ID
+     * @param grade    단원 학년
+     * @param attempts 응답 수
+     * @param wrongs   오답 수
+     */
+    public record UnitAnswerCount(UUID unitId, Integer grade, long attempts, long wrongs) {}
+}
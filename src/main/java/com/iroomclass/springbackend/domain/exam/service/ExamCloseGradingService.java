@@ -0,0 +1,205 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.common.datasource.PrimaryOnly;
+import com.iroomclass.springbackend.common.exception.BusinessException;
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.domain.exam.dto.CloseGradingResponse;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSheetQuestionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 시험 종료 일괄 채점 서비스
+ *
+ * <p>시험 종료 시 미채점 제출 전체를 학생 단위가 아닌 문항 단위로 채점합니다.
+ * 같은 문제의 답안을 묶어 AI 서버에 청크 단위로 요청하므로 학생별 소규모 요청 수천 건이
+ * 문항 수 × 청크 수 만큼의 대형 요청으로 줄어들고, AI 서버는 문제 맥락을 재사용할 수 있습니다.</p>
+ *
+ * <p>처리 단계:</p>
+ * <ol>
+ * <li>요청 스레드(쓰기 트랜잭션): 시험 종료 처리, 미채점 제출과 답안을 일괄 적재</li>
+ * <li>채점 워커 스레드(트랜잭션 없음): 객관식 로컬 채점, 주관식 문항별 AI 일괄 채점</li>
+ * <li>채점 워커 스레드(쓰기 트랜잭션): 제출 청크 단위로 ExamResult/ExamResultQuestion 일괄 저장</li>
+ * </ol>
+ *
+ * <p>선생님이 직접 종료하거나, 종료 예정 일시가 지나면 {@link ExamCloseScheduler}가 호출합니다.
+ * 같은 제출을 비동기 채점/재시도가 동시에 반영할 수 있으므로 저장 단계는
+ * {@link GradingResultWriter#applyBatchResults}의 제출 행 잠금으로 직렬화되고,
+ * 방금 커밋된 제출까지 대상에 포함하도록 조회는 읽기 복제본이 아닌 primary에서 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@PrimaryOnly
+public class ExamCloseGradingService {
+
+    /**
+     * 답안 적재 시 IN 절에 넣을 제출 수
+     */
+    private static final int LOAD_CHUNK_SIZE = 500;
+
+    /**
+     * 결과 저장 트랜잭션 하나에 담을 제출 수
+     */
+    private static final int WRITE_CHUNK_SIZE = 200;
+
+    private final ExamRepository examRepository;
+    private final ExamSubmissionRepository examSubmissionRepository;
+    private final ExamSheetQuestionRepository examSheetQuestionRepository;
+    private final StudentAnswerSheetRepository studentAnswerSheetRepository;
+    private final QuestionMajorGrader questionMajorGrader;
+    private final GradingResultWriter gradingResultWriter;
+    private final ThreadPoolTaskExecutor gradingTaskExecutor;
+
+    // 일괄 채점이 진행 중인 시험 (중복 실행 방지)
+    private final Set<UUID> runningExams = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 시험 종료 및 일괄 채점 시작
+     *
+     * <p>시험을 종료 처리하여 새 답안 제출을 막은 뒤 미채점 제출을 일괄 채점합니다.
+     * 채점 대기열이 가득 차 접수하지 못하면 종료 처리도 되돌립니다.</p>
+     *
+     * @param examId 시험 ID
+     * @return 접수 결과 (채점 대상 제출 수 포함)
+     * @throws EntityNotFoundException 시험이 존재하지 않는 경우
+     * @throws BusinessException       이미 일괄 채점이 진행 중이거나 채점 대기열이 가득 찬 경우
+     */
+    @Transactional
+    public CloseGradingResponse closeAndGrade(UUID examId) {
+        Exam exam = examRepository.findById(examId)
+            .orElseThrow(() -> new EntityNotFoundException("시험을 찾을 수 없습니다: " + examId));
+        exam.close();
+        return gradeUngradedSubmissions(exam);
+    }
+
+    /**
+     * 종료 예정 일시가 지난 시험 종료 및 일괄 채점 시작 ({@link ExamCloseScheduler}가 호출)
+     *
+     * <p>조건부 UPDATE로 종료 처리하므로 여러 노드가 동시에 실행해도 한 노드만 채점을 시작합니다.</p>
+     *
+     * @param examId 시험 ID
+     * @return 접수 결과 (선생님이나 다른 노드가 먼저 종료했으면 null)
+     * @throws BusinessException 채점 대기열이 가득 찬 경우 (종료 처리도 되돌려 다음 주기에 다시 시도)
+     */
+    @Transactional
+    public CloseGradingResponse closeEndedExam(UUID examId) {
+        if (examRepository.closeIfOpen(examId, LocalDateTime.now()) == 0) {
+            return null;
+        }
+        Exam exam = examRepository.findById(examId)
+            .orElseThrow(() -> new EntityNotFoundException("시험을 찾을 수 없습니다: " + examId));
+        return gradeUngradedSubmissions(exam);
+    }
+
+    /**
+     * 미채점 제출 적재 후 채점 워커 풀에 일괄 채점 접수
+     */
+    private CloseGradingResponse gradeUngradedSubmissions(Exam exam) {
+        UUID examId = exam.getId();
+        UUID examSheetId = exam.getExamSheet().getId();
+
+        List<ExamSheetQuestion> sheetQuestions = examSheetQuestionRepository
+            .findByExamSheetIdWithQuestions(examSheetId)
+            .stream()
+            .sorted(Comparator.comparing(ExamSheetQuestion::getSeqNo))
+            .toList();
+
+        List<UUID> submissionIds = examSubmissionRepository.findUngradedSubmissionIdsByExamId(examId);
+        if (submissionIds.isEmpty()) {
+            log.info("일괄 채점 대상 없음: examId={}", examId);
+            return CloseGradingResponse.nothingToGrade(examId, sheetQuestions.size());
+        }
+
+        if (!runningExams.add(examId)) {
+            throw new BusinessException("이미 일괄 채점이 진행 중인 시험입니다", HttpStatus.CONFLICT);
+        }
+
+        try {
+            List<QuestionMajorGrader.SubmissionAnswers> submissions = loadSubmissionAnswers(submissionIds);
+            gradingTaskExecutor.execute(() -> {
+                try {
+                    runQuestionMajorGrading(examId, examSheetId, sheetQuestions, submissions);
+                } catch (Exception e) {
+                    log.error("일괄 채점 실패: examId={}, error={}", examId, e.getMessage(), e);
+                } finally {
+                    runningExams.remove(examId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            runningExams.remove(examId);
+            throw new BusinessException("채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE);
+        } catch (RuntimeException e) {
+            runningExams.remove(examId);
+            throw e;
+        }
+
+        log.info("일괄 채점 접수: examId={}, submissions={}, questions={}",
+            examId, submissionIds.size(), sheetQuestions.size());
+        return CloseGradingResponse.accepted(examId, submissionIds.size(), sheetQuestions.size());
+    }
+
+    /**
+     * 미채점 제출의 답안을 청크 단위 IN 조회로 적재
+     */
+    private List<QuestionMajorGrader.SubmissionAnswers> loadSubmissionAnswers(List<UUID> submissionIds) {
+        List<QuestionMajorGrader.SubmissionAnswers> submissions = new ArrayList<>(submissionIds.size());
+
+        for (int from = 0; from < submissionIds.size(); from += LOAD_CHUNK_SIZE) {
+            List<UUID> chunk = submissionIds.subList(from, Math.min(from + LOAD_CHUNK_SIZE, submissionIds.size()));
+
+            for (StudentAnswerSheet answerSheet : studentAnswerSheetRepository.findBySubmissionIdsWithQuestions(chunk)) {
+                submissions.add(questionMajorGrader.toSubmissionAnswers(answerSheet));
+            }
+        }
+
+        return submissions;
+    }
+
+    /**
+     * 문항 단위 채점 실행 (채점 워커 스레드)
+     */
+    private void runQuestionMajorGrading(UUID examId, UUID examSheetId,
+                                         List<ExamSheetQuestion> sheetQuestions,
+                                         List<QuestionMajorGrader.SubmissionAnswers> submissions) {
+        long startTime = System.currentTimeMillis();
+
+        QuestionMajorGrader.GradingOutcome outcome = questionMajorGrader.grade(
+            examId, sheetQuestions, submissions, () -> {});
+
+        // 제출 청크 단위로 결과 저장
+        List<GradingResultWriter.SubmissionGrading> gradings = submissions.stream()
+            .map(submission -> submission.toGrading(outcome))
+            .toList();
+
+        int completed = 0;
+        for (int from = 0; from < gradings.size(); from += WRITE_CHUNK_SIZE) {
+            completed += gradingResultWriter.applyBatchResults(examSheetId,
+                gradings.subList(from, Math.min(from + WRITE_CHUNK_SIZE, gradings.size())));
+        }
+
+        log.info("일괄 채점 완료: examId={}, submissions={}, completed={}, aiRequests={}, elapsed={}ms",
+            examId, submissions.size(), completed, outcome.aiRequestCount(), System.currentTimeMillis() - startTime);
+    }
+}
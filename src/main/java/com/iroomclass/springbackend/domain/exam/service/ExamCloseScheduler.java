@@ -0,0 +1,49 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.iroomclass.springbackend.domain.exam.dto.CloseGradingResponse;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시험 종료 스케줄러
+ *
+ * <p>종료 예정 일시가 지난 시험을 주기적으로 종료 처리하고 미채점 제출의 일괄 채점을 시작합니다.
+ * 종료 처리는 조건부 UPDATE로 점유하므로 여러 노드에서 동시에 실행되어도 시험마다 한 번만 채점이 시작됩니다.
+ * 채점 대기열이 가득 차 접수하지 못한 시험은 종료 처리가 되돌려져 다음 주기에 다시 시도됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExamCloseScheduler {
+
+    private final ExamRepository examRepository;
+    private final ExamCloseGradingService examCloseGradingService;
+
+    /**
+     * 종료 예정 일시가 지난 시험 종료 처리
+     */
+    @Scheduled(fixedDelayString = "${grading.close.check-interval-ms:60000}")
+    public void closeEndedExams() {
+        List<UUID> examIds = examRepository.findEndedOpenExamIds(LocalDateTime.now());
+
+        for (UUID examId : examIds) {
+            try {
+                CloseGradingResponse response = examCloseGradingService.closeEndedExam(examId);
+                if (response != null) {
+                    log.info("종료 예정 일시 경과로 시험 종료: examId={}, status={}, submissions={}",
+                        examId, response.status(), response.submissionCount());
+                }
+            } catch (Exception e) {
+                log.warn("시험 자동 종료 실패, 다음 주기에 재시도: examId={}, error={}", examId, e.getMessage());
+            }
+        }
+    }
+}
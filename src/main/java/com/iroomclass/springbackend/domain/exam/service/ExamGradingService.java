@@ -2,36 +2,44 @@ package com.iroomclass.springbackend.domain.exam.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
 
+import com.iroomclass.springbackend.domain.exam.client.AiGradingClient;
 import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
 import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeResponse;
 import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
 import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
 import com.iroomclass.springbackend.domain.exam.entity.ExamSubmission;
 import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
 import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.event.ExamSubmittedEvent;
+import com.iroomclass.springbackend.domain.exam.event.GradingRequestedEvent;
 import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
 import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionInsertRepository;
 import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetRepository;
-import com.iroomclass.springbackend.domain.exam.repository.QuestionRepository;
-import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSheetQuestionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetQuestionBatchRepository;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
 import com.iroomclass.springbackend.domain.auth.entity.Student;
 import com.iroomclass.springbackend.domain.auth.repository.StudentRepository;
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.common.exception.BusinessException;
 import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
 import com.iroomclass.springbackend.common.exception.InvalidRequestException;
 
-import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -45,60 +53,89 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ExamGradingService {
     
-    private final WebClient aiServerWebClient;
+    private final AiGradingClient aiGradingClient;
+    private final MultipleChoiceGradingEngine multipleChoiceGradingEngine;
+    private final GradingResultWriter gradingResultWriter;
+    private final GradingRetryService gradingRetryService;
+    private final ApplicationEventPublisher eventPublisher;
     private final ExamRepository examRepository;
+    private final ExamResultRepository examResultRepository;
     private final ExamSubmissionRepository examSubmissionRepository;
+    private final ExamSubmissionInsertRepository examSubmissionInsertRepository;
     private final StudentRepository studentRepository;
     private final StudentAnswerSheetRepository studentAnswerSheetRepository;
-    private final QuestionRepository questionRepository;
-    
-    @Value("${ai.server.grading.timeout:30}")
-    private int gradingTimeout;
+    private final StudentAnswerSheetQuestionBatchRepository studentAnswerSheetQuestionBatchRepository;
+    private final ExamSheetQuestionRepository examSheetQuestionRepository;
     
     /**
      * 시험 답안 제출 및 채점 처리
      * 
-     * @param request 제출 및 채점 요청
-     * @return 제출 및 채점 결과
+     * @param request        제출 및 채점 요청
+     * @param idempotencyKey 멱등성 키 (Idempotency-Key 헤더, 없으면 null)
+     * @return 제출 및 채점 결과 (중복 제출이면 기존 제출 정보)
      */
     @Transactional
-    public SubmitAndGradeResponse submitAndGrade(SubmitAndGradeRequest request) {
+    public SubmitAndGradeResponse submitAndGrade(SubmitAndGradeRequest request, String idempotencyKey) {
         log.info("시험 답안 제출 및 채점 시작: examId={}, studentId={}", 
                 request.examId(), request.studentId());
         
         // 1. 기본 검증
         Exam exam = examRepository.findById(request.examId())
             .orElseThrow(() -> new EntityNotFoundException("시험을 찾을 수 없습니다: " + request.examId()));
+        if (exam.isClosed()) {
+            throw new BusinessException("종료된 시험에는 답안을 제출할 수 없습니다", HttpStatus.CONFLICT);
+        }
         
         Student student = studentRepository.findById(request.studentId())
             .orElseThrow(() -> new EntityNotFoundException("학생을 찾을 수 없습니다: " + request.studentId()));
         
-        // 2. 중복 제출 확인
-        boolean alreadySubmitted = examSubmissionRepository
-            .existsByExamIdAndStudentId(exam.getId(), student.getId());
-        
-        if (alreadySubmitted) {
-            throw new InvalidRequestException("이미 제출한 시험입니다");
-        }
+        // 2. 답안 문제 검증 (시험지 문제 일괄 조회)
+        Map<UUID, ExamSheetQuestion> sheetQuestions = loadSheetQuestions(exam, request.answers());
         
-        // 3. 제출 데이터 저장
+        // 3. 제출 저장 (INSERT 우선, 중복 제출이면 기존 제출 반환)
         LocalDateTime submittedAt = LocalDateTime.now();
-        ExamSubmission submission = saveSubmission(exam, student, submittedAt);
-        StudentAnswerSheet answerSheet = saveAnswerSheet(submission, request.answers());
+        ExamSubmission submission = insertSubmission(exam, student, submittedAt, idempotencyKey);
+        if (submission == null) {
+            return existingSubmissionResponse(exam, student, idempotencyKey);
+        }
+        StudentAnswerSheet answerSheet = saveAnswerSheet(submission, student, request.answers(), sheetQuestions);
         
-        // 4. AI 서버로 채점 요청 (force_grading이 true인 경우)
+        // 4. 채점 (force_grading이 true인 경우)
+        //    객관식은 로컬 채점, 나머지 답안만 AI 서버로 전송
         GradingResultDto gradingResult = null;
         if (Boolean.TRUE.equals(request.forceGrading())) {
-            try {
-                gradingResult = requestGrading(request, submission.getId(), exam.getExamSheet().getId());
-            } catch (Exception e) {
-                log.error("AI 채점 실패, 제출은 성공: {}", e.getMessage());
-                // 채점 실패해도 제출은 성공으로 처리
-                return SubmitAndGradeResponse.submittedOnly(
+            MultipleChoiceGradingEngine.AnswerPartition partition = 
+                multipleChoiceGradingEngine.partition(request.answers(), sheetQuestions);
+            List<GradingResultDto.QuestionResultDto> localResults = 
+                multipleChoiceGradingEngine.grade(partition.objective(), sheetQuestions);
+            
+            GradingResultDto aiResult = null;
+            ExamResult savedResult = null;
+            if (!partition.subjective().isEmpty()) {
+                try {
+                    aiResult = aiGradingClient.requestGrading(request.withAnswers(partition.subjective()));
+                } catch (Exception e) {
+                    log.error("AI 채점 실패, 제출은 성공 (재시도 큐 등록): {}", e.getMessage());
+                    savedResult = enqueueGradingRetry(submission, exam, answerSheet, localResults, e.getMessage());
+                }
+            }
+            
+            // AI 채점까지 끝난 경우 객관식/AI 결과를 함께 저장하고 최신 결과로 지정
+            if (savedResult == null) {
+                savedResult = saveCompletedResult(submission, exam, answerSheet, localResults, aiResult);
+            }
+            
+            // 객관식 결과가 없고 AI 채점도 실패한 경우 제출만 성공으로 처리
+            // 응답의 결과 ID는 AI 서버가 준 ID가 아닌 저장된 ExamResult ID
+            if (!localResults.isEmpty() || aiResult != null) {
+                gradingResult = multipleChoiceGradingEngine.combine(
+                    savedResult.getId(),
                     submission.getId(),
                     exam.getExamSheet().getId(),
-                    answerSheet.getId(),
-                    submittedAt
+                    localResults,
+                    aiResult,
+                    partition.subjective().size(),
+                    sumPoints(sheetQuestions)
                 );
             }
         }
@@ -123,168 +160,253 @@ public class ExamGradingService {
     }
     
     /**
-     * ExamSubmission 저장
+     * 시험 답안 제출 및 비동기 채점 접수
+     * 
+     * <p>제출 데이터와 ExamResult를 저장하고 즉시 반환합니다. 객관식은 이 시점에 로컬 채점되어
+     * 결과에 포함되고, 나머지 답안의 AI 채점은 트랜잭션 커밋 이후 채점 워커 풀에서 수행되며,
+     * 결과는 채점 작업 ID(= ExamResult ID)로 폴링하거나 SSE로 받을 수 있습니다.</p>
+     * 
+     * @param request        제출 및 채점 요청
+     * @param idempotencyKey 멱등성 키 (Idempotency-Key 헤더, 없으면 null)
+     * @return 채점 작업 ID를 포함한 접수 응답 (중복 제출이면 기존 제출 정보)
      */
-    private ExamSubmission saveSubmission(Exam exam, Student student, LocalDateTime submittedAt) {
-        ExamSubmission submission = ExamSubmission.builder()
-            .exam(exam)
-            .student(student)
-            .submittedAt(submittedAt)
+    @Transactional
+    public SubmitAndGradeResponse submitForAsyncGrading(SubmitAndGradeRequest request, String idempotencyKey) {
+        log.info("시험 답안 제출 및 비동기 채점 접수 시작: examId={}, studentId={}", 
+                request.examId(), request.studentId());
+        
+        // 1. 기본 검증
+        Exam exam = examRepository.findById(request.examId())
+            .orElseThrow(() -> new EntityNotFoundException("시험을 찾을 수 없습니다: " + request.examId()));
+        if (exam.isClosed()) {
+            throw new BusinessException("종료된 시험에는 답안을 제출할 수 없습니다", HttpStatus.CONFLICT);
+        }
+        
+        Student student = studentRepository.findById(request.studentId())
+            .orElseThrow(() -> new EntityNotFoundException("학생을 찾을 수 없습니다: " + request.studentId()));
+        
+        // 2. 답안 문제 검증 (시험지 문제 일괄 조회)
+        Map<UUID, ExamSheetQuestion> sheetQuestions = loadSheetQuestions(exam, request.answers());
+        
+        // 3. 제출 저장 (INSERT 우선, 중복 제출이면 기존 제출 반환)
+        LocalDateTime submittedAt = LocalDateTime.now();
+        ExamSubmission submission = insertSubmission(exam, student, submittedAt, idempotencyKey);
+        if (submission == null) {
+            return existingSubmissionResponse(exam, student, idempotencyKey);
+        }
+        StudentAnswerSheet answerSheet = saveAnswerSheet(submission, student, request.answers(), sheetQuestions);
+        
+        // 4. 객관식은 즉시 로컬 채점하여 결과에 반영 (AI 서버 지연과 무관하게 조회 가능)
+        MultipleChoiceGradingEngine.AnswerPartition partition = 
+            multipleChoiceGradingEngine.partition(request.answers(), sheetQuestions);
+        ExamResult examResult = ExamResult.builder()
+            .examSubmission(submission)
+            .examSheet(exam.getExamSheet())
+            .status(ExamResult.ResultStatus.PENDING)
             .build();
+        gradingResultWriter.addQuestionResults(examResult, answerSheet,
+            multipleChoiceGradingEngine.grade(partition.objective(), sheetQuestions));
+        
+        // 5. AI 채점 대상이 없으면 바로 완료, 있으면 커밋 이후 채점 워커 풀로 전달
+        if (partition.subjective().isEmpty()) {
+            examResult.completeGrading("객관식 자동 채점 완료");
+            examResult = examResultRepository.save(examResult);
+            gradingResultWriter.markLatest(examResult);
+        } else {
+            examResult = examResultRepository.save(examResult);
+            eventPublisher.publishEvent(new GradingRequestedEvent(
+                examResult.getId(), submission.getId(), answerSheet.getId(),
+                request.withAnswers(partition.subjective())));
+        }
+        
+        log.info("비동기 채점 접수 완료: submissionId={}, jobId={}, localGraded={}, aiPending={}", 
+                submission.getId(), examResult.getId(), partition.objective().size(), partition.subjective().size());
         
-        return examSubmissionRepository.save(submission);
+        return SubmitAndGradeResponse.accepted(
+            submission.getId(),
+            exam.getExamSheet().getId(),
+            answerSheet.getId(),
+            examResult.getId(),
+            submittedAt
+        );
     }
     
     /**
-     * StudentAnswerSheet 및 StudentAnswerSheetQuestion 저장
+     * 동기 채점 완료 결과 저장
+     * 
+     * <p>객관식 로컬 채점 결과와 AI 채점 결과를 하나의 ExamResult로 저장하고,
+     * 제출의 최신 결과 포인터와 집계를 {@link GradingResultWriter#markLatest(ExamResult)}로 갱신합니다.</p>
+     *
+     * @return 저장된 시험 결과
      */
-    private StudentAnswerSheet saveAnswerSheet(ExamSubmission submission, List<SubmitAndGradeRequest.AnswerDto> answers) {
-        // StudentAnswerSheet 생성
-        StudentAnswerSheet answerSheet = StudentAnswerSheet.builder()
+    private ExamResult saveCompletedResult(ExamSubmission submission, Exam exam, StudentAnswerSheet answerSheet,
+                                     List<GradingResultDto.QuestionResultDto> localResults, GradingResultDto aiResult) {
+        ExamResult examResult = ExamResult.builder()
             .examSubmission(submission)
-            .studentName("학생") // TODO: 실제 학생 이름으로 변경 필요
+            .examSheet(exam.getExamSheet())
+            .status(ExamResult.ResultStatus.PENDING)
             .build();
-        
-        answerSheet = studentAnswerSheetRepository.save(answerSheet);
-        
-        // StudentAnswerSheetQuestion 생성
-        final StudentAnswerSheet finalAnswerSheet = answerSheet;
-        for (SubmitAndGradeRequest.AnswerDto answer : answers) {
-            // Question 엔티티 조회
-            Question question = questionRepository.findById(answer.questionId())
-                .orElseThrow(() -> new EntityNotFoundException("문제를 찾을 수 없습니다: " + answer.questionId()));
-            
-            // StudentAnswerSheetQuestion 생성
-            StudentAnswerSheetQuestion answerQuestion = StudentAnswerSheetQuestion.builder()
-                .studentAnswerSheet(finalAnswerSheet)
-                .question(question)
-                .selectedChoice(answer.selectedChoice())
-                .answerText(answer.answerText())
-                .build();
-            
-            // 양방향 관계 설정
-            finalAnswerSheet.addProblem(answerQuestion);
+        gradingResultWriter.addQuestionResults(examResult, answerSheet, localResults);
+        if (aiResult != null && aiResult.questionResults() != null) {
+            gradingResultWriter.addQuestionResults(examResult, answerSheet, aiResult.questionResults());
         }
         
-        return studentAnswerSheetRepository.save(answerSheet);
+        examResult.completeGrading(aiResult != null ? aiResult.gradingComment() : "객관식 자동 채점 완료");
+        examResult = examResultRepository.save(examResult);
+        gradingResultWriter.markLatest(examResult);
+        return examResult;
     }
     
     /**
-     * AI 서버로 채점 요청
+     * AI 채점 실패 시 PENDING 결과 저장 및 재시도 큐 등록
+     * 
+     * <p>객관식 로컬 채점 결과를 담은 ExamResult를 PENDING으로 저장하고,
+     * 남은 답안은 {@link GradingRetryScheduler}가 백오프 간격으로 다시 채점합니다.</p>
+     *
+     * @return 저장된 PENDING 시험 결과
      */
-    private GradingResultDto requestGrading(SubmitAndGradeRequest request, UUID submissionId, UUID examSheetId) {
-        log.info("AI 서버로 채점 요청: examId={}, studentId={}", request.examId(), request.studentId());
-        
-        // AI 서버 요청 데이터 구성
-        Map<String, Object> aiRequest = buildAiServerRequest(request);
+    private ExamResult enqueueGradingRetry(ExamSubmission submission, Exam exam, StudentAnswerSheet answerSheet,
+                                     List<GradingResultDto.QuestionResultDto> localResults, String error) {
+        ExamResult examResult = ExamResult.builder()
+            .examSubmission(submission)
+            .examSheet(exam.getExamSheet())
+            .status(ExamResult.ResultStatus.PENDING)
+            .build();
+        gradingResultWriter.addQuestionResults(examResult, answerSheet, localResults);
+        examResult = examResultRepository.save(examResult);
         
-        // AI 서버 호출
-        Mono<GradingResultDto> responseMono = aiServerWebClient
-            .post()
-            .uri("/grading/submit-and-grade")
-            .bodyValue(aiRequest)
-            .retrieve()
-            .bodyToMono(Map.class)
-            .map(this::parseGradingResponse)
-            .timeout(Duration.ofSeconds(gradingTimeout))
-            .doOnSuccess(result -> log.info("AI 채점 성공: totalScore={}", result.totalScore()))
-            .doOnError(error -> log.error("AI 채점 실패: {}", error.getMessage()));
+        gradingRetryService.enqueue(examResult.getId(), answerSheet.getId(), error);
+        return examResult;
+    }
+    
+    /**
+     * 시험지 만점 계산
+     */
+    private int sumPoints(Map<UUID, ExamSheetQuestion> sheetQuestions) {
+        return sheetQuestions.values().stream()
+            .mapToInt(esq -> esq.getPoints() != null ? esq.getPoints() : 0)
+            .sum();
+    }
+    
+    /**
+     * ExamSubmission INSERT 우선 저장
+     * 
+     * <p>중복 여부를 먼저 조회하지 않고 바로 INSERT 하며, 유니크 제약 위반이면 null을 반환합니다.
+     * 동시에 들어온 중복 요청은 DB 유니크 인덱스에서 한 건만 성공합니다.
+     * 새 제출이 저장되면 {@link ExamSubmittedEvent}를 발행합니다.</p>
+     * 
+     * @return 저장된 제출 (중복 제출이면 null)
+     */
+    private ExamSubmission insertSubmission(Exam exam, Student student, LocalDateTime submittedAt, String idempotencyKey) {
+        UUID submissionId = UUIDv7Generator.generate();
+        boolean inserted = examSubmissionInsertRepository.insertIfAbsent(
+            submissionId, exam.getId(), student.getId(), submittedAt, idempotencyKey);
+        if (!inserted) {
+            return null;
+        }
         
-        // 동기 방식으로 결과 대기
-        return responseMono.block();
+        eventPublisher.publishEvent(new ExamSubmittedEvent(exam.getId(), exam.getGrade(), submissionId, submittedAt));
+        return examSubmissionRepository.getReferenceById(submissionId);
     }
     
     /**
-     * AI 서버 요청 데이터 구성
+     * 중복 제출 시 기존 제출 정보로 응답 생성
+     * 
+     * <p>같은 학생의 재시도(멱등성 키가 없거나 같은 경우)는 기존 제출을 그대로 반환합니다.
+     * 기존 제출과 다른 멱등성 키로 다시 제출하거나, 다른 제출에 사용된 키를 재사용하면 거부합니다.
+     * 동시에 커밋된 제출도 보이도록 잠금 조회(최신 커밋 기준)로 읽습니다.</p>
+     * 
+     * @throws InvalidRequestException 새로운 제출 시도로 판단되는 경우
      */
-    private Map<String, Object> buildAiServerRequest(SubmitAndGradeRequest request) {
-        Map<String, Object> aiRequest = new HashMap<>();
-        aiRequest.put("exam_id", request.examId().toString());
-        aiRequest.put("student_id", request.studentId());
-        aiRequest.put("force_grading", request.forceGrading());
+    private SubmitAndGradeResponse existingSubmissionResponse(Exam exam, Student student, String idempotencyKey) {
+        ExamSubmission existing = examSubmissionRepository
+            .findCommittedByExamIdAndStudentId(exam.getId(), student.getId())
+            .orElse(null);
         
-        // 답안 변환
-        List<Map<String, Object>> answers = request.answers().stream()
-            .map(answer -> {
-                Map<String, Object> answerMap = new HashMap<>();
-                answerMap.put("question_id", answer.questionId().toString());
-                if (answer.selectedChoice() != null) {
-                    answerMap.put("selected_choice", answer.selectedChoice());
-                }
-                if (answer.answerText() != null) {
-                    answerMap.put("answer_text", answer.answerText());
-                }
-                return answerMap;
-            })
-            .collect(Collectors.toList());
+        if (existing == null) {
+            // (exam_id, student_id)가 아닌 멱등성 키 제약에 걸린 경우
+            throw new InvalidRequestException("다른 제출에 사용된 Idempotency-Key입니다");
+        }
+        if (idempotencyKey != null && existing.getIdempotencyKey() != null
+                && !idempotencyKey.equals(existing.getIdempotencyKey())) {
+            throw new InvalidRequestException("이미 제출한 시험입니다");
+        }
         
-        aiRequest.put("answers", answers);
+        UUID answerSheetId = studentAnswerSheetRepository.findCommittedBySubmissionId(existing.getId())
+            .map(StudentAnswerSheet::getId)
+            .orElse(null);
+        UUID latestResultId = examResultRepository.findAllVersionsBySubmissionId(existing.getId()).stream()
+            .findFirst()
+            .map(ExamResult::getId)
+            .orElse(null);
         
-        if (request.gradingOptions() != null && !request.gradingOptions().isEmpty()) {
-            aiRequest.put("grading_options", request.gradingOptions());
-        }
+        log.info("중복 제출 요청, 기존 제출 반환: examId={}, studentId={}, submissionId={}", 
+                exam.getId(), student.getId(), existing.getId());
         
-        return aiRequest;
+        return SubmitAndGradeResponse.alreadySubmitted(
+            existing.getId(),
+            exam.getExamSheet().getId(),
+            answerSheetId,
+            latestResultId,
+            existing.getSubmittedAt()
+        );
     }
     
     /**
-     * AI 서버 응답 파싱
+     * 제출 답안의 문제 ID를 시험지 문제 목록과 대조하여 검증
+     * 
+     * <p>시험지 문제를 Question과 함께 한 번의 쿼리로 조회하므로 문제 수와 관계없이 조회 쿼리는 1개입니다.</p>
+     * 
+     * @return 문제 ID별 시험지 문제 (Question 포함)
      */
-    @SuppressWarnings("unchecked")
-    private GradingResultDto parseGradingResponse(Map<String, Object> response) {
-        Map<String, Object> gradingResult = (Map<String, Object>) response.get("grading_result");
+    private Map<UUID, ExamSheetQuestion> loadSheetQuestions(Exam exam, List<SubmitAndGradeRequest.AnswerDto> answers) {
+        Map<UUID, ExamSheetQuestion> sheetQuestions = examSheetQuestionRepository
+            .findByExamSheetIdWithQuestions(exam.getExamSheet().getId())
+            .stream()
+            .collect(Collectors.toMap(esq -> esq.getQuestion().getId(), Function.identity(), (first, second) -> first));
         
-        if (gradingResult == null) {
-            return null;
+        Set<UUID> answeredQuestionIds = new HashSet<>();
+        for (SubmitAndGradeRequest.AnswerDto answer : answers) {
+            if (!sheetQuestions.containsKey(answer.questionId())) {
+                throw new InvalidRequestException("시험지에 포함되지 않은 문제입니다: " + answer.questionId());
+            }
+            if (!answeredQuestionIds.add(answer.questionId())) {
+                throw new InvalidRequestException("중복된 문제 답안입니다: " + answer.questionId());
+            }
         }
         
-        // 문제별 결과 파싱
-        List<Map<String, Object>> questionResultsList = (List<Map<String, Object>>) gradingResult.get("question_results");
-        List<GradingResultDto.QuestionResultDto> questionResults = null;
-        
-        if (questionResultsList != null) {
-            questionResults = questionResultsList.stream()
-                .map(qr -> new GradingResultDto.QuestionResultDto(
-                    UUID.fromString((String) qr.get("question_id")),
-                    qr.get("answer_id") != null ? UUID.fromString((String) qr.get("answer_id")) : null,
-                    (Boolean) qr.get("is_correct"),
-                    (Integer) qr.get("score"),
-                    (Integer) qr.get("max_score"),
-                    (String) qr.get("grading_method"),
-                    (String) qr.get("confidence_score"),
-                    (String) qr.get("scoring_comment"),
-                    LocalDateTime.parse((String) qr.get("created_at"))
-                ))
-                .collect(Collectors.toList());
-        }
+        return sheetQuestions;
+    }
+    
+    /**
+     * StudentAnswerSheet 및 StudentAnswerSheetQuestion 저장
+     * 
+     * <p>답안지는 JPA로 저장 후 flush 하고, 문제별 답안은 JDBC 배치로 한 번에 저장합니다.
+     * 문제별 답안은 영속성 컨텍스트에 올라가지 않으므로 같은 트랜잭션에서
+     * 답안지의 답안 컬렉션을 다시 읽지 않아야 합니다.</p>
+     */
+    private StudentAnswerSheet saveAnswerSheet(ExamSubmission submission, Student student,
+                                               List<SubmitAndGradeRequest.AnswerDto> answers,
+                                               Map<UUID, ExamSheetQuestion> sheetQuestions) {
+        // StudentAnswerSheet 생성 (배치 INSERT 전에 부모 행이 존재해야 하므로 flush)
+        StudentAnswerSheet answerSheet = studentAnswerSheetRepository.saveAndFlush(StudentAnswerSheet.builder()
+            .examSubmission(submission)
+            .studentName(student.getName())
+            .build());
         
-        // 메타데이터 파싱
-        Map<String, Object> metadataMap = (Map<String, Object>) gradingResult.get("metadata");
-        GradingResultDto.GradingMetadataDto metadata = null;
+        // StudentAnswerSheetQuestion 배치 저장
+        List<StudentAnswerSheetQuestion> answerQuestions = answers.stream()
+            .map(answer -> StudentAnswerSheetQuestion.builder()
+                .studentAnswerSheet(answerSheet)
+                .question(sheetQuestions.get(answer.questionId()).getQuestion())
+                .selectedChoice(answer.selectedChoice())
+                .answerText(answer.answerText())
+                .build())
+            .toList();
         
-        if (metadataMap != null) {
-            metadata = new GradingResultDto.GradingMetadataDto(
-                (Integer) metadataMap.get("total_questions"),
-                (Integer) metadataMap.get("multiple_choice_count"),
-                (Integer) metadataMap.get("subjective_count"),
-                ((Number) metadataMap.get("processing_time_ms")).longValue(),
-                (String) metadataMap.get("ai_model_version")
-            );
-        }
+        int inserted = studentAnswerSheetQuestionBatchRepository.batchInsert(answerQuestions);
+        log.debug("문제별 답안 배치 저장 완료: answerSheetId={}, count={}", answerSheet.getId(), inserted);
         
-        // GradingResultDto 생성
-        return new GradingResultDto(
-            UUID.fromString((String) gradingResult.get("result_id")),
-            UUID.fromString((String) gradingResult.get("submission_id")),
-            UUID.fromString((String) gradingResult.get("exam_sheet_id")),
-            (String) gradingResult.get("status"),
-            (Integer) gradingResult.get("total_score"),
-            (Integer) gradingResult.get("max_total_score"),
-            questionResults,
-            metadata,
-            (String) gradingResult.get("grading_comment"),
-            LocalDateTime.parse((String) gradingResult.get("graded_at")),
-            (Integer) gradingResult.get("version")
-        );
+        return answerSheet;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,260 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.common.datasource.PrimaryOnly;
+import com.iroomclass.springbackend.common.datasource.ReplicaRoutingContext;
+import com.iroomclass.springbackend.common.exception.BusinessException;
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.config.GradingRegradeConfig;
+import com.iroomclass.springbackend.domain.exam.dto.RegradeJobStatusDto;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSheetQuestionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetRepository;
+import com.iroomclass.springbackend.domain.textrecognition.service.SseConnectionManager;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시험 전체 재채점 서비스
+ *
+ * <p>채점 기준 수정 등으로 시험의 모든 제출을 다시 채점해야 할 때 백그라운드 작업으로 실행합니다.
+ * 제출은 키셋 페이지네이션으로 청크 단위로 읽고, 청크마다 문항 단위로 채점한 뒤
+ * 새 결과 버전을 청크 단위 트랜잭션으로 일괄 저장합니다. AI 서버 요청은 설정된 초당 요청 수로 제한됩니다.</p>
+ *
+ * <p>진행률은 청크마다 갱신되어 폴링 또는 SSE({@code regrade} 이벤트)로 전달됩니다.</p>
+ *
+ * <p>재채점은 채점 기준 수정 직후에 시작되므로 읽기 복제본 라우팅을 쓰더라도 모든 조회를 primary에서 합니다
+ * (워커 스레드의 조회도 포함).</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+@PrimaryOnly
+public class ExamRegradeService {
+
+    private static final String SSE_EVENT_NAME = "regrade";
+
+    /**
+     * 키셋 페이지네이션 시작 커서 (모든 UUID보다 작은 값)
+     */
+    private static final UUID FIRST_CURSOR = new UUID(0L, 0L);
+
+    /**
+     * 종료된 작업 상태를 메모리에 유지하는 시간 (분)
+     */
+    private static final long TERMINAL_JOB_RETENTION_MINUTES = 60;
+
+    private final ExamRepository examRepository;
+    private final ExamSubmissionRepository examSubmissionRepository;
+    private final ExamSheetQuestionRepository examSheetQuestionRepository;
+    private final StudentAnswerSheetRepository studentAnswerSheetRepository;
+    private final QuestionMajorGrader questionMajorGrader;
+    private final GradingResultWriter gradingResultWriter;
+    private final ThreadPoolTaskExecutor gradingTaskExecutor;
+    private final GradingRegradeConfig gradingRegradeConfig;
+    private final SseConnectionManager sseConnectionManager;
+
+    // 작업 상태를 메모리에서 관리 (저장된 결과 버전은 재시작 후에도 유지)
+    private final Map<UUID, RegradeJobStatusDto> jobStates = new ConcurrentHashMap<>();
+
+    // 재채점이 진행 중인 시험 (중복 실행 방지)
+    private final Set<UUID> runningExams = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 시험 전체 재채점 시작
+     *
+     * @param examId 시험 ID
+     * @return 접수된 재채점 작업 상태
+     * @throws EntityNotFoundException 시험이 존재하지 않는 경우
+     * @throws BusinessException       이미 재채점이 진행 중이거나 채점 대기열이 가득 찬 경우
+     */
+    public RegradeJobStatusDto startRegrade(UUID examId) {
+        Exam exam = examRepository.findById(examId)
+            .orElseThrow(() -> new EntityNotFoundException("시험을 찾을 수 없습니다: " + examId));
+        UUID examSheetId = exam.getExamSheet().getId();
+
+        List<ExamSheetQuestion> sheetQuestions = examSheetQuestionRepository
+            .findByExamSheetIdWithQuestions(examSheetId)
+            .stream()
+            .sorted(Comparator.comparing(ExamSheetQuestion::getSeqNo))
+            .toList();
+        long totalSubmissions = examSubmissionRepository.countByExamId(examId);
+
+        if (!runningExams.add(examId)) {
+            throw new BusinessException("이미 재채점이 진행 중인 시험입니다", HttpStatus.CONFLICT);
+        }
+
+        RegradeJobStatusDto state = RegradeJobStatusDto.queued(UUIDv7Generator.generate(), examId, totalSubmissions);
+        jobStates.put(state.jobId(), state);
+
+        try {
+            gradingTaskExecutor.execute(() -> {
+                boolean previouslyPinned = ReplicaRoutingContext.pinPrimary();
+                try {
+                    runRegrade(state.jobId(), examId, examSheetId, sheetQuestions);
+                } finally {
+                    ReplicaRoutingContext.restore(previouslyPinned);
+                    runningExams.remove(examId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            runningExams.remove(examId);
+            jobStates.remove(state.jobId());
+            throw new BusinessException("채점 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        log.info("재채점 접수: jobId={}, examId={}, submissions={}", state.jobId(), examId, totalSubmissions);
+        return state;
+    }
+
+    /**
+     * 재채점 작업 상태 조회
+     *
+     * @param jobId 재채점 작업 ID
+     * @return 작업 상태
+     * @throws EntityNotFoundException 작업이 존재하지 않거나 보존 기간이 지난 경우
+     */
+    public RegradeJobStatusDto getJobStatus(UUID jobId) {
+        RegradeJobStatusDto state = jobStates.get(jobId);
+        if (state == null) {
+            throw new EntityNotFoundException("재채점 작업을 찾을 수 없습니다: " + jobId);
+        }
+        return state;
+    }
+
+    /**
+     * 재채점 진행률 SSE 구독
+     *
+     * @param jobId 재채점 작업 ID
+     * @return SseEmitter 객체
+     */
+    public SseEmitter subscribe(UUID jobId) {
+        RegradeJobStatusDto current = getJobStatus(jobId);
+
+        SseEmitter emitter = sseConnectionManager.createConnection(jobId.toString());
+        // 현재 상태를 즉시 전송하고, 이미 종료된 작업이면 연결을 닫음
+        sseConnectionManager.sendNamedEvent(jobId.toString(), SSE_EVENT_NAME, current, current.isTerminal());
+        return emitter;
+    }
+
+    /**
+     * 재채점 본체 (채점 워커 스레드, 트랜잭션 없음)
+     *
+     * <p>청크 하나를 읽고 채점하고 저장한 뒤 다음 청크로 넘어가므로 메모리에는 한 청크만 유지되고,
+     * 실패 시에도 이미 저장된 청크의 새 버전은 유지됩니다.</p>
+     */
+    private void runRegrade(UUID jobId, UUID examId, UUID examSheetId, List<ExamSheetQuestion> sheetQuestions) {
+        long startTime = System.currentTimeMillis();
+        int chunkSize = Math.max(1, gradingRegradeConfig.getChunkSize());
+        RequestThrottle throttle = new RequestThrottle(gradingRegradeConfig.getAiRequestsPerSecond());
+        UUID cursor = FIRST_CURSOR;
+
+        try {
+            while (true) {
+                List<UUID> submissionIds = examSubmissionRepository.findSubmissionIdsByExamIdAfter(
+                    examId, cursor, PageRequest.of(0, chunkSize));
+                if (submissionIds.isEmpty()) {
+                    break;
+                }
+                cursor = submissionIds.get(submissionIds.size() - 1);
+
+                List<QuestionMajorGrader.SubmissionAnswers> submissions = studentAnswerSheetRepository
+                    .findBySubmissionIdsWithQuestions(submissionIds)
+                    .stream()
+                    .map(questionMajorGrader::toSubmissionAnswers)
+                    .toList();
+
+                QuestionMajorGrader.GradingOutcome outcome = questionMajorGrader.grade(
+                    examId, sheetQuestions, submissions, throttle::acquire);
+
+                int regraded = gradingResultWriter.applyRegradeResults(examSheetId,
+                    submissions.stream().map(submission -> submission.toGrading(outcome)).toList());
+
+                updateState(jobStates.get(jobId).progressed(submissionIds.size(), regraded, outcome.aiRequestCount()));
+            }
+
+            RegradeJobStatusDto completed = jobStates.get(jobId).completed();
+            updateState(completed);
+            log.info("재채점 완료: jobId={}, examId={}, processed={}, regraded={}, aiRequests={}, elapsed={}ms",
+                jobId, examId, completed.processedSubmissions(), completed.regradedSubmissions(),
+                completed.aiRequestCount(), System.currentTimeMillis() - startTime);
+
+        } catch (Exception e) {
+            log.error("재채점 실패: jobId={}, examId={}, error={}", jobId, examId, e.getMessage(), e);
+            updateState(jobStates.get(jobId).failed("재채점 실패: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 상태 저장 및 SSE 알림
+     */
+    private void updateState(RegradeJobStatusDto state) {
+        jobStates.put(state.jobId(), state);
+        sseConnectionManager.sendNamedEvent(state.jobId().toString(), SSE_EVENT_NAME, state, state.isTerminal());
+    }
+
+    /**
+     * 오래된 종료 작업 상태 정리 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void evictTerminalJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(TERMINAL_JOB_RETENTION_MINUTES);
+        jobStates.values().removeIf(state -> state.isTerminal() && state.updatedAt().isBefore(threshold));
+    }
+
+    /**
+     * AI 서버 요청 속도 제한기
+     *
+     * <p>요청 사이 최소 간격을 보장하는 단순 페이서입니다. 재채점 작업 하나가 단일 워커 스레드에서
+     * 순차 실행되므로 토큰 버킷 없이 간격만 유지합니다.</p>
+     */
+    private static final class RequestThrottle {
+
+        private final long intervalNanos;
+        private long nextAllowedAt = System.nanoTime();
+
+        RequestThrottle(double requestsPerSecond) {
+            this.intervalNanos = requestsPerSecond > 0
+                ? (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond)
+                : 0L;
+        }
+
+        void acquire() {
+            if (intervalNanos == 0L) {
+                return;
+            }
+            long waitNanos = nextAllowedAt - System.nanoTime();
+            if (waitNanos > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(waitNanos);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("재채점 작업이 중단되었습니다", e);
+                }
+            }
+            nextAllowedAt = Math.max(nextAllowedAt, System.nanoTime()) + intervalNanos;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.domain.exam.entity.ExamScoreAggregate;
+import com.iroomclass.springbackend.domain.exam.repository.ExamScoreAggregateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamScoreAggregateUpdateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 시험별 점수 집계 서비스
+ *
+ * <p>최신 결과 포인터가 이동할 때마다 시험별 개수/합계/제곱합/최솟값/최댓값을 증분 갱신합니다.
+ * 이전 결과의 점수는 빼고 새 결과의 점수를 더하며, 빠진 점수가 기존 최솟값/최댓값이었던 경우에만
+ * 해당 시험의 최솟값/최댓값을 포인터 기준으로 다시 계산합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExamScoreAggregateService {
+
+    private final ExamScoreAggregateRepository examScoreAggregateRepository;
+    private final ExamScoreAggregateUpdateRepository examScoreAggregateUpdateRepository;
+
+    /**
+     * 최신 결과 포인터 이동 내역을 시험별 집계에 반영
+     *
+     * <p>결과 완료/재채점 트랜잭션 안에서 호출됩니다.</p>
+     *
+     * @param changes 포인터 이동 내역
+     */
+    @Transactional
+    public void applyLatestResultChanges(List<LatestResultChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // 집계 행을 시험 ID 순서로 잠가, 같은 트랜잭션의 다른 집계와 함께 잠금 순서가 항상 같도록 함
+        Map<UUID, Delta> deltas = new TreeMap<>();
+        for (LatestResultChange change : changes) {
+            deltas.computeIfAbsent(change.examId(), id -> new Delta()).add(change);
+        }
+
+        deltas.forEach((examId, delta) -> {
+            ExamScoreAggregate current = delta.removedMin == null
+                ? null
+                : examScoreAggregateRepository.findById(examId).orElse(null);
+
+            examScoreAggregateUpdateRepository.applyDelta(examId,
+                delta.count, delta.sum, delta.squareSum, delta.addedMin, delta.addedMax);
+
+            if (current != null && touchesRange(current, delta)) {
+                examScoreAggregateUpdateRepository.refreshMinMax(examId);
+            }
+        });
+    }
+
+    /**
+     * 집계 행 존재 여부 확인
+     *
+     * @return 집계 행이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return examScoreAggregateRepository.count() == 0;
+    }
+
+    /**
+     * 전체 시험 집계 재생성
+     *
+     * <p>최신 결과 포인터 기준으로 모든 집계 행을 다시 계산합니다. 증분 갱신 누락이 의심되거나
+     * 포인터 보정 직후에 사용합니다.</p>
+     *
+     * @return 재생성된 시험 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int rebuilt = examScoreAggregateUpdateRepository.rebuildAll();
+        log.info("시험별 점수 집계 재생성 완료: exams={}", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 특정 시험 집계 재생성
+     *
+     * @param examId 시험 ID
+     * @return 재생성된 시험 수 (결과가 없으면 0)
+     */
+    @Transactional
+    public int rebuildExam(UUID examId) {
+        int rebuilt = examScoreAggregateUpdateRepository.rebuildExam(examId);
+        log.info("시험 점수 집계 재생성 완료: examId={}, rows={}", examId, rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 빠진 점수가 기존 최솟값 또는 최댓값과 같은지 확인 (같으면 증분으로 되돌릴 수 없음)
+     */
+    private boolean touchesRange(ExamScoreAggregate current, Delta delta) {
+        boolean minRemoved = current.getMinScore() != null && delta.removedMin <= current.getMinScore();
+        boolean maxRemoved = current.getMaxScore() != null && delta.removedMax >= current.getMaxScore();
+        return minRemoved || maxRemoved;
+    }
+
+    /**
+     * 시험별 집계 증감분
+     */
+    private static final class Delta {
+
+        private long count;
+        private long sum;
+        private long squareSum;
+        private Integer addedMin;
+        private Integer addedMax;
+        private Integer removedMin;
+        private Integer removedMax;
+
+        void add(LatestResultChange change) {
+            long score = change.newScore();
+            sum += score;
+            squareSum += score * score;
+            addedMin = addedMin == null ? change.newScore() : Math.min(addedMin, change.newScore());
+            addedMax = addedMax == null ? change.newScore() : Math.max(addedMax, change.newScore());
+
+            if (change.previousScore() == null) {
+                count++;
+                return;
+            }
+            long previous = change.previousScore();
+            sum -= previous;
+            squareSum -= previous * previous;
+            removedMin = removedMin == null ? change.previousScore() : Math.min(removedMin, change.previousScore());
+            removedMax = removedMax == null ? change.previousScore() : Math.max(removedMax, change.previousScore());
+        }
+    }
+}
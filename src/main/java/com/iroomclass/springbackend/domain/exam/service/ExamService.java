@@ -1,5 +1,7 @@
 package com.iroomclass.springbackend.domain.exam.service;
 
+import com.iroomclass.springbackend.common.CursorPage;
+import com.iroomclass.springbackend.common.KeysetCursor;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamRequest;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamResponse;
 import com.iroomclass.springbackend.domain.exam.dto.ExamAnswerSheetDto;
@@ -19,6 +21,7 @@ import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
 import com.iroomclass.springbackend.domain.exam.entity.Question;
 import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
 import com.iroomclass.springbackend.domain.exam.entity.ExamResultQuestion;
+import com.iroomclass.springbackend.domain.exam.event.ExamCreatedEvent;
 import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
 import com.iroomclass.springbackend.domain.exam.repository.ExamSheetRepository;
 import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
@@ -34,8 +37,10 @@ import java.time.LocalDate;
 import lombok.RequiredArgsConstructor;
 import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -66,6 +71,8 @@ public class ExamService {
     private final StudentAnswerSheetRepository studentAnswerSheetRepository;
     private final ExamResultRepository examResultRepository;
     private final StudentRepository studentRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final SubmissionTimelineService submissionTimelineService;
 
     /**
      * 시험 생성
@@ -106,11 +113,13 @@ public class ExamService {
                 .content(request.description())
                 .maxStudent(request.maxStudent()) // 요청에서 최대 학생 수 설정
                 .qrCodeUrl(null) // QR 코드는 나중에 생성
+                .endDate(request.endDate()) // 지나면 시험 종료 일괄 채점 자동 실행
                 .build();
 
         // 4. 시험 저장
         Exam savedExam = examRepository.save(exam);
         log.info("시험 생성 완료: examId={}, examName={}", savedExam.getId(), savedExam.getExamName());
+        eventPublisher.publishEvent(new ExamCreatedEvent(savedExam.getId(), savedExam.getGrade()));
 
         // 5. 응답 DTO 생성 및 반환
         return CreateExamResponse.from(
@@ -193,11 +202,14 @@ public class ExamService {
     /**
      * 시험별 제출 현황 상세 조회
      * 
-     * @param examId 시험 식별자
+     * <p>시간대별 제출 분포는 제출 이벤트로 갱신되는 메모리 분 단위 시계열에서 읽습니다.</p>
+     * 
+     * @param examId            시험 식별자
+     * @param resolutionMinutes 제출 시계열 구간 길이 (분: 1, 5, 10, 15, 30, 60)
      * @return 시험 제출 현황 상세 정보
      * @throws RuntimeException 시험을 찾을 수 없을 때
      */
-    public ExamSubmissionStatusDto getExamSubmissionStatus(UUID examId) {
+    public ExamSubmissionStatusDto getExamSubmissionStatus(UUID examId, int resolutionMinutes) {
         log.info("시험 제출 현황 조회 시작: examId={}", examId);
 
         // 시험 정보 조회
@@ -210,9 +222,12 @@ public class ExamService {
         // Exam 엔티티의 maxStudent 값 사용 (확실한 최대 응시 가능 학생 수)
         Long totalStudentsInGrade = Long.valueOf(exam.getMaxStudent());
 
-        // 시간별 제출 통계 조회
-        List<ExamSubmissionRepository.HourlySubmissionStats> hourlyStats = examSubmissionRepository
-                .findHourlySubmissionStats(examId);
+        // 제출 시계열 조회 (메모리 분 단위 버퍼, 1시간 단위와 선택한 해상도)
+        List<SubmissionTimelineService.TimelineBucket> hourlyStats = submissionTimelineService
+                .getTimeline(examId, exam.getCreatedAt(), 60);
+        List<SubmissionTimelineService.TimelineBucket> timeline = resolutionMinutes == 60
+                ? hourlyStats
+                : submissionTimelineService.getTimeline(examId, exam.getCreatedAt(), resolutionMinutes);
 
         // 최근 제출자 목록 (최대 5명)
         List<com.iroomclass.springbackend.domain.exam.entity.ExamSubmission> recentSubmissionEntities = examSubmissionRepository
@@ -231,7 +246,10 @@ public class ExamService {
                 recentSubmissions,
                 hourlyStats.stream()
                         .map(ExamSubmissionStatusDto.HourlyStats::from)
-                        .collect(Collectors.toList()));
+                        .collect(Collectors.toList()),
+                new ExamSubmissionStatusDto.SubmissionTimeline(resolutionMinutes, timeline.stream()
+                        .map(ExamSubmissionStatusDto.TimelinePoint::from)
+                        .collect(Collectors.toList())));
     }
 
     /**
@@ -271,6 +289,61 @@ public class ExamService {
         return examPage.map(ExamDto::from);
     }
 
+    /**
+     * 시험 목록 커서 조회 (키셋 페이지네이션, 최신순)
+     *
+     * <p>{@link #findAll}, {@link #findByGrade}, {@link #searchByExamName}의 커서 버전입니다.
+     * UUIDv7 ID 내림차순으로 커서 이후 size + 1개만 읽어 다음 페이지 여부를 판단하므로
+     * 몇 번째 페이지든 첫 페이지와 비용이 같습니다. 전체 개수는 {@code includeTotal}일 때만 셉니다.</p>
+     *
+     * @param grade        학년 필터 (null이면 전체)
+     * @param examName     시험명 검색어 (비어 있으면 전체)
+     * @param after        직전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size         페이지 크기 (1~100)
+     * @param includeTotal 전체 개수 포함 여부 (첫 페이지에서만 요청 권장)
+     * @return 시험 목록 페이지
+     * @throws com.iroomclass.springbackend.common.exception.InvalidRequestException 커서 형식이나 페이지 크기가 올바르지 않은 경우
+     */
+    public CursorPage<ExamDto> findExamsAfter(Integer grade, String examName, String after, int size,
+            boolean includeTotal) {
+        KeysetCursor.validateSize(size);
+        UUID afterId = KeysetCursor.decode(after);
+        String keyword = examName != null && !examName.isBlank() ? examName.trim() : null;
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<Exam> exams;
+        Long totalElements = null;
+        if (grade != null && keyword != null) {
+            exams = examRepository.findByGradeAndExamNameAfter(grade, keyword, afterId, limit);
+            if (includeTotal) {
+                totalElements = examRepository.countByGradeAndExamNameKeyword(grade, keyword);
+            }
+        } else if (grade != null) {
+            exams = examRepository.findByGradeAfter(grade, afterId, limit);
+            if (includeTotal) {
+                totalElements = examRepository.countByGrade(grade);
+            }
+        } else if (keyword != null) {
+            exams = examRepository.findByExamNameAfter(keyword, afterId, limit);
+            if (includeTotal) {
+                totalElements = examRepository.countByExamNameKeyword(keyword);
+            }
+        } else {
+            exams = examRepository.findAllAfter(afterId, limit);
+            if (includeTotal) {
+                totalElements = examRepository.count();
+            }
+        }
+
+        CursorPage<ExamDto> page = CursorPage.fromRows(
+                exams.stream().map(ExamDto::from).toList(), size, ExamDto::id, totalElements);
+
+        log.info("시험 목록 커서 조회 완료: grade={}, examName={}, size={}, hasNext={}",
+                grade, keyword, page.size(), page.hasNext());
+
+        return page;
+    }
+
     /**
      * 여러 시험의 제출 현황 통계 조회
      * 
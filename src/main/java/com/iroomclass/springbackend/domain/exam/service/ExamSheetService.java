@@ -1,5 +1,7 @@
 package com.iroomclass.springbackend.domain.exam.service;
 
+import com.iroomclass.springbackend.common.CursorPage;
+import com.iroomclass.springbackend.common.KeysetCursor;
 import com.iroomclass.springbackend.domain.exam.dto.ExamSheetDto;
 import com.iroomclass.springbackend.domain.exam.dto.CreateExamSheetRequest;
 import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
@@ -11,6 +13,7 @@ import com.iroomclass.springbackend.domain.exam.repository.QuestionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -508,6 +511,76 @@ public class ExamSheetService {
                 });
         }
     }
+
+    /**
+     * 필터링이 가능한 시험지 목록 커서 조회 (키셋 페이지네이션, 최신순)
+     *
+     * <p>{@link #findAll(Pageable, Integer, String)}의 커서 버전입니다.
+     * UUIDv7 ID 내림차순으로 커서 이후 size + 1개의 ID만 인덱스로 읽은 뒤, 해당 페이지의 시험지만 단원 정보와 함께 조회합니다.
+     * OFFSET, 페이지마다의 COUNT 쿼리, 컬렉션 FETCH JOIN의 메모리 페이징이 없으므로 몇 번째 페이지든 첫 페이지와 비용이 같습니다.
+     * 전체 개수는 {@code includeTotal}일 때만 셉니다.</p>
+     *
+     * @param grade 학년 필터 (null이면 전체)
+     * @param search 검색어 (비어 있으면 전체)
+     * @param after 직전 페이지의 nextCursor (비어 있으면 첫 페이지)
+     * @param size 페이지 크기 (1~100)
+     * @param includeTotal 전체 개수 포함 여부 (첫 페이지에서만 요청 권장)
+     * @return 시험지 목록 페이지
+     * @throws com.iroomclass.springbackend.common.exception.InvalidRequestException 커서 형식이나 페이지 크기가 올바르지 않은 경우
+     */
+    public CursorPage<ExamSheetDto> findAllAfter(Integer grade, String search, String after, int size,
+                                                 boolean includeTotal) {
+        KeysetCursor.validateSize(size);
+        UUID afterId = KeysetCursor.decode(after);
+        String keyword = search != null && !search.trim().isEmpty() ? search.trim() : null;
+        Pageable limit = PageRequest.of(0, size + 1);
+
+        List<UUID> ids;
+        Long totalElements = null;
+        if (grade != null && keyword != null) {
+            ids = examSheetRepository.findIdsByGradeAndExamNameAfter(grade, keyword, afterId, limit);
+            if (includeTotal) {
+                totalElements = examSheetRepository.countByGradeAndExamNameKeyword(grade, keyword);
+            }
+        } else if (grade != null) {
+            ids = examSheetRepository.findIdsByGradeAfter(grade, afterId, limit);
+            if (includeTotal) {
+                totalElements = examSheetRepository.countByGrade(grade);
+            }
+        } else if (keyword != null) {
+            ids = examSheetRepository.findIdsByExamNameAfter(keyword, afterId, limit);
+            if (includeTotal) {
+                totalElements = examSheetRepository.countByExamNameKeyword(keyword);
+            }
+        } else {
+            ids = examSheetRepository.findIdsAfter(afterId, limit);
+            if (includeTotal) {
+                totalElements = examSheetRepository.count();
+            }
+        }
+
+        boolean hasNext = ids.size() > size;
+        List<UUID> pageIds = hasNext ? ids.subList(0, size) : ids;
+        Map<UUID, ExamSheet> examSheets = pageIds.isEmpty()
+            ? Map.of()
+            : examSheetRepository.findAllWithQuestionsAndUnitsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(ExamSheet::getId, examSheet -> examSheet));
+
+        // FETCH JOIN 결과는 순서가 보장되지 않으므로 ID 목록 순서로 정렬
+        List<ExamSheetDto> content = new ArrayList<>(pageIds.size());
+        for (UUID id : pageIds) {
+            ExamSheet examSheet = examSheets.get(id);
+            if (examSheet != null) {
+                ExamSheetDto.UnitSummary unitSummary = ExamSheetDto.UnitSummary.from(examSheet.getQuestions());
+                content.add(ExamSheetDto.fromWithUnitSummary(examSheet, unitSummary));
+            }
+        }
+
+        log.info("시험지 목록 커서 조회 완료: grade={}, search={}, size={}, hasNext={}",
+                grade, keyword, content.size(), hasNext);
+
+        return CursorPage.of(content, hasNext, ExamSheetDto::id, totalElements);
+    }
     
     /**
      * 학년별 시험지 통계 조회 (컨트롤러 호환)
@@ -0,0 +1,113 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 시험 제출 유니크 제약 시작 시 확인
+ *
+ * <p>INSERT 우선 제출 저장({@code ExamSubmissionInsertRepository})은 (exam_id, student_id)와 idempotency_key
+ * 유니크 제약 위반으로 중복 제출을 판단하므로, 제약이 없으면 중복 제출이 그대로 저장됩니다.
+ * 제약은 ddl-auto: update로 생성되지만 기존 데이터에 중복이 있으면 Hibernate가 경고만 남기고 건너뛰므로,
+ * 다른 시작 작업보다 먼저 실제 유니크 인덱스가 있는지 확인합니다.</p>
+ *
+ * <ul>
+ * <li>유니크 인덱스가 있으면 아무것도 하지 않습니다.</li>
+ * <li>없고 중복 데이터도 없으면 제약을 직접 추가합니다.</li>
+ * <li>중복 데이터가 있으면 시작을 중단합니다. {@value #DEDUP_SCRIPT}로 중복을 정리한 뒤 다시 시작해야 합니다.</li>
+ * </ul>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ExamSubmissionUniqueConstraintCheck implements CommandLineRunner {
+
+    static final String DEDUP_SCRIPT = "docker/mysql/migration/exam_submission_unique_exam_student.sql";
+
+    private static final String TABLE = "exam_submission";
+
+    private static final List<UniqueConstraint> CONSTRAINTS = List.of(
+        new UniqueConstraint("uk_exam_submission_exam_student", List.of("exam_id", "student_id")),
+        new UniqueConstraint("uk_exam_submission_idempotency_key", List.of("idempotency_key"))
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        Set<Set<String>> uniqueIndexes = findUniqueIndexColumns();
+        for (UniqueConstraint constraint : CONSTRAINTS) {
+            if (uniqueIndexes.contains(Set.copyOf(constraint.columns()))) {
+                continue;
+            }
+
+            long duplicates = countDuplicates(constraint);
+            if (duplicates > 0) {
+                throw new IllegalStateException(String.format(
+                    "%s 유니크 제약이 없고 중복 데이터 %d건(%s)이 있습니다. %s로 중복을 정리한 뒤 다시 시작하세요",
+                    constraint.name(), duplicates, String.join(", ", constraint.columns()), DEDUP_SCRIPT));
+            }
+
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " ADD CONSTRAINT " + constraint.name()
+                + " UNIQUE (" + String.join(", ", constraint.columns()) + ")");
+            log.warn("누락된 시험 제출 유니크 제약 추가: {}", constraint.name());
+        }
+    }
+
+    /**
+     * 중복 값 그룹 수 조회 (NULL은 유니크 제약에서 중복으로 보지 않으므로 제외)
+     */
+    private long countDuplicates(UniqueConstraint constraint) {
+        String columns = String.join(", ", constraint.columns());
+        String notNull = String.join(" IS NOT NULL AND ", constraint.columns()) + " IS NOT NULL";
+        Long count = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM (SELECT " + columns + " FROM " + TABLE + " WHERE " + notNull
+                + " GROUP BY " + columns + " HAVING COUNT(*) > 1) d",
+            Long.class);
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 테이블의 유니크 인덱스별 컬럼 집합 조회 (컬럼명은 소문자)
+     */
+    private Set<Set<String>> findUniqueIndexColumns() {
+        return jdbcTemplate.execute((ConnectionCallback<Set<Set<String>>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String table = metaData.storesUpperCaseIdentifiers() ? TABLE.toUpperCase(Locale.ROOT) : TABLE;
+
+            Map<String, Set<String>> columnsByIndex = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), connection.getSchema(), table, true, false)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String columnName = rs.getString("COLUMN_NAME");
+                    if (indexName != null && columnName != null) {
+                        columnsByIndex.computeIfAbsent(indexName, k -> new HashSet<>())
+                            .add(columnName.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return new HashSet<>(columnsByIndex.values());
+        });
+    }
+
+    private record UniqueConstraint(String name, List<String> columns) {}
+}
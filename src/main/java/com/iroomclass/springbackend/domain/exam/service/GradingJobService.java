@@ -0,0 +1,185 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.domain.exam.client.AiGradingClient;
+import com.iroomclass.springbackend.domain.exam.dto.GradingJobStatusDto;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
+import com.iroomclass.springbackend.domain.exam.event.GradingRequestedEvent;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
+import com.iroomclass.springbackend.domain.textrecognition.service.SseConnectionManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 비동기 채점 작업 서비스
+ *
+ * <p>제출 트랜잭션 커밋 이후 채점 작업을 고정 크기 워커 풀에 넘기고,
+ * 작업 상태를 폴링/SSE로 제공합니다. AI 서버 호출은 워커 스레드에서
+ * 트랜잭션 없이 수행되며, 결과 반영만 {@link GradingResultWriter}의 짧은 트랜잭션으로 처리합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GradingJobService {
+
+    private static final String SSE_EVENT_NAME = "grading";
+
+    /**
+     * 종료된 작업 상태를 메모리에 유지하는 시간 (분)
+     */
+    private static final long TERMINAL_JOB_RETENTION_MINUTES = 30;
+
+    private final ThreadPoolTaskExecutor gradingTaskExecutor;
+    private final AiGradingClient aiGradingClient;
+    private final GradingResultWriter gradingResultWriter;
+    private final GradingRetryService gradingRetryService;
+    private final ExamResultRepository examResultRepository;
+    private final SseConnectionManager sseConnectionManager;
+
+    // 작업 상태를 메모리에서 관리 (재시작 시에는 ExamResult 상태로 복원)
+    private final Map<UUID, GradingJobStatusDto> jobStates = new ConcurrentHashMap<>();
+
+    /**
+     * 제출 커밋 이후 채점 작업을 워커 풀에 등록
+     *
+     * <p>대기열이 가득 찬 경우 작업은 FAILED로 기록되고 ExamResult는 PENDING으로 남아
+     * 재시도 큐({@link GradingRetryService})를 통해 다시 채점됩니다.</p>
+     *
+     * @param event 채점 요청 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onGradingRequested(GradingRequestedEvent event) {
+        UUID jobId = event.resultId();
+        updateState(GradingJobStatusDto.queued(jobId, event.submissionId()));
+
+        try {
+            gradingTaskExecutor.execute(() -> runGrading(event));
+            log.info("채점 작업 등록: jobId={}, submissionId={}, queueSize={}",
+                jobId, event.submissionId(), gradingTaskExecutor.getThreadPoolExecutor().getQueue().size());
+        } catch (TaskRejectedException e) {
+            log.warn("채점 대기열 초과, 재시도 큐로 전환: jobId={}", jobId);
+            enqueueRetry(event, "채점 대기열 초과");
+            updateState(jobStates.get(jobId).failed("채점 대기열이 가득 찼습니다. 잠시 후 자동으로 다시 채점됩니다"));
+        }
+    }
+
+    /**
+     * 채점 작업 상태 조회
+     *
+     * <p>메모리에 상태가 없으면 (재시작 등) ExamResult 상태로부터 복원합니다.</p>
+     *
+     * @param jobId 채점 작업 ID
+     * @return 작업 상태
+     */
+    public GradingJobStatusDto getJobStatus(UUID jobId) {
+        GradingJobStatusDto state = jobStates.get(jobId);
+        if (state != null) {
+            return state;
+        }
+
+        ExamResult examResult = examResultRepository.findById(jobId)
+            .orElseThrow(() -> new EntityNotFoundException("채점 작업을 찾을 수 없습니다: " + jobId));
+        return fromExamResult(examResult);
+    }
+
+    /**
+     * 채점 작업 SSE 구독
+     *
+     * @param jobId 채점 작업 ID
+     * @return SseEmitter 객체
+     */
+    public SseEmitter subscribe(UUID jobId) {
+        GradingJobStatusDto current = getJobStatus(jobId);
+
+        SseEmitter emitter = sseConnectionManager.createConnection(jobId.toString());
+        // 현재 상태를 즉시 전송하고, 이미 종료된 작업이면 연결을 닫음
+        sseConnectionManager.sendNamedEvent(jobId.toString(), SSE_EVENT_NAME, current, current.isTerminal());
+        return emitter;
+    }
+
+    /**
+     * 워커 스레드에서 실행되는 채점 본체
+     */
+    private void runGrading(GradingRequestedEvent event) {
+        UUID jobId = event.resultId();
+        updateState(jobStates.get(jobId).inProgress());
+
+        try {
+            GradingResultDto gradingResult = aiGradingClient.requestGrading(event.request());
+            if (gradingResult == null) {
+                throw new IllegalStateException("AI 서버가 채점 결과를 반환하지 않았습니다");
+            }
+
+            ExamResult examResult = gradingResultWriter.applyAiGradingResult(
+                jobId, event.answerSheetId(), gradingResult);
+            updateState(jobStates.get(jobId).completed(examResult.getTotalScore()));
+
+        } catch (Exception e) {
+            log.error("비동기 채점 실패: jobId={}, error={}", jobId, e.getMessage());
+            enqueueRetry(event, e.getMessage());
+            updateState(jobStates.get(jobId).failed("채점 실패 (자동 재시도 예약됨): " + e.getMessage()));
+        }
+    }
+
+    /**
+     * 실패한 채점 작업을 영속 재시도 큐에 등록
+     *
+     * <p>등록 자체가 실패해도 ExamResult는 PENDING으로 남으므로 로그만 남깁니다.</p>
+     */
+    private void enqueueRetry(GradingRequestedEvent event, String error) {
+        try {
+            gradingRetryService.enqueueInNewTransaction(event.resultId(), event.answerSheetId(), error);
+        } catch (Exception e) {
+            log.error("채점 재시도 큐 등록 실패: jobId={}, error={}", event.resultId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 상태 저장 및 SSE 알림
+     */
+    private void updateState(GradingJobStatusDto state) {
+        jobStates.put(state.jobId(), state);
+        sseConnectionManager.sendNamedEvent(state.jobId().toString(), SSE_EVENT_NAME, state, state.isTerminal());
+    }
+
+    /**
+     * ExamResult 상태를 작업 상태로 변환
+     */
+    private GradingJobStatusDto fromExamResult(ExamResult examResult) {
+        GradingJobStatusDto base = GradingJobStatusDto.queued(
+            examResult.getId(), examResult.getExamSubmission().getId());
+        return switch (examResult.getStatus()) {
+            case COMPLETED, REGRADED -> base.completed(examResult.getTotalScore());
+            case IN_PROGRESS -> base.inProgress();
+            case PENDING -> base;
+        };
+    }
+
+    /**
+     * 오래된 종료 작업 상태 정리 (10분마다)
+     */
+    @Scheduled(fixedDelay = 10 * 60 * 1000L)
+    public void evictTerminalJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusMinutes(TERMINAL_JOB_RETENTION_MINUTES);
+        int before = jobStates.size();
+        jobStates.values().removeIf(state -> state.isTerminal() && state.updatedAt().isBefore(threshold));
+        int removed = before - jobStates.size();
+        if (removed > 0) {
+            log.debug("종료된 채점 작업 상태 정리: removed={}, remaining={}", removed, jobStates.size());
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.event.LatestResultsChangedEvent;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResultQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
+import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSheetRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.QuestionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetRepository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 채점 결과 저장 서비스
+ *
+ * <p>AI 서버의 채점 결과를 PENDING 상태로 생성된 ExamResult에 반영합니다.
+ * AI 호출은 트랜잭션 밖에서 수행하고, 결과 반영만 짧은 트랜잭션으로 처리하기 위해
+ * 채점 워커와 분리된 빈으로 구성합니다.</p>
+ *
+ * <p>결과가 완료되면 같은 트랜잭션에서 제출의 최신 결과 포인터(latest_result_id), 시험별 점수 집계,
+ * 단원별 문항 응답 집계, 학생별 성적 프로필도 갱신하고, 포인터 이동 내역을 {@link LatestResultsChangedEvent}로 발행합니다.</p>
+ *
+ * <p>AI 채점/재시도와 시험 종료 일괄 채점은 같은 미완료 결과에 동시에 반영될 수 있으므로,
+ * 두 경로 모두 제출 행을 먼저 배타 잠금하고 READ COMMITTED로 잠금 이후의 최신 결과 상태를 읽어
+ * 문항 결과가 중복 추가되거나 완료된 제출에 새 결과가 생기지 않도록 합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class GradingResultWriter {
+
+    private final ExamResultRepository examResultRepository;
+    private final ExamSheetRepository examSheetRepository;
+    private final ExamSubmissionRepository examSubmissionRepository;
+    private final ExamSubmissionLatestResultRepository examSubmissionLatestResultRepository;
+    private final ExamScoreAggregateService examScoreAggregateService;
+    private final UnitAnswerStatsService unitAnswerStatsService;
+    private final StudentPerformanceService studentPerformanceService;
+    private final StudentAnswerSheetRepository studentAnswerSheetRepository;
+    private final QuestionRepository questionRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * AI 채점 결과 반영
+     *
+     * <p>이미 채점된 문제(일괄 채점이 먼저 반영한 문제 등)는 건너뜁니다.</p>
+     *
+     * @param resultId      PENDING 상태의 시험 결과 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param gradingResult AI 채점 결과
+     * @return 완료 처리된 시험 결과
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public ExamResult applyAiGradingResult(UUID resultId, UUID answerSheetId, GradingResultDto gradingResult) {
+        UUID submissionId = examResultRepository.findSubmissionIdByResultId(resultId)
+            .orElseThrow(() -> new EntityNotFoundException("시험 결과를 찾을 수 없습니다: " + resultId));
+        examSubmissionRepository.findAllByIdInForUpdate(List.of(submissionId));
+
+        ExamResult examResult = examResultRepository.findById(resultId)
+            .orElseThrow(() -> new EntityNotFoundException("시험 결과를 찾을 수 없습니다: " + resultId));
+
+        if (examResult.isCompleted()) {
+            log.info("이미 채점 완료된 결과, 반영 생략: resultId={}", resultId);
+            return examResult;
+        }
+
+        StudentAnswerSheet answerSheet = studentAnswerSheetRepository.getReferenceById(answerSheetId);
+
+        if (gradingResult.questionResults() != null) {
+            Set<UUID> gradedQuestionIds = examResult.getQuestionResults().stream()
+                .map(qr -> qr.getQuestion().getId())
+                .collect(Collectors.toSet());
+            addQuestionResults(examResult, answerSheet, gradingResult.questionResults().stream()
+                .filter(qr -> !gradedQuestionIds.contains(qr.questionId()))
+                .toList());
+        }
+
+        examResult.completeGrading(gradingResult.gradingComment());
+        updateLatestResults(List.of(examResult));
+
+        log.info("AI 채점 결과 반영 완료: resultId={}, questionCount={}, totalScore={}",
+            resultId, examResult.getQuestionResults().size(), examResult.getTotalScore());
+
+        return examResult;
+    }
+
+    /**
+     * 시험 종료 일괄 채점 결과 반영
+     *
+     * <p>제출별로 미완료 결과(PENDING/IN_PROGRESS)가 있으면 재사용하고, 없으면 새로 생성합니다.
+     * 이미 채점된 문제는 건너뛰며, 답안 수만큼 문제별 결과가 채워진 제출만 COMPLETED로 전환합니다.
+     * 제출 행을 잠근 뒤 다시 확인하여, 그 사이 비동기 채점/재시도가 완료한 제출은 건너뜁니다.
+     * 새 결과와 문제별 결과는 Hibernate JDBC 배치(batch_size, order_inserts)로 저장됩니다.</p>
+     *
+     * @param examSheetId 시험지 ID
+     * @param gradings    제출별 채점 결과
+     * @return COMPLETED로 전환된 제출 수
+     */
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public int applyBatchResults(UUID examSheetId, List<SubmissionGrading> gradings) {
+        List<UUID> submissionIds = gradings.stream().map(SubmissionGrading::submissionId).toList();
+        examSubmissionRepository.findAllByIdInForUpdate(submissionIds);
+        Set<UUID> completedSubmissionIds = new HashSet<>(
+            examResultRepository.findSubmissionIdsWithCompletedResult(submissionIds));
+
+        Map<UUID, ExamResult> incompleteResults = examResultRepository
+            .findIncompleteResultsBySubmissionIds(submissionIds)
+            .stream()
+            .collect(Collectors.toMap(er -> er.getExamSubmission().getId(), Function.identity(), (first, second) -> first));
+
+        ExamSheet examSheet = examSheetRepository.getReferenceById(examSheetId);
+        List<ExamResult> newResults = new ArrayList<>();
+        List<ExamResult> completedResults = new ArrayList<>();
+
+        for (SubmissionGrading grading : gradings) {
+            if (completedSubmissionIds.contains(grading.submissionId())) {
+                continue;
+            }
+
+            ExamResult examResult = incompleteResults.get(grading.submissionId());
+            if (examResult == null) {
+                examResult = ExamResult.builder()
+                    .examSubmission(examSubmissionRepository.getReferenceById(grading.submissionId()))
+                    .examSheet(examSheet)
+                    .status(ExamResult.ResultStatus.PENDING)
+                    .build();
+                newResults.add(examResult);
+            }
+
+            Set<UUID> gradedQuestionIds = examResult.getQuestionResults().stream()
+                .map(qr -> qr.getQuestion().getId())
+                .collect(Collectors.toSet());
+            List<GradingResultDto.QuestionResultDto> missingResults = grading.questionResults().stream()
+                .filter(qr -> !gradedQuestionIds.contains(qr.questionId()))
+                .toList();
+
+            addQuestionResults(examResult,
+                studentAnswerSheetRepository.getReferenceById(grading.answerSheetId()), missingResults);
+
+            if (examResult.getQuestionResults().size() >= grading.answeredCount()) {
+                examResult.completeGrading("문항별 일괄 채점 완료");
+                completedResults.add(examResult);
+            }
+        }
+
+        examResultRepository.saveAll(newResults);
+        updateLatestResults(completedResults);
+
+        log.info("일괄 채점 결과 반영 완료: submissions={}, newResults={}, completed={}",
+            gradings.size(), newResults.size(), completedResults.size());
+
+        return completedResults.size();
+    }
+
+    /**
+     * 재채점 결과를 새 버전의 시험 결과로 저장
+     *
+     * <p>기존 결과는 수정하지 않고 제출마다 REGRADED 상태의 새 버전을 추가하고, 최신 결과 포인터를 새 버전으로 옮깁니다.
+     * 답안 수만큼 채점되지 않은 제출은 기존 버전을 유지하기 위해 저장하지 않습니다.
+     * 새 결과와 문제별 결과는 Hibernate JDBC 배치(batch_size, order_inserts)로 저장됩니다.</p>
+     *
+     * @param examSheetId 시험지 ID
+     * @param gradings    제출별 재채점 결과
+     * @return 새 버전이 저장된 제출 수
+     */
+    public int applyRegradeResults(UUID examSheetId, List<SubmissionGrading> gradings) {
+        ExamSheet examSheet = examSheetRepository.getReferenceById(examSheetId);
+        List<ExamResult> newVersions = new ArrayList<>();
+
+        for (SubmissionGrading grading : gradings) {
+            if (grading.questionResults().size() < grading.answeredCount()) {
+                continue;
+            }
+
+            ExamResult examResult = ExamResult.builder()
+                .examSubmission(examSubmissionRepository.getReferenceById(grading.submissionId()))
+                .examSheet(examSheet)
+                .status(ExamResult.ResultStatus.PENDING)
+                .build();
+            addQuestionResults(examResult,
+                studentAnswerSheetRepository.getReferenceById(grading.answerSheetId()), grading.questionResults());
+            examResult.completeGrading("재채점 완료");
+            examResult.updateStatus(ExamResult.ResultStatus.REGRADED);
+            newVersions.add(examResult);
+        }
+
+        examResultRepository.saveAll(newVersions);
+        updateLatestResults(newVersions);
+
+        log.info("재채점 결과 반영 완료: submissions={}, newVersions={}", gradings.size(), newVersions.size());
+        return newVersions.size();
+    }
+
+    /**
+     * 저장된 완료 결과를 제출의 최신 결과로 지정
+     *
+     * <p>채점 서비스가 직접 완료 처리한 결과(객관식 자동 채점 등)에 사용합니다.</p>
+     *
+     * @param examResult 저장된 COMPLETED 상태의 시험 결과
+     */
+    public void markLatest(ExamResult examResult) {
+        updateLatestResults(List.of(examResult));
+    }
+
+    /**
+     * 최신 결과 포인터에 반영되지 않은 완료 결과 보정
+     *
+     * <p>{@link #markLatest(ExamResult)}를 거치지 않고 완료된 결과가 있더라도 포인터와 집계가
+     * 결국 최신 결과를 따르도록 하는 안전장치입니다. 오래된 결과부터 순서대로 포인터를 이동합니다.</p>
+     *
+     * @param since 채점 완료 시각 하한 (null이면 전체 결과 검사)
+     * @param limit 한 번에 보정할 최대 결과 수
+     * @return 보정 대상 결과 수
+     */
+    public int reconcileLatestPointers(LocalDateTime since, int limit) {
+        PageRequest page = PageRequest.of(0, limit);
+        List<ExamResult> missedResults = since == null
+            ? examResultRepository.findCompletedResultsMissingLatestPointer(page)
+            : examResultRepository.findCompletedResultsMissingLatestPointerSince(since, page);
+        updateLatestResults(missedResults);
+        return missedResults.size();
+    }
+
+    /**
+     * 최신 결과 포인터 이동과 시험별 점수/단원별 문항 응답 집계/학생별 성적 프로필 증분 갱신
+     *
+     * <p>포인터와 집계가 실제 결과 행을 참조하도록 대기 중인 결과 INSERT/UPDATE를 먼저 flush 합니다.
+     * 포인터가 이동한 경우 커밋 이후 메모리 통계가 반영할 수 있도록 변경 이벤트를 발행합니다.</p>
+     */
+    private void updateLatestResults(List<ExamResult> completedResults) {
+        if (completedResults.isEmpty()) {
+            return;
+        }
+        examResultRepository.flush();
+        List<LatestResultChange> changes = examSubmissionLatestResultRepository.markLatest(completedResults);
+        examScoreAggregateService.applyLatestResultChanges(changes);
+        unitAnswerStatsService.applyLatestResultChanges(changes);
+        studentPerformanceService.applyLatestResultChanges(changes);
+        if (!changes.isEmpty()) {
+            eventPublisher.publishEvent(new LatestResultsChangedEvent(changes));
+        }
+    }
+
+    /**
+     * 문제별 채점 결과를 ExamResultQuestion으로 변환하여 시험 결과에 추가
+     *
+     * <p>객관식 로컬 채점 결과와 AI 채점 결과 모두 이 경로로 저장합니다.</p>
+     *
+     * @param examResult      시험 결과
+     * @param answerSheet     학생 답안지
+     * @param questionResults 문제별 채점 결과
+     */
+    public void addQuestionResults(ExamResult examResult, StudentAnswerSheet answerSheet,
+                                   List<GradingResultDto.QuestionResultDto> questionResults) {
+        for (GradingResultDto.QuestionResultDto questionResult : questionResults) {
+            examResult.addQuestionResult(ExamResultQuestion.builder()
+                .examResult(examResult)
+                .question(questionRepository.getReferenceById(questionResult.questionId()))
+                .studentAnswerSheet(answerSheet)
+                .isCorrect(questionResult.isCorrect())
+                .score(questionResult.score())
+                .scoringMethod(toScoringMethod(questionResult.gradingMethod()))
+                .confidenceScore(toConfidence(questionResult.confidenceScore()))
+                .scoringComment(questionResult.scoringComment())
+                .build());
+        }
+    }
+
+    /**
+     * AI 서버의 채점 방식 문자열을 ScoringMethod로 변환
+     */
+    private ExamResultQuestion.ScoringMethod toScoringMethod(String gradingMethod) {
+        if (gradingMethod == null) {
+            return ExamResultQuestion.ScoringMethod.AI_ASSISTED;
+        }
+        return switch (gradingMethod.toUpperCase()) {
+            case "AUTO" -> ExamResultQuestion.ScoringMethod.AUTO;
+            case "MANUAL" -> ExamResultQuestion.ScoringMethod.MANUAL;
+            default -> ExamResultQuestion.ScoringMethod.AI_ASSISTED;
+        };
+    }
+
+    /**
+     * 신뢰도 문자열을 BigDecimal로 변환 (형식 오류 시 null)
+     */
+    private BigDecimal toConfidence(String confidenceScore) {
+        if (confidenceScore == null || confidenceScore.isBlank()) {
+            return null;
+        }
+        try {
+            return new BigDecimal(confidenceScore.trim());
+        } catch (NumberFormatException e) {
+            log.warn("신뢰도 형식 오류, 무시: {}", confidenceScore);
+            return null;
+        }
+    }
+
+    /**
+     * 제출별 일괄 채점 결과
+     *
+     * @param submissionId    제출 ID
+     * @param answerSheetId   학생 답안지 ID
+     * @param answeredCount   제출된 답안 수 (모두 채점되어야 완료 처리)
+     * @param questionResults 문제별 채점 결과
+     */
+    public record SubmissionGrading(
+        UUID submissionId,
+        UUID answerSheetId,
+        int answeredCount,
+        List<GradingResultDto.QuestionResultDto> questionResults
+    ) {}
+}
@@ -0,0 +1,83 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import com.iroomclass.springbackend.domain.exam.client.AiGradingClient;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+
+import java.util.List;
+
+/**
+ * 채점 재시도 스케줄러
+ *
+ * <p>주기적으로 실행 시각이 된 재시도 작업을 점유하여 AI 채점을 다시 요청합니다.
+ * 작업 점유는 SKIP LOCKED 행 잠금으로 이루어지므로 여러 노드에서 동시에 실행되어도
+ * 같은 작업을 중복 처리하지 않습니다.</p>
+ *
+ * <p>스케줄러 스레드는 작업 점유만 하고, AI 채점 요청은 채점 워커 풀에서 병렬로 수행합니다.
+ * 워커 풀 대기열이 가득 차 넘기지 못한 작업은 시도 횟수를 되돌려 바로 다시 대기 상태로 돌립니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GradingRetryScheduler {
+
+    private final GradingRetryService gradingRetryService;
+    private final AiGradingClient aiGradingClient;
+    private final GradingResultWriter gradingResultWriter;
+    private final ThreadPoolTaskExecutor gradingTaskExecutor;
+
+    /**
+     * 재시도 작업 처리
+     */
+    @Scheduled(fixedDelayString = "${grading.retry.poll-interval-ms:15000}")
+    public void processDueTasks() {
+        List<GradingRetryService.RetryWork> works = gradingRetryService.claimDueTasks();
+        if (works.isEmpty()) {
+            return;
+        }
+
+        log.info("채점 재시도 작업 처리 시작: count={}", works.size());
+        for (GradingRetryService.RetryWork work : works) {
+            try {
+                gradingTaskExecutor.execute(() -> retry(work));
+            } catch (TaskRejectedException e) {
+                log.warn("채점 대기열 초과, 재시도 작업 점유 해제: taskId={}", work.taskId());
+                gradingRetryService.release(work.taskId());
+            }
+        }
+    }
+
+    /**
+     * 단일 재시도 작업 실행 (AI 서버 호출은 트랜잭션 밖에서 수행)
+     */
+    private void retry(GradingRetryService.RetryWork work) {
+        try {
+            SubmitAndGradeRequest request = gradingRetryService.buildRetryRequest(work);
+            if (request == null) {
+                log.info("채점할 답안이 없어 재시도 종료: taskId={}, examResultId={}", work.taskId(), work.examResultId());
+                gradingRetryService.markSucceeded(work.taskId());
+                return;
+            }
+
+            GradingResultDto gradingResult = aiGradingClient.requestGrading(request);
+            if (gradingResult == null) {
+                throw new IllegalStateException("AI 서버가 채점 결과를 반환하지 않았습니다");
+            }
+
+            gradingResultWriter.applyAiGradingResult(work.examResultId(), work.answerSheetId(), gradingResult);
+            gradingRetryService.markSucceeded(work.taskId());
+            log.info("채점 재시도 성공: taskId={}, examResultId={}, attempt={}",
+                work.taskId(), work.examResultId(), work.attempt());
+
+        } catch (Exception e) {
+            gradingRetryService.markFailed(work.taskId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.common.datasource.PrimaryOnly;
+import com.iroomclass.springbackend.config.GradingRetryConfig;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSubmission;
+import com.iroomclass.springbackend.domain.exam.entity.GradingRetryTask;
+import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.GradingRetryTaskInsertRepository;
+import com.iroomclass.springbackend.domain.exam.repository.GradingRetryTaskRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentAnswerSheetRepository;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Collectors;
+
+/**
+ * 채점 재시도 큐 서비스
+ *
+ * <p>AI 채점이 실패한 시험 결과를 재시도 큐(grading_retry_task)에 등록하고,
+ * 스케줄러가 작업을 점유/완료/실패 처리할 수 있는 짧은 트랜잭션 단위 메서드를 제공합니다.
+ * AI 서버 호출은 {@link GradingRetryScheduler}가 트랜잭션 밖에서 수행합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class GradingRetryService {
+
+    /**
+     * 작업 점유 노드 식별자 (pid@hostname)
+     */
+    private static final String NODE_ID = ManagementFactory.getRuntimeMXBean().getName();
+
+    private final GradingRetryTaskRepository gradingRetryTaskRepository;
+    private final GradingRetryTaskInsertRepository gradingRetryTaskInsertRepository;
+    private final ExamResultRepository examResultRepository;
+    private final StudentAnswerSheetRepository studentAnswerSheetRepository;
+    private final GradingRetryConfig gradingRetryConfig;
+
+    /**
+     * 재시도 작업 등록
+     *
+     * <p>같은 시험 결과에 대해 대기/처리 중인 작업이 있으면 새로 등록하지 않습니다.
+     * 존재 여부를 먼저 조회하지 않고 INSERT 하며, 진행 중 작업 유니크 제약 위반을 이미 등록된 것으로 처리합니다.
+     * 첫 시도는 기본 지연 이후로 예약합니다.</p>
+     *
+     * @param examResultId  PENDING 상태의 시험 결과 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param error         최초 실패 사유
+     */
+    @Transactional
+    public void enqueue(UUID examResultId, UUID answerSheetId, String error) {
+        saveTask(examResultId, answerSheetId, error);
+    }
+
+    /**
+     * 재시도 작업 등록 (별도 트랜잭션)
+     *
+     * <p>커밋 이후 이벤트 리스너처럼 이미 끝난 트랜잭션의 리소스가 바인딩된 상태에서 호출되는 경우
+     * 사용합니다. REQUIRED로 호출하면 종료된 트랜잭션에 참여해 저장이 반영되지 않습니다.</p>
+     *
+     * @param examResultId  PENDING 상태의 시험 결과 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param error         최초 실패 사유
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void enqueueInNewTransaction(UUID examResultId, UUID answerSheetId, String error) {
+        saveTask(examResultId, answerSheetId, error);
+    }
+
+    private void saveTask(UUID examResultId, UUID answerSheetId, String error) {
+        UUID taskId = UUIDv7Generator.generate();
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plusNanos(computeBackoffMillis(1) * 1_000_000L);
+        boolean inserted = gradingRetryTaskInsertRepository.insertIfAbsent(taskId, examResultId, answerSheetId,
+            nextAttemptAt, error != null && error.length() > 1000 ? error.substring(0, 1000) : error);
+        if (!inserted) {
+            log.debug("이미 재시도 대기 중인 채점 결과: examResultId={}", examResultId);
+            return;
+        }
+
+        log.info("채점 재시도 작업 등록: taskId={}, examResultId={}, nextAttemptAt={}",
+            taskId, examResultId, nextAttemptAt);
+    }
+
+    /**
+     * 실행 시각이 된 재시도 작업 점유
+     *
+     * <p>SKIP LOCKED 조회로 다른 노드가 잠근 행은 건너뛰고, 가져온 작업은 점유 만료 시각과 함께
+     * PROCESSING으로 바꾼 뒤 바로 커밋합니다. 이후 처리는 트랜잭션 밖에서 진행됩니다.</p>
+     *
+     * @return 점유한 작업 목록
+     */
+    @Transactional
+    public List<RetryWork> claimDueTasks() {
+        LocalDateTime now = LocalDateTime.now();
+        List<GradingRetryTask> tasks = gradingRetryTaskRepository.findDueTasksForUpdate(
+            now, PageRequest.of(0, gradingRetryConfig.getBatchSize()));
+
+        LocalDateTime lockedUntil = now.plusSeconds(gradingRetryConfig.getLeaseSeconds());
+        tasks.forEach(task -> task.claim(NODE_ID, lockedUntil));
+
+        return tasks.stream()
+            .map(task -> new RetryWork(task.getId(), task.getExamResultId(), task.getAnswerSheetId(), task.getAttemptCount()))
+            .toList();
+    }
+
+    /**
+     * 재시도용 AI 채점 요청 구성
+     *
+     * <p>이미 문제별 결과가 있는 문제(객관식 로컬 채점 등)는 제외하고 남은 답안만 담습니다.
+     * 방금 반영된 채점 결과를 복제 지연 없이 보도록 primary에서 읽습니다.</p>
+     *
+     * @param work 점유한 재시도 작업
+     * @return AI 채점 요청 (이미 채점 완료되었거나 남은 답안이 없으면 null)
+     */
+    @PrimaryOnly
+    public SubmitAndGradeRequest buildRetryRequest(RetryWork work) {
+        ExamResult examResult = examResultRepository.findById(work.examResultId()).orElse(null);
+        if (examResult == null || examResult.isCompleted()) {
+            return null;
+        }
+
+        ExamSubmission submission = examResult.getExamSubmission();
+        StudentAnswerSheet answerSheet = studentAnswerSheetRepository.findBySubmissionIdWithQuestions(submission.getId())
+            .orElse(null);
+        if (answerSheet == null) {
+            return null;
+        }
+
+        Set<UUID> gradedQuestionIds = examResult.getQuestionResults().stream()
+            .map(qr -> qr.getQuestion().getId())
+            .collect(Collectors.toSet());
+
+        List<SubmitAndGradeRequest.AnswerDto> remainingAnswers = answerSheet.getStudentAnswerSheetQuestions().stream()
+            .filter(answer -> !gradedQuestionIds.contains(answer.getQuestionId()))
+            .map(answer -> new SubmitAndGradeRequest.AnswerDto(
+                answer.getQuestionId(), answer.getSelectedChoice(), answer.getAnswerText()))
+            .toList();
+
+        if (remainingAnswers.isEmpty()) {
+            return null;
+        }
+
+        return new SubmitAndGradeRequest(
+            submission.getExam().getId(),
+            submission.getStudent().getId(),
+            remainingAnswers,
+            true,
+            null
+        );
+    }
+
+    /**
+     * 재시도 성공 처리
+     *
+     * @param taskId 재시도 작업 ID
+     */
+    @Transactional
+    public void markSucceeded(UUID taskId) {
+        gradingRetryTaskRepository.findById(taskId).ifPresent(GradingRetryTask::markSucceeded);
+    }
+
+    /**
+     * 실행하지 못한 작업의 점유 해제
+     *
+     * <p>채점 워커 풀에 넘기지 못한 작업을 시도 횟수에 포함하지 않고 바로 대기 상태로 되돌립니다.</p>
+     *
+     * @param taskId 재시도 작업 ID
+     */
+    @Transactional
+    public void release(UUID taskId) {
+        gradingRetryTaskRepository.findById(taskId).ifPresent(GradingRetryTask::release);
+    }
+
+    /**
+     * 재시도 실패 처리
+     *
+     * <p>최대 시도 횟수에 도달하면 DEAD로 전환하고, 아니면 지수 백오프 + 지터로 다음 시도를 예약합니다.</p>
+     *
+     * @param taskId 재시도 작업 ID
+     * @param error  실패 사유
+     */
+    @Transactional
+    public void markFailed(UUID taskId, String error) {
+        gradingRetryTaskRepository.findById(taskId).ifPresent(task -> {
+            if (task.getAttemptCount() >= gradingRetryConfig.getMaxAttempts()) {
+                task.markFailed(error, null);
+                log.error("채점 재시도 중단 (최대 시도 초과): taskId={}, examResultId={}, attempts={}, error={}",
+                    taskId, task.getExamResultId(), task.getAttemptCount(), error);
+                return;
+            }
+
+            LocalDateTime nextAttemptAt = LocalDateTime.now()
+                .plusNanos(computeBackoffMillis(task.getAttemptCount() + 1) * 1_000_000L);
+            task.markFailed(error, nextAttemptAt);
+            log.warn("채점 재시도 실패, 재예약: taskId={}, attempts={}, nextAttemptAt={}, error={}",
+                taskId, task.getAttemptCount(), nextAttemptAt, error);
+        });
+    }
+
+    /**
+     * 지수 백오프 + 지터 지연 계산 (equal jitter)
+     *
+     * <p>지연 = min(최대 지연, 기본 지연 × 2^(시도-1)) 의 절반 + [0, 절반) 범위의 난수</p>
+     *
+     * @param attempt 시도 번호 (1부터)
+     * @return 지연 시간 (밀리초)
+     */
+    long computeBackoffMillis(int attempt) {
+        long baseMillis = gradingRetryConfig.getBaseDelaySeconds() * 1000L;
+        long maxMillis = gradingRetryConfig.getMaxDelaySeconds() * 1000L;
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+
+        long delay = Math.min(maxMillis, baseMillis << exponent);
+        long half = delay / 2;
+        return half + (half > 0 ? ThreadLocalRandom.current().nextLong(half) : 0);
+    }
+
+    /**
+     * 점유한 재시도 작업 정보 (트랜잭션 밖 전달용)
+     *
+     * @param taskId        재시도 작업 ID
+     * @param examResultId  시험 결과 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param attempt       현재 시도 번호
+     */
+    public record RetryWork(UUID taskId, UUID examResultId, UUID answerSheetId, int attempt) {}
+}
@@ -0,0 +1,89 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 최신 채점 결과 포인터 보정
+ *
+ * <p>애플리케이션 시작 시 latest_result_id가 비어 있지만 완료된 결과가 있는 제출의 포인터를 채웁니다.
+ * 포인터 컬럼이 추가되기 전에 저장된 결과를 위한 것으로, 보정할 행이 없으면 아무것도 바꾸지 않습니다.
+ * 포인터가 보정되었거나 시험별 점수 집계/단원별 문항 응답 집계/학생별 성적 프로필이 비어 있으면 해당 집계도 포인터 기준으로 다시 생성합니다.</p>
+ *
+ * <p>실행 중에는 주기적으로 포인터에 반영되지 않은 완료 결과를 찾아 {@link GradingResultWriter}로 포인터와 집계를 증분 보정합니다.
+ * 결과를 완료하는 경로는 모두 GradingResultWriter를 거치므로 평소에는 보정 대상이 없어야 합니다.
+ * 노드 시작 후 첫 보정만 전체 결과를 검사하고, 이후에는 직전 보정 시작 시각에서 겹침 구간(reconcile-overlap-ms)을 뺀
+ * 시각 이후 완료된 결과만 (status, graded_at) 인덱스 범위로 검사합니다. 겹침 구간은 채점 완료 시각 기록 후 커밋까지 걸리는 시간을 덮습니다.</p>
+ *
+ * @author 이룸클래스
+ * @since 2025
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LatestResultPointerBackfill implements CommandLineRunner {
+
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    @Value("${grading.latest-pointer.reconcile-overlap-ms:600000}")
+    private long reconcileOverlapMillis;
+
+    /**
+     * 보정이 끝난 채점 완료 시각 상한 (null이면 아직 전체 검사 전)
+     */
+    private volatile LocalDateTime reconciledUntil;
+
+    private final ExamSubmissionLatestResultRepository examSubmissionLatestResultRepository;
+    private final GradingResultWriter gradingResultWriter;
+    private final ExamScoreAggregateService examScoreAggregateService;
+    private final UnitAnswerStatsService unitAnswerStatsService;
+    private final StudentPerformanceService studentPerformanceService;
+
+    @Override
+    @Transactional
+    public void run(String... args) {
+        int updated = examSubmissionLatestResultRepository.backfillMissingPointers();
+        if (updated > 0) {
+            log.info("최신 채점 결과 포인터 보정 완료: submissions={}", updated);
+        }
+        if (updated > 0 || examScoreAggregateService.isEmpty()) {
+            examScoreAggregateService.rebuildAll();
+        }
+        if (updated > 0 || unitAnswerStatsService.isEmpty()) {
+            unitAnswerStatsService.rebuildAll();
+        }
+        if (updated > 0 || studentPerformanceService.isEmpty()) {
+            studentPerformanceService.rebuildAll();
+        }
+    }
+
+    /**
+     * 포인터에 반영되지 않은 완료 결과 주기적 보정
+     */
+    @Scheduled(fixedDelayString = "${grading.latest-pointer.reconcile-interval-ms:300000}",
+               initialDelayString = "${grading.latest-pointer.reconcile-interval-ms:300000}")
+    public void reconcileMissedResults() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = reconciledUntil != null
+            ? reconciledUntil.minusNanos(reconcileOverlapMillis * 1_000_000L)
+            : null;
+
+        int reconciled = gradingResultWriter.reconcileLatestPointers(since, RECONCILE_BATCH_SIZE);
+        if (reconciled > 0) {
+            log.warn("최신 결과 포인터에 반영되지 않은 완료 결과 보정: results={}", reconciled);
+        }
+        // 한 번에 다 보정하지 못했으면 다음 주기에 같은 하한부터 이어서 검사
+        if (reconciled < RECONCILE_BATCH_SIZE) {
+            reconciledUntil = startedAt;
+        }
+    }
+}
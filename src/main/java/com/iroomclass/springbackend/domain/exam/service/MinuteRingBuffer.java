@@ -0,0 +1,72 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 분 단위 제출 수 링 버퍼 (잠금 없음)
+ *
+ * <p>슬롯마다 상위 32비트에 분(epoch minute), 하위 32비트에 제출 수를 묶어 한 long에 저장하므로
+ * 슬롯 재사용과 증가가 CAS 한 번으로 원자적으로 이루어집니다.
+ * 슬롯에 더 오래된 분이 들어 있으면 새 분으로 덮어쓰고, 더 최근 분이 들어 있으면(보관 기간보다 오래된 제출) 버립니다.</p>
+ */
+final class MinuteRingBuffer {
+
+    private static final long COUNT_MASK = 0xFFFFFFFFL;
+
+    private final int capacity;
+    private final AtomicLongArray slots;
+    private final AtomicLong lastMinute = new AtomicLong(Long.MIN_VALUE);
+
+    MinuteRingBuffer(int capacity) {
+        this.capacity = capacity;
+        this.slots = new AtomicLongArray(capacity);
+    }
+
+    /**
+     * 분 슬롯에 제출 수 더하기
+     *
+     * @param minute epoch minute
+     * @param count  더할 제출 수
+     * @return 반영 여부 (보관 기간보다 오래된 분이면 false)
+     */
+    boolean add(long minute, int count) {
+        int index = (int) Math.floorMod(minute, (long) capacity);
+        while (true) {
+            long current = slots.get(index);
+            long slotMinute = current >>> 32;
+            long next;
+            if (slotMinute == minute) {
+                next = current + count;
+            } else if (slotMinute < minute) {
+                next = (minute << 32) | (count & COUNT_MASK);
+            } else {
+                return false;
+            }
+            if (slots.compareAndSet(index, current, next)) {
+                lastMinute.accumulateAndGet(minute, Math::max);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 분 슬롯의 제출 수 조회
+     *
+     * @param minute epoch minute
+     * @return 제출 수 (슬롯이 다른 분으로 재사용되었으면 0)
+     */
+    long count(long minute) {
+        long current = slots.get((int) Math.floorMod(minute, (long) capacity));
+        return (current >>> 32) == minute ? current & COUNT_MASK : 0;
+    }
+
+    /**
+     * 마지막으로 제출이 기록된 분
+     *
+     * @return epoch minute (기록이 없으면 Long.MIN_VALUE)
+     */
+    long lastMinute() {
+        return lastMinute.get();
+    }
+}
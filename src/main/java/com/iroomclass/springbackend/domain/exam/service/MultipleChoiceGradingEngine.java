@@ -0,0 +1,171 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import org.springframework.stereotype.Component;
+
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 객관식 자동 채점 엔진
+ *
+ * <p>정답 번호({@link Question#getCorrectChoice()})가 등록된 객관식 문제를 AI 서버를 거치지 않고
+ * 애플리케이션 내에서 결정적으로 채점합니다. 배점은 시험지 문제({@link ExamSheetQuestion#getPoints()})를 따릅니다.
+ * 정답이 등록되지 않은 객관식과 주관식은 AI 채점 대상으로 분류합니다.</p>
+ */
+@Component
+public class MultipleChoiceGradingEngine {
+
+    /**
+     * 자동 채점 방식 (ScoringMethod.AUTO와 동일한 문자열)
+     */
+    public static final String GRADING_METHOD_AUTO = "AUTO";
+
+    /**
+     * 객관식 채점 신뢰도 (100%)
+     */
+    private static final String FULL_CONFIDENCE = "1.00";
+
+    /**
+     * 부분 채점 상태 (주관식 AI 채점 결과 없음)
+     */
+    public static final String STATUS_PARTIAL = "PARTIAL";
+
+    /**
+     * 로컬 채점 가능 여부 확인
+     *
+     * @param sheetQuestion 시험지 문제
+     * @return 정답 번호가 있는 객관식이면 true
+     */
+    public boolean supports(ExamSheetQuestion sheetQuestion) {
+        Question question = sheetQuestion.getQuestion();
+        return question.isMultipleChoice() && question.getCorrectChoice() != null;
+    }
+
+    /**
+     * 답안을 로컬 채점 대상과 AI 채점 대상으로 분리
+     *
+     * @param answers        제출 답안 목록
+     * @param sheetQuestions 문제 ID별 시험지 문제
+     * @return 분리된 답안 목록
+     */
+    public AnswerPartition partition(List<SubmitAndGradeRequest.AnswerDto> answers,
+                                     Map<UUID, ExamSheetQuestion> sheetQuestions) {
+        List<SubmitAndGradeRequest.AnswerDto> objective = new ArrayList<>();
+        List<SubmitAndGradeRequest.AnswerDto> subjective = new ArrayList<>();
+
+        for (SubmitAndGradeRequest.AnswerDto answer : answers) {
+            if (supports(sheetQuestions.get(answer.questionId()))) {
+                objective.add(answer);
+            } else {
+                subjective.add(answer);
+            }
+        }
+
+        return new AnswerPartition(objective, subjective);
+    }
+
+    /**
+     * 객관식 답안 채점
+     *
+     * <p>선택한 번호가 없으면 오답(0점)으로 처리합니다.</p>
+     *
+     * @param answers        객관식 답안 목록 ({@link #partition}의 objective)
+     * @param sheetQuestions 문제 ID별 시험지 문제
+     * @return 문제별 채점 결과
+     */
+    public List<GradingResultDto.QuestionResultDto> grade(List<SubmitAndGradeRequest.AnswerDto> answers,
+                                                           Map<UUID, ExamSheetQuestion> sheetQuestions) {
+        LocalDateTime now = LocalDateTime.now();
+        List<GradingResultDto.QuestionResultDto> results = new ArrayList<>(answers.size());
+
+        for (SubmitAndGradeRequest.AnswerDto answer : answers) {
+            ExamSheetQuestion sheetQuestion = sheetQuestions.get(answer.questionId());
+            boolean correct = sheetQuestion.getQuestion().isCorrectChoice(answer.selectedChoice());
+            int points = sheetQuestion.getPoints();
+
+            results.add(new GradingResultDto.QuestionResultDto(
+                answer.questionId(),
+                null,
+                correct,
+                correct ? points : 0,
+                points,
+                GRADING_METHOD_AUTO,
+                FULL_CONFIDENCE,
+                answer.selectedChoice() == null ? "미응답" : (correct ? "정답" : "오답"),
+                now
+            ));
+        }
+
+        return results;
+    }
+
+    /**
+     * 로컬 채점 결과와 AI 채점 결과 병합
+     *
+     * @param resultId       저장된 시험 결과 ID
+     * @param submissionId   제출 ID
+     * @param examSheetId    시험지 ID
+     * @param localResults   객관식 로컬 채점 결과
+     * @param aiResult       주관식 AI 채점 결과 (AI 채점 대상이 없거나 실패한 경우 null)
+     * @param subjectiveCount AI 채점 대상 답안 수
+     * @param maxTotalScore  시험지 만점
+     * @return 병합된 채점 결과 (주관식 결과가 빠졌으면 PARTIAL 상태)
+     */
+    public GradingResultDto combine(UUID resultId, UUID submissionId, UUID examSheetId,
+                                    List<GradingResultDto.QuestionResultDto> localResults,
+                                    GradingResultDto aiResult,
+                                    int subjectiveCount, int maxTotalScore) {
+        List<GradingResultDto.QuestionResultDto> questionResults = new ArrayList<>(localResults);
+        if (aiResult != null && aiResult.questionResults() != null) {
+            questionResults.addAll(aiResult.questionResults());
+        }
+
+        int totalScore = questionResults.stream()
+            .mapToInt(qr -> qr.score() != null ? qr.score() : 0)
+            .sum();
+
+        boolean partial = subjectiveCount > 0 && aiResult == null;
+        GradingResultDto.GradingMetadataDto aiMetadata = aiResult != null ? aiResult.metadata() : null;
+
+        GradingResultDto.GradingMetadataDto metadata = new GradingResultDto.GradingMetadataDto(
+            localResults.size() + subjectiveCount,
+            localResults.size(),
+            subjectiveCount,
+            aiMetadata != null ? aiMetadata.processingTimeMs() : 0L,
+            aiMetadata != null ? aiMetadata.aiModelVersion() : null
+        );
+
+        return new GradingResultDto(
+            resultId,
+            submissionId,
+            examSheetId,
+            partial ? STATUS_PARTIAL : "COMPLETED",
+            totalScore,
+            maxTotalScore,
+            questionResults,
+            metadata,
+            aiResult != null ? aiResult.gradingComment() : null,
+            LocalDateTime.now(),
+            aiResult != null ? aiResult.version() : 1
+        );
+    }
+
+    /**
+     * 채점 대상별 답안 분리 결과
+     *
+     * @param objective  로컬 채점 대상 (정답이 등록된 객관식)
+     * @param subjective AI 채점 대상
+     */
+    public record AnswerPartition(
+        List<SubmitAndGradeRequest.AnswerDto> objective,
+        List<SubmitAndGradeRequest.AnswerDto> subjective
+    ) {}
+}
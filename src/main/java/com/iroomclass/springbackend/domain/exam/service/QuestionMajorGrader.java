@@ -0,0 +1,234 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import com.iroomclass.springbackend.config.GradingWorkerConfig;
+import com.iroomclass.springbackend.domain.exam.client.AiGradingClient;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import com.iroomclass.springbackend.domain.exam.dto.QuestionBatchGradingRequest;
+import com.iroomclass.springbackend.domain.exam.dto.QuestionBatchGradingResponse;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheet;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 문항 단위 채점기
+ *
+ * <p>여러 제출의 답안을 문제별로 묶어 채점합니다. 객관식은 로컬 채점하고,
+ * 주관식은 같은 문제의 답안을 청크 단위로 AI 서버에 일괄 요청합니다.
+ * 시험 종료 일괄 채점과 시험 전체 재채점이 공유하며, 트랜잭션 없이 워커 스레드에서 호출됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuestionMajorGrader {
+
+    private final MultipleChoiceGradingEngine multipleChoiceGradingEngine;
+    private final AiGradingClient aiGradingClient;
+    private final GradingWorkerConfig gradingWorkerConfig;
+
+    /**
+     * 답안지를 워커 스레드 전달용 스냅샷으로 변환
+     *
+     * @param answerSheet 답안 목록이 함께 조회된 답안지
+     * @return 제출별 답안 스냅샷
+     */
+    public SubmissionAnswers toSubmissionAnswers(StudentAnswerSheet answerSheet) {
+        List<SubmitAndGradeRequest.AnswerDto> answers = answerSheet.getStudentAnswerSheetQuestions().stream()
+            .map(answer -> new SubmitAndGradeRequest.AnswerDto(
+                answer.getQuestionId(), answer.getSelectedChoice(), answer.getAnswerText()))
+            .toList();
+        return new SubmissionAnswers(answerSheet.getExamSubmission().getId(), answerSheet.getId(), answers);
+    }
+
+    /**
+     * 문항 단위 채점 실행
+     *
+     * @param examId           시험 ID
+     * @param sheetQuestions   시험지 문제 목록 (시험지 순서)
+     * @param submissions      제출별 답안
+     * @param beforeAiRequest  AI 서버 요청 직전에 호출되는 훅 (요청 속도 제한 등, 필요 없으면 빈 Runnable)
+     * @return 제출별 문제 채점 결과와 AI 요청 수
+     */
+    public GradingOutcome grade(UUID examId, List<ExamSheetQuestion> sheetQuestions,
+                                List<SubmissionAnswers> submissions, Runnable beforeAiRequest) {
+        Map<UUID, ExamSheetQuestion> sheetQuestionMap = sheetQuestions.stream()
+            .collect(Collectors.toMap(esq -> esq.getQuestion().getId(), Function.identity(), (first, second) -> first));
+
+        // 문제별로 학생 답안을 모음 (시험지 순서 유지)
+        Map<UUID, List<StudentAnswer>> answersByQuestion = new LinkedHashMap<>();
+        sheetQuestions.forEach(esq -> answersByQuestion.put(esq.getQuestion().getId(), new ArrayList<>()));
+        for (SubmissionAnswers submission : submissions) {
+            for (SubmitAndGradeRequest.AnswerDto answer : submission.answers()) {
+                List<StudentAnswer> questionAnswers = answersByQuestion.get(answer.questionId());
+                if (questionAnswers != null) {
+                    questionAnswers.add(new StudentAnswer(submission.submissionId(), answer));
+                }
+            }
+        }
+
+        Map<UUID, List<GradingResultDto.QuestionResultDto>> resultsBySubmission = new HashMap<>();
+        int aiRequestCount = 0;
+
+        for (Map.Entry<UUID, List<StudentAnswer>> entry : answersByQuestion.entrySet()) {
+            ExamSheetQuestion sheetQuestion = sheetQuestionMap.get(entry.getKey());
+            List<StudentAnswer> answers = entry.getValue();
+            if (answers.isEmpty()) {
+                continue;
+            }
+
+            if (multipleChoiceGradingEngine.supports(sheetQuestion)) {
+                gradeObjectiveQuestion(answers, sheetQuestionMap, resultsBySubmission);
+            } else {
+                aiRequestCount += gradeSubjectiveQuestion(examId, sheetQuestion, answers, resultsBySubmission, beforeAiRequest);
+            }
+        }
+
+        return new GradingOutcome(resultsBySubmission, aiRequestCount);
+    }
+
+    /**
+     * 객관식 문항 로컬 채점
+     */
+    private void gradeObjectiveQuestion(List<StudentAnswer> answers,
+                                        Map<UUID, ExamSheetQuestion> sheetQuestionMap,
+                                        Map<UUID, List<GradingResultDto.QuestionResultDto>> resultsBySubmission) {
+        List<GradingResultDto.QuestionResultDto> results = multipleChoiceGradingEngine.grade(
+            answers.stream().map(StudentAnswer::answer).toList(), sheetQuestionMap);
+
+        for (int i = 0; i < answers.size(); i++) {
+            resultsBySubmission.computeIfAbsent(answers.get(i).submissionId(), id -> new ArrayList<>())
+                .add(results.get(i));
+        }
+    }
+
+    /**
+     * 주관식 문항 AI 일괄 채점 (청크 단위)
+     *
+     * <p>청크 요청이 실패하면 해당 청크의 답안은 미채점으로 남고 나머지 청크는 계속 진행합니다.</p>
+     *
+     * @return AI 서버 요청 수
+     */
+    private int gradeSubjectiveQuestion(UUID examId, ExamSheetQuestion sheetQuestion,
+                                        List<StudentAnswer> answers,
+                                        Map<UUID, List<GradingResultDto.QuestionResultDto>> resultsBySubmission,
+                                        Runnable beforeAiRequest) {
+        Question question = sheetQuestion.getQuestion();
+        int chunkSize = Math.max(1, gradingWorkerConfig.getBatchChunkSize());
+        int requestCount = 0;
+
+        for (int from = 0; from < answers.size(); from += chunkSize) {
+            List<StudentAnswer> chunk = answers.subList(from, Math.min(from + chunkSize, answers.size()));
+            Set<UUID> chunkSubmissionIds = chunk.stream()
+                .map(StudentAnswer::submissionId)
+                .collect(Collectors.toSet());
+
+            QuestionBatchGradingRequest request = new QuestionBatchGradingRequest(
+                examId,
+                question.getId(),
+                question.getQuestionText(),
+                question.getAnswerText(),
+                question.getScoringRubric(),
+                sheetQuestion.getPoints(),
+                chunk.stream()
+                    .map(sa -> new QuestionBatchGradingRequest.AnswerItem(
+                        sa.submissionId(), sa.answer().answerText(), sa.answer().selectedChoice()))
+                    .toList()
+            );
+
+            beforeAiRequest.run();
+            requestCount++;
+            QuestionBatchGradingResponse response;
+            try {
+                response = aiGradingClient.requestQuestionBatchGrading(request);
+            } catch (Exception e) {
+                log.warn("문항 일괄 채점 청크 실패, 해당 답안 미채점 유지: questionId={}, chunkSize={}, error={}",
+                    question.getId(), chunk.size(), e.getMessage());
+                continue;
+            }
+
+            if (response == null || response.results() == null) {
+                continue;
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            for (QuestionBatchGradingResponse.ResultItem item : response.results()) {
+                if (!chunkSubmissionIds.contains(item.submissionId())) {
+                    continue;
+                }
+                resultsBySubmission.computeIfAbsent(item.submissionId(), id -> new ArrayList<>())
+                    .add(new GradingResultDto.QuestionResultDto(
+                        question.getId(),
+                        null,
+                        item.isCorrect(),
+                        item.score(),
+                        sheetQuestion.getPoints(),
+                        "AI",
+                        item.confidenceScore(),
+                        item.scoringComment(),
+                        now
+                    ));
+            }
+        }
+
+        return requestCount;
+    }
+
+    /**
+     * 제출별 답안 스냅샷 (워커 스레드 전달용)
+     *
+     * @param submissionId  제출 ID
+     * @param answerSheetId 학생 답안지 ID
+     * @param answers       제출 답안 목록
+     */
+    public record SubmissionAnswers(
+        UUID submissionId,
+        UUID answerSheetId,
+        List<SubmitAndGradeRequest.AnswerDto> answers
+    ) {
+
+        /**
+         * 채점 결과와 결합하여 결과 저장 단위로 변환
+         */
+        public GradingResultWriter.SubmissionGrading toGrading(GradingOutcome outcome) {
+            return new GradingResultWriter.SubmissionGrading(
+                submissionId,
+                answerSheetId,
+                answers.size(),
+                outcome.resultsBySubmission().getOrDefault(submissionId, List.of()));
+        }
+    }
+
+    /**
+     * 문항 단위 채점 결과
+     *
+     * @param resultsBySubmission 제출 ID별 문제 채점 결과
+     * @param aiRequestCount      AI 서버 요청 수
+     */
+    public record GradingOutcome(
+        Map<UUID, List<GradingResultDto.QuestionResultDto>> resultsBySubmission,
+        int aiRequestCount
+    ) {}
+
+    /**
+     * 문항별로 묶인 학생 답안
+     */
+    private record StudentAnswer(
+        UUID submissionId,
+        SubmitAndGradeRequest.AnswerDto answer
+    ) {}
+}
@@ -0,0 +1,189 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.domain.exam.entity.StudentPerformanceProfile;
+import com.iroomclass.springbackend.domain.exam.entity.StudentUnitStats;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+import com.iroomclass.springbackend.domain.exam.repository.StudentPerformanceProfileRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentPerformanceUpdateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.StudentPerformanceUpdateRepository.StudentUnitCount;
+import com.iroomclass.springbackend.domain.exam.repository.StudentPerformanceUpdateRepository.SubmissionGrade;
+import com.iroomclass.springbackend.domain.exam.repository.StudentUnitStatsRepository;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 학생별 성적 프로필 서비스
+ *
+ * <p>최신 결과 포인터가 이동할 때마다 학생 프로필의 응시 시험 수/점수 합계/최근 학년과
+ * 학생별 단원 응답 수/정답 수를 증분 갱신합니다. 이전 결과의 점수와 문항 응답은 빼고 새 결과의 값을 더하며,
+ * 처음 채점 완료된 제출만 응시 시험 수와 최근 학년에 반영합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class StudentPerformanceService {
+
+    private static final Comparator<StudentUnitStats.Key> UNIT_KEY_ORDER = Comparator
+        .comparing(StudentUnitStats.Key::getStudentId)
+        .thenComparing(StudentUnitStats.Key::getUnitId);
+
+    private final StudentPerformanceProfileRepository studentPerformanceProfileRepository;
+    private final StudentUnitStatsRepository studentUnitStatsRepository;
+    private final StudentPerformanceUpdateRepository studentPerformanceUpdateRepository;
+
+    /**
+     * 최신 결과 포인터 이동 내역을 학생 프로필과 학생별 단원 집계에 반영
+     *
+     * <p>결과 완료/재채점 트랜잭션 안에서, 문항별 결과가 flush 된 뒤 호출됩니다.
+     * 동시에 채점되는 트랜잭션끼리 행 잠금 순서가 엇갈려 교착 상태가 생기지 않도록
+     * 프로필은 학생 ID 순, 단원 집계는 (학생 ID, 단원 ID) 순으로 반영합니다.</p>
+     *
+     * @param changes 포인터 이동 내역
+     */
+    @Transactional
+    public void applyLatestResultChanges(List<LatestResultChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        // 처음 채점 완료된 제출만 응시 시험 수와 최근 학년에 영향을 주므로 해당 제출의 학년만 조회
+        Map<UUID, SubmissionGrade> newSubmissions = studentPerformanceUpdateRepository
+            .findSubmissionGrades(changes.stream()
+                .filter(change -> change.previousResultId() == null)
+                .map(LatestResultChange::submissionId)
+                .toList())
+            .stream()
+            .collect(Collectors.toMap(SubmissionGrade::submissionId, Function.identity()));
+
+        Map<Long, ProfileDelta> profileDeltas = new TreeMap<>();
+        List<UUID> addedResultIds = new ArrayList<>();
+        List<UUID> removedResultIds = new ArrayList<>();
+        for (LatestResultChange change : changes) {
+            profileDeltas.computeIfAbsent(change.studentId(), id -> new ProfileDelta())
+                .add(change, newSubmissions.get(change.submissionId()));
+            addedResultIds.add(change.resultId());
+            if (change.previousResultId() != null) {
+                removedResultIds.add(change.previousResultId());
+            }
+        }
+
+        profileDeltas.forEach((studentId, delta) -> studentPerformanceUpdateRepository.applyProfileDelta(
+            studentId, delta.examCount, delta.scoreSum,
+            delta.latest != null ? delta.latest.grade() : null,
+            delta.latest != null ? delta.latest.submittedAt() : null));
+
+        Map<StudentUnitStats.Key, UnitDelta> unitDeltas = new TreeMap<>(UNIT_KEY_ORDER);
+        for (StudentUnitCount count : studentPerformanceUpdateRepository.countByStudentAndUnit(addedResultIds)) {
+            unitDeltas.computeIfAbsent(new StudentUnitStats.Key(count.studentId(), count.unitId()),
+                key -> new UnitDelta()).add(count, 1);
+        }
+        for (StudentUnitCount count : studentPerformanceUpdateRepository.countByStudentAndUnit(removedResultIds)) {
+            unitDeltas.computeIfAbsent(new StudentUnitStats.Key(count.studentId(), count.unitId()),
+                key -> new UnitDelta()).add(count, -1);
+        }
+
+        unitDeltas.forEach((key, delta) -> {
+            if (delta.attempts != 0 || delta.corrects != 0) {
+                studentPerformanceUpdateRepository.applyUnitDelta(
+                    key.getStudentId(), key.getUnitId(), delta.attempts, delta.corrects);
+            }
+        });
+    }
+
+    /**
+     * 학생 프로필 조회 (기본키 조회)
+     *
+     * @param studentId 학생 ID
+     * @return 학생 프로필 (채점 완료된 시험이 없으면 empty)
+     */
+    public Optional<StudentPerformanceProfile> getProfile(Long studentId) {
+        return studentPerformanceProfileRepository.findById(studentId);
+    }
+
+    /**
+     * 학생의 단원별 정답 집계 조회
+     *
+     * @param studentId 학생 ID
+     * @return 단원별 응답 수와 정답 수 (단원 ID순)
+     */
+    public List<StudentUnitStats> getUnitStats(Long studentId) {
+        return studentUnitStatsRepository.findByStudentIdOrderByUnitId(studentId);
+    }
+
+    /**
+     * 프로필 행 존재 여부 확인
+     *
+     * @return 프로필 행이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return studentPerformanceProfileRepository.count() == 0;
+    }
+
+    /**
+     * 전체 학생 프로필과 학생별 단원 집계 재생성
+     *
+     * <p>최신 결과 포인터 기준으로 모든 행을 다시 계산합니다. 프로필 도입 이전 결과의 백필이나
+     * 증분 갱신 누락이 의심될 때 사용합니다.</p>
+     *
+     * @return 재생성된 학생 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int rebuilt = studentPerformanceUpdateRepository.rebuildAll();
+        log.info("학생별 성적 프로필 재생성 완료: students={}", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 학생 프로필 증감분
+     */
+    private static final class ProfileDelta {
+
+        private long examCount;
+        private long scoreSum;
+        private SubmissionGrade latest;
+
+        void add(LatestResultChange change, SubmissionGrade newSubmission) {
+            scoreSum += change.newScore();
+            if (change.previousScore() != null) {
+                scoreSum -= change.previousScore();
+            }
+            if (change.previousResultId() != null) {
+                return;
+            }
+            examCount++;
+            if (newSubmission != null
+                    && (latest == null || !newSubmission.submittedAt().isBefore(latest.submittedAt()))) {
+                latest = newSubmission;
+            }
+        }
+    }
+
+    /**
+     * 학생별 단원 집계 증감분
+     */
+    private static final class UnitDelta {
+
+        private long attempts;
+        private long corrects;
+
+        void add(StudentUnitCount count, int sign) {
+            attempts += sign * count.attempts();
+            corrects += sign * count.corrects();
+        }
+    }
+}
@@ -0,0 +1,294 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.iroomclass.springbackend.common.exception.TooManyRequestsException;
+import com.iroomclass.springbackend.config.SubmissionAdmissionConfig;
+import com.iroomclass.springbackend.domain.exam.dto.SubmissionAdmissionMetricsDto;
+
+import jakarta.annotation.PostConstruct;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 답안 제출 수용 제어기
+ *
+ * <p>시험 종료 직후 몰리는 제출을 트랜잭션 시작 전에 계량합니다.</p>
+ * <ul>
+ * <li>토큰 버킷: 초당 처리량을 제한하고, 토큰이 없으면 다음 토큰 시각까지 대기시켜 버스트를 평탄화</li>
+ * <li>대기열 상한: 대기 중인 제출이 상한을 넘으면 기다리지 않고 즉시 429 + Retry-After</li>
+ * <li>시험별 동시 처리 수: 한 시험의 제출이 DB 커넥션 풀을 독점하지 않도록 제한</li>
+ * </ul>
+ *
+ * <p>대기는 서블릿 스레드에서 이루어지지만 DB 커넥션은 수용 이후 서비스 트랜잭션에서만 사용하므로,
+ * 제출 폭주가 커넥션 풀 고갈로 번져 교사 대시보드 조회까지 막히는 것을 방지합니다.
+ * 대기열 크기는 Tomcat 최대 스레드 수의 일부로 제한하여, 대기 중인 제출이 서블릿 스레드를 모두 점유해
+ * 대시보드/SSE 등 다른 요청이 막히지 않도록 합니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionAdmissionGate {
+
+    private final SubmissionAdmissionConfig admissionConfig;
+
+    private final Map<UUID, ExamSlots> examSlots = new ConcurrentHashMap<>();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong admittedTotal = new AtomicLong();
+    private final AtomicLong rejectedTotal = new AtomicLong();
+    private final AtomicLong waitNanosTotal = new AtomicLong();
+    private final AtomicLong waitNanosMax = new AtomicLong();
+
+    @Value("${server.tomcat.threads.max:200}")
+    private int servletMaxThreads;
+
+    private TokenBucket tokenBucket;
+    private int maxQueueSize;
+
+    @PostConstruct
+    void init() {
+        tokenBucket = new TokenBucket(admissionConfig.getPermitsPerSecond(), admissionConfig.getBurstCapacity());
+
+        int threadBound = Math.max(1, (int) (servletMaxThreads * admissionConfig.getMaxQueueThreadShare()));
+        maxQueueSize = Math.max(1, Math.min(admissionConfig.getMaxQueueSize(), threadBound));
+        if (maxQueueSize < admissionConfig.getMaxQueueSize()) {
+            log.warn("제출 대기열 크기가 서블릿 스레드 상한을 넘어 줄여서 적용: configured={}, applied={}, tomcatMaxThreads={}",
+                admissionConfig.getMaxQueueSize(), maxQueueSize, servletMaxThreads);
+        }
+    }
+
+    /**
+     * 제출 처리 권한 획득
+     *
+     * <p>반환된 {@link Permit}은 제출 처리가 끝나면 반드시 닫아야 합니다 (try-with-resources).</p>
+     *
+     * @param examId 시험 ID
+     * @return 처리 권한
+     * @throws TooManyRequestsException 대기열이 가득 찼거나 최대 대기 시간 안에 처리 권한을 얻지 못한 경우
+     */
+    public Permit acquire(UUID examId) {
+        if (!admissionConfig.isEnabled()) {
+            return Permit.NOOP;
+        }
+
+        if (queueDepth.incrementAndGet() > maxQueueSize) {
+            queueDepth.decrementAndGet();
+            throw reject("제출 요청이 많아 대기열이 가득 찼습니다. 잠시 후 다시 제출해주세요");
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(admissionConfig.getMaxWaitMillis());
+        Semaphore slots = joinExamSlots(examId);
+        boolean slotAcquired = false;
+        boolean admitted = false;
+
+        try {
+            if (!slots.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                throw reject("같은 시험의 제출이 많아 처리하지 못했습니다. 잠시 후 다시 제출해주세요");
+            }
+            slotAcquired = true;
+
+            long waitNanos = tokenBucket.reserve(deadline);
+            if (waitNanos < 0) {
+                throw reject("제출 요청이 많아 처리하지 못했습니다. 잠시 후 다시 제출해주세요");
+            }
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+            admitted = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw reject("제출 대기 중 요청이 중단되었습니다");
+        } finally {
+            queueDepth.decrementAndGet();
+            if (!admitted) {
+                if (slotAcquired) {
+                    slots.release();
+                }
+                leaveExamSlots(examId);
+            }
+        }
+
+        recordWait(System.nanoTime() - startedAt);
+        inFlight.incrementAndGet();
+        return new Permit(() -> {
+            inFlight.decrementAndGet();
+            slots.release();
+            leaveExamSlots(examId);
+        });
+    }
+
+    /**
+     * 시험별 세마포어 참여 (없으면 생성)
+     *
+     * <p>참여 수 증가를 맵의 compute 안에서 처리하므로, 정리 작업이 세마포어를 제거하는 것과 원자적으로 구분됩니다.
+     * 제거된 세마포어를 받은 요청이 새로 만들어진 세마포어와 함께 동시 처리 수 제한을 두 배로 늘리는 경우가 없습니다.</p>
+     */
+    private Semaphore joinExamSlots(UUID examId) {
+        return examSlots.compute(examId, (id, existing) -> {
+            ExamSlots joined = existing != null ? existing
+                : new ExamSlots(new Semaphore(Math.max(1, admissionConfig.getPerExamConcurrency()), true));
+            joined.holders++;
+            return joined;
+        }).semaphore();
+    }
+
+    /**
+     * 시험별 세마포어 참여 종료 (대기 실패 또는 처리 완료)
+     */
+    private void leaveExamSlots(UUID examId) {
+        examSlots.computeIfPresent(examId, (id, joined) -> {
+            joined.holders--;
+            return joined;
+        });
+    }
+
+    /**
+     * 수용 제어 지표 조회
+     *
+     * @return 현재 대기열/처리 중 수와 누적 대기 시간 통계
+     */
+    public SubmissionAdmissionMetricsDto getMetrics() {
+        long admitted = admittedTotal.get();
+        double averageWaitMillis = admitted == 0 ? 0.0
+            : waitNanosTotal.get() / (double) admitted / 1_000_000.0;
+        return new SubmissionAdmissionMetricsDto(
+            queueDepth.get(),
+            maxQueueSize,
+            inFlight.get(),
+            admitted,
+            rejectedTotal.get(),
+            Math.round(averageWaitMillis * 10) / 10.0,
+            TimeUnit.NANOSECONDS.toMillis(waitNanosMax.get())
+        );
+    }
+
+    /**
+     * 사용하지 않는 시험별 세마포어 정리 및 대기 중 지표 로그 (1분마다)
+     */
+    @Scheduled(fixedDelay = 60 * 1000L)
+    public void evictIdleExamSlots() {
+        // 참여 수 확인과 제거를 computeIfPresent 안에서 원자적으로 처리
+        for (UUID examId : examSlots.keySet()) {
+            examSlots.computeIfPresent(examId, (id, joined) -> joined.holders == 0 ? null : joined);
+        }
+
+        if (queueDepth.get() > 0 || inFlight.get() > 0) {
+            log.info("제출 수용 제어 현황: {}", getMetrics());
+        }
+    }
+
+    private TooManyRequestsException reject(String message) {
+        rejectedTotal.incrementAndGet();
+        double permitsPerSecond = Math.max(admissionConfig.getPermitsPerSecond(), 0.1);
+        long retryAfterSeconds = Math.max(1L, (long) Math.ceil((queueDepth.get() + 1) / permitsPerSecond));
+        return new TooManyRequestsException(message, retryAfterSeconds);
+    }
+
+    private void recordWait(long waitNanos) {
+        admittedTotal.incrementAndGet();
+        waitNanosTotal.addAndGet(waitNanos);
+        waitNanosMax.accumulateAndGet(waitNanos, Math::max);
+    }
+
+    /**
+     * 제출 처리 권한
+     *
+     * <p>닫으면 시험별 동시 처리 슬롯을 반환합니다.</p>
+     */
+    public static final class Permit implements AutoCloseable {
+
+        static final Permit NOOP = new Permit(null);
+
+        private final Runnable onClose;
+        private boolean released;
+
+        private Permit(Runnable onClose) {
+            this.onClose = onClose;
+        }
+
+        @Override
+        public void close() {
+            if (onClose == null || released) {
+                return;
+            }
+            released = true;
+            onClose.run();
+        }
+    }
+
+    /**
+     * 시험별 동시 처리 세마포어와 참여 수
+     *
+     * <p>참여 수는 대기 중이거나 처리 중인 요청 수이며, 맵의 compute/computeIfPresent 안에서만 읽고 씁니다.</p>
+     */
+    private static final class ExamSlots {
+
+        private final Semaphore semaphore;
+        private int holders;
+
+        ExamSlots(Semaphore semaphore) {
+            this.semaphore = semaphore;
+        }
+
+        Semaphore semaphore() {
+            return semaphore;
+        }
+    }
+
+    /**
+     * 예약형 토큰 버킷
+     *
+     * <p>토큰이 없으면 다음 토큰이 생길 시각을 미리 예약(토큰을 음수로 차감)하고 대기 시간을 돌려주므로,
+     * 대기 중인 요청들이 토큰 보충 속도에 맞춰 일정한 간격으로 풀려납니다.</p>
+     */
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double permitsPerSecond, int burstCapacity) {
+            this.permitsPerNano = Math.max(permitsPerSecond, 0.1) / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burstCapacity);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * 토큰 1개 예약
+         *
+         * @param deadlineNanos 대기 허용 한계 시각 (System.nanoTime 기준)
+         * @return 토큰 사용 가능까지 대기할 시간 (나노초), 한계 시각을 넘으면 -1
+         */
+        synchronized long reserve(long deadlineNanos) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * permitsPerNano);
+            lastRefillNanos = now;
+
+            if (tokens >= 1.0) {
+                tokens -= 1.0;
+                return 0L;
+            }
+
+            long waitNanos = (long) Math.ceil((1.0 - tokens) / permitsPerNano);
+            if (now + waitNanos > deadlineNanos) {
+                return -1L;
+            }
+            tokens -= 1.0;
+            return waitNanos;
+        }
+    }
+}
@@ -0,0 +1,285 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import com.iroomclass.springbackend.config.SubmissionTimelineConfig;
+import com.iroomclass.springbackend.domain.exam.event.ExamSubmittedEvent;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionTimelineRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 시험별 분 단위 제출 시계열 서비스
+ *
+ * <p>시험마다 {@link MinuteRingBuffer}를 두고 제출 커밋 이벤트로 해당 분의 제출 수를 증가시킵니다.
+ * 조회는 메모리에서 분 슬롯을 요청한 해상도로 합산하므로 DB를 읽지 않습니다.
+ * 시험 생성 시각이 보관 기간보다 오래된 시험은 버퍼가 전체 기간을 담고 있지 않으므로
+ * 해당 시험의 제출 시간만 DB에서 읽어 같은 방식으로 합산합니다.</p>
+ *
+ * <p>제출 이벤트는 제출을 받은 노드에서만 발행되므로, 여러 노드로 운영하면 각 노드의 버퍼에는 자기 노드의 제출만 쌓입니다.
+ * 이를 보정하기 위해 애플리케이션 준비 후와 주기적으로(reseed-interval-ms) 보관 기간 안의 제출을 DB에서 다시 읽어 버퍼를 교체합니다.
+ * 재적재 중 받은 이벤트는 제출 시간과 관계없이 모두 다시 반영하되 스캔에서 이미 읽은 제출 ID는 건너뛰므로,
+ * 재적재 시작 전 시각으로 기록되었지만 스캔 이후 커밋된 제출도 빠지지 않고 같은 제출이 두 번 세어지지도 않습니다.
+ * 다른 노드의 제출은 다음 재적재까지 최대 한 주기만큼 늦게 반영됩니다.
+ * 분은 시스템 시간대 기준 LocalDateTime을 그대로 분 단위로 나눈 값이며, 해상도 구간도 같은 기준(정시 정렬)으로 나뉩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SubmissionTimelineService {
+
+    /**
+     * 지원하는 해상도 (분)
+     */
+    public static final Set<Integer> SUPPORTED_RESOLUTIONS = Set.of(1, 5, 10, 15, 30, 60);
+
+    private final SubmissionTimelineConfig submissionTimelineConfig;
+    private final ExamSubmissionTimelineRepository examSubmissionTimelineRepository;
+    private final ExamSubmissionRepository examSubmissionRepository;
+
+    /**
+     * 버퍼 교체와 이벤트 반영 사이의 잠금 (이벤트끼리는 동시에 반영, 교체 시에만 배타)
+     */
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+
+    private volatile ConcurrentMap<UUID, MinuteRingBuffer> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * 재적재 중 받은 제출 (재적재 중이 아니면 null)
+     */
+    private volatile Queue<PendingSubmission> pendingDuringReseed;
+
+    @PostConstruct
+    void init() {
+        if (submissionTimelineConfig.getRetentionMinutes() <= 0) {
+            throw new IllegalStateException("submission.timeline.retention-minutes는 1 이상이어야 합니다");
+        }
+    }
+
+    /**
+     * 애플리케이션 준비 후 보관 기간 안의 제출을 DB에서 재적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rehydrateOnStartup() {
+        reseed();
+    }
+
+    /**
+     * 주기적 재적재 (다른 노드에서 받은 제출 반영)
+     */
+    @Scheduled(initialDelayString = "${submission.timeline.reseed-interval-ms:300000}",
+            fixedDelayString = "${submission.timeline.reseed-interval-ms:300000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void scheduledReseed() {
+        reseed();
+    }
+
+    /**
+     * 보관 기간 안의 제출 전체 스캔으로 버퍼 재적재
+     *
+     * <p>복제 지연으로 최근 제출이 빠지지 않도록 트랜잭션 없이(primary에서) 스캔합니다.
+     * 이미 재적재 중이면 아무것도 하지 않고, 스캔이 실패하면 기존 버퍼를 유지합니다.</p>
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void reseed() {
+        LocalDateTime scanUntil;
+        swapLock.writeLock().lock();
+        try {
+            if (pendingDuringReseed != null) {
+                return;
+            }
+            pendingDuringReseed = new ConcurrentLinkedQueue<>();
+            scanUntil = LocalDateTime.now();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            ConcurrentMap<UUID, MinuteRingBuffer> fresh = new ConcurrentHashMap<>();
+            Set<UUID> scannedSubmissionIds = new HashSet<>();
+            LocalDateTime from = scanUntil.minusMinutes(submissionTimelineConfig.getRetentionMinutes());
+            long rows = examSubmissionTimelineRepository.scanSubmittedBetween(from, scanUntil,
+                submissionTimelineConfig.getScanFetchSize(), (submissionId, examId, submittedAt) -> {
+                    scannedSubmissionIds.add(submissionId);
+                    record(fresh, examId, submittedAt);
+                });
+
+            swapLock.writeLock().lock();
+            try {
+                // 재적재 중 받은 이벤트는 모두 반영하되, 스캔에서 이미 센 제출(및 중복 이벤트)은 건너뜀
+                for (PendingSubmission pending : pendingDuringReseed) {
+                    if (pending.submissionId() == null || scannedSubmissionIds.add(pending.submissionId())) {
+                        record(fresh, pending.examId(), pending.submittedAt());
+                    }
+                }
+                buffers = fresh;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            log.info("제출 시계열 재적재 완료: exams={}, submissions={}, elapsed={}ms",
+                fresh.size(), rows, System.currentTimeMillis() - startTime);
+        } catch (RuntimeException e) {
+            log.error("제출 시계열 재적재 실패, 기존 버퍼 유지: {}", e.getMessage(), e);
+        } finally {
+            swapLock.writeLock().lock();
+            try {
+                pendingDuringReseed = null;
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * 새 제출 커밋 시 해당 분의 제출 수 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExamSubmitted(ExamSubmittedEvent event) {
+        if (event.submittedAt() == null) {
+            return;
+        }
+        swapLock.readLock().lock();
+        try {
+            record(buffers, event.examId(), event.submittedAt());
+            Queue<PendingSubmission> pending = pendingDuringReseed;
+            if (pending != null) {
+                pending.add(new PendingSubmission(event.submissionId(), event.examId(), event.submittedAt()));
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 보관 기간 동안 제출이 없는 시험의 버퍼 제거
+     *
+     * <p>제출 반영과 같은 키 단위 원자 연산(compute)으로 제거하므로, 제거 판단 직후 들어온 제출이 사라지지 않습니다.</p>
+     */
+    @Scheduled(fixedDelayString = "${submission.timeline.evict-interval-ms:600000}")
+    public void evictIdle() {
+        long oldestMinute = toMinute(LocalDateTime.now()) - submissionTimelineConfig.getRetentionMinutes();
+        ConcurrentMap<UUID, MinuteRingBuffer> current = buffers;
+        int removed = 0;
+        for (UUID examId : current.keySet()) {
+            boolean[] evicted = {false};
+            current.computeIfPresent(examId, (id, buffer) -> {
+                if (buffer.lastMinute() < oldestMinute) {
+                    evicted[0] = true;
+                    return null;
+                }
+                return buffer;
+            });
+            if (evicted[0]) {
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            log.debug("제출 시계열 버퍼 제거: removed={}, remaining={}", removed, current.size());
+        }
+    }
+
+    /**
+     * 시험의 제출 시계열 조회 (제출이 있는 구간만, 시간 오름차순)
+     *
+     * @param examId            시험 ID
+     * @param examCreatedAt     시험 생성 시각 (조회 시작 기준)
+     * @param resolutionMinutes 구간 길이 (분, {@link #SUPPORTED_RESOLUTIONS} 중 하나)
+     * @return 구간별 제출 수
+     * @throws IllegalArgumentException 지원하지 않는 해상도인 경우
+     */
+    public List<TimelineBucket> getTimeline(UUID examId, LocalDateTime examCreatedAt, int resolutionMinutes) {
+        if (!SUPPORTED_RESOLUTIONS.contains(resolutionMinutes)) {
+            throw new IllegalArgumentException("지원하지 않는 해상도입니다: " + resolutionMinutes);
+        }
+
+        long nowMinute = toMinute(LocalDateTime.now());
+        long oldestMinute = nowMinute - submissionTimelineConfig.getRetentionMinutes() + 1;
+        Map<Long, Long> counts = new TreeMap<>();
+
+        if (examCreatedAt != null && toMinute(examCreatedAt) >= oldestMinute) {
+            // 시험 전체 기간이 버퍼 보관 기간 안에 있음
+            MinuteRingBuffer buffer = buffers.get(examId);
+            if (buffer != null) {
+                for (long minute = toMinute(examCreatedAt); minute <= nowMinute; minute++) {
+                    long count = buffer.count(minute);
+                    if (count > 0) {
+                        counts.merge(bucketStart(minute, resolutionMinutes), count, Long::sum);
+                    }
+                }
+            }
+        } else {
+            // 보관 기간보다 오래된 시험은 제출 시간만 DB에서 조회
+            for (LocalDateTime submittedAt : examSubmissionRepository.findSubmittedAtByExamId(examId)) {
+                counts.merge(bucketStart(toMinute(submittedAt), resolutionMinutes), 1L, Long::sum);
+            }
+        }
+
+        List<TimelineBucket> buckets = new ArrayList<>(counts.size());
+        counts.forEach((minute, count) -> buckets.add(new TimelineBucket(fromMinute(minute), count)));
+        return buckets;
+    }
+
+    /**
+     * 시험 버퍼에 제출 1건 반영 (버퍼 생성과 증가를 키 단위 원자 연산으로 처리)
+     */
+    private void record(ConcurrentMap<UUID, MinuteRingBuffer> target, UUID examId, LocalDateTime submittedAt) {
+        long minute = toMinute(submittedAt);
+        target.compute(examId, (id, buffer) -> {
+            MinuteRingBuffer result = buffer != null
+                ? buffer
+                : new MinuteRingBuffer(submissionTimelineConfig.getRetentionMinutes());
+            result.add(minute, 1);
+            return result;
+        });
+    }
+
+    private static long bucketStart(long minute, int resolutionMinutes) {
+        return Math.floorDiv(minute, resolutionMinutes) * resolutionMinutes;
+    }
+
+    private static long toMinute(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), 60);
+    }
+
+    private static LocalDateTime fromMinute(long minute) {
+        return LocalDateTime.ofEpochSecond(minute * 60, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * 시계열 구간
+     *
+     * @param start 구간 시작 시각
+     * @param count 구간 제출 수
+     */
+    public record TimelineBucket(LocalDateTime start, long count) {}
+
+    private record PendingSubmission(UUID submissionId, UUID examId, LocalDateTime submittedAt) {}
+}
@@ -0,0 +1,113 @@
+package com.iroomclass.springbackend.domain.exam.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+import com.iroomclass.springbackend.domain.exam.repository.UnitAnswerStatsRepository;
+import com.iroomclass.springbackend.domain.exam.repository.UnitAnswerStatsUpdateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.UnitAnswerStatsUpdateRepository.UnitAnswerCount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * 단원별 문항 응답 집계 서비스
+ *
+ * <p>최신 결과 포인터가 이동할 때마다 새 최신 결과의 문항 응답을 단원별로 더하고,
+ * 대체된 이전 결과의 문항 응답을 뺍니다. 두 결과의 단원별 개수는 각각 한 번의 GROUP BY 조회로 구합니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class UnitAnswerStatsService {
+
+    private final UnitAnswerStatsRepository unitAnswerStatsRepository;
+    private final UnitAnswerStatsUpdateRepository unitAnswerStatsUpdateRepository;
+
+    /**
+     * 최신 결과 포인터 이동 내역을 단원별 집계에 반영
+     *
+     * <p>결과 완료/재채점 트랜잭션 안에서, 문항별 결과가 flush 된 뒤 호출됩니다.
+     * 동시에 채점되는 트랜잭션끼리 단원 행 잠금 순서가 엇갈려 교착 상태가 생기지 않도록 단원 ID 순으로 반영합니다.</p>
+     *
+     * @param changes 포인터 이동 내역
+     */
+    @Transactional
+    public void applyLatestResultChanges(List<LatestResultChange> changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+
+        List<UUID> addedResultIds = new ArrayList<>();
+        List<UUID> removedResultIds = new ArrayList<>();
+        for (LatestResultChange change : changes) {
+            addedResultIds.add(change.resultId());
+            if (change.previousResultId() != null) {
+                removedResultIds.add(change.previousResultId());
+            }
+        }
+
+        Map<UUID, Delta> deltas = new TreeMap<>();
+        for (UnitAnswerCount count : unitAnswerStatsUpdateRepository.countByUnit(addedResultIds)) {
+            deltas.computeIfAbsent(count.unitId(), id -> new Delta(count.grade())).add(count, 1);
+        }
+        for (UnitAnswerCount count : unitAnswerStatsUpdateRepository.countByUnit(removedResultIds)) {
+            deltas.computeIfAbsent(count.unitId(), id -> new Delta(count.grade())).add(count, -1);
+        }
+
+        deltas.forEach((unitId, delta) -> {
+            if (delta.attempts != 0 || delta.wrongs != 0) {
+                unitAnswerStatsUpdateRepository.applyDelta(unitId, delta.grade, delta.attempts, delta.wrongs);
+            }
+        });
+    }
+
+    /**
+     * 집계 행 존재 여부 확인
+     *
+     * @return 집계 행이 하나도 없으면 true
+     */
+    public boolean isEmpty() {
+        return unitAnswerStatsRepository.count() == 0;
+    }
+
+    /**
+     * 전체 단원 집계 재생성
+     *
+     * <p>최신 결과 포인터 기준으로 모든 집계 행을 다시 계산합니다.</p>
+     *
+     * @return 재생성된 단원 수
+     */
+    @Transactional
+    public int rebuildAll() {
+        int rebuilt = unitAnswerStatsUpdateRepository.rebuildAll();
+        log.info("단원별 문항 응답 집계 재생성 완료: units={}", rebuilt);
+        return rebuilt;
+    }
+
+    /**
+     * 단원별 집계 증감분
+     */
+    private static final class Delta {
+
+        private final Integer grade;
+        private long attempts;
+        private long wrongs;
+
+        Delta(Integer grade) {
+            this.grade = grade;
+        }
+
+        void add(UnitAnswerCount count, int sign) {
+            attempts += sign * count.attempts();
+            wrongs += sign * count.wrongs();
+        }
+    }
+}
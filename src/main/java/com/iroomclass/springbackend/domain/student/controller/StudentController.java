@@ -322,15 +322,16 @@ public class StudentController {
             - 전화번호
             - 생년월일
             - 최근 응시 학년 정보
+            - 응시 시험 수, 평균 점수
             - 계정 생성/수정 일시
             
             학년 정보:
-            - 가장 최근에 응시한 시험의 학년 정보
-            - 응시 기록이 없으면 null 반환
+            - 가장 최근에 응시해 채점이 완료된 시험의 학년 정보
+            - 채점 완료된 응시 기록이 없으면 null 반환
             
             참고사항:
             - Student 엔터티에는 학년 필드가 없음
-            - Exam.grade 필드를 통해 동적으로 판단
+            - 학년/응시 시험 수/평균 점수는 채점 완료 시 갱신되는 학생별 성적 프로필에서 조회
             """,
         requestBody = @io.swagger.v3.oas.annotations.parameters.RequestBody(
             description = "학생 정보",
@@ -1,5 +1,7 @@
 package com.iroomclass.springbackend.domain.student.dto.response;
 
+import com.iroomclass.springbackend.domain.exam.entity.StudentPerformanceProfile;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 
 import java.time.LocalDate;
@@ -8,7 +10,7 @@ import java.time.LocalDate;
  * 학생 정보 응답 DTO
  * 
  * <p>학생의 기본 정보를 담는 DTO입니다.
- * 이름, 전화번호, 생년월일, 학년 정보를 제공합니다.</p>
+ * 이름, 전화번호, 생년월일, 학년 정보와 응시 시험 수, 평균 점수를 제공합니다.</p>
  * 
  * @author 이룸클래스
  * @since 2025
@@ -18,7 +20,9 @@ import java.time.LocalDate;
       "name": "홍길동",
       "phone": "010-1234-5678",
       "birthDate": "2000-01-01",
-      "grade": 2
+      "grade": 2,
+      "examCount": 5,
+      "averageScore": 82.4
     }
     """)
 public record StudentInfoDto(
@@ -32,8 +36,14 @@ public record StudentInfoDto(
     @Schema(description = "생년월일", example = "2000-01-01")
     LocalDate birthDate,
     
-    @Schema(description = "학년 (가장 최근 응시한 시험의 학년 기준)", example = "2")
-    Integer grade
+    @Schema(description = "학년 (가장 최근 응시해 채점 완료된 시험의 학년 기준)", example = "2")
+    Integer grade,
+    
+    @Schema(description = "응시 시험 수 (채점 완료 기준)", example = "5")
+    long examCount,
+    
+    @Schema(description = "평균 점수 (채점 완료된 시험이 없으면 null)", example = "82.4")
+    Double averageScore
     
 ) {
     /**
@@ -46,7 +56,21 @@ public record StudentInfoDto(
      * @return StudentInfoDto 인스턴스
      */
     public static StudentInfoDto of(String name, String phone, LocalDate birthDate, Integer grade) {
-        return new StudentInfoDto(name, phone, birthDate, grade);
+        return new StudentInfoDto(name, phone, birthDate, grade, 0, null);
+    }
+    
+    /**
+     * 학생별 성적 프로필로 생성하는 정적 팩토리 메서드
+     * 
+     * @param name      학생 이름
+     * @param phone     전화번호
+     * @param birthDate 생년월일
+     * @param profile   학생별 성적 프로필
+     * @return StudentInfoDto 인스턴스 (학년, 응시 시험 수, 평균 점수 포함)
+     */
+    public static StudentInfoDto of(String name, String phone, LocalDate birthDate, StudentPerformanceProfile profile) {
+        return new StudentInfoDto(name, phone, birthDate,
+            profile.getLatestGrade(), profile.getExamCount(), profile.getAverageScore());
     }
     
     /**
@@ -58,7 +82,7 @@ public record StudentInfoDto(
      * @return StudentInfoDto 인스턴스 (학년은 null)
      */
     public static StudentInfoDto withoutGrade(String name, String phone, LocalDate birthDate) {
-        return new StudentInfoDto(name, phone, birthDate, null);
+        return new StudentInfoDto(name, phone, birthDate, null, 0, null);
     }
     
     /**
@@ -135,55 +135,6 @@ public interface StudentExamResultRepository extends JpaRepository<ExamResult, U
             @Param("examId") UUID examId,
             @Param("questionOrder") Integer questionOrder);
 
-    /**
-     * 학생의 최신 시험 결과 조회 (학년 정보용)
-     * 
-     * <p>
-     * 학생 정보 조회 시 가장 최근 응시한 시험의 학년을 가져오기 위해 사용
-     * </p>
-     * 
-     * @param studentId 학생 ID
-     * @return 가장 최근 시험의 학년 정보
-     */
-    @Query("""
-            SELECT e.grade
-            FROM ExamResult er
-            JOIN er.examSubmission es
-            JOIN es.exam e
-            WHERE es.student.id = :studentId
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                WHERE er2.examSubmission.id = er.examSubmission.id
-            )
-            ORDER BY er.gradedAt DESC
-            LIMIT 1
-            """)
-    Integer findLatestGradeByStudentId(@Param("studentId") Long studentId);
-
-    /**
-     * 학생의 총 응시 시험 수 조회
-     * 
-     * <p>
-     * 중복 제거하여 실제 응시한 시험 수만 계산 (재채점은 제외)
-     * </p>
-     * 
-     * @param studentId 학생 ID
-     * @return 총 응시 시험 수
-     */
-    @Query("""
-            SELECT COUNT(DISTINCT er.examSubmission.id)
-            FROM ExamResult er
-            JOIN er.examSubmission es
-            WHERE es.student.id = :studentId
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                WHERE er2.examSubmission.id = er.examSubmission.id
-            )
-            """)
-    long countDistinctExamsByStudentId(@Param("studentId") Long studentId);
-
     /**
      * 특정 시험 결과의 문제 수 통계 조회
      * 
@@ -215,30 +166,6 @@ public interface StudentExamResultRepository extends JpaRepository<ExamResult, U
             @Param("studentId") Long studentId,
             @Param("examId") UUID examId);
 
-    /**
-     * 학생의 평균 점수 조회
-     * 
-     * <p>
-     * 학생이 응시한 모든 시험의 평균 점수를 계산합니다.
-     * 재채점된 경우 최신 버전의 결과만 사용합니다.
-     * </p>
-     * 
-     * @param studentId 학생 ID
-     * @return 평균 점수 (응시한 시험이 없으면 null)
-     */
-    @Query("""
-            SELECT AVG(er.totalScore)
-            FROM ExamResult er
-            JOIN er.examSubmission es
-            WHERE es.student.id = :studentId
-            AND er.gradedAt = (
-                SELECT MAX(er2.gradedAt)
-                FROM ExamResult er2
-                WHERE er2.examSubmission.id = er.examSubmission.id
-            )
-            """)
-    Double findAverageScoreByStudentId(@Param("studentId") Long studentId);
-
     /**
      * EntityGraph를 사용한 ExamResult 조회 (성능 최적화)
      * 
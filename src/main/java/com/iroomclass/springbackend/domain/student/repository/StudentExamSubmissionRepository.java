@@ -64,8 +64,8 @@ public interface StudentExamSubmissionRepository extends JpaRepository<ExamSubmi
     /**
      * 학생의 가장 최근 응시한 시험의 학년 조회
      * 
-     * <p>학생 정보에서 학년을 표시하기 위해 사용.
-     * Student 엔티티에 grade 필드가 없으므로 최근 시험의 학년을 사용</p>
+     * <p>채점 완료된 시험이 없어 학생별 성적 프로필이 아직 없는 학생의 학년 표시에 사용.
+     * Student 엔티티에 grade 필드가 없으므로 최근 시험의 학년을 사용 (채점 여부 무관)</p>
      * 
      * @param studentId 학생 ID
      * @return 가장 최근 응시 시험의 학년 (없으면 null)
@@ -22,6 +22,8 @@ import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
 import com.iroomclass.springbackend.domain.exam.entity.ExamResultQuestion;
 import com.iroomclass.springbackend.domain.exam.entity.Question;
 import com.iroomclass.springbackend.domain.exam.entity.StudentAnswerSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.StudentPerformanceProfile;
+import com.iroomclass.springbackend.domain.exam.service.StudentPerformanceService;
 
 /**
  * 학생 관련 비즈니스 로직 서비스
@@ -39,6 +41,7 @@ public class StudentService {
     private final StudentRepository studentRepository;
     private final StudentExamSubmissionRepository studentExamSubmissionRepository;
     private final StudentExamResultRepository studentExamResultRepository;
+    private final StudentPerformanceService studentPerformanceService;
 
     /**
      * 학생 로그인 인증 및 기본 정보 조회
@@ -47,6 +50,7 @@ public class StudentService {
      * @return 학생 로그인 응답 (ID, 이름)
      * @throws StudentNotFoundException 인증 정보가 일치하지 않을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public StudentLoginResponse login(StudentAuthRequest request) {
         log.info("학생 로그인 시도 (upsert): name={}, phone={}", request.name(), request.phone());
         
@@ -64,6 +68,7 @@ public class StudentService {
      * @param request 학생 Upsert 요청 (이름, 생년월일, 전화번호)
      * @return 학생 로그인 응답 (ID, 이름)
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public StudentLoginResponse loginWithUpsert(StudentUpsertRequest request) {
         log.info("학생 로그인 시도 (upsert): name={}, phone={}", request.name(), request.phone());
         
@@ -82,6 +87,7 @@ public class StudentService {
      * @return 최근 제출 내역 페이지
      * @throws StudentNotFoundException 인증 정보가 일치하지 않을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public Page<RecentSubmissionDto> getRecentSubmissions(StudentAuthRequest request, Pageable pageable) {
         log.info("최근 시험 제출 내역 조회 (upsert): name={}, page={}, size={}", 
                 request.name(), pageable.getPageNumber(), pageable.getPageSize());
@@ -124,6 +130,7 @@ public class StudentService {
      * @return 시험 결과 요약 페이지
      * @throws StudentNotFoundException 인증 정보가 일치하지 않을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public Page<ExamResultSummaryDto> getExamResultsSummary(StudentAuthRequest request, Pageable pageable) {
         log.info("시험 결과 요약 조회 (upsert): name={}, page={}, size={}", 
                 request.name(), pageable.getPageNumber(), pageable.getPageSize());
@@ -142,6 +149,7 @@ public class StudentService {
     /**
      * 시험 결과 요약 목록 조회 (StudentUpsertRequest 버전)
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public Page<ExamResultSummaryDto> getExamResultsSummaryWithUpsert(StudentUpsertRequest request, Pageable pageable) {
         log.info("시험 결과 요약 조회 (upsert): name={}, page={}, size={}", 
                 request.name(), pageable.getPageNumber(), pageable.getPageSize());
@@ -165,6 +173,7 @@ public class StudentService {
      * @return 시험 상세 결과
      * @throws StudentNotFoundException 인증 정보가 일치하지 않거나 시험 결과가 없을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public ExamDetailResultDto getExamDetailResult(StudentAuthRequest request, UUID examId) {
         log.info("시험 상세 결과 조회 (upsert): name={}, examId={}", request.name(), examId);
         
@@ -189,6 +198,7 @@ public class StudentService {
     /**
      * 특정 시험의 상세 결과 조회 (StudentUpsertRequest 버전)
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public ExamDetailResultDto getExamDetailResultWithUpsert(StudentUpsertRequest request, UUID examId) {
         log.info("시험 상세 결과 조회 (upsert): name={}, examId={}", request.name(), examId);
         
@@ -210,28 +220,21 @@ public class StudentService {
     }
 
     /**
-     * 학생 정보 조회 (최신 학년 정보 포함)
+     * 학생 정보 조회 (최신 학년, 응시 시험 수, 평균 점수 포함)
      * 
      * @param request 학생 인증 요청
      * @return 학생 정보
      * @throws StudentNotFoundException 인증 정보가 일치하지 않을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public StudentInfoDto getStudentInfo(StudentAuthRequest request) {
         log.info("학생 정보 조회 (upsert): name={}, phone={}", request.name(), request.phone());
         
         Student student = studentAuthService.upsertStudentFromAuth(request);
         
-        // 최신 응시한 시험의 학년 정보 조회
-        Integer latestGrade = studentExamSubmissionRepository
-                .findLatestGradeByStudentId(student.getId());
+        StudentInfoDto studentInfo = toStudentInfo(student);
         
-        StudentInfoDto studentInfo = StudentInfoDto.of(
-                student.getName(), 
-                student.getPhone(), 
-                student.getBirthDate(), 
-                latestGrade);
-        
-        log.info("학생 정보 조회 완료: studentId={}, grade={}", student.getId(), latestGrade);
+        log.info("학생 정보 조회 완료: studentId={}, grade={}", student.getId(), studentInfo.grade());
         
         return studentInfo;
     }
@@ -239,26 +242,33 @@ public class StudentService {
     /**
      * 학생 정보 조회 (StudentUpsertRequest 버전)
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public StudentInfoDto getStudentInfoWithUpsert(StudentUpsertRequest request) {
         log.info("학생 정보 조회 (upsert): name={}, phone={}", request.name(), request.phone());
         
         Student student = studentAuthService.upsertStudent(request);
         
-        // 최신 응시한 시험의 학년 정보 조회
-        Integer latestGrade = studentExamSubmissionRepository
-                .findLatestGradeByStudentId(student.getId());
-        
-        StudentInfoDto studentInfo = StudentInfoDto.of(
-                student.getName(), 
-                student.getPhone(), 
-                student.getBirthDate(), 
-                latestGrade);
+        StudentInfoDto studentInfo = toStudentInfo(student);
         
-        log.info("학생 정보 조회 완료: studentId={}, grade={}", student.getId(), latestGrade);
+        log.info("학생 정보 조회 완료: studentId={}, grade={}", student.getId(), studentInfo.grade());
         
         return studentInfo;
     }
 
+    /**
+     * 학생별 성적 프로필(기본키 조회 1회)로 학생 정보 DTO 생성
+     * 
+     * <p>채점 완료된 시험이 없어 프로필이 없으면 채점 여부와 관계없이 가장 최근 제출한 시험의 학년을 사용합니다.</p>
+     */
+    private StudentInfoDto toStudentInfo(Student student) {
+        return studentPerformanceService.getProfile(student.getId())
+                .map(profile -> StudentInfoDto.of(
+                        student.getName(), student.getPhone(), student.getBirthDate(), profile))
+                .orElseGet(() -> StudentInfoDto.of(
+                        student.getName(), student.getPhone(), student.getBirthDate(),
+                        studentExamSubmissionRepository.findLatestGradeByStudentId(student.getId())));
+    }
+
     /**
      * 학생 로그아웃
      * 
@@ -268,6 +278,7 @@ public class StudentService {
      * @param request 학생 인증 요청
      * @throws StudentNotFoundException 인증 정보가 일치하지 않을 때
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public void logout(StudentAuthRequest request) {
         log.info("학생 로그아웃 (upsert): name={}, phone={}", request.name(), request.phone());
         
@@ -281,6 +292,7 @@ public class StudentService {
     /**
      * 학생 로그아웃 (StudentUpsertRequest 버전)
      */
+    @Transactional(readOnly = false)  // 학생 upsert 포함 (쓰기가 있으므로 읽기 복제본이 아닌 primary에서 실행)
     public void logoutWithUpsert(StudentUpsertRequest request) {
         log.info("학생 로그아웃 (upsert): name={}, phone={}", request.name(), request.phone());
         
@@ -308,7 +320,9 @@ public class StudentService {
      * @return 평균 점수 (응시한 시험이 없으면 null)
      */
     public Double getAverageScore(Long studentId) {
-        Double average = studentExamResultRepository.findAverageScoreByStudentId(studentId);
+        Double average = studentPerformanceService.getProfile(studentId)
+                .map(StudentPerformanceProfile::getAverageScore)
+                .orElse(null);
         log.debug("학생 평균 점수: studentId={}, average={}", studentId, average);
         return average;
     }
@@ -1,12 +1,23 @@
 package com.iroomclass.springbackend.domain.teacher.controller;
 
 import com.iroomclass.springbackend.common.ApiResponse;
+import com.iroomclass.springbackend.common.exception.InvalidRequestException;
+import com.iroomclass.springbackend.domain.exam.service.ExamScoreAggregateService;
+import com.iroomclass.springbackend.domain.exam.service.StudentPerformanceService;
+import com.iroomclass.springbackend.domain.exam.service.UnitAnswerStatsService;
 import com.iroomclass.springbackend.domain.teacher.dto.ExamSubmissionDetailDto;
 import com.iroomclass.springbackend.domain.teacher.dto.RecentExamSubmissionStatusDto;
 import com.iroomclass.springbackend.domain.teacher.dto.ExamAverageScoreDto;
+import com.iroomclass.springbackend.domain.teacher.dto.ItemAnalysisDto;
+import com.iroomclass.springbackend.domain.teacher.dto.DashboardCacheMetricsDto;
 import com.iroomclass.springbackend.domain.teacher.dto.ScoreDistributionDto;
 import com.iroomclass.springbackend.domain.teacher.dto.StudentAnswerDetailDto;
 import com.iroomclass.springbackend.domain.teacher.dto.UnitWrongAnswerRateDto;
+import com.iroomclass.springbackend.domain.teacher.service.DashboardCache;
+import com.iroomclass.springbackend.domain.teacher.service.ExamResultExportService;
+import com.iroomclass.springbackend.domain.teacher.service.ExamResultExportWriter;
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisService;
+import com.iroomclass.springbackend.domain.teacher.service.SubmissionCountFeed;
 import com.iroomclass.springbackend.domain.teacher.service.TeacherDashboardService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,9 +29,14 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
@@ -51,6 +67,13 @@ import java.util.UUID;
 public class TeacherDashboardController {
     
     private final TeacherDashboardService teacherDashboardService;
+    private final ExamScoreAggregateService examScoreAggregateService;
+    private final UnitAnswerStatsService unitAnswerStatsService;
+    private final StudentPerformanceService studentPerformanceService;
+    private final DashboardCache dashboardCache;
+    private final ExamResultExportService examResultExportService;
+    private final SubmissionCountFeed submissionCountFeed;
+    private final ItemAnalysisService itemAnalysisService;
     
     /**
      * 학년별 최근 시험 제출 현황 조회
@@ -122,6 +145,43 @@ public class TeacherDashboardController {
         }
     }
     
+    /**
+     * 실시간 제출 수 피드 구독 (SSE)
+     */
+    @Operation(
+        summary = "실시간 제출 수 피드 구독",
+        description = """
+            시험 진행 중 제출 수 변화를 SSE로 받습니다. 최근 시험 제출 현황을 반복 조회(polling)하는 대신 사용합니다.
+            
+            - 이벤트 이름: submissionCounts
+            - 데이터: 구간(기본 1초) 동안 새로 제출된 수를 시험별로 합산한 delta 목록
+            - 변화가 없으면 주기적으로 하트비트 주석만 전송됩니다.
+            - grade를 지정하면 해당 학년 시험의 변화만 받습니다.
+            - 전송이 밀려 연결이 종료되면 재연결 후 최근 시험 제출 현황을 다시 조회해야 합니다.
+            - 제출 수는 서버 노드별 메모리에서 집계되므로 단일 노드 운영을 전제로 합니다.
+            
+            클라이언트는 최근 시험 제출 현황 조회 결과에 delta를 더해 화면을 갱신합니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "구독 성공 (text/event-stream)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "429", 
+                description = "구독자 수 초과"
+            )
+        }
+    )
+    @GetMapping(value = "/submission-feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeSubmissionFeed(
+        @Parameter(description = "학년 필터 (1, 2, 3, 생략 시 전체)", example = "1")
+        @RequestParam(required = false) @Min(1) @Max(3) Integer grade
+    ) {
+        log.info("실시간 제출 수 피드 구독 요청: grade={}", grade);
+        return submissionCountFeed.subscribe(grade);
+    }
+    
     /**
      * 전체 학년별 최근 시험 제출 현황 조회
      */
@@ -138,6 +198,9 @@ public class TeacherDashboardController {
               "2": { grade: 2, examCount: 7, averageSubmissionRate: 78.9, ... },
               "3": { grade: 3, examCount: 4, averageSubmissionRate: 92.1, ... }
             }
+            
+            학년별 조회는 동시에 실행되며, 응답 기한(dashboard.fan-out.timeout-ms) 안에
+            끝나지 않았거나 실패한 학년은 결과에서 제외됩니다.
             """,
         responses = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(
@@ -249,6 +312,12 @@ public class TeacherDashboardController {
             - 미제출 학생 목록
             - 평균 제출 소요 시간
             
+            명단 페이징:
+            - 제출 학생이 제출 순서대로 먼저, 미제출 학생이 이름순으로 뒤에 위치합니다.
+            - page: 페이지 번호 (0부터 시작)
+            - size: 페이지 크기 (기본값: 50, 최대 200)
+            - 통계는 페이지와 무관하게 전체 기준으로 계산됩니다.
+            
             선생님이 특정 시험의 제출 현황을 상세히 파악하기 위해 사용됩니다.
             """,
         responses = {
@@ -261,18 +330,34 @@ public class TeacherDashboardController {
                 responseCode = "404", 
                 description = "시험을 찾을 수 없음",
                 content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400", 
+                description = "잘못된 페이징 파라미터"
             )
         }
     )
     @GetMapping("/exam-submission-detail")
     public ResponseEntity<ApiResponse<ExamSubmissionDetailDto>> getExamSubmissionDetail(
         @Parameter(description = "시험 ID", required = true)
-        @RequestParam UUID examId
+        @RequestParam UUID examId,
+        
+        @Parameter(description = "명단 페이지 번호 (0부터 시작)", example = "0")
+        @RequestParam(defaultValue = "0") int page,
+        
+        @Parameter(description = "명단 페이지 크기 (최대 200)", example = "50")
+        @RequestParam(defaultValue = "50") int size
     ) {
-        log.info("시험 상세 제출자 현황 조회 요청: examId={}", examId);
+        log.info("시험 상세 제출자 현황 조회 요청: examId={}, page={}, size={}", examId, page, size);
+        
+        if (page < 0 || size <= 0 || size > 200) {
+            log.warn("잘못된 페이징 파라미터: page={}, size={}", page, size);
+            return ResponseEntity.badRequest()
+                .body(ApiResponse.<ExamSubmissionDetailDto>errorWithType("페이지 번호는 0 이상, 페이지 크기는 1~200 사이여야 합니다"));
+        }
         
         try {
-            ExamSubmissionDetailDto result = teacherDashboardService.getExamSubmissionDetail(examId);
+            ExamSubmissionDetailDto result = teacherDashboardService.getExamSubmissionDetail(examId, page, size);
             
             log.info("시험 상세 제출자 현황 조회 완료: examId={}, totalStudents={}, submitted={}, submissionRate={}", 
                     examId, result.statistics().totalStudentCount(), 
@@ -478,7 +563,7 @@ public class TeacherDashboardController {
             - 각 구간별 학생 수와 비율
             - 통계 요약 (최고/최저 점수, 합격률, 우수율)
             
-            성적 구간 정의:
+            성적 구간 정의 (기본값, dashboard.score-histogram.bucket-edges로 변경 가능):
             - 0-39점: 낙제
             - 40-59점: 미달  
             - 60-69점: 보통
@@ -489,6 +574,8 @@ public class TeacherDashboardController {
             합격률: 60점 이상 학생 비율
             우수율: 80점 이상 학생 비율
             
+            채점 완료 시 갱신되는 메모리 히스토그램에서 계산하므로 DB를 조회하지 않습니다.
+            
             선생님이 해당 학년 학생들의 전반적인 성적 수준과 분포를 파악하기 위해 사용됩니다.
             """,
         responses = {
@@ -534,6 +621,52 @@ public class TeacherDashboardController {
         }
     }
     
+    /**
+     * 시험별 성적 분포도 조회
+     */
+    @Operation(
+        summary = "시험별 성적 분포도 조회",
+        description = """
+            특정 시험의 최신 채점 결과 점수를 구간별로 나누어 분포도를 조회합니다.
+            
+            제공되는 정보는 학년별 성적 분포도와 같으며, 학생 수는 채점된 제출 수입니다.
+            구간 정의도 학년별 성적 분포도와 같은 설정을 사용합니다.
+            
+            채점 완료 시 갱신되는 메모리 히스토그램에서 계산하므로 결과 테이블을 조회하지 않습니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "조회 성공",
+                content = @Content(schema = @Schema(implementation = ScoreDistributionDto.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404", 
+                description = "시험을 찾을 수 없음",
+                content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+        }
+    )
+    @GetMapping("/exam-score-distribution")
+    public ResponseEntity<ApiResponse<ScoreDistributionDto>> getExamScoreDistribution(
+        @Parameter(description = "시험 ID", required = true)
+        @RequestParam UUID examId
+    ) {
+        log.info("시험별 성적 분포도 조회 요청: examId={}", examId);
+        
+        try {
+            ScoreDistributionDto result = teacherDashboardService.getExamScoreDistribution(examId);
+            
+            return ResponseEntity.ok(
+                ApiResponse.success("시험별 성적 분포도 조회 성공", result)
+            );
+        } catch (RuntimeException e) {
+            log.warn("시험별 성적 분포도 조회 실패: examId={}, error={}", examId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.<ScoreDistributionDto>errorWithType("시험을 찾을 수 없습니다"));
+        }
+    }
+    
     /**
      * 시험별 평균 점수 조회 (API 11)
      */
@@ -682,4 +815,211 @@ public class TeacherDashboardController {
                 .body(ApiResponse.<UnitWrongAnswerRateDto>errorWithType("조회 중 오류가 발생했습니다"));
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * 시험 문항 분석 조회
+     */
+    @Operation(
+        summary = "시험 문항 분석",
+        description = """
+            시험의 최신 채점 결과로 문항별 고전검사이론 통계를 계산합니다.
+            
+            문항별 정보:
+            - 난이도 p값: 평균 점수 / 배점 (0~1, 높을수록 쉬움)
+            - 점이연 상관 변별도: 문항 점수와 해당 문항을 뺀 총점의 상관계수
+            - 상하위 27% 집단 변별도: (상위 집단 평균 - 하위 집단 평균) / 배점
+            - 객관식 선택지 분포: 선택 번호별(0은 무응답) 전체/상위/하위 집단 학생 수
+            
+            분석 결과는 결과 버전(채점/재채점 시 갱신되는 시험 점수 집계)별로 캐시되므로
+            새 채점 결과가 없으면 다시 계산하지 않습니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "조회 성공",
+                content = @Content(schema = @Schema(implementation = ItemAnalysisDto.class))
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404", 
+                description = "시험을 찾을 수 없음",
+                content = @Content(schema = @Schema(implementation = ApiResponse.class))
+            )
+        }
+    )
+    @GetMapping("/item-analysis")
+    public ResponseEntity<ApiResponse<ItemAnalysisDto>> getItemAnalysis(
+        @Parameter(description = "시험 ID", required = true)
+        @RequestParam UUID examId
+    ) {
+        log.info("시험 문항 분석 조회 요청: examId={}", examId);
+        
+        ItemAnalysisDto result = itemAnalysisService.getItemAnalysis(examId);
+        
+        return ResponseEntity.ok(ApiResponse.success("시험 문항 분석 조회 성공", result));
+    }
+
+    /**
+     * 시험별 점수 집계 재생성
+     */
+    @Operation(
+        summary = "시험별 점수 집계 재생성",
+        description = """
+            시험별 평균 점수 API가 사용하는 점수 집계(개수, 합계, 제곱합, 최저/최고 점수)를
+            각 제출의 최신 채점 결과로부터 처음부터 다시 계산합니다.
+            
+            집계는 채점 완료/재채점 시 자동으로 증분 갱신되므로 평소에는 호출할 필요가 없습니다.
+            데이터를 직접 수정했거나 집계가 어긋난 것으로 의심될 때 사용합니다.
+            
+            - examId 지정: 해당 시험만 재생성
+            - examId 생략: 전체 시험 재생성
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "재생성 성공 (재생성된 시험 수 반환)"
+            )
+        }
+    )
+    @PostMapping("/score-aggregates/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildScoreAggregates(
+        @Parameter(description = "재생성할 시험 ID (생략 시 전체)", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6")
+        @RequestParam(required = false) UUID examId
+    ) {
+        log.info("시험별 점수 집계 재생성 요청: examId={}", examId);
+        
+        int rebuilt = examId != null
+            ? examScoreAggregateService.rebuildExam(examId)
+            : examScoreAggregateService.rebuildAll();
+        
+        dashboardCache.invalidateAll();
+        return ResponseEntity.ok(ApiResponse.success("시험별 점수 집계 재생성 완료", rebuilt));
+    }
+
+    /**
+     * 단원별 문항 응답 집계 재생성
+     */
+    @Operation(
+        summary = "단원별 문항 응답 집계 재생성",
+        description = """
+            단원별 오답률 API가 사용하는 단원별 집계(문항 응답 수, 오답 수)를
+            각 제출의 최신 채점 결과로부터 처음부터 다시 계산합니다.
+            
+            집계는 채점 완료/재채점 시 자동으로 증분 갱신되므로 평소에는 호출할 필요가 없습니다.
+            데이터를 직접 수정했거나 집계가 어긋난 것으로 의심될 때 사용합니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "재생성 성공 (재생성된 단원 수 반환)"
+            )
+        }
+    )
+    @PostMapping("/unit-answer-stats/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildUnitAnswerStats() {
+        log.info("단원별 문항 응답 집계 재생성 요청");
+        
+        int rebuilt = unitAnswerStatsService.rebuildAll();
+        
+        dashboardCache.invalidateAll();
+        return ResponseEntity.ok(ApiResponse.success("단원별 문항 응답 집계 재생성 완료", rebuilt));
+    }
+
+    /**
+     * 학생별 성적 프로필 재생성
+     */
+    @Operation(
+        summary = "학생별 성적 프로필 재생성",
+        description = """
+            학생 정보 API가 사용하는 학생별 성적 프로필(응시 시험 수, 점수 합계, 최근 학년)과
+            학생별 단원 정답 집계(문항 응답 수, 정답 수)를 각 제출의 최신 채점 결과로부터 처음부터 다시 계산합니다.
+            
+            프로필은 채점 완료/재채점 시 자동으로 증분 갱신되므로 평소에는 호출할 필요가 없습니다.
+            프로필 도입 이전 결과를 채우거나 데이터를 직접 수정했을 때 사용합니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "재생성 성공 (재생성된 학생 수 반환)"
+            )
+        }
+    )
+    @PostMapping("/student-profiles/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildStudentProfiles() {
+        log.info("학생별 성적 프로필 재생성 요청");
+        
+        int rebuilt = studentPerformanceService.rebuildAll();
+        
+        return ResponseEntity.ok(ApiResponse.success("학생별 성적 프로필 재생성 완료", rebuilt));
+    }
+
+    /**
+     * 대시보드 응답 캐시 지표 조회
+     */
+    @Operation(
+        summary = "대시보드 응답 캐시 지표",
+        description = """
+            대시보드 조회 응답 캐시의 현재 항목 수와 누적 적중/미적중/축출/이벤트 무효화 수를 조회합니다.
+            
+            캐시는 학년/시험 단위로 저장되며 답안 제출, 채점 완료/재채점, 시험 생성 시 해당 학년/시험 항목만 무효화됩니다.
+            """
+    )
+    @GetMapping("/cache-metrics")
+    public ResponseEntity<ApiResponse<DashboardCacheMetricsDto>> getCacheMetrics() {
+        return ResponseEntity.ok(ApiResponse.success("대시보드 캐시 지표 조회 성공", dashboardCache.getMetrics()));
+    }
+
+    /**
+     * 시험 결과 내보내기 (CSV/XLSX 스트리밍)
+     */
+    @Operation(
+        summary = "시험 결과 내보내기",
+        description = """
+            시험에 제출한 모든 학생의 문항별 결과(최신 채점 결과 기준)를 CSV 또는 XLSX 파일로 내려받습니다.
+            
+            - format: csv (기본값, UTF-8 BOM 포함) 또는 xlsx
+            - 행: 학생 1명의 문항 1개 결과 (학생 이름, 문항 번호 순)
+            
+            DB 커서에서 읽은 행을 응답으로 바로 기록하므로 시험 크기와 관계없이 서버 메모리 사용량이 일정합니다.
+            """,
+        responses = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "200", 
+                description = "내보내기 성공 (파일 스트림)"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "400", 
+                description = "지원하지 않는 형식"
+            ),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(
+                responseCode = "404", 
+                description = "시험을 찾을 수 없음"
+            )
+        }
+    )
+    @GetMapping("/exam-results/export")
+    public ResponseEntity<StreamingResponseBody> exportExamResults(
+        @Parameter(description = "시험 ID", required = true)
+        @RequestParam UUID examId,
+        
+        @Parameter(description = "내보내기 형식 (csv, xlsx)", example = "csv")
+        @RequestParam(defaultValue = "csv") String format
+    ) {
+        log.info("시험 결과 내보내기 요청: examId={}, format={}", examId, format);
+        
+        ExamResultExportWriter.Format exportFormat;
+        try {
+            exportFormat = ExamResultExportWriter.Format.valueOf(format.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("지원하지 않는 내보내기 형식입니다: " + format);
+        }
+        
+        String fileName = examResultExportService.getFileName(examId, exportFormat);
+        StreamingResponseBody body = out -> examResultExportService.export(examId, exportFormat, out);
+        
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName).build().toString())
+            .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+            .body(body);
+    }
+}
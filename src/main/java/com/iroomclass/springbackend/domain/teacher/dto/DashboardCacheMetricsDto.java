@@ -0,0 +1,41 @@
+package com.iroomclass.springbackend.domain.teacher.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * 교사 대시보드 응답 캐시 지표 DTO
+ *
+ * <p>적중/미적중/축출 수는 애플리케이션 시작 이후 누적값입니다.
+ * 축출은 크기/유효 시간 초과로 제거된 항목이며, 이벤트 무효화는 별도로 집계합니다.</p>
+ */
+@Schema(description = "교사 대시보드 응답 캐시 지표")
+public record DashboardCacheMetricsDto(
+    @Schema(description = "캐시 사용 여부", example = "true")
+    @JsonProperty("enabled")
+    boolean enabled,
+
+    @Schema(description = "현재 캐시 항목 수", example = "42")
+    @JsonProperty("size")
+    long size,
+
+    @Schema(description = "누적 적중 수", example = "1520")
+    @JsonProperty("hit_count")
+    long hitCount,
+
+    @Schema(description = "누적 미적중 수", example = "130")
+    @JsonProperty("miss_count")
+    long missCount,
+
+    @Schema(description = "적중률 (0~1)", example = "0.92")
+    @JsonProperty("hit_rate")
+    double hitRate,
+
+    @Schema(description = "크기/유효 시간 초과로 축출된 항목 수", example = "12")
+    @JsonProperty("eviction_count")
+    long evictionCount,
+
+    @Schema(description = "제출/채점 이벤트로 무효화된 항목 수", example = "85")
+    @JsonProperty("invalidation_count")
+    long invalidationCount
+) {}
@@ -23,7 +23,10 @@ public record ExamSubmissionDetailDto(
     List<StudentSubmissionInfo> submittedStudents,
     
     @Schema(description = "미제출 학생 목록")
-    List<StudentInfo> notSubmittedStudents
+    List<StudentInfo> notSubmittedStudents,
+    
+    @Schema(description = "명단 페이지 정보")
+    RosterPageInfo pageInfo
 ) {
     
     /**
@@ -179,32 +182,50 @@ public record ExamSubmissionDetailDto(
         }
     }
     
+    /**
+     * 명단 페이지 정보
+     */
+    @Schema(description = "명단 페이지 정보 (제출 학생이 제출 순서대로 먼저, 미제출 학생이 이름순으로 뒤에 위치)")
+    public record RosterPageInfo(
+        @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+        Integer page,
+        
+        @Schema(description = "페이지 크기", example = "50")
+        Integer size,
+        
+        @Schema(description = "다음 페이지 존재 여부", example = "false")
+        Boolean hasNext
+    ) {
+        public static RosterPageInfo create(Integer page, Integer size, Long totalStudentCount) {
+            return new RosterPageInfo(page, size, (long) (page + 1) * size < totalStudentCount);
+        }
+    }
+    
     /**
      * 전체 정보를 조합하여 ExamSubmissionDetailDto 생성
+     * 
+     * 통계는 명단 페이지가 아닌 COUNT/AVG 조회 결과로 계산합니다.
      */
     public static ExamSubmissionDetailDto create(
         ExamBasicInfo examInfo,
         Long totalStudentCount,
+        Long submittedCount,
+        Double averageSubmissionMinutes,
         List<StudentSubmissionInfo> submittedStudents,
-        List<StudentInfo> notSubmittedStudents
+        List<StudentInfo> notSubmittedStudents,
+        RosterPageInfo pageInfo
     ) {
-        // 평균 제출 시간 계산
+        // 평균 제출 시간 (분, 소수점 1자리)
         BigDecimal averageSubmissionTime = BigDecimal.ZERO;
-        if (!submittedStudents.isEmpty()) {
-            double avgMinutes = submittedStudents.stream()
-                .filter(s -> s.submissionDurationMinutes() != null)
-                .mapToLong(StudentSubmissionInfo::submissionDurationMinutes)
-                .average()
-                .orElse(0.0);
-            
-            averageSubmissionTime = BigDecimal.valueOf(avgMinutes)
+        if (averageSubmissionMinutes != null) {
+            averageSubmissionTime = BigDecimal.valueOf(averageSubmissionMinutes)
                 .setScale(1, RoundingMode.HALF_UP);
         }
         
         // 통계 정보 생성
         SubmissionStatistics statistics = SubmissionStatistics.create(
             totalStudentCount,
-            (long) submittedStudents.size(),
+            submittedCount,
             averageSubmissionTime
         );
         
@@ -212,7 +233,8 @@ public record ExamSubmissionDetailDto(
             examInfo,
             statistics,
             submittedStudents,
-            notSubmittedStudents
+            notSubmittedStudents,
+            pageInfo
         );
     }
-}
\ No newline at end of file
+}
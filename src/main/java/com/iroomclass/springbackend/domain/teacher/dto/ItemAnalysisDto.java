@@ -0,0 +1,119 @@
+package com.iroomclass.springbackend.domain.teacher.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 시험 문항 분석 응답 DTO
+ *
+ * <p>시험의 최신 채점 결과로 계산한 문항별 난이도, 변별도, 객관식 선택지 분포입니다.
+ * 결과 버전(집계된 결과 수와 마지막 집계 갱신 시각)이 같으면 같은 분석 결과가 반환됩니다.</p>
+ */
+@Schema(description = "시험 문항 분석")
+public record ItemAnalysisDto(
+    @Schema(description = "시험 ID")
+    @JsonProperty("exam_id")
+    UUID examId,
+
+    @Schema(description = "분석에 사용된 학생 수 (채점 완료된 제출 수)", example = "120")
+    @JsonProperty("student_count")
+    int studentCount,
+
+    @Schema(description = "결과 버전 - 시험 점수 집계의 마지막 갱신 시각 (채점 결과가 없으면 null)")
+    @JsonProperty("result_version")
+    LocalDateTime resultVersion,
+
+    @Schema(description = "문항별 분석 (문항 번호순)")
+    @JsonProperty("items")
+    List<ItemStatistics> items
+) {
+
+    /**
+     * 문항별 분석
+     */
+    @Schema(description = "문항별 분석")
+    public record ItemStatistics(
+        @Schema(description = "문제 ID")
+        @JsonProperty("question_id")
+        UUID questionId,
+
+        @Schema(description = "문항 번호", example = "1")
+        @JsonProperty("question_number")
+        int questionNumber,
+
+        @Schema(description = "문제 유형", example = "MULTIPLE_CHOICE")
+        @JsonProperty("question_type")
+        String questionType,
+
+        @Schema(description = "배점", example = "5")
+        @JsonProperty("points")
+        int points,
+
+        @Schema(description = "난이도 p값 - 평균 점수 / 배점 (0~1, 높을수록 쉬움)", example = "0.72")
+        @JsonProperty("difficulty")
+        Double difficulty,
+
+        @Schema(description = "점이연 상관 변별도 - 문항 점수와 해당 문항을 뺀 총점의 상관계수 (-1~1)", example = "0.35")
+        @JsonProperty("point_biserial")
+        Double pointBiserial,
+
+        @Schema(description = "상하위 27% 집단 변별도 - (상위 평균 - 하위 평균) / 배점 (-1~1)", example = "0.41")
+        @JsonProperty("upper_lower_discrimination")
+        Double upperLowerDiscrimination,
+
+        @Schema(description = "객관식 정답 번호 (주관식이면 null)", example = "3")
+        @JsonProperty("correct_choice")
+        Integer correctChoice,
+
+        @Schema(description = "객관식 선택지 분포 (무응답 포함, 주관식이면 null)")
+        @JsonProperty("choices")
+        List<ChoiceDistribution> choices
+    ) {
+        public static ItemStatistics create(UUID questionId, int questionNumber, String questionType, int points,
+                                            Double difficulty, Double pointBiserial, Double upperLowerDiscrimination,
+                                            Integer correctChoice, List<ChoiceDistribution> choices) {
+            return new ItemStatistics(questionId, questionNumber, questionType, points,
+                difficulty, pointBiserial, upperLowerDiscrimination, correctChoice, choices);
+        }
+    }
+
+    /**
+     * 객관식 선택지별 분포
+     */
+    @Schema(description = "객관식 선택지별 분포")
+    public record ChoiceDistribution(
+        @Schema(description = "선택 번호 (0은 무응답)", example = "3")
+        @JsonProperty("choice")
+        int choice,
+
+        @Schema(description = "선택한 학생 수", example = "42")
+        @JsonProperty("count")
+        int count,
+
+        @Schema(description = "선택 비율 (%)", example = "35.0")
+        @JsonProperty("percentage")
+        double percentage,
+
+        @Schema(description = "상위 27% 집단에서 선택한 학생 수", example = "20")
+        @JsonProperty("upper_count")
+        int upperCount,
+
+        @Schema(description = "하위 27% 집단에서 선택한 학생 수", example = "5")
+        @JsonProperty("lower_count")
+        int lowerCount
+    ) {
+        public static ChoiceDistribution create(int choice, int count, int studentCount, int upperCount, int lowerCount) {
+            double percentage = studentCount > 0 ? Math.round(count * 1000.0 / studentCount) / 10.0 : 0.0;
+            return new ChoiceDistribution(choice, count, percentage, upperCount, lowerCount);
+        }
+    }
+
+    public static ItemAnalysisDto create(UUID examId, int studentCount, LocalDateTime resultVersion,
+                                         List<ItemStatistics> items) {
+        return new ItemAnalysisDto(examId, studentCount, resultVersion, items);
+    }
+}
@@ -0,0 +1,52 @@
+package com.iroomclass.springbackend.domain.teacher.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 실시간 제출 수 변화 DTO (SSE 이벤트 데이터)
+ *
+ * <p>한 구간 동안 새로 커밋된 제출 수를 시험별로 합산한 값입니다.
+ * 클라이언트는 최근 시험 제출 현황 조회 결과에 delta를 더해 제출 수를 갱신합니다.</p>
+ */
+@Schema(description = "실시간 제출 수 변화")
+public record SubmissionCountDeltaDto(
+    @Schema(description = "구간 종료 시각")
+    @JsonProperty("window_end_at")
+    LocalDateTime windowEndAt,
+
+    @Schema(description = "시험별 제출 수 변화 (변화가 있는 시험만)")
+    @JsonProperty("exams")
+    List<ExamSubmissionDelta> exams
+) {
+
+    /**
+     * 시험별 제출 수 변화
+     */
+    @Schema(description = "시험별 제출 수 변화")
+    public record ExamSubmissionDelta(
+        @Schema(description = "시험 ID")
+        @JsonProperty("exam_id")
+        UUID examId,
+
+        @Schema(description = "시험 학년", example = "1")
+        @JsonProperty("grade")
+        Integer grade,
+
+        @Schema(description = "구간 동안 새로 제출된 수", example = "3")
+        @JsonProperty("delta")
+        long delta
+    ) {
+        public static ExamSubmissionDelta create(UUID examId, Integer grade, long delta) {
+            return new ExamSubmissionDelta(examId, grade, delta);
+        }
+    }
+
+    public static SubmissionCountDeltaDto create(LocalDateTime windowEndAt, List<ExamSubmissionDelta> exams) {
+        return new SubmissionCountDeltaDto(windowEndAt, exams);
+    }
+}
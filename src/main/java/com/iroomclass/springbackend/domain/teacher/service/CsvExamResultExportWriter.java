@@ -0,0 +1,82 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository.ExamResultExportRow;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * CSV 내보내기 작성기 (RFC 4180, UTF-8 BOM 포함)
+ *
+ * <p>BOM은 Excel에서 한글이 깨지지 않도록 붙입니다. 행은 버퍼 크기만큼 모인 뒤 바로 출력됩니다.</p>
+ */
+class CsvExamResultExportWriter implements ExamResultExportWriter {
+
+    private static final char BOM = '\uFEFF';
+
+    private final Writer writer;
+
+    CsvExamResultExportWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write(BOM);
+        writeLine(HEADERS);
+    }
+
+    @Override
+    public void write(ExamResultExportRow row) throws IOException {
+        writeField(row.studentId());
+        writer.write(',');
+        writeField(row.studentName());
+        writer.write(',');
+        writeField(row.studentPhone());
+        writer.write(',');
+        writeField(row.submittedAt());
+        writer.write(',');
+        writeField(row.totalScore());
+        writer.write(',');
+        writeField(row.questionNo());
+        writer.write(',');
+        writeField(row.unitName());
+        writer.write(',');
+        writeField(row.correct() == null ? null : (row.correct() ? "O" : "X"));
+        writer.write(',');
+        writeField(row.score());
+        writer.write(',');
+        writeField(row.maxScore());
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeField(fields.get(i));
+        }
+        writer.write("\r\n");
+    }
+
+    private void writeField(Object value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        String text = value.toString();
+        if (text.indexOf(',') < 0 && text.indexOf('"') < 0 && text.indexOf('\n') < 0 && text.indexOf('\r') < 0) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,236 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.iroomclass.springbackend.config.DashboardCacheConfig;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.event.ExamCreatedEvent;
+import com.iroomclass.springbackend.domain.exam.event.ExamSubmittedEvent;
+import com.iroomclass.springbackend.domain.exam.event.LatestResultsChangedEvent;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+import com.iroomclass.springbackend.domain.teacher.dto.DashboardCacheMetricsDto;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 교사 대시보드 응답 캐시
+ *
+ * <p>대시보드 조회 결과를 학년/시험 범위가 표시된 키로 Caffeine 캐시에 보관합니다.
+ * 제출/채점/시험 생성 이벤트가 커밋되면 해당 시험과 그 학년 범위의 항목만 무효화하고,
+ * 크기와 유효 시간 상한으로 이벤트를 받지 못한 변경(다른 인스턴스 등)의 노출 시간을 제한합니다.</p>
+ *
+ * <p>무효화와 동시에 진행 중이던 계산이 이전 데이터를 다시 저장하지 않도록 범위별 버전을 둡니다.
+ * 무효화는 버전을 올린 뒤 항목을 지우고, 조회는 저장한 뒤 버전이 바뀌었으면 방금 저장한 항목을 지웁니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCache {
+
+    private final DashboardCacheConfig dashboardCacheConfig;
+    private final ExamRepository examRepository;
+
+    private final Map<String, AtomicLong> scopeVersions = new ConcurrentHashMap<>();
+    private final AtomicLong invalidationCount = new AtomicLong();
+
+    private Cache<Key, Object> cache;
+
+    @PostConstruct
+    void init() {
+        cache = Caffeine.newBuilder()
+            .maximumSize(dashboardCacheConfig.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(dashboardCacheConfig.getTtlSeconds()))
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * 학년 범위 항목 조회 (없으면 계산 후 저장)
+     *
+     * @param name   조회 이름 (메서드 구분)
+     * @param grade  학년
+     * @param params 추가 키 (limit 등)
+     * @param loader 계산 함수
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    public <T> T getForGrade(String name, Integer grade, List<?> params, Supplier<T> loader) {
+        return get(new Key(name, grade, null, params), loader);
+    }
+
+    /**
+     * 시험 범위 항목 조회 (없으면 계산 후 저장)
+     *
+     * @param name   조회 이름 (메서드 구분)
+     * @param examId 시험 ID
+     * @param params 추가 키 (학생 ID, 페이지 등)
+     * @param loader 계산 함수
+     * @return 캐시된 값 또는 새로 계산한 값
+     */
+    public <T> T getForExam(String name, UUID examId, List<?> params, Supplier<T> loader) {
+        return get(new Key(name, null, examId, params), loader);
+    }
+
+    /**
+     * 학년 범위 항목 무효화
+     *
+     * @param grade 학년
+     */
+    public void invalidateGrade(Integer grade) {
+        bump(gradeScope(grade));
+        invalidateIf(key -> grade.equals(key.grade()));
+    }
+
+    /**
+     * 시험 범위 항목 무효화
+     *
+     * @param examId 시험 ID
+     */
+    public void invalidateExam(UUID examId) {
+        bump(examScope(examId));
+        invalidateIf(key -> examId.equals(key.examId()));
+    }
+
+    /**
+     * 전체 무효화
+     */
+    public void invalidateAll() {
+        scopeVersions.values().forEach(AtomicLong::incrementAndGet);
+        invalidationCount.addAndGet(cache.estimatedSize());
+        cache.invalidateAll();
+    }
+
+    /**
+     * 새 제출 커밋 시 해당 시험과 학년 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExamSubmitted(ExamSubmittedEvent event) {
+        invalidateExam(event.examId());
+        invalidateGrade(event.grade());
+    }
+
+    /**
+     * 최신 채점 결과 변경 커밋 시 해당 시험들과 학년들 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onLatestResultsChanged(LatestResultsChangedEvent event) {
+        Set<UUID> examIds = new HashSet<>();
+        for (LatestResultChange change : event.changes()) {
+            examIds.add(change.examId());
+        }
+
+        Set<Integer> grades = new HashSet<>();
+        for (UUID examId : examIds) {
+            invalidateExam(examId);
+            examRepository.findById(examId).map(Exam::getGrade).ifPresent(grades::add);
+        }
+        grades.forEach(this::invalidateGrade);
+    }
+
+    /**
+     * 시험 생성 커밋 시 학년 무효화 (최근 시험 목록, 시험 수)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExamCreated(ExamCreatedEvent event) {
+        invalidateGrade(event.grade());
+    }
+
+    /**
+     * 캐시 지표 조회
+     *
+     * @return 적중/미적중/축출/무효화 지표
+     */
+    public DashboardCacheMetricsDto getMetrics() {
+        CacheStats stats = cache.stats();
+        return new DashboardCacheMetricsDto(
+            dashboardCacheConfig.isEnabled(),
+            cache.estimatedSize(),
+            stats.hitCount(),
+            stats.missCount(),
+            stats.hitRate(),
+            stats.evictionCount(),
+            invalidationCount.get());
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T get(Key key, Supplier<T> loader) {
+        if (!dashboardCacheConfig.isEnabled()) {
+            return loader.get();
+        }
+
+        T cached = (T) cache.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        String scope = key.scope();
+        long version = versionOf(scope);
+        T value = loader.get();
+        if (value != null) {
+            cache.put(key, value);
+            if (versionOf(scope) != version) {
+                // 계산 중 무효화된 경우 이전 데이터로 계산한 값일 수 있으므로 저장하지 않음
+                cache.invalidate(key);
+            }
+        }
+        return value;
+    }
+
+    private void invalidateIf(Predicate<Key> predicate) {
+        Set<Key> keys = new HashSet<>();
+        for (Key key : cache.asMap().keySet()) {
+            if (predicate.test(key)) {
+                keys.add(key);
+            }
+        }
+        if (!keys.isEmpty()) {
+            cache.invalidateAll(keys);
+            invalidationCount.addAndGet(keys.size());
+            log.debug("대시보드 캐시 무효화: entries={}", keys.size());
+        }
+    }
+
+    private long versionOf(String scope) {
+        return scopeVersions.computeIfAbsent(scope, s -> new AtomicLong()).get();
+    }
+
+    private void bump(String scope) {
+        scopeVersions.computeIfAbsent(scope, s -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static String gradeScope(Integer grade) {
+        return "grade:" + grade;
+    }
+
+    private static String examScope(UUID examId) {
+        return "exam:" + examId;
+    }
+
+    /**
+     * 캐시 키 (학년 또는 시험 중 하나의 범위를 가짐)
+     */
+    private record Key(String name, Integer grade, UUID examId, List<?> params) {
+
+        String scope() {
+            return examId != null ? examScope(examId) : gradeScope(Objects.requireNonNull(grade));
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.config.ExamResultExportConfig;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository;
+import com.iroomclass.springbackend.domain.teacher.service.ExamResultExportWriter.Format;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+
+/**
+ * 시험 결과 내보내기 서비스
+ *
+ * <p>
+ * 시험에 제출한 모든 학생의 문항별 결과를 CSV 또는 XLSX로 작성합니다.
+ * JDBC 커서에서 읽은 행을 바로 작성기에 넘기므로 DTO나 엔티티 목록을 만들지 않고,
+ * 힙 사용량은 시험 크기와 관계없이 일정합니다.
+ * </p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ExamResultExportService {
+
+    private final ExamRepository examRepository;
+    private final ExamResultExportRepository examResultExportRepository;
+    private final ExamResultExportConfig examResultExportConfig;
+
+    /**
+     * 내보내기 파일 이름 생성 (시험 존재 여부 확인 포함)
+     *
+     * @param examId 시험 ID
+     * @param format 내보내기 형식
+     * @return 파일 이름
+     * @throws EntityNotFoundException 시험이 없는 경우
+     */
+    public String getFileName(UUID examId, Format format) {
+        if (!examRepository.existsById(examId)) {
+            throw new EntityNotFoundException("시험", examId);
+        }
+        return "exam-results-" + examId + "." + format.getExtension();
+    }
+
+    /**
+     * 시험 결과를 출력 스트림으로 내보내기
+     *
+     * @param examId 시험 ID
+     * @param format 내보내기 형식
+     * @param out    출력 스트림 (닫지 않음)
+     * @throws IOException 출력 실패 시 (클라이언트 연결 종료 등)
+     */
+    public void export(UUID examId, Format format, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+
+        long rows;
+        try (ExamResultExportWriter writer = ExamResultExportWriter.open(format, out,
+                examResultExportConfig.getXlsxWindowSize())) {
+            rows = examResultExportRepository.scanExamResultRows(examId, examResultExportConfig.getFetchSize(),
+                row -> {
+                    try {
+                        writer.write(row);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("시험 결과 내보내기 완료: examId={}, format={}, rows={}, elapsed={}ms",
+                examId, format, rows, System.currentTimeMillis() - startTime);
+    }
+}
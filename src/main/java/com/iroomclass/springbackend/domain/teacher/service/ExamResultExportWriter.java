@@ -0,0 +1,72 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository.ExamResultExportRow;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * 시험 결과 내보내기 파일 작성기
+ *
+ * <p>행을 받는 즉시 출력 스트림(또는 XLSX 임시 파일)으로 기록하며 행을 누적하지 않습니다.
+ * 헤더는 생성 시 기록되고, {@link #close()}에서 남은 내용을 출력한 뒤 출력 스트림은 닫지 않습니다.</p>
+ */
+public interface ExamResultExportWriter extends Closeable {
+
+    /**
+     * 내보내기 열 이름
+     */
+    List<String> HEADERS = List.of(
+        "학생 ID", "학생 이름", "전화번호", "제출 시간", "총점",
+        "문항 번호", "단원", "정답 여부", "획득 점수", "배점");
+
+    /**
+     * 행 기록
+     *
+     * @param row 내보내기 행
+     * @throws IOException 출력 실패 시
+     */
+    void write(ExamResultExportRow row) throws IOException;
+
+    /**
+     * 형식에 맞는 작성기 생성
+     *
+     * @param format          내보내기 형식
+     * @param out             출력 스트림
+     * @param xlsxWindowSize  XLSX 작성 시 메모리에 유지할 행 수
+     * @return 작성기
+     * @throws IOException 헤더 기록 실패 시
+     */
+    static ExamResultExportWriter open(Format format, OutputStream out, int xlsxWindowSize) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvExamResultExportWriter(out);
+            case XLSX -> new XlsxExamResultExportWriter(out, xlsxWindowSize);
+        };
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+}
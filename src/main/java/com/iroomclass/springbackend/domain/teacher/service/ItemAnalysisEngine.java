@@ -0,0 +1,274 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 고전검사이론 문항 분석 엔진
+ *
+ * <p>학생 × 문항 점수 행렬({@link ItemMatrix})에서 문항별 난이도(평균 득점률, p값), 점이연 상관 변별도,
+ * 상하위 27% 집단 변별도, 객관식 선택지 분포를 계산합니다.
+ * 학생 총점과 상하위 집단은 한 번만 계산하고, 문항별 계산은 서로 독립이므로
+ * 문항 범위를 반씩 나누는 포크-조인 작업으로 공용 풀에서 병렬 처리합니다.</p>
+ *
+ * <p>점이연 상관은 문항 점수와 해당 문항을 뺀 총점(교정 총점) 사이의 상관계수로 계산하여
+ * 문항 수가 적을 때 자기 점수가 포함되어 변별도가 부풀려지지 않게 합니다.</p>
+ */
+public final class ItemAnalysisEngine {
+
+    /**
+     * 상하위 집단 비율
+     */
+    public static final double GROUP_RATIO = 0.27;
+
+    /**
+     * 객관식 최대 선택 번호 (선택지 분포의 0번은 무응답)
+     */
+    public static final int MAX_CHOICE = 5;
+
+    private static final byte UPPER = 1;
+    private static final byte LOWER = -1;
+
+    private ItemAnalysisEngine() {
+    }
+
+    /**
+     * 모든 문항 분석
+     *
+     * @param matrix       학생 × 문항 점수 행렬
+     * @param itemsPerTask 포크-조인 작업 하나가 직접 계산할 최대 문항 수
+     * @return 문항별 통계 (행렬의 문항 순서)
+     */
+    public static ItemStatistics[] analyze(ItemMatrix matrix, int itemsPerTask) {
+        int students = matrix.studentCount;
+        int items = matrix.itemCount;
+        int[] scores = matrix.scores;
+
+        int[] totals = new int[students];
+        for (int s = 0, base = 0; s < students; s++, base += items) {
+            int total = 0;
+            for (int i = 0; i < items; i++) {
+                total += scores[base + i];
+            }
+            totals[s] = total;
+        }
+
+        // 총점 오름차순 정렬 (총점을 상위 32비트, 학생 번호를 하위 32비트에 담아 기본형 정렬)
+        long[] order = new long[students];
+        for (int s = 0; s < students; s++) {
+            order[s] = ((long) totals[s] << 32) | s;
+        }
+        Arrays.sort(order);
+
+        int groupSize = students < 2 ? 0 : Math.max(1, (int) Math.round(students * GROUP_RATIO));
+        byte[] groups = new byte[students];
+        for (int k = 0; k < groupSize; k++) {
+            groups[(int) order[k]] = LOWER;
+            groups[(int) order[students - 1 - k]] = UPPER;
+        }
+
+        ItemStatistics[] result = new ItemStatistics[items];
+        if (items > 0) {
+            ForkJoinPool.commonPool().invoke(
+                new ItemTask(matrix, totals, groups, groupSize, result, 0, items, Math.max(1, itemsPerTask)));
+        }
+        return result;
+    }
+
+    /**
+     * 문항 1개 분석
+     */
+    private static ItemStatistics analyzeItem(ItemMatrix matrix, int[] totals, byte[] groups, int groupSize, int item) {
+        int students = matrix.studentCount;
+        int items = matrix.itemCount;
+        int maxScore = matrix.maxScores[item];
+        boolean multipleChoice = matrix.multipleChoice[item];
+
+        long sumX = 0;
+        long sumXX = 0;
+        long sumY = 0;
+        long sumYY = 0;
+        long sumXY = 0;
+        long upperSum = 0;
+        long lowerSum = 0;
+        int[] choiceCounts = multipleChoice ? new int[MAX_CHOICE + 1] : null;
+        int[] upperChoiceCounts = multipleChoice ? new int[MAX_CHOICE + 1] : null;
+        int[] lowerChoiceCounts = multipleChoice ? new int[MAX_CHOICE + 1] : null;
+
+        for (int s = 0, index = item; s < students; s++, index += items) {
+            long x = matrix.scores[index];
+            long y = totals[s] - x;
+            sumX += x;
+            sumXX += x * x;
+            sumY += y;
+            sumYY += y * y;
+            sumXY += x * y;
+
+            byte group = groups[s];
+            if (group == UPPER) {
+                upperSum += x;
+            } else if (group == LOWER) {
+                lowerSum += x;
+            }
+
+            if (multipleChoice) {
+                int choice = matrix.choices[index];
+                choiceCounts[choice]++;
+                if (group == UPPER) {
+                    upperChoiceCounts[choice]++;
+                } else if (group == LOWER) {
+                    lowerChoiceCounts[choice]++;
+                }
+            }
+        }
+
+        Double difficulty = students > 0 && maxScore > 0 ? (double) sumX / ((long) students * maxScore) : null;
+        Double upperLower = groupSize > 0 && maxScore > 0
+            ? (double) (upperSum - lowerSum) / ((long) groupSize * maxScore)
+            : null;
+
+        double n = students;
+        double covariance = n * sumXY - (double) sumX * sumY;
+        double varianceX = n * sumXX - (double) sumX * sumX;
+        double varianceY = n * sumYY - (double) sumY * sumY;
+        Double pointBiserial = varianceX > 0 && varianceY > 0
+            ? covariance / Math.sqrt(varianceX * varianceY)
+            : null;
+
+        return new ItemStatistics(item, difficulty, pointBiserial, upperLower,
+            choiceCounts, upperChoiceCounts, lowerChoiceCounts);
+    }
+
+    /**
+     * 문항 범위를 반씩 나누어 계산하는 포크-조인 작업
+     */
+    private static final class ItemTask extends RecursiveAction {
+
+        private final ItemMatrix matrix;
+        private final int[] totals;
+        private final byte[] groups;
+        private final int groupSize;
+        private final ItemStatistics[] result;
+        private final int from;
+        private final int to;
+        private final int threshold;
+
+        ItemTask(ItemMatrix matrix, int[] totals, byte[] groups, int groupSize,
+                 ItemStatistics[] result, int from, int to, int threshold) {
+            this.matrix = matrix;
+            this.totals = totals;
+            this.groups = groups;
+            this.groupSize = groupSize;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.threshold = threshold;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= threshold) {
+                for (int item = from; item < to; item++) {
+                    result[item] = analyzeItem(matrix, totals, groups, groupSize, item);
+                }
+                return;
+            }
+            int mid = (from + to) >>> 1;
+            invokeAll(
+                new ItemTask(matrix, totals, groups, groupSize, result, from, mid, threshold),
+                new ItemTask(matrix, totals, groups, groupSize, result, mid, to, threshold));
+        }
+    }
+
+    /**
+     * 학생 × 문항 점수 행렬
+     *
+     * <p>점수와 선택 번호를 학생 행 우선 순서의 기본형 배열에 담습니다.
+     * 학생 행은 추가할 때마다 필요한 만큼 배열을 늘리며, 응답이 없는 칸은 0점/무응답(0)입니다.</p>
+     */
+    public static final class ItemMatrix {
+
+        private final int itemCount;
+        private final int[] maxScores;
+        private final boolean[] multipleChoice;
+        private int studentCount;
+        private int[] scores;
+        private byte[] choices;
+
+        /**
+         * @param maxScores        문항별 배점
+         * @param multipleChoice   문항별 객관식 여부 (선택지 분포 계산 대상)
+         * @param expectedStudents 예상 학생 수 (초기 배열 크기)
+         */
+        public ItemMatrix(int[] maxScores, boolean[] multipleChoice, int expectedStudents) {
+            if (maxScores.length != multipleChoice.length) {
+                throw new IllegalArgumentException("문항별 배점과 객관식 여부의 길이가 다릅니다");
+            }
+            this.itemCount = maxScores.length;
+            this.maxScores = maxScores;
+            this.multipleChoice = multipleChoice;
+            int capacity = Math.max(1, expectedStudents) * itemCount;
+            this.scores = new int[capacity];
+            this.choices = new byte[capacity];
+        }
+
+        /**
+         * 학생 행 추가
+         *
+         * @return 추가된 학생 행 번호
+         */
+        public int addStudent() {
+            int required = (studentCount + 1) * itemCount;
+            if (required > scores.length) {
+                int capacity = Math.max(required, scores.length * 2);
+                scores = Arrays.copyOf(scores, capacity);
+                choices = Arrays.copyOf(choices, capacity);
+            }
+            return studentCount++;
+        }
+
+        /**
+         * 학생의 문항 응답 기록 (같은 칸에 다시 기록하면 덮어씀)
+         *
+         * @param student 학생 행 번호
+         * @param item    문항 번호 (0부터)
+         * @param score   획득 점수
+         * @param choice  선택 번호 (무응답이거나 범위를 벗어나면 0)
+         */
+        public void set(int student, int item, int score, int choice) {
+            int index = student * itemCount + item;
+            scores[index] = score;
+            choices[index] = (byte) (choice >= 1 && choice <= MAX_CHOICE ? choice : 0);
+        }
+
+        public int itemCount() {
+            return itemCount;
+        }
+
+        public int studentCount() {
+            return studentCount;
+        }
+    }
+
+    /**
+     * 문항별 통계
+     *
+     * @param item              문항 번호 (행렬의 문항 순서, 0부터)
+     * @param difficulty        난이도 p값 (평균 점수 / 배점, 학생이 없거나 배점이 0이면 null)
+     * @param pointBiserial     점이연 상관 변별도 (문항 점수 또는 교정 총점의 분산이 0이면 null)
+     * @param upperLower        상하위 집단 변별도 ((상위 평균 - 하위 평균) / 배점, 학생이 2명 미만이면 null)
+     * @param choiceCounts      선택 번호별 학생 수 (0번은 무응답, 주관식이면 null)
+     * @param upperChoiceCounts 상위 집단의 선택 번호별 학생 수 (주관식이면 null)
+     * @param lowerChoiceCounts 하위 집단의 선택 번호별 학생 수 (주관식이면 null)
+     */
+    public record ItemStatistics(
+        int item,
+        Double difficulty,
+        Double pointBiserial,
+        Double upperLower,
+        int[] choiceCounts,
+        int[] upperChoiceCounts,
+        int[] lowerChoiceCounts
+    ) {}
+}
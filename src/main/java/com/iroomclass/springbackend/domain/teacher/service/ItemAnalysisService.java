@@ -0,0 +1,163 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.iroomclass.springbackend.common.exception.EntityNotFoundException;
+import com.iroomclass.springbackend.config.ItemAnalysisConfig;
+import com.iroomclass.springbackend.domain.exam.entity.ExamScoreAggregate;
+import com.iroomclass.springbackend.domain.exam.entity.Question.QuestionType;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamScoreAggregateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ItemAnalysisRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ItemAnalysisRepository.ItemRow;
+import com.iroomclass.springbackend.domain.teacher.dto.ItemAnalysisDto;
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisEngine.ItemMatrix;
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisEngine.ItemStatistics;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 시험 문항 분석 서비스
+ *
+ * <p>시험의 최신 채점 결과를 한 번의 스트리밍 스캔으로 학생 × 문항 점수 행렬에 채우고,
+ * {@link ItemAnalysisEngine}으로 모든 문항을 병렬 분석합니다.</p>
+ *
+ * <p>분석 결과는 시험의 결과 버전별로 캐시합니다. 결과 버전은 최신 결과 포인터가 움직일 때마다 같은 트랜잭션에서
+ * 갱신되는 시험별 점수 집계 행(결과 수, 점수 합계, 갱신 시각)이므로, 기본키 조회 1회로 버전을 확인하고
+ * 채점/재채점이 없는 동안에는 다시 계산하지 않습니다. 다른 인스턴스에서 채점된 결과도 버전이 바뀌어 반영됩니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ItemAnalysisService {
+
+    private final ItemAnalysisConfig itemAnalysisConfig;
+    private final ExamRepository examRepository;
+    private final ExamScoreAggregateRepository examScoreAggregateRepository;
+    private final ItemAnalysisRepository itemAnalysisRepository;
+
+    private Cache<ResultVersion, ItemAnalysisDto> cache;
+
+    @PostConstruct
+    void init() {
+        if (itemAnalysisConfig.getItemsPerTask() <= 0) {
+            throw new IllegalStateException("dashboard.item-analysis.items-per-task는 1 이상이어야 합니다");
+        }
+        cache = Caffeine.newBuilder()
+            .maximumSize(itemAnalysisConfig.getCacheMaximumSize())
+            .expireAfterAccess(Duration.ofMinutes(itemAnalysisConfig.getCacheExpireAfterAccessMinutes()))
+            .build();
+    }
+
+    /**
+     * 시험 문항 분석 조회
+     *
+     * @param examId 시험 ID
+     * @return 문항별 난이도, 변별도, 객관식 선택지 분포
+     * @throws EntityNotFoundException 시험이 없는 경우
+     */
+    public ItemAnalysisDto getItemAnalysis(UUID examId) {
+        if (!examRepository.existsById(examId)) {
+            throw new EntityNotFoundException("시험을 찾을 수 없습니다: " + examId);
+        }
+
+        ExamScoreAggregate aggregate = examScoreAggregateRepository.findById(examId).orElse(null);
+        if (aggregate == null || aggregate.getResultCount() == 0) {
+            return analyze(examId, 0, null);
+        }
+
+        ResultVersion version = new ResultVersion(examId,
+            aggregate.getResultCount(), aggregate.getScoreSum(), aggregate.getUpdatedAt());
+        ItemAnalysisDto cached = cache.getIfPresent(version);
+        if (cached != null) {
+            return cached;
+        }
+
+        ItemAnalysisDto analysis = analyze(examId, (int) aggregate.getResultCount(), aggregate.getUpdatedAt());
+        // 같은 시험의 이전 버전은 다시 조회되지 않으므로 제거
+        cache.asMap().keySet().removeIf(key -> key.examId().equals(examId));
+        cache.put(version, analysis);
+        return analysis;
+    }
+
+    /**
+     * 최신 채점 결과를 점수 행렬로 읽어 모든 문항 분석 (캐시 미적중 시)
+     */
+    private ItemAnalysisDto analyze(UUID examId, int expectedStudents, LocalDateTime resultVersion) {
+        long startTime = System.currentTimeMillis();
+
+        List<ItemRow> items = itemAnalysisRepository.findItems(examId);
+        Map<UUID, Integer> itemIndexes = new HashMap<>();
+        int[] maxScores = new int[items.size()];
+        boolean[] multipleChoice = new boolean[items.size()];
+        for (int i = 0; i < items.size(); i++) {
+            ItemRow item = items.get(i);
+            itemIndexes.put(item.questionId(), i);
+            maxScores[i] = item.points();
+            multipleChoice[i] = item.questionType() == QuestionType.MULTIPLE_CHOICE;
+        }
+
+        ItemMatrix matrix = new ItemMatrix(maxScores, multipleChoice, expectedStudents);
+        Map<UUID, Integer> studentRows = new HashMap<>();
+        long rows = itemAnalysisRepository.scanItemResponses(examId, itemAnalysisConfig.getFetchSize(), row -> {
+            Integer item = itemIndexes.get(row.questionId());
+            if (item != null) {
+                int student = studentRows.computeIfAbsent(row.submissionId(), id -> matrix.addStudent());
+                matrix.set(student, item, row.score(), row.selectedChoice());
+            }
+        });
+
+        ItemStatistics[] statistics = ItemAnalysisEngine.analyze(matrix, itemAnalysisConfig.getItemsPerTask());
+
+        List<ItemAnalysisDto.ItemStatistics> itemDtos = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            ItemRow item = items.get(i);
+            ItemStatistics stats = statistics[i];
+            itemDtos.add(ItemAnalysisDto.ItemStatistics.create(
+                item.questionId(),
+                item.seqNo(),
+                item.questionType().name(),
+                item.points(),
+                stats.difficulty(),
+                stats.pointBiserial(),
+                stats.upperLower(),
+                item.correctChoice(),
+                toChoiceDistributions(stats, matrix.studentCount())));
+        }
+
+        log.info("문항 분석 완료: examId={}, students={}, items={}, rows={}, elapsed={}ms",
+            examId, matrix.studentCount(), items.size(), rows, System.currentTimeMillis() - startTime);
+
+        return ItemAnalysisDto.create(examId, matrix.studentCount(), resultVersion, itemDtos);
+    }
+
+    private List<ItemAnalysisDto.ChoiceDistribution> toChoiceDistributions(ItemStatistics stats, int studentCount) {
+        if (stats.choiceCounts() == null) {
+            return null;
+        }
+        List<ItemAnalysisDto.ChoiceDistribution> choices = new ArrayList<>(stats.choiceCounts().length);
+        for (int choice = 0; choice < stats.choiceCounts().length; choice++) {
+            choices.add(ItemAnalysisDto.ChoiceDistribution.create(choice, stats.choiceCounts()[choice],
+                studentCount, stats.upperChoiceCounts()[choice], stats.lowerChoiceCounts()[choice]));
+        }
+        return choices;
+    }
+
+    /**
+     * 시험 결과 버전 (캐시 키)
+     */
+    private record ResultVersion(UUID examId, long resultCount, long scoreSum, LocalDateTime updatedAt) {}
+}
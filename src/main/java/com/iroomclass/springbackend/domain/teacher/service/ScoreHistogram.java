@@ -0,0 +1,75 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 키별 점수를 구간별 개수로 유지하는 히스토그램
+ *
+ * <p>구간 개수는 primitive long 배열로 유지하고, 키의 점수가 바뀌면 이전 구간에서 빼고 새 구간에 더합니다.
+ * 같은 키에 같은 점수를 다시 넣어도 개수가 변하지 않으므로 이벤트를 중복 반영해도 안전합니다.
+ * 동기화는 호출하는 쪽({@link ScoreHistogramService})이 담당합니다.</p>
+ *
+ * @param <K> 점수를 구분하는 키 (제출 ID, 학생 ID 등)
+ */
+final class ScoreHistogram<K> {
+
+    private final int[] edges;
+    private final long[] counts;
+    private final Map<K, Double> scores = new HashMap<>();
+
+    /**
+     * @param edges 구간 하한 목록 (오름차순)
+     */
+    ScoreHistogram(int[] edges) {
+        this.edges = edges;
+        this.counts = new long[edges.length];
+    }
+
+    /**
+     * 키의 점수 지정
+     *
+     * @param key   키
+     * @param score 새 점수
+     * @return 이전 점수 (처음 지정이면 null)
+     */
+    Double put(K key, double score) {
+        Double previous = scores.put(key, score);
+        if (previous != null) {
+            counts[bucketOf(previous)]--;
+        }
+        counts[bucketOf(score)]++;
+        return previous;
+    }
+
+    /**
+     * 구간별 개수 복사본
+     */
+    long[] counts() {
+        return counts.clone();
+    }
+
+    /**
+     * 모든 키의 점수 복사본 (순서 없음)
+     */
+    double[] scores() {
+        return scores.values().stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * 점수가 속하는 구간 인덱스 (첫 하한보다 작은 점수는 첫 구간)
+     */
+    private int bucketOf(double score) {
+        int low = 0;
+        int high = edges.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (score >= edges[mid]) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,283 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.iroomclass.springbackend.config.ScoreHistogramConfig;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.event.LatestResultsChangedEvent;
+import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository.LatestResultChange;
+import com.iroomclass.springbackend.domain.teacher.dto.ScoreDistributionDto;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 성적 분포 히스토그램 서비스
+ *
+ * <p>학년별(학생 평균 점수)과 시험별(제출의 최신 결과 점수) 히스토그램을 메모리에 유지하여
+ * 성적 분포도 조회 시 DB를 읽지 않도록 합니다.</p>
+ *
+ * <ul>
+ *   <li>적재: 애플리케이션 시작 시 최신 결과 포인터 기준 스트리밍 스캔 1회로 전체 히스토그램을 만듭니다.</li>
+ *   <li>증분 갱신: 최신 결과 포인터가 이동하면 커밋 이후 {@link LatestResultsChangedEvent}를 받아 해당 제출과 학생만 옮깁니다.</li>
+ *   <li>재적재: 다른 인스턴스에서 채점된 변경을 따라잡기 위해 설정된 주기마다 다시 스캔하여 교체합니다.</li>
+ * </ul>
+ *
+ * <p>재적재 스캔 중 도착한 이벤트는 기존 히스토그램에 반영하면서 따로 모아 두었다가 새 히스토그램에 다시 적용합니다.
+ * 제출별 점수를 키로 유지하므로 스캔에 이미 포함된 변경을 다시 적용해도 결과가 같습니다.</p>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ScoreHistogramService {
+
+    private final ScoreHistogramConfig scoreHistogramConfig;
+    private final ExamSubmissionLatestResultRepository examSubmissionLatestResultRepository;
+    private final ExamRepository examRepository;
+
+    private final Object lock = new Object();
+
+    private int[] edges;
+    private List<ScoreDistributionDto.ScoreRange> ranges;
+
+    /** 현재 히스토그램 (lock으로 보호) */
+    private State state;
+
+    /** 재적재 중 도착한 갱신 (재적재 중이 아니면 null, lock으로 보호) */
+    private List<ScoreUpdate> pendingDuringReseed;
+
+    @PostConstruct
+    void init() {
+        List<Integer> configured = scoreHistogramConfig.getBucketEdges();
+        if (configured == null || configured.isEmpty()) {
+            throw new IllegalStateException("dashboard.score-histogram.bucket-edges가 비어 있습니다");
+        }
+        edges = configured.stream().mapToInt(Integer::intValue).toArray();
+        for (int i = 1; i < edges.length; i++) {
+            if (edges[i] <= edges[i - 1]) {
+                throw new IllegalStateException("dashboard.score-histogram.bucket-edges는 오름차순이어야 합니다: " + configured);
+            }
+        }
+        if (edges[edges.length - 1] > scoreHistogramConfig.getMaxScore()) {
+            throw new IllegalStateException("마지막 구간 하한이 만점보다 큽니다: " + configured);
+        }
+
+        List<ScoreDistributionDto.ScoreRange> bucketRanges = new ArrayList<>();
+        for (int i = 0; i < edges.length; i++) {
+            int min = edges[i];
+            int max = i + 1 < edges.length ? edges[i + 1] - 1 : scoreHistogramConfig.getMaxScore();
+            bucketRanges.add(new ScoreDistributionDto.ScoreRange(min, max, min + "-" + max + "점"));
+        }
+        ranges = List.copyOf(bucketRanges);
+        state = new State(edges);
+    }
+
+    /**
+     * 애플리케이션 시작 후 히스토그램 적재 (최신 결과 포인터 보정 이후 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seedOnStartup() {
+        reseed();
+    }
+
+    /**
+     * 주기적 재적재
+     */
+    @Scheduled(initialDelayString = "${dashboard.score-histogram.reseed-interval-ms:600000}",
+            fixedDelayString = "${dashboard.score-histogram.reseed-interval-ms:600000}")
+    public void scheduledReseed() {
+        reseed();
+    }
+
+    /**
+     * 최신 결과 점수 전체 스캔으로 히스토그램 재적재
+     *
+     * <p>이미 재적재 중이면 아무것도 하지 않습니다. 스캔이 실패하면 기존 히스토그램을 유지합니다.</p>
+     */
+    public void reseed() {
+        synchronized (lock) {
+            if (pendingDuringReseed != null) {
+                return;
+            }
+            pendingDuringReseed = new ArrayList<>();
+        }
+
+        try {
+            State fresh = new State(edges);
+            long startedAt = System.currentTimeMillis();
+            long rows = examSubmissionLatestResultRepository.scanLatestScores(
+                scoreHistogramConfig.getScanFetchSize(),
+                row -> fresh.apply(new ScoreUpdate(row.examId(), row.grade(), row.submissionId(),
+                    row.studentId(), row.score())));
+
+            synchronized (lock) {
+                pendingDuringReseed.forEach(fresh::apply);
+                state = fresh;
+            }
+            log.info("성적 분포 히스토그램 적재 완료: rows={}, exams={}, elapsedMs={}",
+                rows, fresh.exams.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("성적 분포 히스토그램 적재 실패, 기존 히스토그램 유지: {}", e.getMessage(), e);
+        } finally {
+            synchronized (lock) {
+                pendingDuringReseed = null;
+            }
+        }
+    }
+
+    /**
+     * 최신 결과 포인터 이동 반영 (커밋 이후)
+     *
+     * @param event 최신 결과 변경 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLatestResultsChanged(LatestResultsChangedEvent event) {
+        List<ScoreUpdate> updates = new ArrayList<>();
+        for (LatestResultChange change : event.changes()) {
+            Integer grade = gradeOf(change.examId());
+            if (grade == null) {
+                continue;
+            }
+            updates.add(new ScoreUpdate(change.examId(), grade, change.submissionId(),
+                change.studentId(), change.newScore()));
+        }
+
+        synchronized (lock) {
+            updates.forEach(state::apply);
+            if (pendingDuringReseed != null) {
+                pendingDuringReseed.addAll(updates);
+            }
+        }
+    }
+
+    /**
+     * 학년별 학생 평균 점수 히스토그램 조회
+     *
+     * @param grade 학년
+     * @return 히스토그램 스냅샷 (결과가 없으면 개수가 모두 0)
+     */
+    public Snapshot getGradeSnapshot(Integer grade) {
+        synchronized (lock) {
+            GradeHistogram histogram = state.grades.get(grade);
+            return histogram != null
+                ? new Snapshot(ranges, histogram.studentAverages.counts(), histogram.studentAverages.scores())
+                : emptySnapshot();
+        }
+    }
+
+    /**
+     * 시험별 최신 결과 점수 히스토그램 조회
+     *
+     * @param examId 시험 ID
+     * @return 히스토그램 스냅샷 (결과가 없으면 개수가 모두 0)
+     */
+    public Snapshot getExamSnapshot(UUID examId) {
+        synchronized (lock) {
+            ScoreHistogram<UUID> histogram = state.exams.get(examId);
+            return histogram != null
+                ? new Snapshot(ranges, histogram.counts(), histogram.scores())
+                : emptySnapshot();
+        }
+    }
+
+    private Snapshot emptySnapshot() {
+        return new Snapshot(ranges, new long[edges.length], new double[0]);
+    }
+
+    /**
+     * 시험의 학년 조회 (히스토그램에 없는 새 시험만 DB 조회)
+     */
+    private Integer gradeOf(UUID examId) {
+        synchronized (lock) {
+            Integer grade = state.examGrades.get(examId);
+            if (grade != null) {
+                return grade;
+            }
+        }
+        return examRepository.findById(examId).map(Exam::getGrade).orElse(null);
+    }
+
+    /**
+     * 히스토그램 스냅샷
+     *
+     * @param ranges 구간 정의 (counts와 같은 순서)
+     * @param counts 구간별 개수
+     * @param scores 히스토그램에 포함된 모든 점수 (순서 없음)
+     */
+    public record Snapshot(List<ScoreDistributionDto.ScoreRange> ranges, long[] counts, double[] scores) {
+
+        public long totalCount() {
+            return scores.length;
+        }
+    }
+
+    /**
+     * 제출 하나의 최신 점수 갱신
+     */
+    private record ScoreUpdate(UUID examId, Integer grade, UUID submissionId, Long studentId, int score) {}
+
+    /**
+     * 전체 히스토그램 상태
+     */
+    private static final class State {
+
+        private final int[] edges;
+        private final Map<Integer, GradeHistogram> grades = new HashMap<>();
+        private final Map<UUID, ScoreHistogram<UUID>> exams = new HashMap<>();
+        private final Map<UUID, Integer> examGrades = new HashMap<>();
+
+        State(int[] edges) {
+            this.edges = edges;
+        }
+
+        void apply(ScoreUpdate update) {
+            examGrades.put(update.examId(), update.grade());
+            Double previous = exams.computeIfAbsent(update.examId(), id -> new ScoreHistogram<>(edges))
+                .put(update.submissionId(), update.score());
+            if (previous != null && previous.intValue() == update.score()) {
+                return;
+            }
+            grades.computeIfAbsent(update.grade(), grade -> new GradeHistogram(edges))
+                .apply(update.studentId(), previous != null ? previous.intValue() : null, update.score());
+        }
+    }
+
+    /**
+     * 학년별 학생 평균 점수 히스토그램
+     *
+     * <p>학생별 [결과 수, 점수 합계]를 유지하여 제출 점수가 바뀔 때 해당 학생의 평균만 다시 계산합니다.</p>
+     */
+    private static final class GradeHistogram {
+
+        private final ScoreHistogram<Long> studentAverages;
+        private final Map<Long, long[]> studentTotals = new HashMap<>();
+
+        GradeHistogram(int[] edges) {
+            this.studentAverages = new ScoreHistogram<>(edges);
+        }
+
+        void apply(Long studentId, Integer previousScore, int score) {
+            long[] totals = studentTotals.computeIfAbsent(studentId, id -> new long[2]);
+            if (previousScore == null) {
+                totals[0]++;
+            } else {
+                totals[1] -= previousScore;
+            }
+            totals[1] += score;
+            studentAverages.put(studentId, (double) totals[1] / totals[0]);
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iroomclass.springbackend.common.exception.TooManyRequestsException;
+import com.iroomclass.springbackend.config.DashboardSubmissionFeedConfig;
+import com.iroomclass.springbackend.domain.exam.event.ExamSubmittedEvent;
+import com.iroomclass.springbackend.domain.teacher.dto.SubmissionCountDeltaDto;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 교사 대시보드 실시간 제출 수 피드
+ *
+ * <p>제출 커밋 이벤트를 시험별 카운터 하나에 모아 두고, 구간(기본 1초)마다 변화량을 한 번 직렬화해
+ * 모든 SSE 구독자에게 보냅니다. 구독자 수와 관계없이 DB 조회가 없고 직렬화 횟수는 학년 수에 비례하므로,
+ * 대시보드를 열어 둔 교사가 늘어도 서버 부하가 커지지 않습니다.</p>
+ *
+ * <p>카운터는 {@link ConcurrentHashMap#merge}로 증가시키고 {@link ConcurrentHashMap#remove}로 꺼내므로
+ * 전송 중 도착한 제출은 다음 구간에 포함되며 유실되지 않습니다.
+ * 구독자가 없으면 이벤트를 모으지 않습니다.</p>
+ *
+ * <p>SSE 전송은 스케줄러 스레드가 아닌 전용 전송 레인(단일 스레드 실행기)에서 수행합니다. 구독자는 ID로 레인에 고정되므로
+ * 한 구독자에게 가는 이벤트 순서가 유지되고, 느린 연결은 같은 레인의 구독자만 늦춥니다.
+ * 레인 대기열이 가득 차면 해당 레인 구독자의 연결을 끊어 클라이언트가 재연결 후 최신 현황을 다시 받도록 합니다.</p>
+ *
+ * <p>카운터는 노드별 메모리에 있으므로 단일 노드 운영을 전제로 합니다.
+ * 여러 노드로 운영하면 구독자는 자신이 연결된 노드가 받은 제출만 보게 됩니다.</p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubmissionCountFeed {
+
+    private static final String EVENT_NAME = "submissionCounts";
+
+    private final DashboardSubmissionFeedConfig dashboardSubmissionFeedConfig;
+    private final ObjectMapper objectMapper;
+
+    private final Map<UUID, PendingDelta> pendingDeltas = new ConcurrentHashMap<>();
+    private final Map<UUID, Subscriber> subscribers = new ConcurrentHashMap<>();
+
+    private ThreadPoolTaskExecutor[] sendLanes;
+
+    private volatile long lastSentAt = System.currentTimeMillis();
+
+    @PostConstruct
+    void init() {
+        int laneCount = Math.max(1, dashboardSubmissionFeedConfig.getSenderThreads());
+        sendLanes = new ThreadPoolTaskExecutor[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            ThreadPoolTaskExecutor lane = new ThreadPoolTaskExecutor();
+            lane.setCorePoolSize(1);
+            lane.setMaxPoolSize(1);
+            lane.setQueueCapacity(dashboardSubmissionFeedConfig.getSenderQueueCapacity());
+            lane.setThreadNamePrefix("submission-feed-" + i + "-");
+            lane.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+            lane.initialize();
+            sendLanes[i] = lane;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        for (ThreadPoolTaskExecutor lane : sendLanes) {
+            lane.shutdown();
+        }
+    }
+
+    /**
+     * 제출 수 피드 구독
+     *
+     * @param grade 학년 필터 (null이면 전체 학년)
+     * @return SSE 연결
+     * @throws TooManyRequestsException 최대 구독자 수를 넘은 경우
+     */
+    public SseEmitter subscribe(Integer grade) {
+        if (subscribers.size() >= dashboardSubmissionFeedConfig.getMaxSubscribers()) {
+            throw new TooManyRequestsException("실시간 제출 현황 구독자가 너무 많습니다", 30);
+        }
+
+        UUID subscriberId = UUID.randomUUID();
+        SseEmitter emitter = new SseEmitter(dashboardSubmissionFeedConfig.getEmitterTimeoutMs());
+        emitter.onCompletion(() -> subscribers.remove(subscriberId));
+        emitter.onTimeout(() -> subscribers.remove(subscriberId));
+        emitter.onError(ex -> subscribers.remove(subscriberId));
+
+        try {
+            emitter.send(SseEmitter.event()
+                .name("connection")
+                .data("SSE 연결이 성공적으로 생성되었습니다"));
+        } catch (IOException e) {
+            log.warn("제출 수 피드 초기 메시지 전송 실패: subscriberId={}, error={}", subscriberId, e.getMessage());
+            emitter.completeWithError(e);
+            return emitter;
+        }
+
+        subscribers.put(subscriberId, new Subscriber(grade, emitter));
+        log.info("제출 수 피드 구독: subscriberId={}, grade={}, subscribers={}", subscriberId, grade, subscribers.size());
+        return emitter;
+    }
+
+    /**
+     * 새 제출 커밋 시 시험별 카운터 증가
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onExamSubmitted(ExamSubmittedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        pendingDeltas.merge(event.examId(), new PendingDelta(event.grade(), 1), PendingDelta::plus);
+    }
+
+    /**
+     * 구간마다 모인 변화량 전송 (변화가 없으면 하트비트만 주기적으로 전송)
+     */
+    @Scheduled(fixedDelayString = "${dashboard.submission-feed.window-ms:1000}")
+    public void flush() {
+        if (subscribers.isEmpty()) {
+            pendingDeltas.clear();
+            return;
+        }
+
+        List<SubmissionCountDeltaDto.ExamSubmissionDelta> deltas = drain();
+        if (deltas.isEmpty()) {
+            if (System.currentTimeMillis() - lastSentAt >= dashboardSubmissionFeedConfig.getHeartbeatIntervalMs()) {
+                sendHeartbeat();
+            }
+            return;
+        }
+
+        // 학년별 페이로드를 한 번씩만 직렬화 (null 키는 전체 학년)
+        LocalDateTime windowEndAt = LocalDateTime.now();
+        Map<Integer, List<SubmissionCountDeltaDto.ExamSubmissionDelta>> byGrade = new HashMap<>();
+        byGrade.put(null, deltas);
+        for (SubmissionCountDeltaDto.ExamSubmissionDelta delta : deltas) {
+            byGrade.computeIfAbsent(delta.grade(), g -> new ArrayList<>()).add(delta);
+        }
+
+        Map<Integer, String> payloads = new HashMap<>();
+        List<List<Delivery>> laneDeliveries = newLaneDeliveries();
+        for (Map.Entry<UUID, Subscriber> entry : subscribers.entrySet()) {
+            Integer grade = entry.getValue().grade();
+            List<SubmissionCountDeltaDto.ExamSubmissionDelta> gradeDeltas = byGrade.get(grade);
+            if (gradeDeltas == null) {
+                continue;
+            }
+            String payload = payloads.computeIfAbsent(grade,
+                g -> serialize(SubmissionCountDeltaDto.create(windowEndAt, gradeDeltas)));
+            laneDeliveries.get(laneOf(entry.getKey())).add(new Delivery(entry.getKey(), entry.getValue(), payload));
+        }
+        dispatch(laneDeliveries);
+        lastSentAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 현재 구독자 수
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    private List<SubmissionCountDeltaDto.ExamSubmissionDelta> drain() {
+        List<SubmissionCountDeltaDto.ExamSubmissionDelta> deltas = new ArrayList<>();
+        for (UUID examId : pendingDeltas.keySet()) {
+            PendingDelta delta = pendingDeltas.remove(examId);
+            if (delta != null) {
+                deltas.add(SubmissionCountDeltaDto.ExamSubmissionDelta.create(examId, delta.grade(), delta.count()));
+            }
+        }
+        return deltas;
+    }
+
+    private void sendHeartbeat() {
+        List<List<Delivery>> laneDeliveries = newLaneDeliveries();
+        for (Map.Entry<UUID, Subscriber> entry : subscribers.entrySet()) {
+            laneDeliveries.get(laneOf(entry.getKey())).add(new Delivery(entry.getKey(), entry.getValue(), null));
+        }
+        dispatch(laneDeliveries);
+        lastSentAt = System.currentTimeMillis();
+    }
+
+    private List<List<Delivery>> newLaneDeliveries() {
+        List<List<Delivery>> laneDeliveries = new ArrayList<>(sendLanes.length);
+        for (int i = 0; i < sendLanes.length; i++) {
+            laneDeliveries.add(new ArrayList<>());
+        }
+        return laneDeliveries;
+    }
+
+    private int laneOf(UUID subscriberId) {
+        return Math.floorMod(subscriberId.hashCode(), sendLanes.length);
+    }
+
+    /**
+     * 레인별 전송 작업 등록 (레인 대기열이 가득 차면 해당 구독자 연결 종료)
+     */
+    private void dispatch(List<List<Delivery>> laneDeliveries) {
+        for (int i = 0; i < sendLanes.length; i++) {
+            List<Delivery> deliveries = laneDeliveries.get(i);
+            if (deliveries.isEmpty()) {
+                continue;
+            }
+            try {
+                sendLanes[i].execute(() -> deliveries.forEach(this::deliver));
+            } catch (TaskRejectedException e) {
+                log.warn("제출 수 피드 전송 지연, 레인 구독자 연결 종료: lane={}, subscribers={}", i, deliveries.size());
+                for (Delivery delivery : deliveries) {
+                    subscribers.remove(delivery.subscriberId());
+                    delivery.subscriber().emitter().complete();
+                }
+            }
+        }
+    }
+
+    private void deliver(Delivery delivery) {
+        SseEmitter.SseEventBuilder event = delivery.payload() != null
+            ? SseEmitter.event().name(EVENT_NAME).data(delivery.payload())
+            : SseEmitter.event().comment("heartbeat");
+        send(delivery.subscriberId(), delivery.subscriber(), event);
+    }
+
+    private void send(UUID subscriberId, Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            // 끊어진 연결은 제거 (클라이언트가 EventSource로 재연결)
+            log.debug("제출 수 피드 전송 실패, 구독 해제: subscriberId={}, error={}", subscriberId, e.getMessage());
+            subscribers.remove(subscriberId);
+            subscriber.emitter().completeWithError(e);
+        }
+    }
+
+    private String serialize(SubmissionCountDeltaDto dto) {
+        try {
+            return objectMapper.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제출 수 피드 직렬화 실패", e);
+        }
+    }
+
+    /**
+     * 구독자 (학년 필터와 SSE 연결)
+     */
+    private record Subscriber(Integer grade, SseEmitter emitter) {}
+
+    /**
+     * 레인에서 보낼 전송 1건 (payload가 null이면 하트비트)
+     */
+    private record Delivery(UUID subscriberId, Subscriber subscriber, String payload) {}
+
+    /**
+     * 구간 동안 누적된 시험별 제출 수
+     */
+    private record PendingDelta(Integer grade, long count) {
+
+        PendingDelta plus(PendingDelta other) {
+            return new PendingDelta(grade, count + other.count);
+        }
+    }
+}
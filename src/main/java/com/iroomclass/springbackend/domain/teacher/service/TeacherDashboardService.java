@@ -1,7 +1,9 @@
 package com.iroomclass.springbackend.domain.teacher.service;
 
+import com.iroomclass.springbackend.config.DashboardFanOutConfig;
 import com.iroomclass.springbackend.domain.auth.entity.Student;
 import com.iroomclass.springbackend.domain.auth.repository.StudentRepository;
+import com.iroomclass.springbackend.domain.auth.repository.StudentRepository.SubmissionRosterRow;
 import com.iroomclass.springbackend.domain.exam.entity.Exam;
 import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
 import com.iroomclass.springbackend.domain.exam.entity.ExamResultQuestion;
@@ -9,6 +11,8 @@ import com.iroomclass.springbackend.domain.exam.entity.ExamSubmission;
 import com.iroomclass.springbackend.domain.exam.repository.ExamRepository;
 import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionRepository;
 import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamScoreAggregateRepository;
+import com.iroomclass.springbackend.domain.exam.repository.UnitAnswerStatsRepository;
 import com.iroomclass.springbackend.domain.teacher.dto.ExamAverageScoreDto;
 import com.iroomclass.springbackend.domain.teacher.dto.ExamSubmissionDetailDto;
 import com.iroomclass.springbackend.domain.teacher.dto.RecentExamSubmissionStatusDto;
@@ -17,20 +21,28 @@ import com.iroomclass.springbackend.domain.teacher.dto.StudentAnswerDetailDto;
 import com.iroomclass.springbackend.domain.teacher.dto.UnitWrongAnswerRateDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Duration;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Objects;
 import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -40,6 +52,11 @@ import java.util.stream.Collectors;
  * 선생님이 필요로 하는 시험 통계, 제출 현황, 성적 분석 등의
  * 복잡한 조회 기능을 제공합니다.
  * </p>
+ * 
+ * <p>
+ * DB를 읽는 조회 결과는 {@link DashboardCache}에 학년/시험 단위로 캐시되며,
+ * 제출/채점/시험 생성 이벤트가 커밋되면 해당 학년/시험 항목만 무효화됩니다.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
@@ -47,10 +64,22 @@ import java.util.stream.Collectors;
 @Slf4j
 public class TeacherDashboardService {
 
+    /**
+     * 전체 학년 조회 대상 학년
+     */
+    private static final List<Integer> DASHBOARD_GRADES = List.of(1, 2, 3);
+
     private final ExamRepository examRepository;
     private final ExamSubmissionRepository examSubmissionRepository;
     private final ExamResultRepository examResultRepository;
+    private final ExamScoreAggregateRepository examScoreAggregateRepository;
     private final StudentRepository studentRepository;
+    private final ScoreHistogramService scoreHistogramService;
+    private final UnitAnswerStatsRepository unitAnswerStatsRepository;
+    private final DashboardCache dashboardCache;
+    private final DashboardFanOutConfig dashboardFanOutConfig;
+    private final ExecutorService dashboardFanOutExecutor;
+    private final PlatformTransactionManager transactionManager;
 
     /**
      * 학년별 최근 시험들의 제출 현황을 조회합니다
@@ -60,6 +89,14 @@ public class TeacherDashboardService {
      * @return 최근 시험들의 제출 현황
      */
     public RecentExamSubmissionStatusDto getRecentExamsSubmissionStatus(Integer grade, int limit) {
+        return dashboardCache.getForGrade("recentExamsSubmissionStatus", grade, List.of(limit),
+                () -> loadRecentExamsSubmissionStatus(grade, limit));
+    }
+
+    /**
+     * 학년별 최근 시험 제출 현황 계산 (캐시 미적중 시)
+     */
+    private RecentExamSubmissionStatusDto loadRecentExamsSubmissionStatus(Integer grade, int limit) {
         log.info("학년별 최근 시험 제출 현황 조회 시작: grade={}, limit={}", grade, limit);
 
         // 1. 해당 학년의 최근 시험 목록 조회
@@ -121,18 +158,50 @@ public class TeacherDashboardService {
     /**
      * 전체 학년의 최근 시험 제출 현황을 조회합니다
      * 
+     * <p>
+     * 학년별 조회를 가상 스레드에서 각자의 읽기 전용 트랜잭션으로 동시에 실행하므로 응답 시간은 가장 느린 학년 수준입니다.
+     * dashboard.fan-out.timeout-ms 안에 끝나지 않았거나 실패한 학년은 응답에서 제외합니다 (부분 결과).
+     * 대기하는 동안 호출 스레드가 커넥션을 점유하지 않도록 이 메서드는 트랜잭션 없이 실행됩니다.
+     * </p>
+     * 
      * @param limit 각 학년별 조회할 시험 개수 (기본값: 5)
-     * @return 전체 학년별 최근 시험 제출 현황
+     * @return 전체 학년별 최근 시험 제출 현황 (기한 내 완료된 학년만)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<Integer, RecentExamSubmissionStatusDto> getAllGradesRecentExamsStatus(int limit) {
         log.info("전체 학년 최근 시험 제출 현황 조회 시작: limit={}", limit);
 
-        Map<Integer, RecentExamSubmissionStatusDto> result = Map.of(
-                1, getRecentExamsSubmissionStatus(1, limit),
-                2, getRecentExamsSubmissionStatus(2, limit),
-                3, getRecentExamsSubmissionStatus(3, limit));
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        Map<Integer, Future<RecentExamSubmissionStatusDto>> futures = new LinkedHashMap<>();
+        for (Integer grade : DASHBOARD_GRADES) {
+            futures.put(grade, dashboardFanOutExecutor.submit(() -> readOnlyTransaction.execute(
+                    status -> getRecentExamsSubmissionStatus(grade, limit))));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(dashboardFanOutConfig.getTimeoutMs());
+        Map<Integer, RecentExamSubmissionStatusDto> result = new LinkedHashMap<>();
+        for (Map.Entry<Integer, Future<RecentExamSubmissionStatusDto>> entry : futures.entrySet()) {
+            Integer grade = entry.getKey();
+            Future<RecentExamSubmissionStatusDto> future = entry.getValue();
+            try {
+                result.put(grade, future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS));
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("학년별 최근 시험 제출 현황 조회 기한 초과, 응답에서 제외: grade={}, timeoutMs={}",
+                        grade, dashboardFanOutConfig.getTimeoutMs());
+            } catch (ExecutionException e) {
+                log.error("학년별 최근 시험 제출 현황 조회 실패, 응답에서 제외: grade={}, error={}",
+                        grade, e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.values().forEach(pending -> pending.cancel(true));
+                break;
+            }
+        }
 
-        log.info("전체 학년 최근 시험 제출 현황 조회 완료");
+        log.info("전체 학년 최근 시험 제출 현황 조회 완료: grades={}", result.keySet());
         return result;
     }
 
@@ -143,6 +212,14 @@ public class TeacherDashboardService {
      * @return 시험 통계 요약
      */
     public ExamStatsSummary getExamStatsSummary(Integer grade) {
+        return dashboardCache.getForGrade("examStatsSummary", grade, List.of(),
+                () -> loadExamStatsSummary(grade));
+    }
+
+    /**
+     * 학년별 시험 통계 요약 계산 (캐시 미적중 시)
+     */
+    private ExamStatsSummary loadExamStatsSummary(Integer grade) {
         log.info("학년별 시험 통계 요약 조회 시작: grade={}", grade);
 
         // 전체 시험 수
@@ -188,10 +265,25 @@ public class TeacherDashboardService {
     /**
      * 특정 시험의 상세 제출자 현황을 조회합니다
      * 
+     * <p>
+     * 통계는 COUNT/AVG 조회로 계산하고, 제출/미제출 명단은 학생 엔티티 대신 투영 행을 페이지 단위로 읽으므로
+     * 학년 학생 수와 무관하게 메모리 사용량이 페이지 크기로 제한됩니다.
+     * </p>
+     * 
      * @param examId 시험 ID
+     * @param page   명단 페이지 번호 (0부터 시작)
+     * @param size   명단 페이지 크기
      * @return 시험 제출자 상세 현황
      */
-    public ExamSubmissionDetailDto getExamSubmissionDetail(UUID examId) {
+    public ExamSubmissionDetailDto getExamSubmissionDetail(UUID examId, int page, int size) {
+        return dashboardCache.getForExam("examSubmissionDetail", examId, List.of(page, size),
+                () -> loadExamSubmissionDetail(examId, page, size));
+    }
+
+    /**
+     * 시험 상세 제출자 현황 계산 (캐시 미적중 시)
+     */
+    private ExamSubmissionDetailDto loadExamSubmissionDetail(UUID examId, int page, int size) {
         log.info("시험 상세 제출자 현황 조회 시작: examId={}", examId);
 
         // 1. 시험 기본 정보 조회 (시험지 정보 포함)
@@ -216,45 +308,48 @@ public class TeacherDashboardService {
                 questionCount,
                 exam.getContent());
 
-        // 4. 해당 학년의 모든 학생 목록 조회 (시험을 본 적이 있는 학생들)
-        List<Student> allStudentsInGrade = studentRepository.findStudentsByGrade(exam.getGrade());
-        log.info("해당 학년 전체 학생 수: grade={}, studentCount={}", exam.getGrade(), allStudentsInGrade.size());
-
-        // 5. 해당 시험에 제출한 학생들의 제출 정보 조회 (학생 정보 포함)
-        List<ExamSubmission> submissions = examSubmissionRepository.findByExamIdWithStudent(examId);
-        log.info("시험 제출자 수: examId={}, submissionCount={}", examId, submissions.size());
-
-        // 6. 제출한 학생들의 상세 정보 생성 (제출 순서 포함)
-        AtomicInteger submissionOrder = new AtomicInteger(1);
-        List<ExamSubmissionDetailDto.StudentSubmissionInfo> submittedStudents = submissions.stream()
-                .map(submission -> ExamSubmissionDetailDto.StudentSubmissionInfo.create(
-                        submission.getStudent().getId(),
-                        submission.getStudent().getName(),
-                        submission.getStudent().getPhone(),
-                        submission.getSubmittedAt(),
+        // 4. 제출 통계 조회 (COUNT/AVG, 학생 엔티티를 읽지 않음)
+        long totalStudentCount = examSubmissionRepository.countStudentsByGrade(exam.getGrade());
+        long submittedCount = examSubmissionRepository.countByExamId(examId);
+        Double averageSubmissionMinutes = examSubmissionRepository.findAverageSubmissionMinutes(examId);
+        log.info("시험 제출 통계: grade={}, totalStudents={}, submitted={}",
+                exam.getGrade(), totalStudentCount, submittedCount);
+
+        // 5. 제출/미제출 명단 한 페이지 조회 (제출 학생이 제출 순서대로 먼저 위치)
+        List<SubmissionRosterRow> roster = studentRepository.findSubmissionRoster(exam.getGrade(), examId,
+                PageRequest.of(page, size));
+
+        // 6. 명단 행을 제출/미제출로 분리 (제출 순서는 페이지 offset 기준)
+        long offset = (long) page * size;
+        List<ExamSubmissionDetailDto.StudentSubmissionInfo> submittedStudents = new ArrayList<>();
+        List<ExamSubmissionDetailDto.StudentInfo> notSubmittedStudentInfos = new ArrayList<>();
+        for (int i = 0; i < roster.size(); i++) {
+            SubmissionRosterRow row = roster.get(i);
+            if (row.getSubmittedAt() != null) {
+                submittedStudents.add(ExamSubmissionDetailDto.StudentSubmissionInfo.create(
+                        row.getStudentId(),
+                        row.getStudentName(),
+                        row.getStudentPhone(),
+                        row.getSubmittedAt(),
                         exam.getCreatedAt(),
-                        submissionOrder.getAndIncrement()))
-                .collect(Collectors.toList());
-
-        // 7. 제출하지 않은 학생들 조회
-        List<Student> notSubmittedStudents = studentRepository.findStudentsNotSubmittedToExam(
-                exam.getGrade(), examId);
-
-        List<ExamSubmissionDetailDto.StudentInfo> notSubmittedStudentInfos = notSubmittedStudents.stream()
-                .map(student -> ExamSubmissionDetailDto.StudentInfo.create(
-                        student.getId(),
-                        student.getName(),
-                        student.getPhone()))
-                .collect(Collectors.toList());
-
-        log.info("시험 미제출자 수: examId={}, notSubmittedCount={}", examId, notSubmittedStudentInfos.size());
+                        (int) (offset + i + 1)));
+            } else {
+                notSubmittedStudentInfos.add(ExamSubmissionDetailDto.StudentInfo.create(
+                        row.getStudentId(),
+                        row.getStudentName(),
+                        row.getStudentPhone()));
+            }
+        }
 
-        // 8. 전체 응답 DTO 생성
+        // 7. 전체 응답 DTO 생성
         ExamSubmissionDetailDto result = ExamSubmissionDetailDto.create(
                 examInfo,
-                (long) allStudentsInGrade.size(),
+                totalStudentCount,
+                submittedCount,
+                averageSubmissionMinutes,
                 submittedStudents,
-                notSubmittedStudentInfos);
+                notSubmittedStudentInfos,
+                ExamSubmissionDetailDto.RosterPageInfo.create(page, size, totalStudentCount));
 
         log.info("시험 상세 제출자 현황 조회 완료: examId={}, totalStudents={}, submitted={}, notSubmitted={}, submissionRate={}",
                 examId, result.statistics().totalStudentCount(), result.statistics().submittedCount(),
@@ -271,6 +366,14 @@ public class TeacherDashboardService {
      * @return 학생의 상세 답안 정보
      */
     public StudentAnswerDetailDto getStudentAnswerDetail(UUID examId, Long studentId) {
+        return dashboardCache.getForExam("studentAnswerDetail", examId, List.of(studentId),
+                () -> loadStudentAnswerDetail(examId, studentId));
+    }
+
+    /**
+     * 학생 상세 답안 계산 (캐시 미적중 시)
+     */
+    private StudentAnswerDetailDto loadStudentAnswerDetail(UUID examId, Long studentId) {
         log.info("학생별 상세 답안 조회 시작: examId={}, studentId={}", examId, studentId);
 
         // 1. 시험 기본 정보 조회
@@ -294,6 +397,20 @@ public class TeacherDashboardService {
         log.info("채점 결과 조회 완료: examId={}, studentId={}, totalScore={}, questionCount={}",
                 examId, studentId, examResult.getTotalScore(), examResult.getQuestionResults().size());
 
+        StudentAnswerDetailDto result = toStudentAnswerDetail(exam, student, submission, examResult);
+
+        log.info("학생별 상세 답안 조회 완료: examId={}, studentId={}, questionCount={}, totalScore={}/{}",
+                examId, studentId, result.questionAnswers().size(), examResult.getTotalScore(),
+                result.questionAnswers().stream().mapToInt(qa -> qa.maxPoints()).sum());
+
+        return result;
+    }
+
+    /**
+     * 로드된 시험/학생/제출/채점 결과로 학생 상세 답안 DTO 구성 (추가 조회 없음)
+     */
+    private StudentAnswerDetailDto toStudentAnswerDetail(Exam exam, Student student, ExamSubmission submission,
+            ExamResult examResult) {
         // 5. 기본 정보 DTO 생성
         StudentAnswerDetailDto.StudentBasicInfo studentInfo = StudentAnswerDetailDto.StudentBasicInfo.create(
                 student.getId(),
@@ -377,10 +494,6 @@ public class TeacherDashboardService {
                 })
                 .collect(Collectors.toList());
 
-        log.info("학생별 상세 답안 조회 완료: examId={}, studentId={}, questionCount={}, totalScore={}/{}",
-                examId, studentId, questionAnswers.size(), examResult.getTotalScore(),
-                questionAnswers.stream().mapToInt(qa -> qa.maxPoints()).sum());
-
         // 8. 전체 응답 DTO 생성
         return StudentAnswerDetailDto.create(
                 studentInfo,
@@ -393,28 +506,55 @@ public class TeacherDashboardService {
     /**
      * 특정 시험의 모든 학생 상세 답안을 조회합니다 (페이징 지원)
      * 
+     * <p>
+     * 채점 결과가 있는 제출을 SQL에서 페이징한 뒤 해당 페이지의 최신 결과를 문제/단원 정보와 함께 한 번에 읽으므로
+     * 페이지 크기와 무관하게 쿼리 3회(시험, 제출 페이지, 결과 상세)로 처리됩니다.
+     * </p>
+     * 
      * @param examId   시험 ID
      * @param pageable 페이징 정보
      * @return 학생들의 상세 답안 목록
      */
     public List<StudentAnswerDetailDto> getAllStudentsAnswerDetails(UUID examId,
             org.springframework.data.domain.Pageable pageable) {
+        return dashboardCache.getForExam("allStudentsAnswerDetails", examId,
+                List.of(pageable.getPageNumber(), pageable.getPageSize()),
+                () -> loadAllStudentsAnswerDetails(examId, pageable));
+    }
+
+    /**
+     * 시험의 전체 학생 상세 답안 계산 (캐시 미적중 시)
+     */
+    private List<StudentAnswerDetailDto> loadAllStudentsAnswerDetails(UUID examId,
+            org.springframework.data.domain.Pageable pageable) {
         log.info("시험의 전체 학생 상세 답안 조회 시작: examId={}, page={}, size={}",
                 examId, pageable.getPageNumber(), pageable.getPageSize());
 
-        // 1. 시험에 제출한 모든 학생 조회
-        List<ExamSubmission> submissions = examSubmissionRepository.findByExamIdWithStudent(examId);
-
-        // 2. 페이징 처리
-        int start = (int) pageable.getOffset();
-        int end = Math.min(start + pageable.getPageSize(), submissions.size());
+        // 1. 시험 기본 정보 조회 (페이지당 1회)
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new RuntimeException("시험을 찾을 수 없습니다: " + examId));
 
-        List<ExamSubmission> pagedSubmissions = submissions.subList(start, end);
+        // 2. 채점 완료 제출 한 페이지 조회 (SQL 페이징, 학생 정보 포함)
+        List<ExamSubmission> submissions = examSubmissionRepository.findGradedByExamIdWithStudent(examId,
+                PageRequest.of(pageable.getPageNumber(), pageable.getPageSize()));
+        if (submissions.isEmpty()) {
+            return List.of();
+        }
 
-        // 3. 각 학생별 상세 답안 조회
-        List<StudentAnswerDetailDto> results = pagedSubmissions.stream()
-                .map(submission -> getStudentAnswerDetail(examId, submission.getStudent().getId()))
-                .collect(Collectors.toList());
+        // 3. 페이지의 최신 채점 결과를 문제/단원 정보와 함께 일괄 조회
+        Map<UUID, ExamResult> resultsById = examResultRepository.findWithQuestionDetailsByIdIn(
+                submissions.stream().map(ExamSubmission::getLatestResultId).toList())
+                .stream()
+                .collect(Collectors.toMap(ExamResult::getId, result -> result));
+
+        // 4. 메모리에서 학생별 상세 답안 구성 (제출 시간 내림차순 유지)
+        List<StudentAnswerDetailDto> results = new ArrayList<>();
+        for (ExamSubmission submission : submissions) {
+            ExamResult examResult = resultsById.get(submission.getLatestResultId());
+            if (examResult != null) {
+                results.add(toStudentAnswerDetail(exam, submission.getStudent(), submission, examResult));
+            }
+        }
 
         log.info("시험의 전체 학생 상세 답안 조회 완료: examId={}, resultCount={}", examId, results.size());
 
@@ -425,128 +565,117 @@ public class TeacherDashboardService {
      * 학년별 성적 분포도를 조회합니다
      * 전체 학생들의 평균 성적을 구간별로 나누어 분포를 계산합니다
      * 
+     * <p>
+     * 학생 평균 점수와 구간별 학생 수는 채점 완료 이벤트로 증분 갱신되는 메모리 히스토그램에서 읽으므로
+     * DB를 조회하지 않습니다. 구간 경계는 dashboard.score-histogram.bucket-edges 설정을 따릅니다.
+     * </p>
+     * 
      * @param grade 학년 (1, 2, 3)
      * @return 성적 분포도 정보
      */
     public ScoreDistributionDto getScoreDistribution(Integer grade) {
         log.info("학년별 성적 분포도 조회 시작: grade={}", grade);
 
-        // 1. 학년별 학생 평균 점수 목록 조회
-        List<Double> rawStudentAverageScores = examResultRepository.findStudentAverageScoresByGrade(grade);
-
-        // Null 값 필터링 - totalScore가 null인 경우 평균값도 null일 수 있음
-        List<Double> studentAverageScores = rawStudentAverageScores.stream()
-                .filter(Objects::nonNull)
-                .collect(Collectors.toList());
+        ScoreDistributionDto result = toScoreDistribution(grade, scoreHistogramService.getGradeSnapshot(grade));
 
-        log.info("학년별 성적 분포도 원본 데이터: grade={}, rawCount={}, validCount={}",
-                grade, rawStudentAverageScores.size(), studentAverageScores.size());
+        log.info("학년별 성적 분포도 조회 완료: grade={}, studentCount={}, avgScore={}, stdDev={}",
+                grade, result.totalStudentCount(), result.averageScore(), result.standardDeviation());
 
-        if (studentAverageScores.isEmpty()) {
-            log.info("해당 학년의 유효한 채점 결과가 없음: grade={}", grade);
-            return createEmptyScoreDistribution(grade);
-        }
+        return result;
+    }
 
-        log.info("학년별 성적 분포도 계산: grade={}, studentCount={}", grade, studentAverageScores.size());
+    /**
+     * 특정 시험의 성적 분포도를 조회합니다
+     * 각 제출의 최신 채점 결과 점수를 구간별로 나누어 분포를 계산합니다
+     * 
+     * @param examId 시험 ID
+     * @return 성적 분포도 정보 (학생 수는 채점된 제출 수)
+     */
+    public ScoreDistributionDto getExamScoreDistribution(UUID examId) {
+        log.info("시험별 성적 분포도 조회 시작: examId={}", examId);
 
-        // 2. 전체 통계 계산
-        long totalStudentCount = studentAverageScores.size();
+        Exam exam = examRepository.findById(examId)
+                .orElseThrow(() -> new RuntimeException("시험을 찾을 수 없습니다: " + examId));
 
-        // 평균 계산
-        Double avgValue = studentAverageScores.stream()
-                .collect(Collectors.averagingDouble(Double::doubleValue));
-        BigDecimal averageScore = BigDecimal.valueOf(avgValue).setScale(2, RoundingMode.HALF_UP);
+        ScoreDistributionDto result = toScoreDistribution(exam.getGrade(), scoreHistogramService.getExamSnapshot(examId));
 
-        // 최대값, 최소값 계산
-        BigDecimal maxScore = studentAverageScores.stream()
-                .max(Double::compareTo)
-                .map(max -> BigDecimal.valueOf(max).setScale(2, RoundingMode.HALF_UP))
-                .orElse(BigDecimal.ZERO);
+        log.info("시험별 성적 분포도 조회 완료: examId={}, resultCount={}, avgScore={}",
+                examId, result.totalStudentCount(), result.averageScore());
 
-        BigDecimal minScore = studentAverageScores.stream()
-                .min(Double::compareTo)
-                .map(min -> BigDecimal.valueOf(min).setScale(2, RoundingMode.HALF_UP))
-                .orElse(BigDecimal.ZERO);
+        return result;
+    }
 
-        // 중앙값 계산
-        BigDecimal medianScore = calculateMedian(studentAverageScores);
+    /**
+     * 히스토그램 스냅샷을 성적 분포도 DTO로 변환
+     */
+    private ScoreDistributionDto toScoreDistribution(Integer grade, ScoreHistogramService.Snapshot snapshot) {
+        long totalCount = snapshot.totalCount();
+
+        List<ScoreDistributionDto.ScoreDistribution> distributions = new ArrayList<>();
+        for (int i = 0; i < snapshot.ranges().size(); i++) {
+            ScoreDistributionDto.ScoreRange range = snapshot.ranges().get(i);
+            distributions.add(ScoreDistributionDto.ScoreDistribution.create(
+                    range.min(), range.max(), snapshot.counts()[i], totalCount));
+        }
 
-        // 표준편차 계산
-        BigDecimal standardDeviation = calculateStandardDeviation(studentAverageScores, averageScore.doubleValue());
+        if (totalCount == 0) {
+            log.info("해당 범위의 유효한 채점 결과가 없음: grade={}", grade);
+            return ScoreDistributionDto.create(
+                    grade, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                    distributions, BigDecimal.ZERO, BigDecimal.ZERO);
+        }
 
-        // 3. 점수 구간별 분포 조회
-        List<ExamResultRepository.ScoreRangeDistribution> rawDistributions = examResultRepository
-                .findScoreDistributionByGrade(grade);
+        double[] scores = snapshot.scores();
+        Arrays.sort(scores);
 
-        // 4. 분포 데이터를 DTO로 변환
-        List<ScoreDistributionDto.ScoreDistribution> distributions = convertToScoreDistributions(rawDistributions,
-                totalStudentCount);
+        BigDecimal averageScore = BigDecimal.valueOf(Arrays.stream(scores).average().orElse(0.0))
+                .setScale(2, RoundingMode.HALF_UP);
+        BigDecimal maxScore = BigDecimal.valueOf(scores[scores.length - 1]).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal minScore = BigDecimal.valueOf(scores[0]).setScale(2, RoundingMode.HALF_UP);
+        BigDecimal medianScore = calculateMedian(scores);
+        BigDecimal standardDeviation = calculateStandardDeviation(scores, averageScore.doubleValue());
 
-        // 5. 응답 DTO 생성
-        ScoreDistributionDto result = ScoreDistributionDto.create(
+        return ScoreDistributionDto.create(
                 grade,
-                totalStudentCount,
+                totalCount,
                 averageScore,
                 standardDeviation,
                 medianScore,
                 distributions,
                 maxScore,
                 minScore);
-
-        log.info("학년별 성적 분포도 조회 완료: grade={}, studentCount={}, avgScore={}, stdDev={}",
-                grade, totalStudentCount, averageScore, standardDeviation);
-
-        return result;
-    }
-
-    /**
-     * 빈 성적 분포도 생성 (데이터가 없는 경우)
-     */
-    private ScoreDistributionDto createEmptyScoreDistribution(Integer grade) {
-        List<ScoreDistributionDto.ScoreDistribution> emptyDistributions = ScoreDistributionDto.getStandardScoreRanges()
-                .stream()
-                .map(range -> ScoreDistributionDto.ScoreDistribution.create(
-                        range.min(), range.max(), 0L, 0L))
-                .collect(Collectors.toList());
-
-        return ScoreDistributionDto.create(
-                grade, 0L, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
-                emptyDistributions, BigDecimal.ZERO, BigDecimal.ZERO);
     }
 
     /**
-     * 중앙값 계산
+     * 중앙값 계산 (정렬된 점수 배열)
      */
-    private BigDecimal calculateMedian(List<Double> scores) {
-        List<Double> sortedScores = new ArrayList<>(scores);
-        Collections.sort(sortedScores);
-
-        int size = sortedScores.size();
+    private BigDecimal calculateMedian(double[] sortedScores) {
+        int size = sortedScores.length;
         if (size == 0) {
             return BigDecimal.ZERO;
         }
 
         if (size % 2 == 0) {
             // 짝수 개수인 경우 중간 두 값의 평균
-            double median = (sortedScores.get(size / 2 - 1) + sortedScores.get(size / 2)) / 2.0;
+            double median = (sortedScores[size / 2 - 1] + sortedScores[size / 2]) / 2.0;
             return BigDecimal.valueOf(median).setScale(2, RoundingMode.HALF_UP);
         } else {
             // 홀수 개수인 경우 중간값
-            return BigDecimal.valueOf(sortedScores.get(size / 2)).setScale(2, RoundingMode.HALF_UP);
+            return BigDecimal.valueOf(sortedScores[size / 2]).setScale(2, RoundingMode.HALF_UP);
         }
     }
 
     /**
      * 표준편차 계산
      */
-    private BigDecimal calculateStandardDeviation(List<Double> scores, double mean) {
-        if (scores.size() <= 1) {
+    private BigDecimal calculateStandardDeviation(double[] scores, double mean) {
+        if (scores.length <= 1) {
             return BigDecimal.ZERO;
         }
 
         // 분산 계산 (편차 제곱의 평균)
-        double variance = scores.stream()
-                .mapToDouble(score -> Math.pow(score - mean, 2))
+        double variance = Arrays.stream(scores)
+                .map(score -> Math.pow(score - mean, 2))
                 .average()
                 .orElse(0.0);
 
@@ -556,103 +685,64 @@ public class TeacherDashboardService {
         return BigDecimal.valueOf(stdDev).setScale(2, RoundingMode.HALF_UP);
     }
 
-    /**
-     * Repository 결과를 분포 DTO로 변환
-     */
-    private List<ScoreDistributionDto.ScoreDistribution> convertToScoreDistributions(
-            List<ExamResultRepository.ScoreRangeDistribution> rawDistributions,
-            long totalStudentCount) {
-
-        // 표준 점수 구간 정의
-        Map<String, ScoreDistributionDto.ScoreRange> rangeMap = Map.of(
-                "0-39", new ScoreDistributionDto.ScoreRange(0, 39, "낙제"),
-                "40-59", new ScoreDistributionDto.ScoreRange(40, 59, "미달"),
-                "60-69", new ScoreDistributionDto.ScoreRange(60, 69, "보통"),
-                "70-79", new ScoreDistributionDto.ScoreRange(70, 79, "양호"),
-                "80-89", new ScoreDistributionDto.ScoreRange(80, 89, "우수"),
-                "90-100", new ScoreDistributionDto.ScoreRange(90, 100, "최우수"));
-
-        // Repository 결과를 맵으로 변환
-        Map<String, Long> distributionMap = rawDistributions.stream()
-                .collect(Collectors.toMap(
-                        ExamResultRepository.ScoreRangeDistribution::getScoreRange,
-                        ExamResultRepository.ScoreRangeDistribution::getStudentCount));
-
-        // 모든 구간에 대해 분포 데이터 생성 (0인 구간도 포함)
-        return rangeMap.entrySet().stream()
-                .map(entry -> {
-                    String rangeKey = entry.getKey();
-                    ScoreDistributionDto.ScoreRange range = entry.getValue();
-                    Long studentCount = distributionMap.getOrDefault(rangeKey, 0L);
-
-                    return ScoreDistributionDto.ScoreDistribution.create(
-                            range.min(),
-                            range.max(),
-                            studentCount,
-                            totalStudentCount);
-                })
-                .collect(Collectors.toList());
-    }
-
     /**
      * 학년별 시험별 평균 점수를 조회합니다
      * 최근 4개 시험의 평균 점수와 통계를 제공합니다
      * 
+     * <p>
+     * 평균, 최고/최저 점수, 표준편차는 결과 완료/재채점 시 증분 갱신되는 시험별 점수 집계에서 읽으므로
+     * 시험마다 exam_result 행을 읽지 않습니다.
+     * </p>
+     * 
      * @param grade 학년 (1, 2, 3)
      * @param limit 조회할 최근 시험 개수 (기본값: 4)
      * @return 시험별 평균 점수 정보
      */
     public ExamAverageScoreDto getExamAverageScores(Integer grade, int limit) {
+        return dashboardCache.getForGrade("examAverageScores", grade, List.of(limit),
+                () -> loadExamAverageScores(grade, limit));
+    }
+
+    /**
+     * 학년별 시험별 평균 점수 계산 (캐시 미적중 시)
+     */
+    private ExamAverageScoreDto loadExamAverageScores(Integer grade, int limit) {
         log.info("학년별 시험별 평균 점수 조회 시작: grade={}, limit={}", grade, limit);
 
         // 1. 해당 학년의 전체 시험 개수 조회
         Long totalExamCount = examResultRepository.countExamsByGrade(grade);
 
-        // 2. 학년별 최근 시험들의 평균 점수 통계 조회
-        List<ExamResultRepository.ExamAverageStatistics> rawStatistics = examResultRepository
-                .findExamAverageStatisticsByGrade(grade);
+        // 2. 학년별 최근 시험들의 점수 집계 조회 (결과가 있는 시험만)
+        List<ExamScoreAggregateRepository.ExamAggregateView> aggregates = examScoreAggregateRepository
+                .findRecentByGrade(grade, PageRequest.of(0, limit));
 
-        if (rawStatistics.isEmpty()) {
+        if (aggregates.isEmpty()) {
             log.info("해당 학년의 시험 결과가 없음: grade={}", grade);
             return createEmptyExamAverageScore(grade, totalExamCount);
         }
 
-        // 3. limit만큼 최근 시험들만 선택
-        List<ExamResultRepository.ExamAverageStatistics> limitedStatistics = rawStatistics.stream()
-                .limit(limit)
-                .collect(Collectors.toList());
-
         log.info("학년별 시험별 평균 점수 계산: grade={}, totalExamCount={}, recentExamCount={}",
-                grade, totalExamCount, limitedStatistics.size());
+                grade, totalExamCount, aggregates.size());
 
-        // 4. 해당 학년의 전체 학생 수 조회 (제출률 계산용)
+        // 3. 해당 학년의 전체 학생 수 조회 (제출률 계산용)
         Long totalStudentCount = examSubmissionRepository.countStudentsByGrade(grade);
 
-        // 5. 각 시험별 상세 통계 생성
-        List<ExamAverageScoreDto.ExamAverageScore> examAverageScores = limitedStatistics.stream()
-                .map(stats -> {
-                    // 해당 시험의 문제 수 조회
-                    Long questionCount = examResultRepository.countQuestionsByExamId(stats.getExamId());
-
-                    // 표준편차 계산 (Repository에서 복잡한 계산 대신 Java에서 계산)
-                    Double standardDeviation = calculateExamStandardDeviation(
-                            stats.getExamId(), stats.getAverageScore());
-
-                    return ExamAverageScoreDto.ExamAverageScore.create(
-                            stats.getExamId(),
-                            stats.getExamName(),
-                            stats.getCreatedAt(),
-                            questionCount.intValue(),
-                            stats.getParticipantCount(),
-                            stats.getAverageScore(),
-                            stats.getMaxScore(),
-                            stats.getMinScore(),
-                            standardDeviation,
-                            totalStudentCount);
-                })
+        // 4. 각 시험별 상세 통계 생성 (문제 수는 집계 조회에 포함되어 추가 쿼리 없음)
+        List<ExamAverageScoreDto.ExamAverageScore> examAverageScores = aggregates.stream()
+                .map(aggregate -> ExamAverageScoreDto.ExamAverageScore.create(
+                        aggregate.getExamId(),
+                        aggregate.getExamName(),
+                        aggregate.getCreatedAt(),
+                        aggregate.getQuestionCount().intValue(),
+                        aggregate.getResultCount(),
+                        aggregate.getAverageScore(),
+                        toDouble(aggregate.getMaxScore()),
+                        toDouble(aggregate.getMinScore()),
+                        aggregate.getStandardDeviation(),
+                        totalStudentCount))
                 .collect(Collectors.toList());
 
-        // 6. 응답 DTO 생성
+        // 5. 응답 DTO 생성
         ExamAverageScoreDto result = ExamAverageScoreDto.create(
                 grade,
                 totalExamCount,
@@ -672,59 +762,49 @@ public class TeacherDashboardService {
     }
 
     /**
-     * 특정 시험의 표준편차 계산
+     * 집계 점수를 Double로 변환 (없으면 null)
      */
-    private Double calculateExamStandardDeviation(UUID examId, Double meanScore) {
-        if (meanScore == null) {
-            return 0.0;
-        }
-
-        try {
-            // 해당 시험의 모든 점수 조회
-            List<Double> scores = examResultRepository.findLatestResultsByExamId(examId,
-                    org.springframework.data.domain.PageRequest.of(0, Integer.MAX_VALUE))
-                    .getContent()
-                    .stream()
-                    .map(result -> result.getTotalScore().doubleValue())
-                    .collect(Collectors.toList());
-
-            if (scores.size() <= 1) {
-                return 0.0;
-            }
-
-            // 분산 계산
-            double variance = scores.stream()
-                    .mapToDouble(score -> Math.pow(score - meanScore, 2))
-                    .average()
-                    .orElse(0.0);
-
-            // 표준편차 = 분산의 제곱근
-            return Math.sqrt(variance);
-
-        } catch (Exception e) {
-            log.warn("표준편차 계산 실패: examId={}, error={}", examId, e.getMessage());
-            return 0.0;
-        }
+    private Double toDouble(Integer score) {
+        return score != null ? score.doubleValue() : null;
     }
 
     /**
      * 학년별 단원별 오답률 조회 (API 12)
      * 
+     * <p>
+     * 응답/오답 수는 결과 완료/재채점 시 증분 갱신되는 단원별 문항 응답 집계(unit_answer_stats)에서 읽으므로
+     * 결과 테이블 크기와 무관하게 학년의 단원 수만큼만 읽습니다.
+     * </p>
+     * 
      * @param grade 학년 (1, 2, 3)
      * @return 단원별 오답률 통계
      */
     public UnitWrongAnswerRateDto getUnitWrongAnswerRates(Integer grade) {
+        return dashboardCache.getForGrade("unitWrongAnswerRates", grade, List.of(),
+                () -> loadUnitWrongAnswerRates(grade));
+    }
+
+    /**
+     * 학년별 단원별 오답률 계산 (캐시 미적중 시)
+     */
+    private UnitWrongAnswerRateDto loadUnitWrongAnswerRates(Integer grade) {
         log.info("단원별 오답률 조회 시작: grade={}", grade);
 
         try {
-            // 단원별 오답률 통계 조회
-            List<ExamResultRepository.UnitWrongAnswerStatistics> statistics = examResultRepository
-                    .findUnitWrongAnswerStatisticsByGrade(grade);
-
-            // 전체 통계 조회
-            Long totalQuestionCount = examResultRepository.countTotalQuestionsByGrade(grade);
-            Long totalSubmissionCount = examResultRepository.countTotalSubmissionsByGrade(grade);
-            Long totalWrongAnswerCount = examResultRepository.countTotalWrongAnswersByGrade(grade);
+            // 단원별 오답률 통계 조회 (단원별 문항 응답 집계 1회 조회)
+            List<UnitAnswerStatsRepository.UnitWrongAnswerStatistics> statistics = unitAnswerStatsRepository
+                    .findUnitStatisticsByGrade(grade);
+
+            // 전체 통계는 단원별 통계의 합계
+            long totalQuestionCount = statistics.stream()
+                    .mapToLong(UnitAnswerStatsRepository.UnitWrongAnswerStatistics::getQuestionCount)
+                    .sum();
+            long totalSubmissionCount = statistics.stream()
+                    .mapToLong(UnitAnswerStatsRepository.UnitWrongAnswerStatistics::getSubmissionCount)
+                    .sum();
+            long totalWrongAnswerCount = statistics.stream()
+                    .mapToLong(UnitAnswerStatsRepository.UnitWrongAnswerStatistics::getWrongAnswerCount)
+                    .sum();
 
             log.debug("단원별 오답률 기본 통계: grade={}, totalQuestions={}, totalSubmissions={}, totalWrong={}",
                     grade, totalQuestionCount, totalSubmissionCount, totalWrongAnswerCount);
@@ -0,0 +1,77 @@
+package com.iroomclass.springbackend.domain.teacher.service;
+
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository.ExamResultExportRow;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * XLSX 내보내기 작성기 (Apache POI SXSSF)
+ *
+ * <p>메모리에는 최근 windowSize개 행만 유지하고 나머지는 압축된 임시 파일로 내립니다.
+ * {@link #close()}에서 임시 파일을 출력 스트림으로 복사한 뒤 삭제합니다.</p>
+ */
+class XlsxExamResultExportWriter implements ExamResultExportWriter {
+
+    private static final String SHEET_NAME = "시험 결과";
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int nextRow;
+
+    XlsxExamResultExportWriter(OutputStream out, int windowSize) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(windowSize);
+        workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet(SHEET_NAME);
+
+        Row header = sheet.createRow(nextRow++);
+        for (int i = 0; i < HEADERS.size(); i++) {
+            header.createCell(i).setCellValue(HEADERS.get(i));
+        }
+    }
+
+    @Override
+    public void write(ExamResultExportRow row) {
+        Row sheetRow = sheet.createRow(nextRow++);
+        int column = 0;
+        setNumber(sheetRow.createCell(column++), row.studentId());
+        setText(sheetRow.createCell(column++), row.studentName());
+        setText(sheetRow.createCell(column++), row.studentPhone());
+        setText(sheetRow.createCell(column++), row.submittedAt() != null ? row.submittedAt().toString() : null);
+        setNumber(sheetRow.createCell(column++), row.totalScore());
+        setNumber(sheetRow.createCell(column++), row.questionNo());
+        setText(sheetRow.createCell(column++), row.unitName());
+        setText(sheetRow.createCell(column++), row.correct() == null ? null : (row.correct() ? "O" : "X"));
+        setNumber(sheetRow.createCell(column++), row.score());
+        setNumber(sheetRow.createCell(column), row.maxScore());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static void setText(Cell cell, String value) {
+        if (value != null) {
+            cell.setCellValue(value);
+        }
+    }
+
+    private static void setNumber(Cell cell, Number value) {
+        if (value != null) {
+            cell.setCellValue(value.doubleValue());
+        }
+    }
+}
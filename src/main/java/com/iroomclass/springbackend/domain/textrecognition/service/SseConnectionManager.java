@@ -97,6 +97,39 @@ public class SseConnectionManager {
         }
     }
     
+    /**
+     * 이벤트 이름을 지정하여 임의의 이벤트를 전송합니다.
+     *
+     * @param id 연결 식별자
+     * @param eventName SSE 이벤트 이름
+     * @param event 전송할 이벤트 객체
+     * @param completeAfterSend 전송 후 연결 종료 여부
+     */
+    public void sendNamedEvent(String id, String eventName, Object event, boolean completeAfterSend) {
+        SseEmitter emitter = connections.get(id);
+        if (emitter == null) {
+            log.debug("SSE 연결 없음, 이벤트 생략: id={}, eventName={}", id, eventName);
+            return;
+        }
+
+        try {
+            String eventData = objectMapper.writeValueAsString(event);
+            emitter.send(SseEmitter.event()
+                .name(eventName)
+                .data(eventData));
+
+            log.debug("SSE 이벤트 전송 성공: id={}, eventName={}", id, eventName);
+
+            if (completeAfterSend) {
+                emitter.complete();
+            }
+
+        } catch (IOException e) {
+            log.error("SSE 이벤트 전송 실패: id={}, error={}", id, e.getMessage());
+            removeConnection(id);
+        }
+    }
+
     /**
      * SSE 연결을 제거합니다.
      * 
@@ -0,0 +1,109 @@
+package com.iroomclass.springbackend.common;
+
+import com.iroomclass.springbackend.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * KeysetCursor / CursorPage 테스트 클래스
+ */
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("커서 인코딩/디코딩 왕복 테스트")
+    void encodeDecodeRoundTrip() {
+        // given
+        List<UUID> ids = List.of(
+            UUIDv7Generator.generate(),
+            new UUID(0L, 0L),
+            new UUID(-1L, -1L),
+            new UUID(Long.MIN_VALUE, Long.MAX_VALUE));
+
+        for (UUID id : ids) {
+            // when
+            String token = KeysetCursor.encode(id);
+
+            // then
+            assertThat(token).hasSize(23).doesNotContain("=", "+", "/");
+            assertThat(KeysetCursor.decode(token)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    @DisplayName("빈 커서는 첫 페이지로 처리")
+    void blankTokenIsFirstPage() {
+        assertThat(KeysetCursor.decode(null)).isEqualTo(KeysetCursor.FIRST_PAGE);
+        assertThat(KeysetCursor.decode("")).isEqualTo(KeysetCursor.FIRST_PAGE);
+        assertThat(KeysetCursor.decode("   ")).isEqualTo(KeysetCursor.FIRST_PAGE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"not-a-cursor!", "AQ", "AQGQ3Vp7THAAgAAAAAAAAAAAAA", "%%%"})
+    @DisplayName("형식이 잘못된 커서는 거부")
+    void malformedTokenIsRejected(String token) {
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("잘못된 커서");
+    }
+
+    @Test
+    @DisplayName("버전이 다른 커서는 거부")
+    void wrongVersionTokenIsRejected() {
+        // given: 올바른 토큰의 버전 바이트만 변경
+        byte[] bytes = Base64.getUrlDecoder().decode(KeysetCursor.encode(UUIDv7Generator.generate()));
+        bytes[0] = 2;
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        // when & then
+        assertThatThrownBy(() -> KeysetCursor.decode(token))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("잘못된 커서");
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, KeysetCursor.MAX_SIZE + 1})
+    @DisplayName("범위를 벗어난 페이지 크기는 거부")
+    void outOfRangeSizeIsRejected(int size) {
+        assertThatThrownBy(() -> KeysetCursor.validateSize(size))
+            .isInstanceOf(InvalidRequestException.class);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 20, KeysetCursor.MAX_SIZE})
+    @DisplayName("범위 안의 페이지 크기는 허용")
+    void inRangeSizeIsAccepted(int size) {
+        assertThatCode(() -> KeysetCursor.validateSize(size)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("size + 1개 조회 결과로 다음 페이지 여부와 커서 생성")
+    void fromRowsDetectsNextPage() {
+        // given
+        List<UUID> rows = List.of(UUIDv7Generator.generate(), UUIDv7Generator.generate(), UUIDv7Generator.generate());
+
+        // when
+        CursorPage<UUID> page = CursorPage.fromRows(rows, 2, Function.identity(), null);
+        CursorPage<UUID> lastPage = CursorPage.fromRows(rows.subList(0, 2), 2, Function.identity(), 2L);
+
+        // then
+        assertThat(page.content()).containsExactly(rows.get(0), rows.get(1));
+        assertThat(page.hasNext()).isTrue();
+        assertThat(KeysetCursor.decode(page.nextCursor())).isEqualTo(rows.get(1));
+        assertThat(page.totalElements()).isNull();
+
+        assertThat(lastPage.hasNext()).isFalse();
+        assertThat(lastPage.nextCursor()).isNull();
+        assertThat(lastPage.totalElements()).isEqualTo(2L);
+    }
+}
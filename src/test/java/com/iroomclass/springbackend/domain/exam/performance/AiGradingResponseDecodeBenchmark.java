@@ -0,0 +1,183 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.iroomclass.springbackend.domain.exam.dto.AiGradingResponse;
+import com.iroomclass.springbackend.domain.exam.dto.GradingResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * AI 채점 응답 역직렬화 벤치마크
+ *
+ * <p>기존 방식(Map으로 역직렬화 후 필드별 캐스팅, UUID/LocalDateTime 수동 파싱)과
+ * 타입 지정 레코드로 바로 역직렬화하는 방식의 처리 시간과 할당량을 50문항 응답으로 비교합니다.</p>
+ *
+ * <p>실행: {@code ./gradlew jmhBenchmark} (GC 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량 확인)</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AiGradingResponseDecodeBenchmark {
+
+    @Param({"50"})
+    private int questionCount;
+
+    /**
+     * WebClient 기본 코덱과 동일한 설정의 ObjectMapper
+     */
+    private ObjectMapper objectMapper;
+
+    private byte[] payload;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        payload = objectMapper.writeValueAsBytes(createResponse(questionCount));
+    }
+
+    /**
+     * 기존 방식: Map 역직렬화 + 수동 캐스팅
+     */
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public GradingResultDto legacyMapDecode() throws Exception {
+        Map<String, Object> response = objectMapper.readValue(payload, Map.class);
+        return parseGradingResponse(response);
+    }
+
+    /**
+     * 변경 방식: 타입 지정 레코드로 직접 역직렬화
+     */
+    @Benchmark
+    public GradingResultDto typedDecode() throws Exception {
+        return objectMapper.readValue(payload, AiGradingResponse.class).gradingResult();
+    }
+
+    public static void main(String[] args) throws Exception {
+        org.openjdk.jmh.Main.main(new String[] {
+            AiGradingResponseDecodeBenchmark.class.getSimpleName(), "-prof", "gc"
+        });
+    }
+
+    /**
+     * AI 서버 응답 형태의 페이로드 생성
+     */
+    private static Map<String, Object> createResponse(int questionCount) {
+        List<Map<String, Object>> questionResults = new ArrayList<>(questionCount);
+        for (int i = 0; i < questionCount; i++) {
+            Map<String, Object> qr = new HashMap<>();
+            qr.put("question_id", UUID.randomUUID().toString());
+            qr.put("answer_id", UUID.randomUUID().toString());
+            qr.put("is_correct", i % 3 != 0);
+            qr.put("score", i % 3 != 0 ? 4 : 0);
+            qr.put("max_score", 4);
+            qr.put("grading_method", i % 2 == 0 ? "AUTO" : "AI");
+            qr.put("confidence_score", "0.95");
+            qr.put("scoring_comment", "풀이 과정이 논리적이며 최종 답이 정확합니다. 문항 " + i);
+            qr.put("created_at", LocalDateTime.now().toString());
+            questionResults.add(qr);
+        }
+
+        Map<String, Object> metadata = new HashMap<>();
+        metadata.put("total_questions", questionCount);
+        metadata.put("multiple_choice_count", questionCount / 2);
+        metadata.put("subjective_count", questionCount - questionCount / 2);
+        metadata.put("processing_time_ms", 1500);
+        metadata.put("ai_model_version", "grading-model-v1");
+
+        Map<String, Object> gradingResult = new HashMap<>();
+        gradingResult.put("result_id", UUID.randomUUID().toString());
+        gradingResult.put("submission_id", UUID.randomUUID().toString());
+        gradingResult.put("exam_sheet_id", UUID.randomUUID().toString());
+        gradingResult.put("status", "COMPLETED");
+        gradingResult.put("total_score", 132);
+        gradingResult.put("max_total_score", questionCount * 4);
+        gradingResult.put("question_results", questionResults);
+        gradingResult.put("metadata", metadata);
+        gradingResult.put("grading_comment", "전반적으로 우수한 답안입니다");
+        gradingResult.put("graded_at", LocalDateTime.now().toString());
+        gradingResult.put("version", 1);
+
+        return Map.of("grading_result", gradingResult);
+    }
+
+    /**
+     * 기존 AiGradingClient의 Map 기반 응답 파싱 (비교 기준)
+     */
+    @SuppressWarnings("unchecked")
+    private static GradingResultDto parseGradingResponse(Map<String, Object> response) {
+        Map<String, Object> gradingResult = (Map<String, Object>) response.get("grading_result");
+
+        if (gradingResult == null) {
+            return null;
+        }
+
+        List<Map<String, Object>> questionResultsList = (List<Map<String, Object>>) gradingResult.get("question_results");
+        List<GradingResultDto.QuestionResultDto> questionResults = null;
+
+        if (questionResultsList != null) {
+            questionResults = questionResultsList.stream()
+                .map(qr -> new GradingResultDto.QuestionResultDto(
+                    UUID.fromString((String) qr.get("question_id")),
+                    qr.get("answer_id") != null ? UUID.fromString((String) qr.get("answer_id")) : null,
+                    (Boolean) qr.get("is_correct"),
+                    (Integer) qr.get("score"),
+                    (Integer) qr.get("max_score"),
+                    (String) qr.get("grading_method"),
+                    (String) qr.get("confidence_score"),
+                    (String) qr.get("scoring_comment"),
+                    LocalDateTime.parse((String) qr.get("created_at"))
+                ))
+                .collect(Collectors.toList());
+        }
+
+        Map<String, Object> metadataMap = (Map<String, Object>) gradingResult.get("metadata");
+        GradingResultDto.GradingMetadataDto metadata = null;
+
+        if (metadataMap != null) {
+            metadata = new GradingResultDto.GradingMetadataDto(
+                (Integer) metadataMap.get("total_questions"),
+                (Integer) metadataMap.get("multiple_choice_count"),
+                (Integer) metadataMap.get("subjective_count"),
+                ((Number) metadataMap.get("processing_time_ms")).longValue(),
+                (String) metadataMap.get("ai_model_version")
+            );
+        }
+
+        return new GradingResultDto(
+            UUID.fromString((String) gradingResult.get("result_id")),
+            UUID.fromString((String) gradingResult.get("submission_id")),
+            UUID.fromString((String) gradingResult.get("exam_sheet_id")),
+            (String) gradingResult.get("status"),
+            (Integer) gradingResult.get("total_score"),
+            (Integer) gradingResult.get("max_total_score"),
+            questionResults,
+            metadata,
+            (String) gradingResult.get("grading_comment"),
+            LocalDateTime.parse((String) gradingResult.get("graded_at")),
+            (Integer) gradingResult.get("version")
+        );
+    }
+}
@@ -0,0 +1,216 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.teacher.dto.ExamAverageScoreDto;
+import com.iroomclass.springbackend.domain.teacher.service.TeacherDashboardService;
+import com.iroomclass.springbackend.domain.unit.entity.Unit;
+import com.iroomclass.springbackend.domain.unit.entity.UnitCategory;
+import com.iroomclass.springbackend.domain.unit.entity.UnitSubcategory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시험별 평균 점수 조회 쿼리 수 검증 테스트
+ *
+ * <p>최근 시험 개수 제한이 SQL에서 적용되고 시험별 문제 수가 집계 조회에 포함되어,
+ * 학년의 시험 수나 조회 개수와 관계없이 Hibernate가 실행하는 SQL 수가 고정되는지 검증합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.generate_statistics=true",
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+    "dashboard.cache.enabled=false"
+})
+@DisplayName("시험별 평균 점수 조회 쿼리 수 테스트")
+@Transactional
+public class ExamAverageScoresStatementCountTest {
+
+    private static final int GRADE = 2;
+
+    @Autowired
+    private TeacherDashboardService teacherDashboardService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Statistics hibernateStatistics;
+
+    private Unit unit;
+
+    private final Map<UUID, Integer> questionCounts = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        SessionFactory sessionFactory = entityManager.getEntityManagerFactory()
+            .unwrap(SessionFactory.class);
+        hibernateStatistics = sessionFactory.getStatistics();
+        hibernateStatistics.setStatisticsEnabled(true);
+
+        UnitCategory category = UnitCategory.builder()
+            .categoryName("수와 연산")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(category);
+
+        UnitSubcategory subcategory = UnitSubcategory.builder()
+            .category(category)
+            .subcategoryName("정수와 유리수")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(subcategory);
+
+        unit = Unit.builder()
+            .subcategory(subcategory)
+            .grade(GRADE)
+            .unitName("정수의 덧셈")
+            .unitCode("TEST-" + UUIDv7Generator.generateString().substring(0, 8))
+            .displayOrder(1)
+            .build();
+        entityManager.persist(unit);
+    }
+
+    @Test
+    @DisplayName("시험 수와 조회 개수에 관계없이 SQL 수가 고정되어야 한다")
+    void examAverageScoresStatementCount_IsIndependentOfExamCount() {
+        // Given: 문항 수가 서로 다른 시험 2개
+        createExamsWithAggregates(2);
+        long fewExamStatements = measure(2);
+
+        // Given: 시험 10개로 증가
+        createExamsWithAggregates(8);
+        long manyExamStatements = measure(10);
+
+        System.out.printf("시험별 평균 점수 조회 SQL 수 - 2개: %d, 10개: %d%n", fewExamStatements, manyExamStatements);
+
+        // Then: 시험 수 조회, 최근 시험 집계(문제 수 포함) 조회, 학생 수 조회
+        assertThat(manyExamStatements)
+            .as("조회하는 시험 수가 늘어도 Hibernate SQL 수는 동일해야 합니다")
+            .isEqualTo(fewExamStatements);
+        assertThat(manyExamStatements)
+            .as("시험별 문제 수 조회(N+1)가 제거되어 SQL 수가 3개 이하여야 합니다")
+            .isLessThanOrEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("조회 개수 제한과 시험별 문제 수가 정확해야 한다")
+    void examAverageScores_AppliesLimitAndReturnsQuestionCounts() {
+        // Given
+        createExamsWithAggregates(6);
+
+        // When
+        ExamAverageScoreDto result = teacherDashboardService.getExamAverageScores(GRADE, 4);
+
+        // Then
+        assertThat(result.totalExamCount()).isEqualTo(6L);
+        assertThat(result.examAverageScores()).hasSize(4);
+        result.examAverageScores().forEach(score ->
+            assertThat(score.totalQuestionCount())
+                .as("시험 %s의 문제 수", score.examId())
+                .isEqualTo(questionCounts.get(score.examId())));
+    }
+
+    /**
+     * 최근 시험 limit개 조회 시 실행된 Hibernate SQL 수 측정
+     */
+    private long measure(int limit) {
+        entityManager.flush();
+        entityManager.clear();
+
+        hibernateStatistics.clear();
+        ExamAverageScoreDto result = teacherDashboardService.getExamAverageScores(GRADE, limit);
+        long statements = hibernateStatistics.getPrepareStatementCount();
+
+        assertThat(result.examAverageScores()).hasSize(limit);
+        return statements;
+    }
+
+    /**
+     * 문항 수가 서로 다른 시험과 점수 집계 행 생성
+     */
+    private void createExamsWithAggregates(int examCount) {
+        for (int i = 0; i < examCount; i++) {
+            int questionCount = 1 + questionCounts.size();
+            Exam exam = createExam(questionCount);
+            entityManager.flush();
+            questionCounts.put(exam.getId(), questionCount);
+
+            jdbcTemplate.update(
+                "INSERT INTO exam_score_aggregate " +
+                "(exam_id, grade, result_count, score_sum, score_square_sum, min_score, max_score, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                UUIDv7Generator.toBytes(exam.getId()), GRADE, 2L, 150L, 11700L, 60, 90,
+                Timestamp.valueOf(LocalDateTime.now()));
+        }
+    }
+
+    private Exam createExam(int questionCount) {
+        List<ExamSheetQuestion> sheetQuestions = new ArrayList<>();
+        ExamSheet examSheet = ExamSheet.builder()
+            .examName("평균 점수 테스트 시험지")
+            .grade(GRADE)
+            .questions(sheetQuestions)
+            .build();
+        entityManager.persist(examSheet);
+
+        for (int i = 1; i <= questionCount; i++) {
+            ExamSheetQuestion sheetQuestion = ExamSheetQuestion.builder()
+                .examSheet(examSheet)
+                .question(createQuestion(i))
+                .seqNo(i)
+                .points(10)
+                .build();
+            entityManager.persist(sheetQuestion);
+            sheetQuestions.add(sheetQuestion);
+        }
+
+        Exam exam = Exam.builder()
+            .examSheet(examSheet)
+            .examName("평균 점수 테스트 시험")
+            .grade(GRADE)
+            .maxStudent(30)
+            .build();
+        entityManager.persist(exam);
+        return exam;
+    }
+
+    private Question createQuestion(int seq) {
+        Question question = Question.builder()
+            .unit(unit)
+            .difficulty(Question.Difficulty.중)
+            .questionText("테스트 문제 " + seq)
+            .questionType(Question.QuestionType.MULTIPLE_CHOICE)
+            .correctChoice(1)
+            .build();
+        entityManager.persist(question);
+        return question;
+    }
+}
@@ -0,0 +1,277 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.config.ExamResultExportConfig;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultExportRepository.ExamResultExportRow;
+import com.iroomclass.springbackend.domain.teacher.service.ExamResultExportService;
+import com.iroomclass.springbackend.domain.teacher.service.ExamResultExportWriter.Format;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시험 결과 내보내기 힙 사용량 테스트
+ *
+ * <p>DB에 문항 결과 100,000행(학생 5,000명 × 20문항)을 적재한 뒤 {@link ExamResultExportService#export}로
+ * CSV/XLSX를 내보내는 동안 힙 사용량이 행 수에 비례해 늘지 않는지 검증합니다.
+ * 실제 Repository의 전방향 읽기 전용 커서와 fetchSize 설정을 거치며, 적재 데이터가 힙에 올라가지 않도록
+ * 파일 기반 H2(작은 페이지 캐시, 정렬 결과는 디스크로 내려감)를 사용합니다.
+ * 고정된 -Xmx(64m)에서 실행되도록 {@code fixedHeapTest} Gradle 태스크로만 실행됩니다.
+ * 행을 누적하는 방식(XSSFWorkbook, 전체 DTO 목록, 커서 없이 전체 결과 적재 등)은 이 힙 상한에서 OutOfMemoryError가 발생합니다.</p>
+ */
+@Tag("fixed-heap")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("시험 결과 내보내기 힙 사용량 테스트")
+public class ExamResultExportHeapTest {
+
+    private static final int STUDENT_COUNT = 5_000;
+    private static final int QUESTIONS_PER_STUDENT = 20;
+    private static final int ROW_COUNT = STUDENT_COUNT * QUESTIONS_PER_STUDENT;
+    private static final int SAMPLE_INTERVAL = 10_000;
+    private static final int INSERT_BATCH_SIZE = 1_000;
+    private static final long MAX_HEAP_BYTES = 80L * 1024 * 1024;
+    private static final long MAX_HEAP_GROWTH_BYTES = 16L * 1024 * 1024;
+
+    private final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+
+    @TempDir
+    Path tempDir;
+
+    private SingleConnectionDataSource dataSource;
+    private ExamResultExportService exportService;
+    private HeapSamplingRepository exportRepository;
+    private UUID examId;
+
+    @BeforeAll
+    void setUp() {
+        dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:file:" + tempDir.resolve("export-heap") + ";CACHE_SIZE=4096;MAX_MEMORY_ROWS=10000",
+            "sa", "", true);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        createSchema(jdbcTemplate);
+        examId = seed(jdbcTemplate);
+
+        exportRepository = new HeapSamplingRepository(jdbcTemplate);
+        exportService = new ExamResultExportService(null, exportRepository, new ExamResultExportConfig());
+    }
+
+    @AfterAll
+    void tearDown() {
+        if (dataSource != null) {
+            new JdbcTemplate(dataSource).execute("SHUTDOWN");
+            dataSource.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("CSV 10만 행 내보내기 중 힙 사용량이 일정해야 한다")
+    void csvExport_KeepsHeapConstant() throws IOException {
+        assertFixedHeap();
+        CountingOutputStream out = new CountingOutputStream();
+
+        long heapGrowth = export(Format.CSV, out);
+
+        System.out.printf("CSV 내보내기 - 출력 %,d bytes, 힙 증가 최대 %,d bytes%n", out.count, heapGrowth);
+        assertThat(exportRepository.rows).isEqualTo(ROW_COUNT);
+        assertThat(out.count).isGreaterThan(ROW_COUNT * 30L);
+        assertThat(heapGrowth)
+            .as("행 수와 관계없이 힙 증가량이 상한 이하여야 합니다")
+            .isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    @Test
+    @DisplayName("XLSX 10만 행 내보내기 중 힙 사용량이 일정해야 한다")
+    void xlsxExport_KeepsHeapConstant() throws IOException {
+        assertFixedHeap();
+        CountingOutputStream out = new CountingOutputStream();
+
+        long heapGrowth = export(Format.XLSX, out);
+
+        System.out.printf("XLSX 내보내기 - 출력 %,d bytes, 힙 증가 최대 %,d bytes%n", out.count, heapGrowth);
+        assertThat(exportRepository.rows).isEqualTo(ROW_COUNT);
+        assertThat(out.firstBytes).startsWith((byte) 'P', (byte) 'K');
+        assertThat(heapGrowth)
+            .as("행 수와 관계없이 힙 증가량이 상한 이하여야 합니다")
+            .isLessThan(MAX_HEAP_GROWTH_BYTES);
+    }
+
+    /**
+     * 서비스로 내보내면서 커서 행 일정 간격마다 GC 후 힙 사용량을 측정해 기준 대비 최대 증가량 반환
+     */
+    private long export(Format format, OutputStream out) throws IOException {
+        long baseline = usedHeapAfterGc();
+        exportRepository.start(baseline);
+
+        exportService.export(examId, format, out);
+
+        return Math.max(exportRepository.maxGrowth, usedHeapAfterGc() - baseline);
+    }
+
+    private void assertFixedHeap() {
+        assertThat(Runtime.getRuntime().maxMemory())
+            .as("fixedHeapTest 태스크(-Xmx64m)로 실행해야 합니다")
+            .isLessThanOrEqualTo(MAX_HEAP_BYTES);
+    }
+
+    private long usedHeapAfterGc() {
+        System.gc();
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+
+    /**
+     * 내보내기 쿼리가 읽는 컬럼만 가진 테이블 생성
+     */
+    private void createSchema(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.execute("CREATE TABLE unit (id BINARY(16) PRIMARY KEY, unit_name VARCHAR(100))");
+        jdbcTemplate.execute("CREATE TABLE question (id BINARY(16) PRIMARY KEY, unit_id BINARY(16))");
+        jdbcTemplate.execute("CREATE TABLE exam_sheet_question (id BINARY(16) PRIMARY KEY, "
+            + "exam_sheet_id BINARY(16), question_id BINARY(16), seq_no INT, points INT)");
+        jdbcTemplate.execute("CREATE TABLE exam (id BINARY(16) PRIMARY KEY, exam_sheet_id BINARY(16))");
+        jdbcTemplate.execute("CREATE TABLE student (id BIGINT PRIMARY KEY, name VARCHAR(50), phone VARCHAR(20))");
+        jdbcTemplate.execute("CREATE TABLE exam_submission (id BINARY(16) PRIMARY KEY, exam_id BINARY(16), "
+            + "student_id BIGINT, submitted_at TIMESTAMP, latest_result_id BINARY(16))");
+        jdbcTemplate.execute("CREATE TABLE exam_result (id BINARY(16) PRIMARY KEY, total_score INT)");
+        jdbcTemplate.execute("CREATE TABLE exam_result_question (id BINARY(16) PRIMARY KEY, "
+            + "exam_result_id BINARY(16), question_id BINARY(16), is_correct BOOLEAN, score INT)");
+        jdbcTemplate.execute("CREATE INDEX idx_submission_exam ON exam_submission (exam_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_result_question_result ON exam_result_question (exam_result_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_sheet_question ON exam_sheet_question (exam_sheet_id, question_id)");
+    }
+
+    /**
+     * 시험 1개, 문항 20개, 학생별 제출/최신 결과/문항 결과를 JDBC 배치로 적재
+     *
+     * @return 시험 ID
+     */
+    private UUID seed(JdbcTemplate jdbcTemplate) {
+        UUID unitId = UUIDv7Generator.generate();
+        UUID examSheetId = UUIDv7Generator.generate();
+        UUID seededExamId = UUIDv7Generator.generate();
+        jdbcTemplate.update("INSERT INTO unit (id, unit_name) VALUES (?, ?)",
+            UUIDv7Generator.toBytes(unitId), "단원, \"정수\"");
+        jdbcTemplate.update("INSERT INTO exam (id, exam_sheet_id) VALUES (?, ?)",
+            UUIDv7Generator.toBytes(seededExamId), UUIDv7Generator.toBytes(examSheetId));
+
+        List<byte[]> questionIds = new ArrayList<>();
+        for (int questionNo = 1; questionNo <= QUESTIONS_PER_STUDENT; questionNo++) {
+            byte[] questionId = UUIDv7Generator.toBytes(UUIDv7Generator.generate());
+            questionIds.add(questionId);
+            jdbcTemplate.update("INSERT INTO question (id, unit_id) VALUES (?, ?)",
+                questionId, UUIDv7Generator.toBytes(unitId));
+            jdbcTemplate.update("INSERT INTO exam_sheet_question (id, exam_sheet_id, question_id, seq_no, points) "
+                + "VALUES (?, ?, ?, ?, ?)",
+                UUIDv7Generator.toBytes(UUIDv7Generator.generate()), UUIDv7Generator.toBytes(examSheetId),
+                questionId, questionNo, 5);
+        }
+
+        LocalDateTime submittedAt = LocalDateTime.of(2025, 3, 1, 9, 0);
+        List<Object[]> students = new ArrayList<>();
+        List<Object[]> submissions = new ArrayList<>();
+        List<Object[]> results = new ArrayList<>();
+        List<Object[]> questionResults = new ArrayList<>();
+        for (long studentId = 1; studentId <= STUDENT_COUNT; studentId++) {
+            byte[] resultId = UUIDv7Generator.toBytes(UUIDv7Generator.generate());
+            students.add(new Object[] {studentId, "학생" + studentId,
+                "010-0000-" + String.format("%04d", studentId % 10_000)});
+            submissions.add(new Object[] {UUIDv7Generator.toBytes(UUIDv7Generator.generate()),
+                UUIDv7Generator.toBytes(seededExamId), studentId,
+                Timestamp.valueOf(submittedAt.plusSeconds(studentId)), resultId});
+            results.add(new Object[] {resultId, (int) (studentId % 101)});
+            for (int q = 0; q < QUESTIONS_PER_STUDENT; q++) {
+                boolean correct = (q + 1) % 3 != 0;
+                questionResults.add(new Object[] {UUIDv7Generator.toBytes(UUIDv7Generator.generate()),
+                    resultId, questionIds.get(q), correct, correct ? 5 : 0});
+            }
+
+            if (questionResults.size() >= INSERT_BATCH_SIZE || studentId == STUDENT_COUNT) {
+                jdbcTemplate.batchUpdate("INSERT INTO student (id, name, phone) VALUES (?, ?, ?)", students);
+                jdbcTemplate.batchUpdate("INSERT INTO exam_submission "
+                    + "(id, exam_id, student_id, submitted_at, latest_result_id) VALUES (?, ?, ?, ?, ?)", submissions);
+                jdbcTemplate.batchUpdate("INSERT INTO exam_result (id, total_score) VALUES (?, ?)", results);
+                jdbcTemplate.batchUpdate("INSERT INTO exam_result_question "
+                    + "(id, exam_result_id, question_id, is_correct, score) VALUES (?, ?, ?, ?, ?)", questionResults);
+                students.clear();
+                submissions.clear();
+                results.clear();
+                questionResults.clear();
+            }
+        }
+        return seededExamId;
+    }
+
+    /**
+     * 실제 커서 스캔을 그대로 사용하면서 전달된 행 수를 세고 일정 간격마다 힙 사용량을 측정하는 Repository
+     */
+    private final class HeapSamplingRepository extends ExamResultExportRepository {
+
+        private long baseline;
+        private long maxGrowth;
+        private long rows;
+
+        HeapSamplingRepository(JdbcTemplate jdbcTemplate) {
+            super(jdbcTemplate);
+        }
+
+        void start(long baseline) {
+            this.baseline = baseline;
+            this.maxGrowth = 0;
+            this.rows = 0;
+        }
+
+        @Override
+        public long scanExamResultRows(UUID examId, int fetchSize, Consumer<ExamResultExportRow> consumer) {
+            return super.scanExamResultRows(examId, fetchSize, row -> {
+                consumer.accept(row);
+                if (++rows % SAMPLE_INTERVAL == 0) {
+                    maxGrowth = Math.max(maxGrowth, usedHeapAfterGc() - baseline);
+                }
+            });
+        }
+    }
+
+    /**
+     * 기록된 바이트 수만 세는 출력 스트림 (응답 스트림 대체)
+     */
+    private static final class CountingOutputStream extends OutputStream {
+
+        private final byte[] firstBytes = new byte[2];
+        private long count;
+
+        @Override
+        public void write(int b) {
+            if (count < firstBytes.length) {
+                firstBytes[(int) count] = (byte) b;
+            }
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = 0; i < len && count + i < firstBytes.length; i++) {
+                firstBytes[(int) count + i] = b[off + i];
+            }
+            count += len;
+        }
+    }
+}
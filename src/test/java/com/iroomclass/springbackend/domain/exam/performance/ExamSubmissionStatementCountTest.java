@@ -0,0 +1,328 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.domain.auth.entity.Student;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeRequest;
+import com.iroomclass.springbackend.domain.exam.dto.SubmitAndGradeResponse;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.exam.service.ExamGradingService;
+import com.iroomclass.springbackend.domain.unit.entity.Unit;
+import com.iroomclass.springbackend.domain.unit.entity.UnitCategory;
+import com.iroomclass.springbackend.domain.unit.entity.UnitSubcategory;
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.common.exception.InvalidRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 시험 답안 제출 쿼리 수 검증 테스트
+ *
+ * <p>답안 제출 시 문제 조회가 일괄 조회로, 문제별 답안 저장이 JDBC 배치로 처리되어
+ * 문제 수와 관계없이 실행되는 SQL 수가 고정되는지 검증합니다.
+ * Hibernate 통계에는 JdbcTemplate으로 실행한 제출 INSERT와 답안 배치 INSERT가 잡히지 않으므로,
+ * DataSource를 감싸 커넥션에서 준비된 Statement 수를 직접 셉니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(ExamSubmissionStatementCountTest.StatementCountingConfig.class)
+@TestPropertySource(properties = {
+    "spring.jpa.properties.hibernate.cache.use_second_level_cache=false"
+})
+@DisplayName("시험 답안 제출 쿼리 수 테스트")
+@Transactional
+public class ExamSubmissionStatementCountTest {
+
+    @Autowired
+    private ExamGradingService examGradingService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Unit unit;
+
+    @BeforeEach
+    void setUp() {
+        UnitCategory category = UnitCategory.builder()
+            .categoryName("수와 연산")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(category);
+
+        UnitSubcategory subcategory = UnitSubcategory.builder()
+            .category(category)
+            .subcategoryName("정수와 유리수")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(subcategory);
+
+        unit = Unit.builder()
+            .subcategory(subcategory)
+            .grade(1)
+            .unitName("정수의 덧셈")
+            .unitCode("TEST-" + UUIDv7Generator.generateString().substring(0, 8))
+            .displayOrder(1)
+            .build();
+        entityManager.persist(unit);
+    }
+
+    @Test
+    @DisplayName("문제 수와 관계없이 제출 SQL 수가 고정되어야 한다")
+    void submitStatementCount_IsIndependentOfQuestionCount() {
+        // Given & When: 5문항, 30문항 시험을 각각 제출
+        long smallExamStatements = measureSubmission(5);
+        long largeExamStatements = measureSubmission(30);
+
+        System.out.printf("제출 SQL 수 - 5문항: %d, 30문항: %d%n", smallExamStatements, largeExamStatements);
+
+        // Then: 시험/학생 조회, 시험지 문제 일괄 조회, 제출 INSERT(JDBC), 답안지 INSERT,
+        //       문제별 답안 배치 INSERT(JDBC) (중복 확인 조회 없음)
+        assertThat(largeExamStatements)
+            .as("문제 수가 늘어도 JDBC Statement 수는 동일해야 합니다")
+            .isEqualTo(smallExamStatements);
+        assertThat(largeExamStatements)
+            .as("문제별 조회/INSERT가 제거되어 Statement 수가 8개 이하여야 합니다")
+            .isLessThanOrEqualTo(8L);
+    }
+
+    @Test
+    @DisplayName("시험지에 없는 문제 답안은 거부되어야 한다")
+    void submitWithForeignQuestion_IsRejected() {
+        // Given
+        Exam exam = createExam(3);
+        Student student = createStudent();
+        Question foreignQuestion = createQuestion(99);
+        entityManager.flush();
+        entityManager.clear();
+
+        SubmitAndGradeRequest request = new SubmitAndGradeRequest(
+            exam.getId(),
+            student.getId(),
+            List.of(new SubmitAndGradeRequest.AnswerDto(foreignQuestion.getId(), 1, null)),
+            false,
+            null
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> examGradingService.submitAndGrade(request, null))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("시험지에 포함되지 않은 문제");
+    }
+
+    @Test
+    @DisplayName("같은 시험을 다시 제출하면 기존 제출을 반환해야 한다")
+    void resubmit_ReturnsExistingSubmission() {
+        // Given
+        Exam exam = createExam(3);
+        Student student = createStudent();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SubmitAndGradeRequest.AnswerDto> answers = exam.getExamSheet().getQuestions().stream()
+            .map(esq -> new SubmitAndGradeRequest.AnswerDto(esq.getQuestion().getId(), 1, null))
+            .toList();
+        SubmitAndGradeRequest request = new SubmitAndGradeRequest(
+            exam.getId(), student.getId(), answers, false, null);
+
+        // When: 같은 멱등성 키로 두 번 제출
+        SubmitAndGradeResponse first = examGradingService.submitAndGrade(request, "retry-key-1");
+        SubmitAndGradeResponse second = examGradingService.submitAndGrade(request, "retry-key-1");
+
+        // Then
+        assertThat(second.status()).isEqualTo(SubmitAndGradeResponse.STATUS_ALREADY_SUBMITTED);
+        assertThat(second.submissionId()).isEqualTo(first.submissionId());
+        assertThat(second.studentAnswerSheetId()).isEqualTo(first.studentAnswerSheetId());
+
+        Integer submissions = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM exam_submission WHERE exam_id = ?",
+            Integer.class,
+            (Object) UUIDv7Generator.toBytes(exam.getId()));
+        assertThat(submissions).isEqualTo(1);
+
+        // 다른 멱등성 키로 다시 제출하면 새로운 제출 시도로 보고 거부
+        assertThatThrownBy(() -> examGradingService.submitAndGrade(request, "another-key"))
+            .isInstanceOf(InvalidRequestException.class)
+            .hasMessageContaining("이미 제출한 시험");
+    }
+
+    /**
+     * 주어진 문항 수의 시험을 만들고 제출할 때 준비된 JDBC Statement 수 측정 (Hibernate, JdbcTemplate 모두 포함)
+     */
+    private long measureSubmission(int questionCount) {
+        Exam exam = createExam(questionCount);
+        Student student = createStudent();
+        entityManager.flush();
+        entityManager.clear();
+
+        List<SubmitAndGradeRequest.AnswerDto> answers = exam.getExamSheet().getQuestions().stream()
+            .map(esq -> new SubmitAndGradeRequest.AnswerDto(esq.getQuestion().getId(), 1, null))
+            .toList();
+        SubmitAndGradeRequest request = new SubmitAndGradeRequest(
+            exam.getId(), student.getId(), answers, false, null);
+
+        StatementCountingDataSource.reset();
+        SubmitAndGradeResponse response = examGradingService.submitAndGrade(request, null);
+        long statements = StatementCountingDataSource.count();
+
+        // 배치로 저장된 답안 행 수 확인
+        Integer savedAnswers = jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM student_answer_sheet_question WHERE student_answer_sheet_id = ?",
+            Integer.class,
+            (Object) UUIDv7Generator.toBytes(response.studentAnswerSheetId()));
+        assertThat(savedAnswers).isEqualTo(questionCount);
+
+        return statements;
+    }
+
+    private Exam createExam(int questionCount) {
+        List<ExamSheetQuestion> sheetQuestions = new ArrayList<>();
+        ExamSheet examSheet = ExamSheet.builder()
+            .examName("쿼리 수 테스트 시험지")
+            .grade(1)
+            .questions(sheetQuestions)
+            .build();
+        entityManager.persist(examSheet);
+
+        for (int i = 1; i <= questionCount; i++) {
+            ExamSheetQuestion sheetQuestion = ExamSheetQuestion.builder()
+                .examSheet(examSheet)
+                .question(createQuestion(i))
+                .seqNo(i)
+                .points(10)
+                .build();
+            entityManager.persist(sheetQuestion);
+            sheetQuestions.add(sheetQuestion);
+        }
+
+        Exam exam = Exam.builder()
+            .examSheet(examSheet)
+            .examName("쿼리 수 테스트 시험")
+            .grade(1)
+            .maxStudent(30)
+            .build();
+        entityManager.persist(exam);
+        return exam;
+    }
+
+    private Question createQuestion(int seq) {
+        Question question = Question.builder()
+            .unit(unit)
+            .difficulty(Question.Difficulty.중)
+            .questionText("테스트 문제 " + seq)
+            .questionType(Question.QuestionType.MULTIPLE_CHOICE)
+            .correctChoice(1)
+            .build();
+        entityManager.persist(question);
+        return question;
+    }
+
+    private Student createStudent() {
+        Student student = Student.builder()
+            .name("테스트학생")
+            .phone("010-0000-" + String.format("%04d", (int) (Math.random() * 10000)))
+            .birthDate(LocalDate.of(2010, 1, 1))
+            .build();
+        entityManager.persist(student);
+        return student;
+    }
+
+    /**
+     * 애플리케이션 DataSource를 Statement 수를 세는 DataSource로 감싸는 설정
+     */
+    @TestConfiguration
+    static class StatementCountingConfig {
+
+        @Bean
+        static BeanPostProcessor statementCountingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    if (bean instanceof DataSource dataSource && !(bean instanceof StatementCountingDataSource)) {
+                        return new StatementCountingDataSource(dataSource);
+                    }
+                    return bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 커넥션에서 Statement를 준비(prepareStatement/prepareCall/createStatement)할 때마다 수를 세는 DataSource
+     *
+     * <p>JDBC 배치는 Statement 1개로 여러 행을 보내므로 1로 셉니다.</p>
+     */
+    static class StatementCountingDataSource extends DelegatingDataSource {
+
+        private static final Set<String> STATEMENT_METHODS = Set.of("prepareStatement", "prepareCall", "createStatement");
+        private static final AtomicLong STATEMENTS = new AtomicLong();
+
+        StatementCountingDataSource(DataSource target) {
+            super(target);
+        }
+
+        static void reset() {
+            STATEMENTS.set(0);
+        }
+
+        static long count() {
+            return STATEMENTS.get();
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return counting(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return counting(super.getConnection(username, password));
+        }
+
+        private static Connection counting(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class},
+                (proxy, method, args) -> {
+                    if (STATEMENT_METHODS.contains(method.getName())) {
+                        STATEMENTS.incrementAndGet();
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+        }
+    }
+}
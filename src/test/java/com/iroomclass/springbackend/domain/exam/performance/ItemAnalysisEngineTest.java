@@ -0,0 +1,117 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisEngine;
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisEngine.ItemMatrix;
+import com.iroomclass.springbackend.domain.teacher.service.ItemAnalysisEngine.ItemStatistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 문항 분석 엔진 테스트
+ *
+ * <p>작은 행렬로 난이도/변별도/선택지 분포 계산을 검증하고, 학생 2,000명 × 40문항 합성 시험의 분석 결과를 검증합니다.
+ * 행렬 적재부터 분석까지 1초보다 충분히 짧게 처리하는지는 벽시계 시간에 의존하므로 벤치마크 태그로 분리합니다.</p>
+ */
+@DisplayName("문항 분석 엔진 테스트")
+public class ItemAnalysisEngineTest {
+
+    private static final int STUDENTS = 2_000;
+    private static final int ITEMS = 40;
+    private static final int MULTIPLE_CHOICE_ITEMS = 30;
+    private static final int ITEMS_PER_TASK = 4;
+    private static final long MAX_ELAPSED_MILLIS = 300;
+
+    @Test
+    @DisplayName("난이도, 상하위 변별도, 점이연 상관, 선택지 분포를 계산해야 한다")
+    void analyze_ComputesClassicalItemStatistics() {
+        ItemMatrix matrix = new ItemMatrix(new int[] {1, 1}, new boolean[] {true, false}, 4);
+        int[][] scores = {{1, 1}, {1, 0}, {0, 1}, {0, 0}};
+        int[] choices = {1, 1, 3, 0};
+        for (int s = 0; s < scores.length; s++) {
+            int student = matrix.addStudent();
+            matrix.set(student, 0, scores[s][0], choices[s]);
+            matrix.set(student, 1, scores[s][1], 0);
+        }
+
+        ItemStatistics[] statistics = ItemAnalysisEngine.analyze(matrix, 1);
+
+        ItemStatistics first = statistics[0];
+        assertThat(first.difficulty()).isEqualTo(0.5);
+        assertThat(first.upperLower()).isEqualTo(1.0);
+        assertThat(first.pointBiserial()).isCloseTo(0.0, within(1e-9));
+        assertThat(first.choiceCounts()).containsExactly(1, 2, 0, 1, 0, 0);
+        assertThat(first.upperChoiceCounts()).containsExactly(0, 1, 0, 0, 0, 0);
+        assertThat(first.lowerChoiceCounts()).containsExactly(1, 0, 0, 0, 0, 0);
+
+        ItemStatistics second = statistics[1];
+        assertThat(second.difficulty()).isEqualTo(0.5);
+        assertThat(second.choiceCounts()).isNull();
+    }
+
+    @Test
+    @DisplayName("학생 2,000명 × 40문항 시험의 모든 문항 통계를 계산해야 한다")
+    void analyze_LargeExam_ComputesEveryItem() {
+        ItemStatistics[] statistics = ItemAnalysisEngine.analyze(buildMatrix(0), ITEMS_PER_TASK);
+
+        assertThat(statistics).hasSize(ITEMS).doesNotContainNull();
+        // 능력 기반 합성 데이터이므로 모든 문항의 변별도가 양수여야 함
+        assertThat(statistics).allSatisfy(item -> assertThat(item.pointBiserial()).isPositive());
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("학생 2,000명 × 40문항 시험을 1초보다 충분히 짧게 분석해야 한다")
+    void analyze_LargeExam_FinishesWellUnderOneSecond() {
+        // JIT 워밍업
+        for (int i = 0; i < 5; i++) {
+            ItemAnalysisEngine.analyze(buildMatrix(i), ITEMS_PER_TASK);
+        }
+
+        long best = Long.MAX_VALUE;
+        ItemStatistics[] statistics = null;
+        for (int i = 0; i < 5; i++) {
+            long start = System.nanoTime();
+            statistics = ItemAnalysisEngine.analyze(buildMatrix(100 + i), ITEMS_PER_TASK);
+            best = Math.min(best, (System.nanoTime() - start) / 1_000_000);
+        }
+
+        System.out.printf("문항 분석 %d명 × %d문항 - 최소 %dms%n", STUDENTS, ITEMS, best);
+        assertThat(statistics).hasSize(ITEMS);
+        assertThat(best)
+            .as("행렬 적재와 전체 문항 분석이 %dms 이내여야 합니다", MAX_ELAPSED_MILLIS)
+            .isLessThan(MAX_ELAPSED_MILLIS);
+    }
+
+    /**
+     * 학생 능력과 문항 난이도로 정오답을 정하는 합성 점수 행렬
+     */
+    private ItemMatrix buildMatrix(long seed) {
+        Random random = new Random(seed);
+        int[] maxScores = new int[ITEMS];
+        boolean[] multipleChoice = new boolean[ITEMS];
+        double[] difficulty = new double[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            multipleChoice[i] = i < MULTIPLE_CHOICE_ITEMS;
+            maxScores[i] = multipleChoice[i] ? 3 : 5;
+            difficulty[i] = random.nextGaussian();
+        }
+
+        ItemMatrix matrix = new ItemMatrix(maxScores, multipleChoice, STUDENTS);
+        for (int s = 0; s < STUDENTS; s++) {
+            int student = matrix.addStudent();
+            double ability = random.nextGaussian();
+            for (int i = 0; i < ITEMS; i++) {
+                double probability = 1.0 / (1.0 + Math.exp(difficulty[i] - ability));
+                boolean correct = random.nextDouble() < probability;
+                int choice = multipleChoice[i] ? (correct ? 1 : 2 + random.nextInt(4)) : 0;
+                matrix.set(student, i, correct ? maxScores[i] : 0, choice);
+            }
+        }
+        return matrix;
+    }
+}
@@ -0,0 +1,255 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.common.CursorPage;
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.dto.ExamDto;
+import com.iroomclass.springbackend.domain.exam.dto.ExamSheetDto;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.exam.service.ExamService;
+import com.iroomclass.springbackend.domain.exam.service.ExamSheetService;
+import com.iroomclass.springbackend.domain.unit.entity.Unit;
+import com.iroomclass.springbackend.domain.unit.entity.UnitCategory;
+import com.iroomclass.springbackend.domain.unit.entity.UnitSubcategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 키셋 커서 페이지네이션 테스트
+ *
+ * <p>시험/시험지 목록을 커서로 끝까지 넘기면서 4가지 필터 분기(전체, 학년, 이름, 학년+이름)마다
+ * 모든 항목이 ID 내림차순으로 한 번씩만 나오고, 마지막 페이지에서 hasNext가 false이고 nextCursor가 null인지 검증합니다.
+ * 시험지는 ID 조회 후 FETCH JOIN으로 다시 읽으므로 응답이 ID 순서를 유지하는지도 확인합니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("키셋 커서 페이지네이션 테스트")
+@Transactional
+public class KeysetPaginationTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final int PER_GRADE = 4;
+    private static final int QUESTIONS_PER_SHEET = 3;
+
+    /**
+     * DB의 BINARY(16) 비교와 같은 부호 없는 바이트 순서
+     */
+    private static final Comparator<UUID> ID_DESC = Comparator.<UUID, byte[]>comparing(
+        UUIDv7Generator::toBytes, Arrays::compareUnsigned).reversed();
+
+    @Autowired
+    private ExamService examService;
+
+    @Autowired
+    private ExamSheetService examSheetService;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private String keyword;
+
+    private final List<Seeded> seeded = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        keyword = "커서" + UUIDv7Generator.generateString().substring(0, 8);
+
+        UnitCategory category = UnitCategory.builder()
+            .categoryName("수와 연산")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(category);
+
+        UnitSubcategory subcategory = UnitSubcategory.builder()
+            .category(category)
+            .subcategoryName("정수와 유리수")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(subcategory);
+
+        Unit unit = Unit.builder()
+            .subcategory(subcategory)
+            .grade(1)
+            .unitName("정수의 덧셈")
+            .unitCode("CURSOR-" + UUIDv7Generator.generateString().substring(0, 8))
+            .displayOrder(1)
+            .build();
+        entityManager.persist(unit);
+
+        // 학년 1, 2에 검색어를 포함한 이름/포함하지 않은 이름을 섞어 저장
+        for (int grade = 1; grade <= 2; grade++) {
+            for (int i = 0; i < PER_GRADE; i++) {
+                boolean named = i % 2 == 0;
+                String name = (named ? keyword + " " : "기타 ") + grade + "-" + i;
+                ExamSheet examSheet = createExamSheet(unit, name, grade);
+                Exam exam = Exam.builder()
+                    .examSheet(examSheet)
+                    .examName(name)
+                    .grade(grade)
+                    .maxStudent(30)
+                    .build();
+                entityManager.persist(exam);
+                seeded.add(new Seeded(exam.getId(), examSheet.getId(), grade, named));
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("시험 목록을 커서로 끝까지 넘기면 필터별 항목이 ID 내림차순으로 한 번씩 나와야 한다")
+    void examPages_WalkEveryFilterBranch() {
+        // 학년 + 이름
+        assertThat(walk(after -> examService.findExamsAfter(2, keyword, after, PAGE_SIZE, false), ExamDto::id))
+            .containsExactlyElementsOf(expected(Seeded::examId, 2, true));
+        // 학년
+        assertThat(walk(after -> examService.findExamsAfter(1, null, after, PAGE_SIZE, false), ExamDto::id))
+            .containsAll(expected(Seeded::examId, 1, false))
+            .isSortedAccordingTo(ID_DESC);
+        // 이름
+        assertThat(walk(after -> examService.findExamsAfter(null, keyword, after, PAGE_SIZE, false), ExamDto::id))
+            .containsExactlyElementsOf(expected(Seeded::examId, null, true));
+        // 전체 (다른 테스트 데이터가 있을 수 있으므로 포함 여부와 순서만 확인)
+        assertThat(walk(after -> examService.findExamsAfter(null, null, after, PAGE_SIZE, false), ExamDto::id))
+            .containsAll(expected(Seeded::examId, null, false))
+            .isSortedAccordingTo(ID_DESC);
+    }
+
+    @Test
+    @DisplayName("시험지 목록을 커서로 끝까지 넘기면 필터별 항목이 ID 내림차순으로 한 번씩 나와야 한다")
+    void examSheetPages_WalkEveryFilterBranch() {
+        assertThat(walk(after -> examSheetService.findAllAfter(2, keyword, after, PAGE_SIZE, false), ExamSheetDto::id))
+            .containsExactlyElementsOf(expected(Seeded::examSheetId, 2, true));
+        assertThat(walk(after -> examSheetService.findAllAfter(1, null, after, PAGE_SIZE, false), ExamSheetDto::id))
+            .containsAll(expected(Seeded::examSheetId, 1, false))
+            .isSortedAccordingTo(ID_DESC);
+        assertThat(walk(after -> examSheetService.findAllAfter(null, keyword, after, PAGE_SIZE, false), ExamSheetDto::id))
+            .containsExactlyElementsOf(expected(Seeded::examSheetId, null, true));
+        assertThat(walk(after -> examSheetService.findAllAfter(null, null, after, PAGE_SIZE, false), ExamSheetDto::id))
+            .containsAll(expected(Seeded::examSheetId, null, false))
+            .isSortedAccordingTo(ID_DESC);
+    }
+
+    @Test
+    @DisplayName("시험지 페이지는 FETCH JOIN 결과와 관계없이 ID 순서를 유지하고 문항 요약을 포함해야 한다")
+    void examSheetPage_KeepsIdOrderAfterFetch() {
+        // given: 검색어 시험지 4개 중 첫 페이지
+        List<UUID> expectedIds = expected(Seeded::examSheetId, null, true);
+
+        // when
+        CursorPage<ExamSheetDto> page = examSheetService.findAllAfter(null, keyword, null, PAGE_SIZE, true);
+
+        // then
+        assertThat(page.content()).extracting(ExamSheetDto::id)
+            .containsExactlyElementsOf(expectedIds.subList(0, PAGE_SIZE));
+        assertThat(page.content()).allSatisfy(dto -> {
+            assertThat(dto.totalQuestions()).isEqualTo(QUESTIONS_PER_SHEET);
+            assertThat(dto.unitSummary().totalUnits()).isEqualTo(1);
+        });
+        assertThat(page.hasNext()).isTrue();
+        assertThat(page.totalElements()).isEqualTo((long) expectedIds.size());
+    }
+
+    @Test
+    @DisplayName("정확히 페이지 크기만큼 남은 경우 마지막 페이지에서 다음 커서가 없어야 한다")
+    void exactPageSize_LastPageHasNoCursor() {
+        // given: 학년 2 + 검색어 시험은 2개
+        List<UUID> expectedIds = expected(Seeded::examId, 2, true);
+
+        // when
+        CursorPage<ExamDto> page = examService.findExamsAfter(2, keyword, null, expectedIds.size(), false);
+
+        // then
+        assertThat(page.content()).extracting(ExamDto::id).containsExactlyElementsOf(expectedIds);
+        assertThat(page.hasNext()).isFalse();
+        assertThat(page.nextCursor()).isNull();
+    }
+
+    /**
+     * 첫 페이지부터 nextCursor를 따라 마지막 페이지까지 조회하고 ID를 모아 반환
+     *
+     * <p>마지막 페이지 전까지는 hasNext/nextCursor가 채워지고, 마지막 페이지에서는 비어 있어야 합니다.</p>
+     */
+    private <T> List<UUID> walk(Function<String, CursorPage<T>> fetch, Function<T, UUID> idOf) {
+        List<UUID> ids = new ArrayList<>();
+        String after = null;
+        for (int pages = 0; pages < 1_000; pages++) {
+            CursorPage<T> page = fetch.apply(after);
+            assertThat(page.size()).isEqualTo(page.content().size()).isLessThanOrEqualTo(PAGE_SIZE);
+            page.content().forEach(item -> ids.add(idOf.apply(item)));
+
+            if (!page.hasNext()) {
+                assertThat(page.nextCursor()).isNull();
+                assertThat(ids).doesNotHaveDuplicates();
+                return ids;
+            }
+            assertThat(page.content()).hasSize(PAGE_SIZE);
+            assertThat(page.nextCursor()).isNotBlank();
+            after = page.nextCursor();
+        }
+        throw new AssertionError("마지막 페이지에 도달하지 못했습니다");
+    }
+
+    /**
+     * 저장한 데이터 중 필터에 맞는 ID를 ID 내림차순으로 반환
+     */
+    private List<UUID> expected(Function<Seeded, UUID> idOf, Integer grade, boolean namedOnly) {
+        return seeded.stream()
+            .filter(s -> grade == null || s.grade() == grade)
+            .filter(s -> !namedOnly || s.named())
+            .map(idOf)
+            .sorted(ID_DESC)
+            .toList();
+    }
+
+    private ExamSheet createExamSheet(Unit unit, String name, int grade) {
+        List<ExamSheetQuestion> sheetQuestions = new ArrayList<>();
+        ExamSheet examSheet = ExamSheet.builder()
+            .examName(name)
+            .grade(grade)
+            .questions(sheetQuestions)
+            .build();
+        entityManager.persist(examSheet);
+
+        for (int i = 1; i <= QUESTIONS_PER_SHEET; i++) {
+            Question question = Question.builder()
+                .unit(unit)
+                .difficulty(Question.Difficulty.중)
+                .questionText(name + " 문제 " + i)
+                .questionType(Question.QuestionType.MULTIPLE_CHOICE)
+                .correctChoice(1)
+                .build();
+            entityManager.persist(question);
+
+            ExamSheetQuestion sheetQuestion = ExamSheetQuestion.builder()
+                .examSheet(examSheet)
+                .question(question)
+                .seqNo(i)
+                .points(10)
+                .build();
+            entityManager.persist(sheetQuestion);
+            sheetQuestions.add(sheetQuestion);
+        }
+        return examSheet;
+    }
+
+    private record Seeded(UUID examId, UUID examSheetId, int grade, boolean named) {}
+}
@@ -0,0 +1,312 @@
+package com.iroomclass.springbackend.domain.exam.performance;
+
+import com.iroomclass.springbackend.common.UUIDv7Generator;
+import com.iroomclass.springbackend.domain.exam.entity.Exam;
+import com.iroomclass.springbackend.domain.exam.entity.ExamResult;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheet;
+import com.iroomclass.springbackend.domain.exam.entity.ExamSheetQuestion;
+import com.iroomclass.springbackend.domain.exam.entity.Question;
+import com.iroomclass.springbackend.domain.exam.repository.ExamResultRepository;
+import com.iroomclass.springbackend.domain.exam.repository.ExamSubmissionLatestResultRepository;
+import com.iroomclass.springbackend.domain.unit.entity.Unit;
+import com.iroomclass.springbackend.domain.unit.entity.UnitCategory;
+import com.iroomclass.springbackend.domain.unit.entity.UnitSubcategory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+
+/**
+ * 최신 채점 결과 포인터 쿼리 벤치마크
+ *
+ * <p>제출마다 여러 채점 버전이 쌓인 데이터셋에서 기존 MAX(graded_at) 상관 서브쿼리 방식과
+ * exam_submission.latest_result_id 포인터 조인 방식의 결과가 같은지 검증합니다.
+ * 실행 시간 비교는 벽시계 시간에 의존하므로 {@code benchmark} 태그로 분리되어
+ * {@code test}에서는 제외되고 {@code benchmarkTest} Gradle 태스크로만 실행됩니다.</p>
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("최신 채점 결과 포인터 쿼리 벤치마크")
+@Transactional
+public class LatestResultPointerQueryBenchmarkTest {
+
+    private static final int GRADE = 3;
+    private static final int STUDENT_COUNT = 500;
+    private static final int VERSIONS_PER_SUBMISSION = 5;
+    private static final int QUESTION_COUNT = 5;
+    private static final int WARMUP_RUNS = 3;
+    private static final int MEASURE_RUNS = 10;
+
+    /**
+     * 포인터 도입 이전의 학년별 전체 성적 통계 쿼리 (비교 기준)
+     */
+    private static final String LEGACY_SCORE_STATISTICS_SQL = """
+            SELECT
+                COUNT(DISTINCT subquery.student_id) as totalStudentCount,
+                AVG(subquery.avg_score) as overallAverage
+            FROM (
+                SELECT
+                    student_avgs.student_id,
+                    AVG(student_avgs.total_score) as avg_score
+                FROM (
+                    SELECT
+                        es.student_id,
+                        er.id as exam_result_id,
+                        SUM(erq.score) as total_score
+                    FROM exam_submission es
+                    JOIN exam_result er ON er.submission_id = es.id
+                    JOIN exam e ON e.id = es.exam_id
+                    JOIN exam_result_question erq ON erq.exam_result_id = er.id
+                    WHERE e.grade = ?
+                    AND er.status = 'COMPLETED'
+                    AND er.graded_at = (
+                        SELECT MAX(er2.graded_at)
+                        FROM exam_result er2
+                        WHERE er2.submission_id = er.submission_id
+                    )
+                    GROUP BY es.student_id, er.id
+                ) student_avgs
+                GROUP BY student_avgs.student_id
+            ) subquery
+            """;
+
+    @Autowired
+    private ExamResultRepository examResultRepository;
+
+    @Autowired
+    private ExamSubmissionLatestResultRepository examSubmissionLatestResultRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private Exam exam;
+
+    private List<Question> questions;
+
+    @BeforeEach
+    void setUp() {
+        UnitCategory category = UnitCategory.builder()
+            .categoryName("수와 연산")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(category);
+
+        UnitSubcategory subcategory = UnitSubcategory.builder()
+            .category(category)
+            .subcategoryName("정수와 유리수")
+            .displayOrder(1)
+            .build();
+        entityManager.persist(subcategory);
+
+        Unit unit = Unit.builder()
+            .subcategory(subcategory)
+            .grade(GRADE)
+            .unitName("정수의 덧셈")
+            .unitCode("BENCH-" + UUIDv7Generator.generateString().substring(0, 8))
+            .displayOrder(1)
+            .build();
+        entityManager.persist(unit);
+
+        List<ExamSheetQuestion> sheetQuestions = new ArrayList<>();
+        ExamSheet examSheet = ExamSheet.builder()
+            .examName("포인터 벤치마크 시험지")
+            .grade(GRADE)
+            .questions(sheetQuestions)
+            .build();
+        entityManager.persist(examSheet);
+
+        questions = new ArrayList<>();
+        for (int i = 1; i <= QUESTION_COUNT; i++) {
+            Question question = Question.builder()
+                .unit(unit)
+                .difficulty(Question.Difficulty.중)
+                .questionText("벤치마크 문제 " + i)
+                .questionType(Question.QuestionType.MULTIPLE_CHOICE)
+                .correctChoice(1)
+                .build();
+            entityManager.persist(question);
+            questions.add(question);
+
+            ExamSheetQuestion sheetQuestion = ExamSheetQuestion.builder()
+                .examSheet(examSheet)
+                .question(question)
+                .seqNo(i)
+                .points(20)
+                .build();
+            entityManager.persist(sheetQuestion);
+            sheetQuestions.add(sheetQuestion);
+        }
+
+        exam = Exam.builder()
+            .examSheet(examSheet)
+            .examName("포인터 벤치마크 시험")
+            .grade(GRADE)
+            .maxStudent(STUDENT_COUNT)
+            .build();
+        entityManager.persist(exam);
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("포인터 조인이 MAX 서브쿼리와 같은 최신 버전을 집계해야 한다")
+    void pointerJoin_MatchesLegacy() {
+        // Given: 제출당 여러 채점 버전이 쌓인 데이터셋 (포인터는 보정 쿼리로 채움)
+        seedSubmissionsWithHistory();
+        int backfilled = examSubmissionLatestResultRepository.backfillMissingPointers();
+        assertThat(backfilled).isEqualTo(STUDENT_COUNT);
+
+        // When
+        Map<String, Object> legacy = jdbcTemplate.queryForMap(LEGACY_SCORE_STATISTICS_SQL, GRADE);
+        ExamResultRepository.ScoreStatistics pointer = examResultRepository.findScoreStatisticsByGrade(GRADE);
+
+        // Then: 같은 최신 버전을 집계
+        assertThat(pointer.getTotalStudentCount())
+            .isEqualTo(((Number) legacy.get("totalStudentCount")).longValue());
+        assertThat(pointer.getOverallAverage())
+            .isCloseTo(((Number) legacy.get("overallAverage")).doubleValue(), within(0.0001));
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("포인터 조인이 MAX 서브쿼리보다 빨라야 한다")
+    void pointerJoin_IsFasterThanLegacy() {
+        // Given
+        seedSubmissionsWithHistory();
+        examSubmissionLatestResultRepository.backfillMissingPointers();
+
+        // When
+        double legacyMillis = measure(() -> jdbcTemplate.queryForMap(LEGACY_SCORE_STATISTICS_SQL, GRADE));
+        double pointerMillis = measure(() -> examResultRepository.findScoreStatisticsByGrade(GRADE));
+
+        System.out.printf("학년별 성적 통계 (제출 %d건 x 버전 %d개) - MAX 서브쿼리: %.2fms, 포인터 조인: %.2fms, 개선: %.1f배%n",
+            STUDENT_COUNT, VERSIONS_PER_SUBMISSION, legacyMillis, pointerMillis, legacyMillis / pointerMillis);
+
+        // Then
+        assertThat(pointerMillis)
+            .as("포인터 조인이 MAX(graded_at) 상관 서브쿼리보다 빨라야 합니다")
+            .isLessThan(legacyMillis);
+    }
+
+    @Test
+    @DisplayName("늦게 완료된 이전 버전이 최신 결과 포인터를 덮어쓰지 않아야 한다")
+    void markLatest_IgnoresOlderResult() {
+        // Given
+        SeededSubmission submission = insertSubmission(1);
+        UUID newer = insertResult(submission, LocalDateTime.now(), "REGRADED", 100);
+        UUID older = insertResult(submission, LocalDateTime.now().minusHours(1), "COMPLETED", 40);
+
+        // When: 새 버전을 먼저 지정한 뒤 이전 버전 완료가 늦게 반영됨
+        examSubmissionLatestResultRepository.markLatest(List.of(entityManager.find(ExamResult.class, newer)));
+        examSubmissionLatestResultRepository.markLatest(List.of(entityManager.find(ExamResult.class, older)));
+
+        // Then
+        byte[] latest = jdbcTemplate.queryForObject(
+            "SELECT latest_result_id FROM exam_submission WHERE id = ?",
+            byte[].class,
+            (Object) UUIDv7Generator.toBytes(submission.submissionId()));
+        assertThat(latest).isEqualTo(UUIDv7Generator.toBytes(newer));
+    }
+
+    /**
+     * 학생마다 제출 1건, 답안지 1건, 채점 버전 여러 개(버전마다 문제별 결과 포함)를 JDBC로 저장
+     */
+    private void seedSubmissionsWithHistory() {
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        for (int s = 0; s < STUDENT_COUNT; s++) {
+            SeededSubmission submission = insertSubmission(s);
+            for (int v = 0; v < VERSIONS_PER_SUBMISSION; v++) {
+                insertResult(submission, base.plusMinutes(v), "COMPLETED", (s + v) % 100);
+            }
+        }
+    }
+
+    private SeededSubmission insertSubmission(int index) {
+        jdbcTemplate.update(
+            "INSERT INTO student (name, phone, birth_date, created_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+            "벤치학생" + index, "B-" + index, Date.valueOf("2010-01-01"),
+            Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(LocalDateTime.now()));
+        Long studentId = jdbcTemplate.queryForObject(
+            "SELECT id FROM student WHERE phone = ?", Long.class, "B-" + index);
+
+        UUID submissionId = UUIDv7Generator.generate();
+        jdbcTemplate.update(
+            "INSERT INTO exam_submission (id, exam_id, student_id, submitted_at) VALUES (?, ?, ?, ?)",
+            UUIDv7Generator.toBytes(submissionId), UUIDv7Generator.toBytes(exam.getId()), studentId,
+            Timestamp.valueOf(LocalDateTime.now()));
+
+        UUID answerSheetId = UUIDv7Generator.generate();
+        jdbcTemplate.update(
+            "INSERT INTO student_answer_sheet (id, submission_id, student_name) VALUES (?, ?, ?)",
+            UUIDv7Generator.toBytes(answerSheetId), UUIDv7Generator.toBytes(submissionId), "벤치학생" + index);
+
+        return new SeededSubmission(submissionId, answerSheetId);
+    }
+
+    private UUID insertResult(SeededSubmission submission, LocalDateTime gradedAt, String status, int scoreSeed) {
+        UUID resultId = UUIDv7Generator.generate();
+        Timestamp graded = Timestamp.valueOf(gradedAt);
+        jdbcTemplate.update(
+            "INSERT INTO exam_result (id, submission_id, exam_sheet_id, graded_at, total_score, status, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+            UUIDv7Generator.toBytes(resultId), UUIDv7Generator.toBytes(submission.submissionId()),
+            UUIDv7Generator.toBytes(exam.getExamSheet().getId()), graded,
+            scoreSeed, status, graded, graded);
+
+        List<Object[]> rows = new ArrayList<>();
+        for (Question question : questions) {
+            rows.add(new Object[] {
+                UUIDv7Generator.toBytes(UUIDv7Generator.generate()),
+                UUIDv7Generator.toBytes(resultId),
+                UUIDv7Generator.toBytes(question.getId()),
+                UUIDv7Generator.toBytes(submission.answerSheetId()),
+                scoreSeed % 2 == 0,
+                scoreSeed % 21,
+                "AUTO",
+                graded,
+                graded
+            });
+        }
+        jdbcTemplate.batchUpdate(
+            "INSERT INTO exam_result_question (id, exam_result_id, question_id, answer_id, is_correct, score, " +
+            "scoring_method, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+            rows);
+        return resultId;
+    }
+
+    /**
+     * 워밍업 후 평균 실행 시간 측정 (밀리초)
+     */
+    private double measure(Supplier<?> query) {
+        for (int i = 0; i < WARMUP_RUNS; i++) {
+            query.get();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_RUNS; i++) {
+            query.get();
+        }
+        return (System.nanoTime() - start) / 1_000_000.0 / MEASURE_RUNS;
+    }
+
+    private record SeededSubmission(UUID submissionId, UUID answerSheetId) {}
+}